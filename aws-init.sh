@@ -107,6 +107,36 @@ create_api_gateway() {
     echo "API Gateway created successfully!"
 }
 
+create_transcribe_events() {
+    echo "Creating Transcribe job state change queue"
+
+    TRANSCRIBE_QUEUE_URL=$(aws --endpoint-url=http://localhost:4566 sqs create-queue \
+      --queue-name dev-transcribe-events \
+      --attributes MessageRetentionPeriod=300,ReceiveMessageWaitTimeSeconds=20 \
+      --region us-east-1 \
+      --query 'QueueUrl' \
+      --output text)
+
+    TRANSCRIBE_QUEUE_ARN=$(aws --endpoint-url=http://localhost:4566 sqs get-queue-attributes \
+      --queue-url $TRANSCRIBE_QUEUE_URL \
+      --attribute-names QueueArn \
+      --region us-east-1 \
+      --query 'Attributes.QueueArn' \
+      --output text)
+
+    aws --endpoint-url=http://localhost:4566 events put-rule \
+      --name dev-transcribe-job-state-change \
+      --event-pattern '{"source":["aws.transcribe"],"detail-type":["Transcribe Job State Change"],"detail":{"TranscriptionJobStatus":["COMPLETED","FAILED"]}}' \
+      --region us-east-1
+
+    aws --endpoint-url=http://localhost:4566 events put-targets \
+      --rule dev-transcribe-job-state-change \
+      --targets "Id"="transcribe-events-queue","Arn"="$TRANSCRIBE_QUEUE_ARN" \
+      --region us-east-1
+
+    echo "Transcribe events are delivered to $TRANSCRIBE_QUEUE_URL"
+}
+
 init_metrics() {
     echo "Initializing CloudWatch metrics..."
 
@@ -318,6 +348,8 @@ aws --endpoint-url=http://localhost:4566 sns subscribe \
   --notification-endpoint notifications@example.com \
   --region us-east-1 2>/dev/null || true
 
+create_transcribe_events
+
 create_api_gateway
 
 echo ""
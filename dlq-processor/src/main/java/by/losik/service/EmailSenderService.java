@@ -1,6 +1,7 @@
 package by.losik.service;
 
 import by.losik.dto.DLQMessage;
+import by.losik.dto.ReminderEventPayload;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -19,6 +20,7 @@
 
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -111,6 +113,17 @@ private String buildEmailBody(DLQMessage message) {
                     .append("</div>");
         }
 
+        Map<String, Object> detail = message.getDetail();
+        if (detail != null && detail.get("reminderId") instanceof String) {
+            ReminderEventPayload reminder = ReminderEventPayload.fromDetail(detail);
+            html.append("<h2>Reminder</h2><table>")
+                    .append("<tr><th>Reminder ID</th><td>").append(escapeHtml(reminder.reminderId())).append("</td></tr>")
+                    .append("<tr><th>Recipient</th><td>").append(escapeHtml(reminder.userEmail())).append("</td></tr>")
+                    .append("<tr><th>Action</th><td>").append(escapeHtml(reminder.action())).append("</td></tr>")
+                    .append("<tr><th>Scheduled</th><td>").append(escapeHtml(reminder.scheduledTime())).append("</td></tr>")
+                    .append("</table>");
+        }
+
         html.append("<h2>Full Detail</h2><div class='json'>");
         try {
             String json = message.isParsed()
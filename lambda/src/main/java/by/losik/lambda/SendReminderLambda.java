@@ -1,5 +1,6 @@
 package by.losik.lambda;
 
+import by.losik.dto.ReminderEventPayload;
 import by.losik.factory.EmailServiceFactory;
 import by.losik.service.EmailSender;
 import com.amazonaws.services.lambda.runtime.Context;
@@ -69,10 +70,11 @@ public String handleRequest(ScheduledEvent event, Context context) {
                 return "No detail in event";
             }
 
-            String reminderId = (String) detailMap.get("reminderId");
-            String userEmail = (String) detailMap.get("userEmail");
-            String action = (String) detailMap.get("action");
-            String scheduledTime = (String) detailMap.get("scheduledTime");
+            ReminderEventPayload payload = ReminderEventPayload.fromDetail(detailMap);
+            String reminderId = payload.reminderId();
+            String userEmail = payload.userEmail();
+            String action = payload.action();
+            String scheduledTime = payload.scheduledTime();
 
             if (reminderId == null || reminderId.isEmpty() ||
                     userEmail == null || userEmail.isEmpty()) {
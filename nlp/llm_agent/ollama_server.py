@@ -46,6 +46,13 @@ class OllamaReminderParserService(pb_grpc.ReminderParserServiceServicer):
 
         self.agent = OllamaAgent(rag_client=self.rag)
 
+        # У /api/chat нет пакетного режима: тексты пакета отправляются параллельно,
+        # Ollama обслуживает их одновременно в пределах OLLAMA_NUM_PARALLEL
+        self.batch_executor = futures.ThreadPoolExecutor(
+            max_workers=int(os.getenv('OLLAMA_BATCH_CONCURRENCY', '4')),
+            thread_name_prefix='ollama-batch'
+        )
+
         logger.info("Ollama Agent initialized")
         logger.info(f"Authentication enabled: {bool(self.api_key)}")
         logger.info(f"RAG enabled: {self.use_rag}")
@@ -103,6 +110,36 @@ class OllamaReminderParserService(pb_grpc.ReminderParserServiceServicer):
             context.set_details(str(e))
             return pb.ParseResponse()
 
+    def ParseReminders(self, request, context):
+        if not self._validate_auth(context):
+            self.error_count += 1
+            context.abort(grpc.StatusCode.UNAUTHENTICATED, 'Invalid or missing API key')
+
+        logger.info(f"Processing batch request: {len(request.requests)} texts")
+
+        self.request_count += len(request.requests)
+        pending = [self.batch_executor.submit(self._parse_batch_item, item) for item in request.requests]
+
+        # Ошибка одного текста не роняет весь пакет: для него возвращается пустой ответ
+        responses = []
+        for future in pending:
+            try:
+                responses.append(future.result())
+            except Exception as e:
+                self.error_count += 1
+                logger.error(f" Error parsing batch item: {e}", exc_info=True)
+                responses.append(pb.ParseResponse())
+
+        return pb.BatchParseResponse(responses=responses)
+
+    def _parse_batch_item(self, item):
+        language = item.language_code[:2].lower() if item.language_code else None
+        result = self.agent.parse_reminder(
+            text=item.text,
+            language=language or 'ru'
+        )
+        return self._to_protobuf(result, item)
+
     def HealthCheck(self, request, context):
         return pb.HealthResponse(
             healthy=True,
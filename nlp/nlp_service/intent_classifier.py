@@ -255,8 +255,37 @@ class IntentClassifierInference:
             'language': language
         }
 
-    def predict_batch(self, texts: List[str]):
+    def predict_batch(self, texts: List[str], batch_size: int = 32):
+        """Классифицирует тексты пакетами по batch_size за один прямой проход модели."""
         results = []
-        for text in texts:
-            results.append(self.predict(text))
+        for start in range(0, len(texts), batch_size):
+            chunk = texts[start:start + batch_size]
+            encoding = self.tokenizer(
+                chunk,
+                truncation=True,
+                padding='max_length',
+                max_length=self.config.max_length,
+                return_tensors='pt'
+            )
+
+            input_ids = encoding['input_ids'].to(self.device)
+            attention_mask = encoding['attention_mask'].to(self.device)
+
+            with torch.no_grad():
+                outputs = self.model(input_ids, attention_mask)
+                probabilities = torch.softmax(outputs, dim=1)
+                predicted_classes = torch.argmax(probabilities, dim=1).tolist()
+
+            intents = self.label_encoder.inverse_transform(predicted_classes)
+            for row, (predicted_class, intent) in enumerate(zip(predicted_classes, intents)):
+                all_probabilities = {}
+                for i, label in enumerate(self.label_encoder.classes_):
+                    all_probabilities[label] = probabilities[row][i].item()
+
+                results.append({
+                    'intent': intent,
+                    'confidence': probabilities[row][predicted_class].item(),
+                    'probabilities': all_probabilities,
+                    'language': None
+                })
         return results
\ No newline at end of file
@@ -1,6 +1,6 @@
 import torch
 import os
-from typing import Dict, List, Optional
+from typing import Dict, List, Optional, Tuple
 from datetime import datetime
 import numpy as np
 
@@ -80,12 +80,39 @@ class MLEnhancedReminderParser:
             return self.base_parser.parse(text, language)
 
         base_result = self.base_parser.parse(text, language)
+        return self._apply_ml(base_result, ml_intent, intent_confidence)
+
+    def parse_batch(self, items: List[Tuple[str, Optional[str]]]) -> List[object]:
+        """Разбирает несколько текстов: spaCy через nlp.pipe, классификатор намерений одним пакетом.
+
+        NER выполняется по одному тексту. Возвращает список той же длины, что items:
+        ParsedReminder или исключение для текста, который не удалось разобрать.
+        """
+        results = self.base_parser.parse_batch(items)
+        if not self.ml_models_loaded or not self.intent_classifier:
+            return results
+
+        parsed = [i for i, result in enumerate(results) if isinstance(result, ParsedReminder)]
+        if not parsed:
+            return results
+
+        try:
+            intents = self.intent_classifier.predict_batch([results[i].normalized_text for i in parsed])
+        except Exception as e:
+            print(f"Batch intent prediction error: {e}")
+            return results
+
+        for i, intent_result in zip(parsed, intents):
+            results[i] = self._apply_ml(results[i], intent_result['intent'], intent_result['confidence'])
+        return results
+
+    def _apply_ml(self, base_result: ParsedReminder, ml_intent: str, intent_confidence: float) -> ParsedReminder:
         base_result.intent = ml_intent
 
         ner_entities = []
         if self.ner_model:
             try:
-                ner_entities = self.ner_model.predict(normalized_text, language)
+                ner_entities = self.ner_model.predict(base_result.normalized_text, base_result.language)
             except Exception as e:
                 print(f"NER prediction error: {e}")
                 ner_entities = base_result.entities
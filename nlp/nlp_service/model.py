@@ -121,8 +121,42 @@ class ReminderNLPModel:
 
         normalized_text = self.preprocess(text, language)
         nlp = self.models.get(language, self.models['en'])
-        doc = nlp(normalized_text)
+        return self._build_result(text, normalized_text, language, nlp(normalized_text))
 
+    def parse_batch(self, items: List[Tuple[str, Optional[str]]]) -> List[object]:
+        """Разбирает несколько текстов, прогоняя тексты одного языка через nlp.pipe одним пакетом.
+
+        Возвращает список той же длины, что items: ParsedReminder или исключение
+        для текста, который не удалось разобрать.
+        """
+        results: List[object] = [None] * len(items)
+        by_language: Dict[str, List[Tuple[int, str, str]]] = {}
+        for index, (text, language) in enumerate(items):
+            try:
+                lang = language or self.detect_language(text)
+                by_language.setdefault(lang, []).append((index, text, self.preprocess(text, lang)))
+            except Exception as e:
+                results[index] = e
+
+        for lang, group in by_language.items():
+            nlp = self.models.get(lang, self.models['en'])
+            try:
+                docs = list(nlp.pipe([normalized for _, _, normalized in group]))
+            except Exception as e:
+                print(f"Batch pipe failed for '{lang}', parsing texts one by one: {e}")
+                docs = [None] * len(group)
+
+            for (index, text, normalized), doc in zip(group, docs):
+                try:
+                    if doc is None:
+                        doc = nlp(normalized)
+                    results[index] = self._build_result(text, normalized, lang, doc)
+                except Exception as e:
+                    results[index] = e
+
+        return results
+
+    def _build_result(self, text: str, normalized_text: str, language: str, doc) -> ParsedReminder:
         time_expr = self._extract_time_expression(doc, normalized_text, language)
         action = self._extract_action_simple(doc, normalized_text, time_expr, language)
         entities = self._extract_entities(doc)
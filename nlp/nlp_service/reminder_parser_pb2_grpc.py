@@ -19,6 +19,11 @@ class ReminderParserServiceStub(object):
                 request_serializer=reminder__parser__pb2.ParseRequest.SerializeToString,
                 response_deserializer=reminder__parser__pb2.ParseResponse.FromString,
                 )
+        self.ParseReminders = channel.unary_unary(
+                '/reminderparser.ReminderParserService/ParseReminders',
+                request_serializer=reminder__parser__pb2.BatchParseRequest.SerializeToString,
+                response_deserializer=reminder__parser__pb2.BatchParseResponse.FromString,
+                )
         self.HealthCheck = channel.unary_unary(
                 '/reminderparser.ReminderParserService/HealthCheck',
                 request_serializer=reminder__parser__pb2.HealthRequest.SerializeToString,
@@ -35,6 +40,12 @@ class ReminderParserServiceServicer(object):
         context.set_details('Method not implemented!')
         raise NotImplementedError('Method not implemented!')
 
+    def ParseReminders(self, request, context):
+        """Missing associated documentation comment in .proto file."""
+        context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+        context.set_details('Method not implemented!')
+        raise NotImplementedError('Method not implemented!')
+
     def HealthCheck(self, request, context):
         """Missing associated documentation comment in .proto file."""
         context.set_code(grpc.StatusCode.UNIMPLEMENTED)
@@ -49,6 +60,11 @@ def add_ReminderParserServiceServicer_to_server(servicer, server):
                     request_deserializer=reminder__parser__pb2.ParseRequest.FromString,
                     response_serializer=reminder__parser__pb2.ParseResponse.SerializeToString,
             ),
+            'ParseReminders': grpc.unary_unary_rpc_method_handler(
+                    servicer.ParseReminders,
+                    request_deserializer=reminder__parser__pb2.BatchParseRequest.FromString,
+                    response_serializer=reminder__parser__pb2.BatchParseResponse.SerializeToString,
+            ),
             'HealthCheck': grpc.unary_unary_rpc_method_handler(
                     servicer.HealthCheck,
                     request_deserializer=reminder__parser__pb2.HealthRequest.FromString,
@@ -81,6 +97,23 @@ class ReminderParserService(object):
             options, channel_credentials,
             insecure, call_credentials, compression, wait_for_ready, timeout, metadata)
 
+    @staticmethod
+    def ParseReminders(request,
+            target,
+            options=(),
+            channel_credentials=None,
+            call_credentials=None,
+            insecure=False,
+            compression=None,
+            wait_for_ready=None,
+            timeout=None,
+            metadata=None):
+        return grpc.experimental.unary_unary(request, target, '/reminderparser.ReminderParserService/ParseReminders',
+            reminder__parser__pb2.BatchParseRequest.SerializeToString,
+            reminder__parser__pb2.BatchParseResponse.FromString,
+            options, channel_credentials,
+            insecure, call_credentials, compression, wait_for_ready, timeout, metadata)
+
     @staticmethod
     def HealthCheck(request,
             target,
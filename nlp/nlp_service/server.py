@@ -15,26 +15,7 @@ class ReminderParserService(pb_grpc.ReminderParserServiceServicer):
 
     def ParseReminder(self, request, context):
         try:
-            parsed = self.model.parse(
-                text=request.text,
-                language=request.language_code or None
-            )
-
-            # Конвертируем в protobuf
-            response = pb.ParseResponse(
-                reminder_id=f"{request.user_id}_{int(datetime.now().timestamp())}",
-                parsed=pb.ParsedReminder(
-                    action=parsed.action,
-                    time_expression=self._time_to_proto(parsed.time_expression),
-                    normalized_text=parsed.normalized_text,
-                    intent=parsed.intent
-                ),
-                confidence=parsed.confidence,
-                language_detected=parsed.language,
-                raw_text=parsed.raw_text
-            )
-
-            return response
+            return self._parse_one(request)
 
         except Exception as e:
             logging.error(f"Error: {e}")
@@ -42,6 +23,45 @@ class ReminderParserService(pb_grpc.ReminderParserServiceServicer):
             context.set_details(str(e))
             return pb.ParseResponse()
 
+    def ParseReminders(self, request, context):
+        # Тексты разбираются одним пакетом через nlp.pipe; ошибка одного текста
+        # не роняет весь пакет: для него возвращается пустой ответ
+        items = [(item.text, item.language_code or None) for item in request.requests]
+        responses = []
+        for item, parsed in zip(request.requests, self.model.parse_batch(items)):
+            if isinstance(parsed, Exception):
+                logging.error(f"Error in batch item: {parsed}")
+                responses.append(pb.ParseResponse())
+                continue
+            try:
+                responses.append(self._to_response(parsed, item))
+            except Exception as e:
+                logging.error(f"Error in batch item: {e}")
+                responses.append(pb.ParseResponse())
+        return pb.BatchParseResponse(responses=responses)
+
+    def _parse_one(self, request):
+        parsed = self.model.parse(
+            text=request.text,
+            language=request.language_code or None
+        )
+        return self._to_response(parsed, request)
+
+    def _to_response(self, parsed, request):
+        # Конвертируем в protobuf
+        return pb.ParseResponse(
+            reminder_id=f"{request.user_id}_{int(datetime.now().timestamp())}",
+            parsed=pb.ParsedReminder(
+                action=parsed.action,
+                time_expression=self._time_to_proto(parsed.time_expression),
+                normalized_text=parsed.normalized_text,
+                intent=parsed.intent
+            ),
+            confidence=parsed.confidence,
+            language_detected=parsed.language,
+            raw_text=parsed.raw_text
+        )
+
     def HealthCheck(self, request, context):
         return pb.HealthResponse(
             healthy=True,
@@ -100,16 +100,8 @@ class MLReminderParserService(pb_grpc.ReminderParserServiceServicer):
             print(f"Text: '{request.text}'")
             print(f"Language: {request.language_code}")
 
-            language = None
-            if request.language_code:
-                language_code = request.language_code.lower()
-                if '-' in language_code:
-                    language = language_code.split('-')[0]
-                elif len(language_code) >= 2:
-                    language = language_code[:2]
-                else:
-                    language = language_code
-                print(f"Transformed language: {language}")
+            language = self._normalize_language(request.language_code)
+            print(f"Transformed language: {language}")
 
             parsed = self.parser.parse(
                 text=request.text,
@@ -133,6 +125,48 @@ class MLReminderParserService(pb_grpc.ReminderParserServiceServicer):
             context.set_details(str(e))
             return pb.ParseResponse()
 
+    def ParseReminders(self, request, context):
+        if not self._validate_auth(context):
+            self.error_count += 1
+            context.abort(grpc.StatusCode.UNAUTHENTICATED, 'Invalid or missing API key')
+
+        print(f"New authenticated batch request: {len(request.requests)} texts")
+
+        # spaCy и классификатор намерений получают весь пакет за один проход;
+        # ошибка одного текста не роняет пакет: для него возвращается пустой ответ
+        items = [(item.text, self._normalize_language(item.language_code)) for item in request.requests]
+        self.request_count += len(items)
+        try:
+            results = self.parser.parse_batch(items)
+        except Exception as e:
+            self.error_count += len(items)
+            logging.error(f"Error parsing batch: {e}", exc_info=True)
+            context.abort(grpc.StatusCode.INTERNAL, str(e))
+
+        responses = []
+        for item, parsed in zip(request.requests, results):
+            try:
+                if isinstance(parsed, Exception):
+                    raise parsed
+                responses.append(self._to_protobuf(parsed, item.user_id))
+            except Exception as e:
+                self.error_count += 1
+                logging.error(f"Error parsing batch item: {e}")
+                responses.append(pb.ParseResponse())
+
+        return pb.BatchParseResponse(responses=responses)
+
+    @staticmethod
+    def _normalize_language(language_code: str) -> Optional[str]:
+        if not language_code:
+            return None
+        language_code = language_code.lower()
+        if '-' in language_code:
+            return language_code.split('-')[0]
+        if len(language_code) >= 2:
+            return language_code[:2]
+        return language_code
+
     def HealthCheck(self, request, context):
         return pb.HealthResponse(
             healthy=True,
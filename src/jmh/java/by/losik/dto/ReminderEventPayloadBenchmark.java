@@ -0,0 +1,67 @@
+package by.losik.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение сериализации данных напоминания для EventBridge.
+ * <p>
+ * {@code mapWithNewObjectMapper} повторяет прежний путь (Map и новый ObjectMapper на каждое правило),
+ * {@code recordWithCachedWriter} — {@link ReminderEventPayload#toJson()}. Аллокации на операцию
+ * выводит профилировщик gc (метрика {@code gc.alloc.rate.norm}):
+ * <pre>
+ * gradle jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReminderEventPayloadBenchmark {
+
+    private String reminderId;
+    private String scheduledTime;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        reminderId = "4f1c2b9e-7d1a-4c8e-9a51-2f6f0e3b8d10";
+        scheduledTime = LocalDateTime.of(2026, 3, 28, 15, 0).toString();
+    }
+
+    @Benchmark
+    public String mapWithNewObjectMapper() throws Exception {
+        Map<String, Object> inputData = Map.of(
+                "reminderId", reminderId,
+                "userEmail", "user@example.com",
+                "action", "позвонить маме",
+                "scheduledTime", scheduledTime,
+                "intent", "reminder",
+                "confidence", 0.95,
+                "language", "ru"
+        );
+        return new ObjectMapper().writeValueAsString(inputData);
+    }
+
+    @Benchmark
+    public String recordWithCachedWriter() {
+        return new ReminderEventPayload(
+                reminderId,
+                "user@example.com",
+                "позвонить маме",
+                scheduledTime,
+                "reminder",
+                0.95,
+                "ru"
+        ).toJson();
+    }
+}
@@ -0,0 +1,85 @@
+package by.losik.util;
+
+import by.losik.config.GRPCConfig;
+import by.losik.config.SecretsManagerConfig;
+import by.losik.grpc.ParseRequest;
+import by.losik.grpc.ParseResponse;
+import by.losik.grpc.ReminderParserServiceGrpc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение локального разбора временных выражений с вызовом NLP сервиса.
+ * <p>
+ * Бенчмарк {@code nlpService} требует запущенного NLP сервиса
+ * (NLP_SERVICE_HOST / NLP_SERVICE_PORT, по умолчанию localhost:50051). Канал создаётся
+ * через {@link GRPCConfig}, как в {@link by.losik.service.GRPCService}: с TLS по GRPC_USE_TLS,
+ * Bearer токеном из секрета NLP_GRPC_API_KEY и keep-alive, а дедлайн вызова равен
+ * бюджету GRPC_PARSE_BUDGET_MS, поэтому измеряется тот же вызов, что и в приложении:
+ * <pre>
+ * gradle jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemporalExpressionParserBenchmark {
+
+    @Param({
+            "Напомни мне через 10 минут позвонить маме",
+            "завтра в 9:00 встреча с командой",
+            "remind me to call John in 15 minutes",
+            "tomorrow at 9am standup"
+    })
+    public String text;
+
+    private LocalDateTime now;
+    private SecretsManagerConfig secretsManager;
+    private GRPCConfig grpcConfig;
+    private ReminderParserServiceGrpc.ReminderParserServiceBlockingStub stub;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        now = LocalDateTime.now();
+        secretsManager = new SecretsManagerConfig(
+                ConfigUtils.getEnvOrDefault("AWS_ENDPOINT_URL", "http://localstack:4566"),
+                ConfigUtils.getEnvOrDefault("AWS_REGION", "us-east-1"),
+                ConfigUtils.getEnvOrDefault("AWS_ACCESS_KEY_ID", "test"),
+                ConfigUtils.getEnvOrDefault("AWS_SECRET_ACCESS_KEY", "test"),
+                ConfigUtils.getEnvOrDefault("ENVIRONMENT_NAME", "dev"));
+        grpcConfig = new GRPCConfig(secretsManager);
+        stub = ReminderParserServiceGrpc.newBlockingStub(grpcConfig.getChannel());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        grpcConfig.shutdown();
+        secretsManager.close();
+    }
+
+    @Benchmark
+    public Optional<TemporalExpressionParser.TemporalMatch> localParser() {
+        return TemporalExpressionParser.parse(text, null, now);
+    }
+
+    @Benchmark
+    public ParseResponse nlpService() {
+        return stub.withDeadlineAfter(grpcConfig.getParseBudgetMs(), TimeUnit.MILLISECONDS)
+                .parseReminder(ParseRequest.newBuilder()
+                        .setText(text)
+                        .setUserId("benchmark")
+                        .build());
+    }
+}
@@ -5,13 +5,24 @@
 import by.losik.composition.root.JpaModule;
 import by.losik.composition.root.MailModule;
 import by.losik.composition.root.RateLimitModule;
+import by.losik.service.EventBridgeBatchDispatcher;
+import by.losik.service.NlpChannelPool;
+import by.losik.service.OpenSearchBulkProcessor;
 import by.losik.service.OpenSearchService;
+import by.losik.service.ReminderDispatcher;
+import by.losik.service.S3BucketRegistry;
+import by.losik.service.TranscriptionEventListener;
+import by.losik.service.TranscriptionJobPoller;
+import by.losik.service.pipeline.VoiceReminderPipeline;
 import by.losik.server.WebServer;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
 public class Main {
     private static final Logger log = LoggerFactory.getLogger(Main.class);
     public static void main(String[] args) {
@@ -27,10 +38,31 @@ public static void main(String[] args) {
             openSearchService.initializeIndices().join();
             log.info("OpenSearch indices initialized");
 
+            try {
+                injector.getInstance(S3BucketRegistry.class).initialize().join();
+                log.info("S3 bucket verified");
+            } catch (CompletionException e) {
+                // Неудачная проверка не кэшируется: бакет будет проверен при первой загрузке
+                log.warn("S3 bucket check failed, will retry on first use: {}", e.getMessage());
+            }
+
+            injector.getInstance(ReminderDispatcher.class).start().join();
+
             WebServer webServer = injector.getInstance(WebServer.class);
             webServer.start();
             log.info("Web application started!");
 
+            // Сначала останавливаются источники записей (диспетчер, конвейер дожидается своих операций,
+            // поллер и слушатель Transcribe), затем сбрасываются буферы записи и закрываются каналы
+            List<AutoCloseable> resources = List.of(
+                    injector.getInstance(ReminderDispatcher.class),
+                    injector.getInstance(VoiceReminderPipeline.class),
+                    injector.getInstance(TranscriptionJobPoller.class),
+                    injector.getInstance(TranscriptionEventListener.class),
+                    injector.getInstance(OpenSearchBulkProcessor.class),
+                    injector.getInstance(EventBridgeBatchDispatcher.class),
+                    injector.getInstance(NlpChannelPool.class));
+
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
                 try {
                     log.info("\nShutting down");
@@ -38,6 +70,7 @@ public static void main(String[] args) {
                 } catch (Exception e) {
                     e.printStackTrace();
                 }
+                resources.forEach(Main::closeQuietly);
             }));
 
             Thread.currentThread().join();
@@ -47,4 +80,12 @@ public static void main(String[] args) {
             e.printStackTrace();
         }
     }
+
+    private static void closeQuietly(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (Exception e) {
+            log.error("Failed to close {}", resource.getClass().getSimpleName(), e);
+        }
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@
 import by.losik.config.LocalStackConfig;
 import by.losik.config.MonitoringConfig;
 import by.losik.config.SecretsManagerConfig;
+import by.losik.filter.PipelineAdmissionFilter;
 import by.losik.filter.RateLimiterFilter;
 import by.losik.filter.SessionAuthFilter;
 import by.losik.resource.AuthResource;
@@ -192,7 +193,7 @@ public GRPCConfig createGRPCConfig(SecretsManagerConfig secretsManagerConfig) {
      * WebServer настраивает Jetty сервер с:
      * <ul>
      *     <li>Jersey JAX-RS для REST API</li>
-     *     <li>Фильтрами (RateLimiterFilter, CorsFilter, SessionAuthFilter)</li>
+     *     <li>Фильтрами (RateLimiterFilter, CorsFilter, SessionAuthFilter, PipelineAdmissionFilter)</li>
      *     <li>Статическими ресурсами (веб-интерфейс)</li>
      * </ul>
      *
@@ -201,6 +202,7 @@ public GRPCConfig createGRPCConfig(SecretsManagerConfig secretsManagerConfig) {
      * @param metricsResource ресурс для метрик Prometheus
      * @param passwordResetResource ресурс для сброса пароля
      * @param rateLimiterFilter фильтр для rate limiting
+     * @param pipelineAdmissionFilter фильтр допуска в конвейер голосовых напоминаний
      * @param portStr порт веб-сервера (из переменных окружения)
      * @return настроенный WebServer
      * @see WebServer
@@ -214,6 +216,7 @@ public WebServer createWebServer(
             PasswordResetResource passwordResetResource,
             RateLimiterFilter rateLimiterFilter,
             SessionAuthFilter sessionAuthFilter,
+            PipelineAdmissionFilter pipelineAdmissionFilter,
             CorsConfig corsConfig,
             @Named("ws.port") String portStr) {
 
@@ -225,7 +228,8 @@ public WebServer createWebServer(
         }
 
         return new WebServer(webServerPort, reminderResource, authResource,
-                metricsResource, passwordResetResource, rateLimiterFilter, sessionAuthFilter, corsConfig);
+                metricsResource, passwordResetResource, rateLimiterFilter, sessionAuthFilter,
+                pipelineAdmissionFilter, corsConfig);
     }
 
     /**
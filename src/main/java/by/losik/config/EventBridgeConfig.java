@@ -18,6 +18,21 @@
  *     <li>{@code EVENTBRIDGE_EMAIL_BUS} — имя шины для email (по умолчанию "email-events")</li>
  *     <li>{@code EVENTBRIDGE_TELEGRAM_BUS} — имя шины для Telegram (по умолчанию "telegram-events")</li>
  *     <li>{@code LAMBDA_SEND_REMINDER_ARN} — ARN Lambda функции для напоминаний</li>
+ *     <li>{@code SCHEDULER_MODE} — движок планирования напоминаний: {@code rule} (отдельное cron правило
+ *     на каждое напоминание) или {@code bucket} (общий диспетчер по временным корзинам, по умолчанию rule)</li>
+ *     <li>{@code SCHEDULER_BUCKET_SEC} — размер временной корзины диспетчера (по умолчанию 60 секунд)</li>
+ *     <li>{@code SCHEDULER_DISPATCH_BATCH_SIZE} — напоминаний на страницу выборки диспетчера (по умолчанию 100)</li>
+ *     <li>{@code SCHEDULER_DISPATCH_RULE} — имя общего правила, доставляющего события диспетчера
+ *     в Lambda (по умолчанию "reminder-dispatch")</li>
+ *     <li>{@code SCHEDULER_CLAIM_LEASE_SEC} — через сколько захват напоминания без отправки считается
+ *     брошенным и напоминание выбирается диспетчером снова (по умолчанию 300 секунд)</li>
+ *     <li>{@code EVENTBRIDGE_BATCH_MAX_ENTRIES} — максимум событий в одном PutEvents (по умолчанию 10,
+ *     не больше лимита API)</li>
+ *     <li>{@code EVENTBRIDGE_BATCH_MAX_BYTES} — максимальный размер PutEvents (по умолчанию 256 КБ)</li>
+ *     <li>{@code EVENTBRIDGE_BATCH_LINGER_MS} — интервал отправки неполного пакета (по умолчанию 20 мс)</li>
+ *     <li>{@code EVENTBRIDGE_BATCH_MAX_RETRIES} — повторы событий, отклонённых в ответе PutEvents
+ *     (по умолчанию 3)</li>
+ *     <li>{@code EVENTBRIDGE_BATCH_MAX_PENDING} — максимум ожидающих отправки событий (по умолчанию 10000)</li>
  * </ul>
  *
  * @see by.losik.service.EventBridgeService
@@ -34,9 +49,46 @@ public class EventBridgeConfig {
     /** ARN Lambda функции для напоминаний по умолчанию */
     private static final String DEFAULT_SEND_REMINDER_ARN = "arn:aws:lambda:us-east-1:000000000000:function:send-reminder";
 
+    /** Размер временной корзины диспетчера по умолчанию (секунды) */
+    private static final long DEFAULT_BUCKET_SEC = 60L;
+
+    /** Размер страницы выборки диспетчера по умолчанию */
+    private static final int DEFAULT_DISPATCH_BATCH_SIZE = 100;
+
+    /** Имя общего правила диспетчера по умолчанию */
+    private static final String DEFAULT_DISPATCH_RULE = "reminder-dispatch";
+
+    /** Аренда захвата напоминания диспетчером по умолчанию (секунды) */
+    private static final long DEFAULT_CLAIM_LEASE_SEC = 300L;
+
+    /** Лимит PutEvents на количество событий в запросе */
+    public static final int PUT_EVENTS_MAX_ENTRIES = 10;
+
+    /** Лимит PutEvents на размер запроса (256 КБ) */
+    public static final long PUT_EVENTS_MAX_BYTES = 256L * 1024;
+
+    /** Интервал отправки неполного пакета событий по умолчанию (мс) */
+    private static final long DEFAULT_BATCH_LINGER_MS = 20L;
+
+    /** Повторы отклонённых событий по умолчанию */
+    private static final int DEFAULT_BATCH_MAX_RETRIES = 3;
+
+    /** Максимум ожидающих отправки событий по умолчанию */
+    private static final int DEFAULT_BATCH_MAX_PENDING = 10000;
+
     private final String emailEventBusName;
     private final String telegramEventBusName;
     private final String defaultLambdaArn;
+    private final boolean bucketScheduler;
+    private final long bucketSeconds;
+    private final int dispatchBatchSize;
+    private final String dispatchRuleName;
+    private final long claimLeaseSeconds;
+    private final int batchMaxEntries;
+    private final long batchMaxBytes;
+    private final long batchLingerMs;
+    private final int batchMaxRetries;
+    private final int batchMaxPending;
 
     /**
      * Создаёт конфигурацию EventBridge с загрузкой настроек из переменных окружения.
@@ -48,6 +100,23 @@ public EventBridgeConfig() {
                 "EVENTBRIDGE_TELEGRAM_BUS", DEFAULT_TELEGRAM_BUS);
         this.defaultLambdaArn = ConfigUtils.getEnvOrDefault(
                 "LAMBDA_SEND_REMINDER_ARN", DEFAULT_SEND_REMINDER_ARN);
+        this.bucketScheduler = "bucket".equalsIgnoreCase(ConfigUtils.getEnvOrDefault("SCHEDULER_MODE", "rule"));
+        this.bucketSeconds = Math.max(1L, ConfigUtils.getLongEnvOrDefault("SCHEDULER_BUCKET_SEC", DEFAULT_BUCKET_SEC));
+        this.dispatchBatchSize = Math.max(1, ConfigUtils.getIntEnvOrDefault(
+                "SCHEDULER_DISPATCH_BATCH_SIZE", DEFAULT_DISPATCH_BATCH_SIZE));
+        this.dispatchRuleName = ConfigUtils.getEnvOrDefault("SCHEDULER_DISPATCH_RULE", DEFAULT_DISPATCH_RULE);
+        this.claimLeaseSeconds = Math.max(1L, ConfigUtils.getLongEnvOrDefault(
+                "SCHEDULER_CLAIM_LEASE_SEC", DEFAULT_CLAIM_LEASE_SEC));
+        this.batchMaxEntries = Math.max(1, Math.min(PUT_EVENTS_MAX_ENTRIES, ConfigUtils.getIntEnvOrDefault(
+                "EVENTBRIDGE_BATCH_MAX_ENTRIES", PUT_EVENTS_MAX_ENTRIES)));
+        this.batchMaxBytes = Math.max(1L, Math.min(PUT_EVENTS_MAX_BYTES, ConfigUtils.getLongEnvOrDefault(
+                "EVENTBRIDGE_BATCH_MAX_BYTES", PUT_EVENTS_MAX_BYTES)));
+        this.batchLingerMs = Math.max(1L, ConfigUtils.getLongEnvOrDefault(
+                "EVENTBRIDGE_BATCH_LINGER_MS", DEFAULT_BATCH_LINGER_MS));
+        this.batchMaxRetries = Math.max(0, ConfigUtils.getIntEnvOrDefault(
+                "EVENTBRIDGE_BATCH_MAX_RETRIES", DEFAULT_BATCH_MAX_RETRIES));
+        this.batchMaxPending = Math.max(1, ConfigUtils.getIntEnvOrDefault(
+                "EVENTBRIDGE_BATCH_MAX_PENDING", DEFAULT_BATCH_MAX_PENDING));
     }
 
     /**
@@ -76,4 +145,94 @@ public String getTelegramEventBusName() {
     public String getDefaultLambdaArn() {
         return defaultLambdaArn;
     }
+
+    /**
+     * Проверяет, используется ли диспетчер по временным корзинам вместо правила на каждое напоминание.
+     *
+     * @return true если SCHEDULER_MODE=bucket
+     */
+    public boolean isBucketScheduler() {
+        return bucketScheduler;
+    }
+
+    /**
+     * Получает размер временной корзины диспетчера.
+     *
+     * @return размер корзины в секундах (по умолчанию 60)
+     */
+    public long getBucketSeconds() {
+        return bucketSeconds;
+    }
+
+    /**
+     * Получает размер страницы выборки диспетчера.
+     *
+     * @return напоминаний на страницу (по умолчанию 100)
+     */
+    public int getDispatchBatchSize() {
+        return dispatchBatchSize;
+    }
+
+    /**
+     * Получает имя общего правила диспетчера.
+     *
+     * @return имя правила (по умолчанию "reminder-dispatch")
+     */
+    public String getDispatchRuleName() {
+        return dispatchRuleName;
+    }
+
+    /**
+     * Получает аренду захвата напоминания диспетчером.
+     *
+     * @return аренда захвата в секундах (по умолчанию 300)
+     */
+    public long getClaimLeaseSeconds() {
+        return claimLeaseSeconds;
+    }
+
+    /**
+     * Получает максимум событий в одном PutEvents.
+     *
+     * @return количество событий (по умолчанию 10)
+     */
+    public int getBatchMaxEntries() {
+        return batchMaxEntries;
+    }
+
+    /**
+     * Получает максимальный размер одного PutEvents.
+     *
+     * @return размер в байтах (по умолчанию 256 КБ)
+     */
+    public long getBatchMaxBytes() {
+        return batchMaxBytes;
+    }
+
+    /**
+     * Получает интервал отправки неполного пакета событий.
+     *
+     * @return интервал в миллисекундах (по умолчанию 20)
+     */
+    public long getBatchLingerMs() {
+        return batchLingerMs;
+    }
+
+    /**
+     * Получает количество повторов событий, отклонённых в ответе PutEvents.
+     *
+     * @return количество повторов (по умолчанию 3)
+     */
+    public int getBatchMaxRetries() {
+        return batchMaxRetries;
+    }
+
+    /**
+     * Получает максимум ожидающих отправки событий.
+     *
+     * @return количество событий (по умолчанию 10000)
+     */
+    public int getBatchMaxPending() {
+        return batchMaxPending;
+    }
 }
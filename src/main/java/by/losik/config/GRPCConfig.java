@@ -8,6 +8,8 @@
 import io.grpc.Metadata;
 import io.grpc.stub.MetadataUtils;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -20,6 +22,47 @@
  *     <li>Аутентификацию через API key</li>
  *     <li>Keep-alive настройки</li>
  *     <li>Таймауты для запросов и health check</li>
+ *     <li>Бюджет задержки парсинга и hedging запросов ко второй реплике NLP сервиса</li>
+ * </ul>
+ * <p>
+ * Переменные окружения для асинхронного парсинга:
+ * <ul>
+ *     <li>GRPC_PARSE_BUDGET_MS — общий бюджет задержки парсинга, из которого считаются
+ *     дедлайны отдельных вызовов (по умолчанию равен GRPC_PARSE_DEADLINE_SEC)</li>
+ *     <li>NLP_SERVICE_HEDGE_TARGET — адрес второй реплики NLP сервиса (host:port);
+ *     если не задан, hedging отключён</li>
+ *     <li>GRPC_HEDGE_DELAY_MS — через сколько миллисекунд без ответа отправляется
+ *     hedged запрос (по умолчанию 2000)</li>
+ *     <li>GRPC_PARSE_BATCH_ENABLED — объединять параллельные запросы парсинга
+ *     в пакетный ParseReminders (по умолчанию false)</li>
+ *     <li>GRPC_PARSE_BATCH_WINDOW_MS — окно сбора пакета (по умолчанию 5 мс)</li>
+ *     <li>GRPC_PARSE_BATCH_MAX_SIZE — максимальный размер пакета (по умолчанию 32)</li>
+ *     <li>GRPC_PARSE_CACHE_ENABLED — кэшировать ответы NLP сервиса по нормализованному
+ *     тексту (по умолчанию true)</li>
+ *     <li>GRPC_PARSE_CACHE_MAX_SIZE — максимум ответов в кэше (по умолчанию 10000)</li>
+ *     <li>NLP_SERVICE_TARGETS — список реплик NLP сервиса через запятую (host:port);
+ *     элементы вида {@code dns:///host:port} периодически разрешаются во все адреса.
+ *     Если не задан, используется NLP_SERVICE_HOST:NLP_SERVICE_PORT</li>
+ *     <li>NLP_LB_POLICY — балансировка между репликами: round_robin или least_request
+ *     (по умолчанию round_robin)</li>
+ *     <li>NLP_CHANNELS_PER_BACKEND — количество HTTP/2 соединений к каждой реплике (по умолчанию 2)</li>
+ *     <li>NLP_DNS_REFRESH_MS — интервал повторного разрешения DNS (по умолчанию 30000)</li>
+ *     <li>GRPC_PARSE_CACHE_TTL_SEC — время жизни ответа в кэше (по умолчанию 3600 секунд);
+ *     при смене версии модели кэш очищается раньше</li>
+ *     <li>GRPC_CB_WINDOW_SIZE — размер скользящего окна circuit breaker в вызовах (по умолчанию 50)</li>
+ *     <li>GRPC_CB_MIN_CALLS — минимум вызовов в окне до оценки порогов (по умолчанию 10)</li>
+ *     <li>GRPC_CB_FAILURE_RATE_PCT — доля ошибок, при которой breaker открывается (по умолчанию 50%)</li>
+ *     <li>GRPC_CB_SLOW_CALL_MS — длительность медленного вызова (по умолчанию 10000 мс)</li>
+ *     <li>GRPC_CB_SLOW_CALL_RATE_PCT — доля медленных вызовов, при которой breaker открывается
+ *     (по умолчанию 80%)</li>
+ *     <li>GRPC_CB_OPEN_MS — время в открытом состоянии до проверочных health check (по умолчанию 30000 мс)</li>
+ *     <li>GRPC_CB_HALF_OPEN_PROBES — успешных проверок подряд для закрытия breaker (по умолчанию 3)</li>
+ *     <li>GRPC_BULKHEAD_MAX_CONCURRENT — максимум одновременных вызовов NLP сервиса (по умолчанию 64)</li>
+ *     <li>GRPC_BULKHEAD_MAX_QUEUED — максимум вызовов в очереди bulkhead (по умолчанию 128)</li>
+ *     <li>GRPC_LOCAL_PARSE_ENABLED — разбирать простые временные выражения локально,
+ *     без вызова NLP сервиса (по умолчанию true)</li>
+ *     <li>GRPC_LOCAL_PARSE_MIN_CONFIDENCE_PCT — минимальная уверенность локального разбора,
+ *     при которой NLP сервис не вызывается (по умолчанию 90%)</li>
  * </ul>
  * <p>
  * Используется в {@link by.losik.service.GRPCService} для парсинга напоминаний.
@@ -36,7 +79,32 @@ public class GRPCConfig {
     private final long healthCheckIntervalMs;
     private final long parseDeadlineSec;
     private final long healthCheckDeadlineSec;
+    private final long parseBudgetMs;
+    private final String hedgeTarget;
+    private final long hedgeDelayMs;
+    private final boolean parseBatchEnabled;
+    private final long parseBatchWindowMs;
+    private final int parseBatchMaxSize;
+    private final boolean parseCacheEnabled;
+    private final long parseCacheMaxSize;
+    private final long parseCacheTtlSeconds;
+    private final List<String> nlpServiceTargets;
+    private final String loadBalancingPolicy;
+    private final int channelsPerBackend;
+    private final long dnsRefreshMs;
+    private final int circuitWindowSize;
+    private final int circuitMinimumCalls;
+    private final int circuitFailureRatePct;
+    private final long circuitSlowCallMs;
+    private final int circuitSlowCallRatePct;
+    private final long circuitOpenMs;
+    private final int circuitHalfOpenProbes;
+    private final int bulkheadMaxConcurrent;
+    private final int bulkheadMaxQueued;
+    private final boolean localParseEnabled;
+    private final int localParseMinConfidencePct;
     private ManagedChannel channel;
+    private ManagedChannel hedgeChannel;
 
     /** Таймаут парсинга по умолчанию (30 секунд) */
     private static final long DEFAULT_PARSE_DEADLINE_SEC = 180L;
@@ -47,6 +115,57 @@ public class GRPCConfig {
     /** Интервал health check по умолчанию (30 секунд) */
     private static final long DEFAULT_HEALTH_CHECK_INTERVAL_MS = 30000L;
 
+    /** Задержка перед hedged запросом по умолчанию (2 секунды) */
+    private static final long DEFAULT_HEDGE_DELAY_MS = 2000L;
+
+    /** Окно сбора пакета запросов парсинга по умолчанию (5 мс) */
+    private static final long DEFAULT_PARSE_BATCH_WINDOW_MS = 5L;
+
+    /** Максимальный размер пакета запросов парсинга по умолчанию */
+    private static final int DEFAULT_PARSE_BATCH_MAX_SIZE = 32;
+
+    /** Максимум ответов в кэше парсинга по умолчанию */
+    private static final long DEFAULT_PARSE_CACHE_MAX_SIZE = 10000L;
+
+    /** Время жизни ответа в кэше парсинга по умолчанию (1 час) */
+    private static final long DEFAULT_PARSE_CACHE_TTL_SEC = 3600L;
+
+    /** Количество соединений к каждой реплике NLP сервиса по умолчанию */
+    private static final int DEFAULT_CHANNELS_PER_BACKEND = 2;
+
+    /** Интервал повторного разрешения DNS по умолчанию (30 секунд) */
+    private static final long DEFAULT_DNS_REFRESH_MS = 30000L;
+
+    /** Размер скользящего окна circuit breaker по умолчанию */
+    private static final int DEFAULT_CB_WINDOW_SIZE = 50;
+
+    /** Минимум вызовов в окне circuit breaker по умолчанию */
+    private static final int DEFAULT_CB_MIN_CALLS = 10;
+
+    /** Порог доли ошибок circuit breaker по умолчанию (проценты) */
+    private static final int DEFAULT_CB_FAILURE_RATE_PCT = 50;
+
+    /** Длительность медленного вызова по умолчанию (10 секунд) */
+    private static final long DEFAULT_CB_SLOW_CALL_MS = 10000L;
+
+    /** Порог доли медленных вызовов circuit breaker по умолчанию (проценты) */
+    private static final int DEFAULT_CB_SLOW_CALL_RATE_PCT = 80;
+
+    /** Время в открытом состоянии circuit breaker по умолчанию (30 секунд) */
+    private static final long DEFAULT_CB_OPEN_MS = 30000L;
+
+    /** Успешных проб для закрытия circuit breaker по умолчанию */
+    private static final int DEFAULT_CB_HALF_OPEN_PROBES = 3;
+
+    /** Максимум одновременных вызовов NLP сервиса по умолчанию */
+    private static final int DEFAULT_BULKHEAD_MAX_CONCURRENT = 64;
+
+    /** Максимум вызовов в очереди bulkhead по умолчанию */
+    private static final int DEFAULT_BULKHEAD_MAX_QUEUED = 128;
+
+    /** Минимальная уверенность локального разбора по умолчанию (проценты) */
+    private static final int DEFAULT_LOCAL_PARSE_MIN_CONFIDENCE_PCT = 90;
+
     /**
      * Создаёт конфигурацию gRPC клиента.
      *
@@ -61,6 +180,42 @@ public GRPCConfig(SecretsManagerConfig secretsManager) {
         this.healthCheckIntervalMs = ConfigUtils.getLongEnvOrDefault("GRPC_HEALTH_CHECK_INTERVAL_MS", DEFAULT_HEALTH_CHECK_INTERVAL_MS);
         this.parseDeadlineSec = ConfigUtils.getLongEnvOrDefault("GRPC_PARSE_DEADLINE_SEC", DEFAULT_PARSE_DEADLINE_SEC);
         this.healthCheckDeadlineSec = ConfigUtils.getLongEnvOrDefault("GRPC_HEALTH_CHECK_DEADLINE_SEC", DEFAULT_HEALTH_CHECK_DEADLINE_SEC);
+        this.parseBudgetMs = ConfigUtils.getLongEnvOrDefault("GRPC_PARSE_BUDGET_MS", TimeUnit.SECONDS.toMillis(parseDeadlineSec));
+        this.hedgeTarget = ConfigUtils.getEnvOrDefault("NLP_SERVICE_HEDGE_TARGET", null);
+        this.hedgeDelayMs = ConfigUtils.getLongEnvOrDefault("GRPC_HEDGE_DELAY_MS", DEFAULT_HEDGE_DELAY_MS);
+        this.parseBatchEnabled = ConfigUtils.getBooleanEnvOrDefault("GRPC_PARSE_BATCH_ENABLED", false);
+        this.parseBatchWindowMs = ConfigUtils.getLongEnvOrDefault("GRPC_PARSE_BATCH_WINDOW_MS", DEFAULT_PARSE_BATCH_WINDOW_MS);
+        this.parseBatchMaxSize = Math.max(1, ConfigUtils.getIntEnvOrDefault("GRPC_PARSE_BATCH_MAX_SIZE", DEFAULT_PARSE_BATCH_MAX_SIZE));
+        this.parseCacheEnabled = ConfigUtils.getBooleanEnvOrDefault("GRPC_PARSE_CACHE_ENABLED", true);
+        this.parseCacheMaxSize = ConfigUtils.getLongEnvOrDefault("GRPC_PARSE_CACHE_MAX_SIZE", DEFAULT_PARSE_CACHE_MAX_SIZE);
+        this.parseCacheTtlSeconds = ConfigUtils.getLongEnvOrDefault("GRPC_PARSE_CACHE_TTL_SEC", DEFAULT_PARSE_CACHE_TTL_SEC);
+        this.nlpServiceTargets = parseTargets(ConfigUtils.getEnvOrDefault("NLP_SERVICE_TARGETS", null),
+                nlpServiceHost + ":" + nlpServicePort);
+        this.loadBalancingPolicy = ConfigUtils.getEnvOrDefault("NLP_LB_POLICY", "round_robin");
+        this.channelsPerBackend = Math.max(1, ConfigUtils.getIntEnvOrDefault("NLP_CHANNELS_PER_BACKEND", DEFAULT_CHANNELS_PER_BACKEND));
+        this.dnsRefreshMs = ConfigUtils.getLongEnvOrDefault("NLP_DNS_REFRESH_MS", DEFAULT_DNS_REFRESH_MS);
+        this.circuitWindowSize = Math.max(1, ConfigUtils.getIntEnvOrDefault("GRPC_CB_WINDOW_SIZE", DEFAULT_CB_WINDOW_SIZE));
+        this.circuitMinimumCalls = Math.max(1, ConfigUtils.getIntEnvOrDefault("GRPC_CB_MIN_CALLS", DEFAULT_CB_MIN_CALLS));
+        this.circuitFailureRatePct = ConfigUtils.getIntEnvOrDefault("GRPC_CB_FAILURE_RATE_PCT", DEFAULT_CB_FAILURE_RATE_PCT);
+        this.circuitSlowCallMs = ConfigUtils.getLongEnvOrDefault("GRPC_CB_SLOW_CALL_MS", DEFAULT_CB_SLOW_CALL_MS);
+        this.circuitSlowCallRatePct = ConfigUtils.getIntEnvOrDefault("GRPC_CB_SLOW_CALL_RATE_PCT", DEFAULT_CB_SLOW_CALL_RATE_PCT);
+        this.circuitOpenMs = ConfigUtils.getLongEnvOrDefault("GRPC_CB_OPEN_MS", DEFAULT_CB_OPEN_MS);
+        this.circuitHalfOpenProbes = Math.max(1, ConfigUtils.getIntEnvOrDefault("GRPC_CB_HALF_OPEN_PROBES", DEFAULT_CB_HALF_OPEN_PROBES));
+        this.bulkheadMaxConcurrent = Math.max(1, ConfigUtils.getIntEnvOrDefault("GRPC_BULKHEAD_MAX_CONCURRENT", DEFAULT_BULKHEAD_MAX_CONCURRENT));
+        this.bulkheadMaxQueued = Math.max(0, ConfigUtils.getIntEnvOrDefault("GRPC_BULKHEAD_MAX_QUEUED", DEFAULT_BULKHEAD_MAX_QUEUED));
+        this.localParseEnabled = ConfigUtils.getBooleanEnvOrDefault("GRPC_LOCAL_PARSE_ENABLED", true);
+        this.localParseMinConfidencePct = ConfigUtils.getIntEnvOrDefault("GRPC_LOCAL_PARSE_MIN_CONFIDENCE_PCT",
+                DEFAULT_LOCAL_PARSE_MIN_CONFIDENCE_PCT);
+    }
+
+    private static List<String> parseTargets(String targets, String defaultTarget) {
+        if (targets == null || targets.isBlank()) {
+            return List.of(defaultTarget);
+        }
+        return Arrays.stream(targets.split(","))
+                .map(String::trim)
+                .filter(target -> !target.isEmpty())
+                .toList();
     }
 
     /**
@@ -80,31 +235,72 @@ public ManagedChannel getChannel() {
         if (channel == null || channel.isShutdown() || channel.isTerminated()) {
             synchronized (this) {
                 if (channel == null || channel.isShutdown() || channel.isTerminated()) {
-                    ManagedChannelBuilder<?> builder = ManagedChannelBuilder
-                            .forAddress(nlpServiceHost, nlpServicePort);
-
-                    if (useTLS) {
-                        builder.useTransportSecurity();
-                    } else {
-                        builder.usePlaintext();
-                    }
-
-                    String apiKey = secretsManager.getSecret("NLP_GRPC_API_KEY");
-                    if (apiKey != null && !apiKey.isEmpty()) {
-                        builder.intercept(createAuthInterceptor(apiKey));
-                    }
-
-                    channel = builder
-                            .maxInboundMessageSize(100 * 1024 * 1024)
-                            .keepAliveTime(30, TimeUnit.SECONDS)
-                            .keepAliveTimeout(30, TimeUnit.SECONDS)
-                            .build();
+                    channel = buildChannel(ManagedChannelBuilder.forAddress(nlpServiceHost, nlpServicePort));
                 }
             }
         }
         return channel;
     }
 
+    /**
+     * Получает или создаёт gRPC канал ко второй реплике NLP сервиса для hedged запросов.
+     * <p>
+     * Канал создаётся лениво с теми же настройками, что и основной.
+     *
+     * @return ManagedChannel ко второй реплике или null, если hedging отключён
+     */
+    public ManagedChannel getHedgeChannel() {
+        if (!isHedgingEnabled()) {
+            return null;
+        }
+        if (hedgeChannel == null || hedgeChannel.isShutdown() || hedgeChannel.isTerminated()) {
+            synchronized (this) {
+                if (hedgeChannel == null || hedgeChannel.isShutdown() || hedgeChannel.isTerminated()) {
+                    hedgeChannel = buildChannel(ManagedChannelBuilder.forTarget(hedgeTarget));
+                }
+            }
+        }
+        return hedgeChannel;
+    }
+
+    /**
+     * Создаёт отдельный gRPC канал к одной реплике NLP сервиса.
+     * <p>
+     * Канал получает те же настройки TLS, аутентификации и keep-alive, что и основной.
+     * Закрывать канал должен вызывающий код.
+     *
+     * @param host адрес реплики (имя хоста или IP)
+     * @param port порт реплики
+     * @param authority authority для TLS и заголовка :authority или null, чтобы использовать host:port
+     * @return новый ManagedChannel
+     */
+    public ManagedChannel createChannel(String host, int port, String authority) {
+        ManagedChannelBuilder<?> builder = ManagedChannelBuilder.forAddress(host, port);
+        if (authority != null) {
+            builder.overrideAuthority(authority);
+        }
+        return buildChannel(builder);
+    }
+
+    private ManagedChannel buildChannel(ManagedChannelBuilder<?> builder) {
+        if (useTLS) {
+            builder.useTransportSecurity();
+        } else {
+            builder.usePlaintext();
+        }
+
+        String apiKey = secretsManager.getSecret("NLP_GRPC_API_KEY");
+        if (apiKey != null && !apiKey.isEmpty()) {
+            builder.intercept(createAuthInterceptor(apiKey));
+        }
+
+        return builder
+                .maxInboundMessageSize(100 * 1024 * 1024)
+                .keepAliveTime(30, TimeUnit.SECONDS)
+                .keepAliveTimeout(30, TimeUnit.SECONDS)
+                .build();
+    }
+
     /**
      * Создаёт interceptor для аутентификации через Bearer token.
      *
@@ -133,11 +329,16 @@ private Metadata createHeadersWithAuth(String apiKey) {
     }
 
     /**
-     * Закрывает gRPC канал.
+     * Закрывает gRPC каналы.
      * <p>
      * Пытается корректно завершить соединения с таймаутом 5 секунд.
      */
     public void shutdown() {
+        shutdownChannel(channel);
+        shutdownChannel(hedgeChannel);
+    }
+
+    private static void shutdownChannel(ManagedChannel channel) {
         if (channel != null && !channel.isShutdown()) {
             channel.shutdown();
             try {
@@ -206,4 +407,231 @@ public long getParseDeadlineSec() {
     public long getHealthCheckDeadlineSec() {
         return healthCheckDeadlineSec;
     }
-}
\ No newline at end of file
+
+    /**
+     * Получает бюджет задержки парсинга в миллисекундах.
+     * <p>
+     * Дедлайн каждого вызова (основного и hedged) равен остатку бюджета.
+     *
+     * @return бюджет задержки (по умолчанию равен таймауту парсинга)
+     */
+    public long getParseBudgetMs() {
+        return parseBudgetMs;
+    }
+
+    /**
+     * Получает адрес второй реплики NLP сервиса.
+     *
+     * @return адрес в формате host:port или null
+     */
+    public String getHedgeTarget() {
+        return hedgeTarget;
+    }
+
+    /**
+     * Получает задержку перед hedged запросом в миллисекундах.
+     *
+     * @return задержка (по умолчанию 2000 мс)
+     */
+    public long getHedgeDelayMs() {
+        return hedgeDelayMs;
+    }
+
+    /**
+     * Проверяет, включён ли hedging запросов парсинга.
+     *
+     * @return true если задан адрес второй реплики
+     */
+    public boolean isHedgingEnabled() {
+        return hedgeTarget != null && !hedgeTarget.isBlank();
+    }
+
+    /**
+     * Проверяет, включена ли пакетная отправка запросов парсинга.
+     *
+     * @return true если параллельные запросы объединяются в ParseReminders
+     */
+    public boolean isParseBatchEnabled() {
+        return parseBatchEnabled;
+    }
+
+    /**
+     * Получает окно сбора пакета запросов парсинга в миллисекундах.
+     *
+     * @return окно сбора пакета (по умолчанию 5 мс)
+     */
+    public long getParseBatchWindowMs() {
+        return parseBatchWindowMs;
+    }
+
+    /**
+     * Получает максимальный размер пакета запросов парсинга.
+     *
+     * @return максимальный размер пакета (по умолчанию 32)
+     */
+    public int getParseBatchMaxSize() {
+        return parseBatchMaxSize;
+    }
+
+    /**
+     * Проверяет, включён ли кэш ответов NLP сервиса.
+     *
+     * @return true если ответы кэшируются
+     */
+    public boolean isParseCacheEnabled() {
+        return parseCacheEnabled;
+    }
+
+    /**
+     * Получает максимальный размер кэша ответов NLP сервиса.
+     *
+     * @return максимум ответов в кэше (по умолчанию 10000)
+     */
+    public long getParseCacheMaxSize() {
+        return parseCacheMaxSize;
+    }
+
+    /**
+     * Получает время жизни ответа в кэше в секундах.
+     *
+     * @return время жизни (по умолчанию 3600 секунд)
+     */
+    public long getParseCacheTtlSeconds() {
+        return parseCacheTtlSeconds;
+    }
+
+    /**
+     * Получает список реплик NLP сервиса.
+     *
+     * @return адреса host:port или dns:///host:port (минимум один)
+     */
+    public List<String> getNlpServiceTargets() {
+        return nlpServiceTargets;
+    }
+
+    /**
+     * Получает политику балансировки между репликами.
+     *
+     * @return round_robin или least_request
+     */
+    public String getLoadBalancingPolicy() {
+        return loadBalancingPolicy;
+    }
+
+    /**
+     * Получает количество соединений к каждой реплике.
+     *
+     * @return количество каналов на реплику (по умолчанию 2)
+     */
+    public int getChannelsPerBackend() {
+        return channelsPerBackend;
+    }
+
+    /**
+     * Получает интервал повторного разрешения DNS в миллисекундах.
+     *
+     * @return интервал (по умолчанию 30000 мс)
+     */
+    public long getDnsRefreshMs() {
+        return dnsRefreshMs;
+    }
+
+    /**
+     * Получает размер скользящего окна circuit breaker.
+     *
+     * @return количество последних вызовов в окне (по умолчанию 50)
+     */
+    public int getCircuitWindowSize() {
+        return circuitWindowSize;
+    }
+
+    /**
+     * Получает минимум вызовов в окне до оценки порогов.
+     *
+     * @return минимум вызовов (по умолчанию 10)
+     */
+    public int getCircuitMinimumCalls() {
+        return circuitMinimumCalls;
+    }
+
+    /**
+     * Получает порог доли ошибок circuit breaker.
+     *
+     * @return порог в процентах (по умолчанию 50)
+     */
+    public int getCircuitFailureRatePct() {
+        return circuitFailureRatePct;
+    }
+
+    /**
+     * Получает длительность, начиная с которой вызов считается медленным.
+     *
+     * @return длительность в миллисекундах (по умолчанию 10000)
+     */
+    public long getCircuitSlowCallMs() {
+        return circuitSlowCallMs;
+    }
+
+    /**
+     * Получает порог доли медленных вызовов circuit breaker.
+     *
+     * @return порог в процентах (по умолчанию 80)
+     */
+    public int getCircuitSlowCallRatePct() {
+        return circuitSlowCallRatePct;
+    }
+
+    /**
+     * Получает время в открытом состоянии до проверочных health check.
+     *
+     * @return время в миллисекундах (по умолчанию 30000)
+     */
+    public long getCircuitOpenMs() {
+        return circuitOpenMs;
+    }
+
+    /**
+     * Получает количество успешных проверок подряд для закрытия circuit breaker.
+     *
+     * @return количество проверок (по умолчанию 3)
+     */
+    public int getCircuitHalfOpenProbes() {
+        return circuitHalfOpenProbes;
+    }
+
+    /**
+     * Получает максимум одновременных вызовов NLP сервиса.
+     *
+     * @return лимит вызовов (по умолчанию 64)
+     */
+    public int getBulkheadMaxConcurrent() {
+        return bulkheadMaxConcurrent;
+    }
+
+    /**
+     * Получает максимум вызовов, ожидающих в очереди bulkhead.
+     *
+     * @return размер очереди (по умолчанию 128)
+     */
+    public int getBulkheadMaxQueued() {
+        return bulkheadMaxQueued;
+    }
+
+    /**
+     * Проверяет, включён ли локальный разбор простых временных выражений.
+     *
+     * @return true если простые фразы разбираются без вызова NLP сервиса
+     */
+    public boolean isLocalParseEnabled() {
+        return localParseEnabled;
+    }
+
+    /**
+     * Получает минимальную уверенность локального разбора, при которой NLP сервис не вызывается.
+     *
+     * @return порог в процентах (по умолчанию 90)
+     */
+    public int getLocalParseMinConfidencePct() {
+        return localParseMinConfidencePct;
+    }
+}
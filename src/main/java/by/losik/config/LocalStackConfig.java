@@ -26,6 +26,7 @@
 import software.amazon.awssdk.services.lambda.LambdaAsyncClient;
 import software.amazon.awssdk.services.opensearch.OpenSearchAsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.transcribe.TranscribeAsyncClient;
 
 import javax.net.ssl.SSLContext;
@@ -48,6 +49,7 @@
  *     <li>Lambda — serverless функции для отправки уведомлений</li>
  *     <li>OpenSearch — поисковый движок для напоминаний</li>
  *     <li>CloudWatch — мониторинг метрик</li>
+ *     <li>SQS — очередь событий о завершении транскрибации</li>
  * </ul>
  * <p>
  * В production среде клиенты переключаются на реальные AWS сервисы
@@ -75,6 +77,7 @@ public class LocalStackConfig implements AutoCloseable {
     private final OpenSearchAsyncClient openSearchAsyncClient;
     private final SdkAsyncHttpClient asyncHttpClient;
     private final CloudWatchAsyncClient cloudWatchAsyncClient;
+    private final SqsAsyncClient sqsAsyncClient;
 
     @Inject
     public LocalStackConfig(String localstackEndpoint, String region, String accessKey,
@@ -99,6 +102,7 @@ public LocalStackConfig(String localstackEndpoint, String region, String accessK
         this.openSearchClient = createOpenSearchClient(secretsManagerConfig);
         this.openSearchAsyncClient = createOpenSearchAsyncClient();
         this.cloudWatchAsyncClient = createCloudWatchAsyncClient();
+        this.sqsAsyncClient = createSqsAsyncClient();
     }
 
     public EventBridgeAsyncClient getEventBridgeAsyncClient() {
@@ -135,6 +139,9 @@ public String getLocalstackEndpoint() {
     public CloudWatchAsyncClient getCloudWatchAsyncClient() {
         return this.cloudWatchAsyncClient;
     }
+    public SqsAsyncClient getSqsAsyncClient() {
+        return sqsAsyncClient;
+    }
     public String getRegion() {
         return REGION;
     }
@@ -188,6 +195,15 @@ private TranscribeAsyncClient createTranscribeAsyncClient() {
                 .build();
     }
 
+    private SqsAsyncClient createSqsAsyncClient() {
+        return SqsAsyncClient.builder()
+                .endpointOverride(URI.create(LOCALSTACK_ENDPOINT))
+                .region(Region.of(REGION))
+                .credentialsProvider(createCredentialsProvider())
+                .httpClient(asyncHttpClient)
+                .build();
+    }
+
     private LambdaAsyncClient createLambdaAsyncClient() {
         return LambdaAsyncClient.builder()
                 .endpointOverride(URI.create(LOCALSTACK_ENDPOINT))
@@ -353,6 +369,9 @@ public void close() {
         if (lambdaAsyncClient != null) {
             lambdaAsyncClient.close();
         }
+        if (sqsAsyncClient != null) {
+            sqsAsyncClient.close();
+        }
         if (openSearchClient != null) {
             try {
                 openSearchClient.close();
@@ -2,16 +2,20 @@
 
 import by.losik.util.ConfigUtils;
 import com.google.inject.Singleton;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import io.micrometer.cloudwatch2.CloudWatchConfig;
 import io.micrometer.cloudwatch2.CloudWatchMeterRegistry;
 import io.micrometer.common.lang.NonNull;
 import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
 import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import jakarta.inject.Inject;
@@ -41,12 +45,18 @@ public class MonitoringConfig implements AutoCloseable {
     private final LocalStackConfig localStackConfig;
     private MeterRegistry meterRegistry;
     private final PrometheusMeterRegistry prometheusRegistry;
+    private final CompositeMeterRegistry applicationRegistry;
 
     @Inject
     public MonitoringConfig(LocalStackConfig localStackConfig) {
         this.localStackConfig = localStackConfig;
         this.prometheusRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        this.applicationRegistry = new CompositeMeterRegistry();
         initMetrics();
+        applicationRegistry.add(prometheusRegistry);
+        if (meterRegistry != null) {
+            applicationRegistry.add(meterRegistry);
+        }
     }
 
     private void initMetrics() {
@@ -105,6 +115,38 @@ public PrometheusMeterRegistry getPrometheusRegistry() {
         return prometheusRegistry;
     }
 
+    /**
+     * Получает реестр для метрик приложения.
+     * <p>
+     * Метры, зарегистрированные в нём, публикуются одновременно в Prometheus
+     * и в CloudWatch (если CloudWatch реестр инициализирован).
+     *
+     * @return композитный реестр метрик
+     */
+    public MeterRegistry getApplicationRegistry() {
+        return applicationRegistry;
+    }
+
+    /**
+     * Регистрирует метрики кэша Caffeine (hit/miss/eviction, размер).
+     *
+     * @param cacheName имя кэша (тег {@code cache})
+     * @param cache асинхронный кэш с включённым recordStats
+     */
+    public void registerCache(String cacheName, AsyncCache<?, ?> cache) {
+        CaffeineCacheMetrics.monitor(applicationRegistry, cache, cacheName);
+    }
+
+    /**
+     * Регистрирует метрики синхронного кэша Caffeine (hit/miss/eviction, размер).
+     *
+     * @param cacheName имя кэша (тег {@code cache})
+     * @param cache кэш с включённым recordStats
+     */
+    public void registerCache(String cacheName, Cache<?, ?> cache) {
+        CaffeineCacheMetrics.monitor(applicationRegistry, cache, cacheName);
+    }
+
     public boolean isMetricsEnabled() {
         return meterRegistry != null;
     }
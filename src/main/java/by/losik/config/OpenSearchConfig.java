@@ -10,7 +10,10 @@
  * <ul>
  *     <li>Имена индексов для напоминаний и транскрипций</li>
  *     <li>Параметры autocomplete (min_gram, max_gram)</li>
- *     <li>Лимиты поиска по умолчанию</li>
+ *     <li>Лимиты поиска по умолчанию и максимальный размер страницы</li>
+ *     <li>Лимиты параллельных запросов и пул потоков обработки ответов</li>
+ *     <li>Параметры пакетной записи через _bulk</li>
+ *     <li>Параметры кэша статистики пользователей и кэша напоминаний</li>
  * </ul>
  * <p>
  * Настройки загружаются из переменных окружения через ConfigUtils:
@@ -20,6 +23,21 @@
  *     <li>{@code OPENSEARCH_AUTOCOMPLETE_MIN_GRAM} — минимальная длина edge_ngram (по умолчанию 2)</li>
  *     <li>{@code OPENSEARCH_AUTOCOMPLETE_MAX_GRAM} — максимальная длина edge_ngram (по умолчанию 10)</li>
  *     <li>{@code OPENSEARCH_DEFAULT_SEARCH_LIMIT} — лимит поиска по умолчанию (по умолчанию 10)</li>
+ *     <li>{@code OPENSEARCH_MAX_PAGE_SIZE} — максимальный размер страницы напоминаний (по умолчанию 100)</li>
+ *     <li>{@code OPENSEARCH_MAX_IN_FLIGHT} — максимум одновременных запросов (по умолчанию 32)</li>
+ *     <li>{@code OPENSEARCH_MAX_QUEUED} — максимум запросов в очереди ожидания (по умолчанию 1000)</li>
+ *     <li>{@code OPENSEARCH_CALLBACK_THREADS} — потоков обработки ответов (по умолчанию 4)</li>
+ *     <li>{@code OPENSEARCH_BULK_ACTIONS} — максимум операций в одном _bulk запросе (по умолчанию 500)</li>
+ *     <li>{@code OPENSEARCH_BULK_SIZE_BYTES} — максимальный размер _bulk запроса (по умолчанию 5 МБ)</li>
+ *     <li>{@code OPENSEARCH_BULK_FLUSH_INTERVAL_MS} — интервал сброса неполного пакета (по умолчанию 50 мс)</li>
+ *     <li>{@code OPENSEARCH_BULK_MAX_PENDING} — максимум ожидающих операций записи (по умолчанию 10000)</li>
+ *     <li>{@code OPENSEARCH_STATS_CACHE_MAX_SIZE} — максимум пользователей в кэше статистики (по умолчанию 10000)</li>
+ *     <li>{@code OPENSEARCH_STATS_CACHE_TTL_SEC} — время жизни статистики в кэше (по умолчанию 60 секунд)</li>
+ *     <li>{@code OPENSEARCH_STATS_REFRESH_INTERVAL_MS} — интервал обновления индекса, после которого
+ *     статистика сбрасывается повторно (по умолчанию 1000 мс, как refresh_interval индекса)</li>
+ *     <li>{@code OPENSEARCH_STATS_INTENT_BUCKETS} — максимум интентов в разрезе статистики (по умолчанию 20)</li>
+ *     <li>{@code OPENSEARCH_REMINDER_CACHE_MAX_SIZE} — максимум напоминаний в кэше (по умолчанию 10000)</li>
+ *     <li>{@code OPENSEARCH_REMINDER_CACHE_TTL_SEC} — время жизни напоминания в кэше (по умолчанию 30 секунд)</li>
  * </ul>
  *
  * @see by.losik.service.OpenSearchService
@@ -42,11 +60,67 @@ public class OpenSearchConfig {
     /** Лимит поиска по умолчанию */
     private static final int DEFAULT_SEARCH_LIMIT = 10;
 
+    /** Максимальный размер страницы по умолчанию */
+    private static final int DEFAULT_MAX_PAGE_SIZE = 100;
+
+    /** Максимум одновременных запросов по умолчанию */
+    private static final int DEFAULT_MAX_IN_FLIGHT = 32;
+
+    /** Максимум запросов в очереди ожидания по умолчанию */
+    private static final int DEFAULT_MAX_QUEUED = 1000;
+
+    /** Количество потоков обработки ответов по умолчанию */
+    private static final int DEFAULT_CALLBACK_THREADS = 4;
+
+    /** Максимум операций в одном _bulk запросе по умолчанию */
+    private static final int DEFAULT_BULK_ACTIONS = 500;
+
+    /** Максимальный размер _bulk запроса по умолчанию (5 МБ) */
+    private static final long DEFAULT_BULK_SIZE_BYTES = 5L * 1024 * 1024;
+
+    /** Интервал сброса неполного пакета по умолчанию */
+    private static final long DEFAULT_BULK_FLUSH_INTERVAL_MS = 50L;
+
+    /** Максимум ожидающих операций записи по умолчанию */
+    private static final int DEFAULT_BULK_MAX_PENDING = 10000;
+
+    /** Максимум записей в кэше статистики по умолчанию */
+    private static final long DEFAULT_STATS_CACHE_MAX_SIZE = 10000L;
+
+    /** Время жизни статистики в кэше по умолчанию */
+    private static final long DEFAULT_STATS_CACHE_TTL_SEC = 60L;
+
+    /** Интервал обновления индекса по умолчанию (refresh_interval OpenSearch) */
+    private static final long DEFAULT_STATS_REFRESH_INTERVAL_MS = 1000L;
+
+    /** Максимум интентов в разрезе статистики по умолчанию */
+    private static final int DEFAULT_STATS_INTENT_BUCKETS = 20;
+
+    /** Максимум напоминаний в кэше по умолчанию */
+    private static final long DEFAULT_REMINDER_CACHE_MAX_SIZE = 10000L;
+
+    /** Время жизни напоминания в кэше по умолчанию */
+    private static final long DEFAULT_REMINDER_CACHE_TTL_SEC = 30L;
+
     private final String reminderIndexName;
     private final String transcriptionIndexName;
     private final int autocompleteMinGram;
     private final int autocompleteMaxGram;
     private final int defaultSearchLimit;
+    private final int maxPageSize;
+    private final int maxInFlightRequests;
+    private final int maxQueuedRequests;
+    private final int callbackThreads;
+    private final int bulkActions;
+    private final long bulkSizeBytes;
+    private final long bulkFlushIntervalMs;
+    private final int bulkMaxPending;
+    private final long statsCacheMaxSize;
+    private final long statsCacheTtlSeconds;
+    private final long statsRefreshIntervalMs;
+    private final int statsIntentBuckets;
+    private final long reminderCacheMaxSize;
+    private final long reminderCacheTtlSeconds;
 
     /**
      * Создаёт конфигурацию OpenSearch с загрузкой настроек из переменных окружения.
@@ -57,6 +131,20 @@ public OpenSearchConfig() {
         this.autocompleteMinGram = ConfigUtils.getIntEnvOrDefault("OPENSEARCH_AUTOCOMPLETE_MIN_GRAM", DEFAULT_AUTOCOMPLETE_MIN_GRAM);
         this.autocompleteMaxGram = ConfigUtils.getIntEnvOrDefault("OPENSEARCH_AUTOCOMPLETE_MAX_GRAM", DEFAULT_AUTOCOMPLETE_MAX_GRAM);
         this.defaultSearchLimit = ConfigUtils.getIntEnvOrDefault("OPENSEARCH_DEFAULT_SEARCH_LIMIT", DEFAULT_SEARCH_LIMIT);
+        this.maxPageSize = ConfigUtils.getIntEnvOrDefault("OPENSEARCH_MAX_PAGE_SIZE", DEFAULT_MAX_PAGE_SIZE);
+        this.maxInFlightRequests = ConfigUtils.getIntEnvOrDefault("OPENSEARCH_MAX_IN_FLIGHT", DEFAULT_MAX_IN_FLIGHT);
+        this.maxQueuedRequests = ConfigUtils.getIntEnvOrDefault("OPENSEARCH_MAX_QUEUED", DEFAULT_MAX_QUEUED);
+        this.callbackThreads = ConfigUtils.getIntEnvOrDefault("OPENSEARCH_CALLBACK_THREADS", DEFAULT_CALLBACK_THREADS);
+        this.bulkActions = ConfigUtils.getIntEnvOrDefault("OPENSEARCH_BULK_ACTIONS", DEFAULT_BULK_ACTIONS);
+        this.bulkSizeBytes = ConfigUtils.getLongEnvOrDefault("OPENSEARCH_BULK_SIZE_BYTES", DEFAULT_BULK_SIZE_BYTES);
+        this.bulkFlushIntervalMs = ConfigUtils.getLongEnvOrDefault("OPENSEARCH_BULK_FLUSH_INTERVAL_MS", DEFAULT_BULK_FLUSH_INTERVAL_MS);
+        this.bulkMaxPending = ConfigUtils.getIntEnvOrDefault("OPENSEARCH_BULK_MAX_PENDING", DEFAULT_BULK_MAX_PENDING);
+        this.statsCacheMaxSize = ConfigUtils.getLongEnvOrDefault("OPENSEARCH_STATS_CACHE_MAX_SIZE", DEFAULT_STATS_CACHE_MAX_SIZE);
+        this.statsCacheTtlSeconds = ConfigUtils.getLongEnvOrDefault("OPENSEARCH_STATS_CACHE_TTL_SEC", DEFAULT_STATS_CACHE_TTL_SEC);
+        this.statsRefreshIntervalMs = ConfigUtils.getLongEnvOrDefault("OPENSEARCH_STATS_REFRESH_INTERVAL_MS", DEFAULT_STATS_REFRESH_INTERVAL_MS);
+        this.statsIntentBuckets = ConfigUtils.getIntEnvOrDefault("OPENSEARCH_STATS_INTENT_BUCKETS", DEFAULT_STATS_INTENT_BUCKETS);
+        this.reminderCacheMaxSize = ConfigUtils.getLongEnvOrDefault("OPENSEARCH_REMINDER_CACHE_MAX_SIZE", DEFAULT_REMINDER_CACHE_MAX_SIZE);
+        this.reminderCacheTtlSeconds = ConfigUtils.getLongEnvOrDefault("OPENSEARCH_REMINDER_CACHE_TTL_SEC", DEFAULT_REMINDER_CACHE_TTL_SEC);
     }
 
     /**
@@ -103,4 +191,133 @@ public int getAutocompleteMaxGram() {
     public int getDefaultSearchLimit() {
         return defaultSearchLimit;
     }
+
+    /**
+     * Получает максимальный размер страницы напоминаний.
+     *
+     * @return размер страницы (по умолчанию 100)
+     */
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    /**
+     * Получает максимальное количество одновременных запросов к OpenSearch.
+     *
+     * @return лимит запросов в работе (по умолчанию 32)
+     */
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    /**
+     * Получает максимальное количество запросов, ожидающих свободного слота.
+     *
+     * @return лимит очереди (по умолчанию 1000)
+     */
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * Получает количество потоков для обработки ответов OpenSearch.
+     *
+     * @return размер пула (по умолчанию 4)
+     */
+    public int getCallbackThreads() {
+        return callbackThreads;
+    }
+
+    /**
+     * Получает максимальное количество операций в одном _bulk запросе.
+     *
+     * @return лимит операций (по умолчанию 500)
+     */
+    public int getBulkActions() {
+        return bulkActions;
+    }
+
+    /**
+     * Получает максимальный размер _bulk запроса.
+     *
+     * @return размер в байтах (по умолчанию 5 МБ)
+     */
+    public long getBulkSizeBytes() {
+        return bulkSizeBytes;
+    }
+
+    /**
+     * Получает интервал сброса неполного пакета.
+     *
+     * @return интервал в миллисекундах (по умолчанию 50)
+     */
+    public long getBulkFlushIntervalMs() {
+        return bulkFlushIntervalMs;
+    }
+
+    /**
+     * Получает максимальное количество ожидающих операций записи.
+     *
+     * @return лимит операций (по умолчанию 10000)
+     */
+    public int getBulkMaxPending() {
+        return bulkMaxPending;
+    }
+
+    /**
+     * Получает максимальное количество записей в кэше статистики.
+     *
+     * @return размер кэша (по умолчанию 10000)
+     */
+    public long getStatsCacheMaxSize() {
+        return statsCacheMaxSize;
+    }
+
+    /**
+     * Получает время жизни статистики в кэше.
+     *
+     * @return время в секундах (по умолчанию 60)
+     */
+    public long getStatsCacheTtlSeconds() {
+        return statsCacheTtlSeconds;
+    }
+
+    /**
+     * Получает максимальное количество интентов в разрезе статистики.
+     *
+     * @return количество корзин (по умолчанию 20)
+     */
+    public int getStatsIntentBuckets() {
+        return statsIntentBuckets;
+    }
+
+    /**
+     * Получает интервал обновления индекса для повторного сброса статистики.
+     * <p>
+     * Запись становится видна поиску только после обновления индекса, поэтому статистика,
+     * загруженная сразу после записи, сбрасывается ещё раз через этот интервал.
+     *
+     * @return интервал в миллисекундах (по умолчанию 1000)
+     */
+    public long getStatsRefreshIntervalMs() {
+        return statsRefreshIntervalMs;
+    }
+
+    /**
+     * Получает максимальное количество напоминаний в кэше.
+     *
+     * @return размер кэша (по умолчанию 10000)
+     */
+    public long getReminderCacheMaxSize() {
+        return reminderCacheMaxSize;
+    }
+
+    /**
+     * Получает время жизни напоминания в кэше.
+     *
+     * @return время в секундах (по умолчанию 30)
+     */
+    public long getReminderCacheTtlSeconds() {
+        return reminderCacheTtlSeconds;
+    }
 }
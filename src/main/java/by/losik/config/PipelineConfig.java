@@ -0,0 +1,134 @@
+package by.losik.config;
+
+import by.losik.util.ConfigUtils;
+import com.google.inject.Singleton;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Конфигурация конвейера обработки голосовых напоминаний.
+ * <p>
+ * Для каждого этапа (upload, transcribe, parse, schedule, index) задаются:
+ * <ul>
+ *     <li>{@code PIPELINE_<STAGE>_WORKERS} — максимум одновременно выполняющихся операций этапа</li>
+ *     <li>{@code PIPELINE_<STAGE>_QUEUE} — максимум операций, ожидающих свободного слота</li>
+ * </ul>
+ * Например, {@code PIPELINE_TRANSCRIBE_WORKERS=32}. Также:
+ * <ul>
+ *     <li>{@code PIPELINE_RETRY_AFTER_SEC} — значение заголовка Retry-After в ответах 429/503
+ *     при переполнении конвейера (по умолчанию 5)</li>
+ *     <li>{@code PIPELINE_INGESTION_MODE} — режим ответа на запись напоминания: {@code sync} (ответ после
+ *     создания напоминания) или {@code async} (202 Accepted с ID задания сразу после приёма аудио);
+ *     клиент может запросить асинхронный режим заголовком {@code Prefer: respond-async}
+ *     (по умолчанию sync)</li>
+ *     <li>{@code PIPELINE_JOB_TTL_SEC} — время хранения статуса задания (по умолчанию 3600 секунд)</li>
+ *     <li>{@code PIPELINE_JOB_MAX_SIZE} — максимум заданий в хранилище (по умолчанию 100000)</li>
+ * </ul>
+ *
+ * @see by.losik.service.pipeline.VoiceReminderPipeline
+ */
+@Singleton
+public class PipelineConfig {
+
+    /** Значение Retry-After по умолчанию (секунды) */
+    private static final long DEFAULT_RETRY_AFTER_SEC = 5L;
+
+    /** Время хранения статуса задания по умолчанию (1 час) */
+    private static final long DEFAULT_JOB_TTL_SEC = 3600L;
+
+    /** Максимум заданий в хранилище по умолчанию */
+    private static final long DEFAULT_JOB_MAX_SIZE = 100000L;
+
+    /** Лимиты этапов по умолчанию */
+    private static final Map<String, StageLimits> DEFAULT_LIMITS = Map.of(
+            "upload", new StageLimits(16, 32),
+            "transcribe", new StageLimits(32, 128),
+            "parse", new StageLimits(32, 256),
+            "schedule", new StageLimits(16, 256),
+            "index", new StageLimits(16, 256)
+    );
+
+    /** Лимиты этапа, не указанного в {@link #DEFAULT_LIMITS} */
+    private static final StageLimits FALLBACK_LIMITS = new StageLimits(16, 128);
+
+    /**
+     * Лимиты одного этапа конвейера.
+     *
+     * @param workers максимум одновременно выполняющихся операций
+     * @param queueCapacity максимум операций в очереди ожидания
+     */
+    public record StageLimits(int workers, int queueCapacity) {
+    }
+
+    private final Map<String, StageLimits> limits = new HashMap<>();
+    private final long retryAfterSeconds;
+    private final boolean asyncIngestion;
+    private final long jobTtlSeconds;
+    private final long jobMaxSize;
+
+    /**
+     * Создаёт конфигурацию конвейера с загрузкой настроек из переменных окружения.
+     */
+    public PipelineConfig() {
+        DEFAULT_LIMITS.forEach((stage, defaults) -> limits.put(stage, readLimits(stage, defaults)));
+        this.retryAfterSeconds = ConfigUtils.getLongEnvOrDefault("PIPELINE_RETRY_AFTER_SEC", DEFAULT_RETRY_AFTER_SEC);
+        this.asyncIngestion = "async".equalsIgnoreCase(ConfigUtils.getEnvOrDefault("PIPELINE_INGESTION_MODE", "sync"));
+        this.jobTtlSeconds = ConfigUtils.getLongEnvOrDefault("PIPELINE_JOB_TTL_SEC", DEFAULT_JOB_TTL_SEC);
+        this.jobMaxSize = ConfigUtils.getLongEnvOrDefault("PIPELINE_JOB_MAX_SIZE", DEFAULT_JOB_MAX_SIZE);
+    }
+
+    private static StageLimits readLimits(String stage, StageLimits defaults) {
+        String prefix = "PIPELINE_" + stage.toUpperCase(Locale.ROOT);
+        return new StageLimits(
+                Math.max(1, ConfigUtils.getIntEnvOrDefault(prefix + "_WORKERS", defaults.workers())),
+                Math.max(0, ConfigUtils.getIntEnvOrDefault(prefix + "_QUEUE", defaults.queueCapacity())));
+    }
+
+    /**
+     * Получает лимиты этапа конвейера.
+     *
+     * @param stage имя этапа (например, "transcribe")
+     * @return лимиты параллелизма и очереди этапа
+     */
+    public StageLimits getStageLimits(String stage) {
+        return limits.computeIfAbsent(stage, name -> readLimits(name, FALLBACK_LIMITS));
+    }
+
+    /**
+     * Получает значение заголовка Retry-After для отклонённых запросов.
+     *
+     * @return задержка повтора в секундах (по умолчанию 5)
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * Проверяет, включён ли асинхронный режим приёма по умолчанию.
+     *
+     * @return true если запись напоминания отвечает 202 Accepted с ID задания
+     */
+    public boolean isAsyncIngestion() {
+        return asyncIngestion;
+    }
+
+    /**
+     * Получает время хранения статуса задания.
+     *
+     * @return TTL в секундах (по умолчанию 3600)
+     */
+    public long getJobTtlSeconds() {
+        return jobTtlSeconds;
+    }
+
+    /**
+     * Получает максимум заданий в хранилище.
+     *
+     * @return размер хранилища (по умолчанию 100000)
+     */
+    public long getJobMaxSize() {
+        return jobMaxSize;
+    }
+}
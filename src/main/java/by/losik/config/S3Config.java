@@ -11,6 +11,8 @@
  *     <li>Имя бакета для хранения аудиофайлов</li>
  *     <li>Переопределение endpoint (для LocalStack или кастомных S3 совместимых сервисов)</li>
  *     <li>Режим доступа к бакетам (path-style vs virtual-hosted-style)</li>
+ *     <li>Потоковую загрузку аудио без временных файлов</li>
+ *     <li>Параллельную передачу файлов частями (multipart upload и ranged GET)</li>
  * </ul>
  * <p>
  * Настройки загружаются из переменных окружения через ConfigUtils:
@@ -18,6 +20,14 @@
  *     <li>{@code S3_BUCKET_NAME} — имя бакета (по умолчанию "chatbot-audio-recordings")</li>
  *     <li>{@code S3_ENDPOINT_OVERRIDE} — переопределение endpoint (по умолчанию null)</li>
  *     <li>{@code S3_PATH_STYLE_ACCESS} — режим path-style access (по умолчанию true для LocalStack)</li>
+ *     <li>{@code S3_STREAMING_UPLOAD_ENABLED} — потоковая загрузка аудио (по умолчанию true)</li>
+ *     <li>{@code S3_STREAMING_PART_SIZE} — размер части multipart upload (по умолчанию 5 МБ, не меньше 5 МБ)</li>
+ *     <li>{@code S3_STREAMING_MAX_BUFFERED_PARTS} — максимум частей в памяти на одну загрузку (по умолчанию 2)</li>
+ *     <li>{@code S3_TRANSFER_PART_SIZE} — размер части при передаче файлов (по умолчанию 8 МБ, не меньше 5 МБ)</li>
+ *     <li>{@code S3_TRANSFER_CONCURRENCY} — максимум одновременных запросов частей (по умолчанию 8)</li>
+ *     <li>{@code S3_TRANSFER_PART_ATTEMPTS} — попыток на одну часть (по умолчанию 3)</li>
+ *     <li>{@code S3_TRANSFER_RETRY_BACKOFF_MS} — начальная задержка повтора части (по умолчанию 200 мс)</li>
+ *     <li>{@code S3_TRANSFER_CHECKSUM_ENABLED} — проверка CRC32 частей и файла (по умолчанию true)</li>
  * </ul>
  *
  * @see by.losik.service.S3Service
@@ -28,9 +38,35 @@ public class S3Config {
     /** Имя бакета по умолчанию */
     private static final String DEFAULT_BUCKET_NAME = "chatbot-audio-recordings";
 
+    /** Минимальный размер части multipart upload, допустимый в S3 (5 МБ) */
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    /** Максимум частей в памяти на одну загрузку по умолчанию */
+    private static final int DEFAULT_MAX_BUFFERED_PARTS = 2;
+
+    /** Размер части при передаче файлов по умолчанию (8 МБ) */
+    private static final int DEFAULT_TRANSFER_PART_SIZE = 8 * 1024 * 1024;
+
+    /** Максимум одновременных запросов частей по умолчанию */
+    private static final int DEFAULT_TRANSFER_CONCURRENCY = 8;
+
+    /** Попыток на одну часть по умолчанию */
+    private static final int DEFAULT_TRANSFER_PART_ATTEMPTS = 3;
+
+    /** Начальная задержка повтора части по умолчанию */
+    private static final long DEFAULT_TRANSFER_RETRY_BACKOFF_MS = 200L;
+
     private final String bucketName;
     private final String endpointOverride;
     private final boolean pathStyleAccess;
+    private final boolean streamingUploadEnabled;
+    private final int streamingPartSize;
+    private final int streamingMaxBufferedParts;
+    private final int transferPartSize;
+    private final int transferConcurrency;
+    private final int transferPartAttempts;
+    private final long transferRetryBackoffMs;
+    private final boolean transferChecksumEnabled;
 
     /**
      * Создаёт конфигурацию S3 с загрузкой настроек из переменных окружения.
@@ -39,6 +75,20 @@ public S3Config() {
         this.bucketName = ConfigUtils.getEnvOrDefault("S3_BUCKET_NAME", DEFAULT_BUCKET_NAME);
         this.endpointOverride = ConfigUtils.getEnvOrDefault("S3_ENDPOINT_OVERRIDE", null);
         this.pathStyleAccess = ConfigUtils.getBooleanEnvOrDefault("S3_PATH_STYLE_ACCESS", true);
+        this.streamingUploadEnabled = ConfigUtils.getBooleanEnvOrDefault("S3_STREAMING_UPLOAD_ENABLED", true);
+        this.streamingPartSize = Math.max(MIN_PART_SIZE,
+                ConfigUtils.getIntEnvOrDefault("S3_STREAMING_PART_SIZE", MIN_PART_SIZE));
+        this.streamingMaxBufferedParts = Math.max(1,
+                ConfigUtils.getIntEnvOrDefault("S3_STREAMING_MAX_BUFFERED_PARTS", DEFAULT_MAX_BUFFERED_PARTS));
+        this.transferPartSize = Math.max(MIN_PART_SIZE,
+                ConfigUtils.getIntEnvOrDefault("S3_TRANSFER_PART_SIZE", DEFAULT_TRANSFER_PART_SIZE));
+        this.transferConcurrency = Math.max(1,
+                ConfigUtils.getIntEnvOrDefault("S3_TRANSFER_CONCURRENCY", DEFAULT_TRANSFER_CONCURRENCY));
+        this.transferPartAttempts = Math.max(1,
+                ConfigUtils.getIntEnvOrDefault("S3_TRANSFER_PART_ATTEMPTS", DEFAULT_TRANSFER_PART_ATTEMPTS));
+        this.transferRetryBackoffMs = ConfigUtils.getLongEnvOrDefault(
+                "S3_TRANSFER_RETRY_BACKOFF_MS", DEFAULT_TRANSFER_RETRY_BACKOFF_MS);
+        this.transferChecksumEnabled = ConfigUtils.getBooleanEnvOrDefault("S3_TRANSFER_CHECKSUM_ENABLED", true);
     }
 
     /**
@@ -72,4 +122,84 @@ public String getEndpointOverride() {
     public boolean isPathStyleAccess() {
         return pathStyleAccess;
     }
+
+    /**
+     * Проверяет, включена ли потоковая загрузка аудио.
+     * <p>
+     * Если false, аудио сначала сохраняется во временный файл.
+     *
+     * @return true если тело запроса передаётся в S3 напрямую
+     */
+    public boolean isStreamingUploadEnabled() {
+        return streamingUploadEnabled;
+    }
+
+    /**
+     * Получает размер части multipart upload.
+     *
+     * @return размер части в байтах (не меньше 5 МБ)
+     */
+    public int getStreamingPartSize() {
+        return streamingPartSize;
+    }
+
+    /**
+     * Получает максимальное количество частей, одновременно находящихся в памяти для одной загрузки.
+     *
+     * @return количество буферов частей
+     */
+    public int getStreamingMaxBufferedParts() {
+        return streamingMaxBufferedParts;
+    }
+
+    /**
+     * Получает размер части при параллельной передаче файлов.
+     * <p>
+     * Файлы меньше или равные этому размеру передаются одним запросом.
+     *
+     * @return размер части в байтах (не меньше 5 МБ)
+     */
+    public int getTransferPartSize() {
+        return transferPartSize;
+    }
+
+    /**
+     * Получает максимальное количество одновременных запросов частей на все передачи.
+     *
+     * @return лимит параллелизма
+     */
+    public int getTransferConcurrency() {
+        return transferConcurrency;
+    }
+
+    /**
+     * Получает количество попыток передачи одной части.
+     *
+     * @return количество попыток (не меньше 1)
+     */
+    public int getTransferPartAttempts() {
+        return transferPartAttempts;
+    }
+
+    /**
+     * Получает начальную задержку перед повтором части.
+     * <p>
+     * Задержка удваивается с каждой следующей попыткой.
+     *
+     * @return задержка в миллисекундах
+     */
+    public long getTransferRetryBackoffMs() {
+        return transferRetryBackoffMs;
+    }
+
+    /**
+     * Проверяет, включена ли проверка контрольных сумм CRC32 при передаче файлов.
+     * <p>
+     * Можно отключить для S3 совместимых хранилищ без поддержки контрольных сумм.
+     *
+     * @return true если CRC32 передаётся и проверяется
+     */
+    public boolean isTransferChecksumEnabled() {
+        return transferChecksumEnabled;
+    }
 }
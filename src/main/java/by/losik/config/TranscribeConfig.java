@@ -10,8 +10,9 @@
  * <ul>
  *     <li>Язык распознавания речи</li>
  *     <li>Формат аудиофайлов</li>
- *     <li>Параметры polling (количество попыток, интервал)</li>
+ *     <li>Параметры polling (количество попыток, интервал, экспоненциальная задержка)</li>
  *     <li>Таймаут на скачивание транскрипции</li>
+ *     <li>Очередь SQS с событиями EventBridge о завершении задач транскрибации</li>
  * </ul>
  * <p>
  * Настройки загружаются из переменных окружения через ConfigUtils:
@@ -21,6 +22,13 @@
  *     <li>{@code TRANSCRIBE_MAX_ATTEMPTS} — макс. количество попыток polling (по умолчанию 180)</li>
  *     <li>{@code TRANSCRIBE_POLL_INTERVAL_MS} — интервал polling в мс (по умолчанию 2000)</li>
  *     <li>{@code TRANSCRIBE_TIMEOUT_SEC} — таймаут на скачивание в секундах (по умолчанию 30)</li>
+ *     <li>{@code TRANSCRIBE_POLL_MAX_INTERVAL_MS} — максимальный интервал polling после увеличения
+ *     (по умолчанию 30000)</li>
+ *     <li>{@code TRANSCRIBE_EVENTS_QUEUE_URL} — URL очереди SQS с событиями "Transcribe Job State Change"
+ *     (по умолчанию null — события не используются)</li>
+ *     <li>{@code TRANSCRIBE_EVENTS_WAIT_SEC} — время long polling очереди событий (по умолчанию 20)</li>
+ *     <li>{@code TRANSCRIBE_EVENT_FALLBACK_POLL_MS} — начальный интервал резервного polling при работе
+ *     через события (по умолчанию 30000)</li>
  * </ul>
  *
  * @see by.losik.service.TranscribeService
@@ -43,11 +51,24 @@ public class TranscribeConfig {
     /** Таймаут на скачивание по умолчанию (30 секунд) */
     private static final int DEFAULT_TRANSCRIPTION_TIMEOUT_SEC = 30;
 
+    /** Максимальный интервал polling по умолчанию (30 секунд) */
+    private static final long DEFAULT_POLL_MAX_INTERVAL_MS = 30000L;
+
+    /** Время long polling очереди событий по умолчанию (20 секунд, максимум SQS) */
+    private static final int DEFAULT_EVENTS_WAIT_SEC = 20;
+
+    /** Начальный интервал резервного polling при работе через события (30 секунд) */
+    private static final long DEFAULT_EVENT_FALLBACK_POLL_MS = 30000L;
+
     private final String languageCode;
     private final String mediaFormat;
     private final int maxPollAttempts;
     private final long pollIntervalMs;
     private final int transcriptionTimeoutSec;
+    private final long pollMaxIntervalMs;
+    private final String eventsQueueUrl;
+    private final int eventsWaitSec;
+    private final long eventFallbackPollMs;
 
     /**
      * Создаёт конфигурацию Transcribe с загрузкой настроек из переменных окружения.
@@ -58,6 +79,12 @@ public TranscribeConfig() {
         this.maxPollAttempts = ConfigUtils.getIntEnvOrDefault("TRANSCRIBE_MAX_ATTEMPTS", DEFAULT_MAX_POLL_ATTEMPTS);
         this.pollIntervalMs = ConfigUtils.getLongEnvOrDefault("TRANSCRIBE_POLL_INTERVAL_MS", DEFAULT_POLL_INTERVAL_MS);
         this.transcriptionTimeoutSec = ConfigUtils.getIntEnvOrDefault("TRANSCRIBE_TIMEOUT_SEC", DEFAULT_TRANSCRIPTION_TIMEOUT_SEC);
+        this.pollMaxIntervalMs = Math.max(pollIntervalMs,
+                ConfigUtils.getLongEnvOrDefault("TRANSCRIBE_POLL_MAX_INTERVAL_MS", DEFAULT_POLL_MAX_INTERVAL_MS));
+        this.eventsQueueUrl = ConfigUtils.getEnvOrDefault("TRANSCRIBE_EVENTS_QUEUE_URL", null);
+        this.eventsWaitSec = ConfigUtils.getIntEnvOrDefault("TRANSCRIBE_EVENTS_WAIT_SEC", DEFAULT_EVENTS_WAIT_SEC);
+        this.eventFallbackPollMs = ConfigUtils.getLongEnvOrDefault(
+                "TRANSCRIBE_EVENT_FALLBACK_POLL_MS", DEFAULT_EVENT_FALLBACK_POLL_MS);
     }
 
     /**
@@ -104,4 +131,63 @@ public long getPollIntervalMs() {
     public int getTranscriptionTimeoutSec() {
         return transcriptionTimeoutSec;
     }
+
+    /**
+     * Получает максимальный интервал polling.
+     * <p>
+     * Интервал удваивается после каждой проверки незавершённой задачи, но не превышает это значение.
+     *
+     * @return интервал в мс (по умолчанию 30000)
+     */
+    public long getPollMaxIntervalMs() {
+        return pollMaxIntervalMs;
+    }
+
+    /**
+     * Получает общий лимит ожидания задачи транскрибации.
+     * <p>
+     * Равен {@code maxPollAttempts * pollIntervalMs}, то есть времени ожидания
+     * при polling с постоянным интервалом.
+     *
+     * @return лимит ожидания в мс
+     */
+    public long getMaxWaitMs() {
+        return maxPollAttempts * pollIntervalMs;
+    }
+
+    /**
+     * Получает URL очереди SQS с событиями о завершении задач транскрибации.
+     *
+     * @return URL очереди или null, если события не используются
+     */
+    public String getEventsQueueUrl() {
+        return eventsQueueUrl;
+    }
+
+    /**
+     * Проверяет, включено ли получение событий о завершении задач.
+     *
+     * @return true если задан URL очереди событий
+     */
+    public boolean isEventsEnabled() {
+        return eventsQueueUrl != null && !eventsQueueUrl.isBlank();
+    }
+
+    /**
+     * Получает время long polling очереди событий.
+     *
+     * @return время ожидания сообщений в секундах (по умолчанию 20)
+     */
+    public int getEventsWaitSec() {
+        return eventsWaitSec;
+    }
+
+    /**
+     * Получает начальный интервал резервного polling при работе через события.
+     *
+     * @return интервал в мс (по умолчанию 30000)
+     */
+    public long getEventFallbackPollMs() {
+        return eventFallbackPollMs;
+    }
 }
@@ -3,7 +3,6 @@
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDateTime;
-import java.util.Map;
 
 /**
  * Запрос на создание правила в EventBridge.
@@ -25,7 +24,7 @@ public record CreateRuleRequest(
         String targetArn,
 
         @JsonProperty("input_data")
-        Map<String, Object> inputData,
+        ReminderEventPayload inputData,
 
         @JsonProperty("description")
         String description,
@@ -0,0 +1,49 @@
+package by.losik.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Задание асинхронной обработки голосового напоминания.
+ * @param jobId ID задания
+ * @param userId ID пользователя
+ * @param status Статус задания
+ * @param stage Текущий этап конвейера (upload, transcribe, parse, schedule, index) или null
+ * @param reminderId ID созданного напоминания (после завершения)
+ * @param error Описание ошибки (если задание завершилось ошибкой)
+ * @param createdAt Время создания
+ * @param updatedAt Время последнего изменения
+ */
+public record IngestionJob(
+        String jobId,
+        String userId,
+        Status status,
+        String stage,
+        String reminderId,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Статус задания.
+     */
+    public enum Status {
+        /** Аудио принято, обработка ещё не началась */
+        ACCEPTED,
+        /** Выполняется один из этапов конвейера */
+        PROCESSING,
+        /** Напоминание создано */
+        COMPLETED,
+        /** Обработка завершилась ошибкой */
+        FAILED
+    }
+
+    /**
+     * Проверяет, завершено ли задание.
+     *
+     * @return true для COMPLETED и FAILED
+     */
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,62 @@
+package by.losik.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Данные напоминания, передаваемые в Lambda отправки через EventBridge.
+ * <p>
+ * Используется как input правила напоминания и как detail события диспетчера.
+ * Сериализуется заранее подготовленным {@link ObjectWriter}, общим для всех вызовов.
+ * Та же модель (с тем же JSON) объявлена в модулях lambda и dlq-processor.
+ * @param reminderId ID напоминания
+ * @param userEmail Email получателя
+ * @param action Действие напоминания
+ * @param scheduledTime Время выполнения (ISO-8601)
+ * @param intent Намерение (reminder, alert, etc.)
+ * @param confidence Уверенность NLP анализа (null если неизвестна)
+ * @param language Язык текста напоминания (null если неизвестен)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReminderEventPayload(
+        @JsonProperty("reminderId")
+        String reminderId,
+
+        @JsonProperty("userEmail")
+        String userEmail,
+
+        @JsonProperty("action")
+        String action,
+
+        @JsonProperty("scheduledTime")
+        String scheduledTime,
+
+        @JsonProperty("intent")
+        String intent,
+
+        @JsonProperty("confidence")
+        Double confidence,
+
+        @JsonProperty("language")
+        String language
+) {
+
+    private static final ObjectWriter WRITER = new ObjectMapper().writerFor(ReminderEventPayload.class);
+
+    /**
+     * Сериализует данные в JSON.
+     *
+     * @return JSON для input правила или detail события
+     * @throws IllegalStateException если сериализация не удалась
+     */
+    public String toJson() {
+        try {
+            return WRITER.writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize reminder event payload: " + reminderId, e);
+        }
+    }
+}
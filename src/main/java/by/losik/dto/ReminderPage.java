@@ -0,0 +1,14 @@
+package by.losik.dto;
+
+import java.util.List;
+
+/**
+ * Страница напоминаний пользователя при постраничной выборке.
+ * @param reminders Напоминания текущей страницы
+ * @param nextCursor Токен следующей страницы (null, если страница последняя)
+ */
+public record ReminderPage(
+        List<ReminderRecord> reminders,
+        String nextCursor
+) {
+}
@@ -0,0 +1,93 @@
+package by.losik.filter;
+
+import by.losik.service.VoiceReminderService;
+import by.losik.service.pipeline.PipelineRejectedException;
+import com.google.inject.Inject;
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Фильтр допуска голосовых напоминаний в конвейер обработки.
+ * <p>
+ * Для {@code POST /reminder/record} проверяет свободное место в конвейере до того, как Jersey
+ * прочитает multipart тело: при заполненном конвейере запрос отклоняется с 429 или 503
+ * и заголовком Retry-After, а аудио не читается.
+ * <p>
+ * Приоритет: USER (выполняется после аутентификации).
+ *
+ * @see VoiceReminderService#checkCapacity()
+ */
+@Provider
+@Priority(Priorities.USER)
+public class PipelineAdmissionFilter implements ContainerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(PipelineAdmissionFilter.class);
+
+    /** Путь записи голосового напоминания относительно /api */
+    private static final String RECORD_PATH = "reminder/record";
+
+    private final VoiceReminderService voiceReminderService;
+
+    /**
+     * Создаёт фильтр допуска.
+     *
+     * @param voiceReminderService сервис голосовых напоминаний
+     */
+    @Inject
+    public PipelineAdmissionFilter(VoiceReminderService voiceReminderService) {
+        this.voiceReminderService = voiceReminderService;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext ctx) {
+        String path = ctx.getUriInfo().getPath();
+        if (!"POST".equals(ctx.getMethod()) || !RECORD_PATH.equals(path.startsWith("/") ? path.substring(1) : path)) {
+            return;
+        }
+
+        try {
+            voiceReminderService.checkCapacity();
+        } catch (PipelineRejectedException e) {
+            log.warn("Voice reminder rejected before reading audio: {}", e.getMessage());
+            ctx.abortWith(rejectedResponse(e));
+        }
+    }
+
+    /**
+     * Формирует ответ на запрос, отклонённый конвейером.
+     * <p>
+     * 429 Too Many Requests при заполненном входном этапе, 503 Service Unavailable
+     * при заполненном одном из следующих; оба ответа содержат Retry-After.
+     *
+     * @param rejection исключение конвейера
+     * @return HTTP ответ
+     */
+    public static Response rejectedResponse(PipelineRejectedException rejection) {
+        Response.Status status = rejection.isAdmission()
+                ? Response.Status.TOO_MANY_REQUESTS
+                : Response.Status.SERVICE_UNAVAILABLE;
+
+        Map<String, Object> error = Map.of(
+                "error", "Voice reminder pipeline is overloaded",
+                "stage", rejection.getStage(),
+                "retry_after", rejection.getRetryAfterSeconds(),
+                "timestamp", LocalDateTime.now().toString()
+        );
+
+        return Response.status(status)
+                .header(HttpHeaders.RETRY_AFTER, rejection.getRetryAfterSeconds())
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .entity(error)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package by.losik.resource;
+
+import by.losik.dto.ReminderRecord;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Потоковая сериализация списка напоминаний в ответ HTTP.
+ * <p>
+ * Пишет JSON напрямую в выходной поток через {@link JsonGenerator},
+ * без промежуточных Map на каждое напоминание. Формат полей совпадает
+ * с прежними ответами: reminderId, userId, userEmail, originalText,
+ * extractedAction, scheduledTime, status, createdAt, notificationSent,
+ * intent, ruleName.
+ */
+public final class ReminderListOutput implements StreamingOutput {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final Map<String, Object> fields;
+    private final List<ReminderRecord> reminders;
+
+    /**
+     * Создаёт потоковый ответ.
+     *
+     * @param fields скалярные поля верхнего уровня (String, Number, Boolean), пишутся в порядке итерации
+     * @param reminders напоминания для поля {@code reminders}
+     */
+    public ReminderListOutput(Map<String, Object> fields, List<ReminderRecord> reminders) {
+        this.fields = fields;
+        this.reminders = reminders;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            for (Map.Entry<String, Object> field : fields.entrySet()) {
+                writeScalarField(generator, field.getKey(), field.getValue());
+            }
+
+            generator.writeArrayFieldStart("reminders");
+            for (ReminderRecord reminder : reminders) {
+                writeReminder(generator, reminder);
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+            generator.flush();
+        }
+    }
+
+    private static void writeReminder(JsonGenerator generator, ReminderRecord reminder) throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, "reminderId", reminder.reminderId());
+        writeStringField(generator, "userId", reminder.userId());
+        writeStringField(generator, "userEmail", reminder.userEmail());
+        writeStringField(generator, "originalText", reminder.originalText());
+        writeStringField(generator, "extractedAction", reminder.extractedAction());
+        writeDateTimeField(generator, "scheduledTime", reminder.scheduledTime());
+        writeStringField(generator, "status", reminder.status() != null ? reminder.status().toString() : null);
+        writeDateTimeField(generator, "createdAt", reminder.createdAt());
+        generator.writeBooleanField("notificationSent", reminder.notificationSent());
+        writeStringField(generator, "intent", reminder.intent());
+        writeStringField(generator, "ruleName", reminder.eventBridgeRuleName());
+        generator.writeEndObject();
+    }
+
+    private static void writeStringField(JsonGenerator generator, String name, String value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    private static void writeDateTimeField(JsonGenerator generator, String name, LocalDateTime value) throws IOException {
+        writeStringField(generator, name, value != null ? value.toString() : null);
+    }
+
+    private static void writeScalarField(JsonGenerator generator, String name, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else if (value instanceof Integer intValue) {
+            generator.writeNumberField(name, intValue);
+        } else if (value instanceof Long longValue) {
+            generator.writeNumberField(name, longValue);
+        } else if (value instanceof Boolean boolValue) {
+            generator.writeBooleanField(name, boolValue);
+        } else {
+            generator.writeStringField(name, value.toString());
+        }
+    }
+}
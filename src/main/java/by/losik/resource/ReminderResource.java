@@ -1,9 +1,18 @@
 package by.losik.resource;
 
+import by.losik.config.PipelineConfig;
+import by.losik.config.S3Config;
+import by.losik.dto.IngestionJob;
+import by.losik.dto.ReminderPage;
 import by.losik.dto.ReminderRecord;
 import by.losik.dto.UpdateReminderRequest;
+import by.losik.filter.PipelineAdmissionFilter;
 import by.losik.service.OpenSearchService;
 import by.losik.service.VoiceReminderService;
+import by.losik.service.pipeline.IngestionJobStore;
+import by.losik.service.pipeline.PipelineRejectedException;
+import by.losik.service.pipeline.VoiceReminderPipeline.Stage;
+import by.losik.util.MultipartFormStream;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import jakarta.validation.Valid;
@@ -11,30 +20,43 @@
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import org.glassfish.jersey.media.multipart.FormDataParam;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +65,7 @@
  * Предоставляет endpoints для:
  * <ul>
  *     <li>Записи голосовых напоминаний</li>
+ *     <li>Отслеживания заданий асинхронной обработки</li>
  *     <li>Просмотра напоминаний</li>
  *     <li>Обновления напоминаний</li>
  *     <li>Удаления напоминаний</li>
@@ -59,101 +82,118 @@ public class ReminderResource {
     private static final Logger log = LoggerFactory.getLogger(ReminderResource.class);
     private final VoiceReminderService voiceReminderService;
     private final OpenSearchService openSearchService;
+    private final S3Config s3Config;
+    private final PipelineConfig pipelineConfig;
+    private final IngestionJobStore jobStore;
 
     /**
      * Создаёт ресурс напоминаний с внедрёнными сервисами.
      *
      * @param voiceReminderService сервис для обработки напоминаний
      * @param openSearchService сервис для работы с OpenSearch
+     * @param s3Config конфигурация S3 (режим загрузки аудио)
+     * @param pipelineConfig конфигурация конвейера (режим ответа на запись)
+     * @param jobStore хранилище заданий асинхронной обработки
      */
     @Inject
-    public ReminderResource(VoiceReminderService voiceReminderService, OpenSearchService openSearchService) {
+    public ReminderResource(VoiceReminderService voiceReminderService,
+                            OpenSearchService openSearchService,
+                            S3Config s3Config,
+                            PipelineConfig pipelineConfig,
+                            IngestionJobStore jobStore) {
         this.voiceReminderService = voiceReminderService;
         this.openSearchService = openSearchService;
+        this.s3Config = s3Config;
+        this.pipelineConfig = pipelineConfig;
+        this.jobStore = jobStore;
     }
 
     /**
      * Записывает голосовое напоминание.
      * <p>
      * Принимает аудиофайл, загружает в S3, транскрибирует, анализирует и создаёт напоминание.
+     * Тело multipart запроса читается по частям через {@link MultipartFormStream}, а не целиком:
+     * если включена потоковая загрузка и поля userId и userEmail пришли раньше части audio,
+     * аудио передаётся в S3 прямо из тела запроса частями ограниченного размера;
+     * иначе часть audio сохраняется во временный файл.
+     * <p>
+     * Если конвейер обработки заполнен, запрос отклоняется фильтром {@link PipelineAdmissionFilter}
+     * до чтения аудио: 429 Too Many Requests при переполнении входного этапа, 503 Service Unavailable
+     * при переполнении одного из следующих этапов; оба ответа содержат Retry-After.
+     * Этап может заполниться и после допуска — тогда тот же ответ приходит после чтения аудио,
+     * а уже загруженное в S3 аудио удаляется.
+     * <p>
+     * В асинхронном режиме ({@link PipelineConfig#isAsyncIngestion()} или заголовок
+     * {@code Prefer: respond-async}) ответ 202 Accepted с ID задания и заголовком Location
+     * отправляется сразу после загрузки аудио в S3; ход обработки доступен через
+     * {@link #getJob} и {@link #streamJobEvents}.
      *
      * @param asyncResponse асинхронный ответ
-     * @param userId ID пользователя
-     * @param userEmail email пользователя
-     * @param audioStream поток с аудиофайлом
+     * @param headers заголовки запроса (Content-Type с boundary)
+     * @param prefer заголовок Prefer ({@code respond-async} включает асинхронный режим)
+     * @param body тело multipart запроса с полями userId, userEmail и audio
+     * @param uriInfo сведения об URI запроса (для заголовка Location)
      */
     @POST
     @Path("/reminder/record")
     @Consumes(MediaType.MULTIPART_FORM_DATA)
     public void recordReminder(
             @Suspended AsyncResponse asyncResponse,
-            @FormDataParam("userId") String userId,
-            @FormDataParam("userEmail") String userEmail,
-            @FormDataParam("audio") InputStream audioStream) {
+            @Context HttpHeaders headers,
+            @HeaderParam("Prefer") String prefer,
+            InputStream body,
+            @Context UriInfo uriInfo) {
+
+        String fileName = "audio_" + UUID.randomUUID() + ".wav";
+        RecordForm form;
+        try {
+            form = readRecordForm(new MultipartFormStream(body, headers.getMediaType()), fileName);
+        } catch (IllegalArgumentException | IOException e) {
+            log.warn("Invalid voice reminder upload: {}", e.getMessage());
+            asyncResponse.resume(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(Map.of("error", "Invalid multipart request", "message", e.getMessage()))
+                    .build());
+            return;
+        }
 
+        String userId = form.userId();
+        String userEmail = form.userEmail();
+        File tempFile = form.tempFile();
         log.info("Processing voice reminder for user: {}, email: {}", userId, userEmail);
 
-        if (userId == null || userId.isBlank() || userEmail == null || userEmail.isBlank()) {
+        if (isBlank(userId) || isBlank(userEmail) || (form.audioPart() == null && tempFile == null)) {
+            cleanupTempFile(tempFile);
             asyncResponse.resume(Response.status(Response.Status.BAD_REQUEST)
-                    .entity(Map.of("error", "userId and userEmail are required"))
+                    .entity(Map.of("error", "userId, userEmail and audio are required"))
                     .build());
             return;
         }
 
-        File tempFile = null;
-        try {
-            String tempFileName = "audio_" + UUID.randomUUID() + ".wav";
-            tempFile = new File(System.getProperty("java.io.tmpdir"), tempFileName);
-
-            try (FileOutputStream fos = new FileOutputStream(tempFile)) {
-                byte[] buffer = new byte[4096];
-                int bytesRead;
-                while ((bytesRead = audioStream.read(buffer)) != -1) {
-                    fos.write(buffer, 0, bytesRead);
-                }
+        boolean async = pipelineConfig.isAsyncIngestion()
+                || (prefer != null && prefer.contains("respond-async"));
+        IngestionJob job = async ? jobStore.create(userId) : null;
+        CompletableFuture<Void> audioAccepted = new CompletableFuture<>();
+        Consumer<Stage> progress = stage -> {
+            if (job != null) {
+                jobStore.onStage(job.jobId(), stage);
             }
+            if (stage != Stage.UPLOAD) {
+                audioAccepted.complete(null);
+            }
+        };
 
-            log.info("Audio saved to temp file: {} ({} bytes)",
-                    tempFile.getAbsolutePath(), tempFile.length());
-
-            File finalTempFile = tempFile;
-            File finalTempFile1 = tempFile;
-            voiceReminderService.processVoiceReminder(userId, tempFile, userEmail)
-                    .thenAccept(reminderId -> {
-                        try {
-                            Map<String, Object> response = Map.of(
-                                    "reminderId", reminderId,
-                                    "userId", userId,
-                                    "userEmail", userEmail,
-                                    "status", "processing",
-                                    "message", "Reminder is being processed",
-                                    "timestamp", LocalDateTime.now().toString()
-                            );
-
-                            asyncResponse.resume(Response.ok(response).build());
-                        } finally {
-                            cleanupTempFile(finalTempFile);
-                        }
-                    })
-                    .exceptionally(ex -> {
-                        log.error("Error processing voice reminder", ex);
-                        cleanupTempFile(finalTempFile1);
-
-                        Map<String, Object> error = Map.of(
-                                "error", "Failed to process voice reminder",
-                                "message", ex.getMessage(),
-                                "timestamp", LocalDateTime.now().toString()
-                        );
-
-                        asyncResponse.resume(Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                                .entity(error)
-                                .build());
-                        return null;
-                    });
-
+        CompletableFuture<String> processing;
+        try {
+            processing = form.audioPart() != null
+                    ? voiceReminderService.processVoiceReminder(
+                            userId, form.audioPart().openStream(), fileName, userEmail, progress)
+                    : voiceReminderService.processVoiceReminder(userId, tempFile, userEmail, progress);
         } catch (Exception e) {
             log.error("Error handling audio upload", e);
             cleanupTempFile(tempFile);
+            if (job != null) {
+                jobStore.fail(job.jobId(), e.getMessage());
+            }
 
             Map<String, Object> error = Map.of(
                     "error", "Failed to upload audio",
@@ -163,7 +203,91 @@ public void recordReminder(
             asyncResponse.resume(Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                     .entity(error)
                     .build());
+            return;
+        }
+
+        CompletableFuture<String> finished = processing
+                .whenComplete((reminderId, ex) -> cleanupTempFile(tempFile));
+
+        if (job != null) {
+            acceptJob(asyncResponse, uriInfo, job, finished, audioAccepted);
+            return;
         }
+
+        finished
+                .thenAccept(reminderId -> {
+                    Map<String, Object> response = Map.of(
+                            "reminderId", reminderId,
+                            "userId", userId,
+                            "userEmail", userEmail,
+                            "status", "processing",
+                            "message", "Reminder is being processed",
+                            "timestamp", LocalDateTime.now().toString()
+                    );
+
+                    asyncResponse.resume(Response.ok(response).build());
+                })
+                .exceptionally(ex -> {
+                    asyncResponse.resume(processingFailedResponse(ex));
+                    return null;
+                });
+    }
+
+    /**
+     * Получает статус задания асинхронной обработки голосового напоминания.
+     *
+     * @param jobId ID задания из ответа 202 Accepted
+     * @return статус задания или 404, если задание не найдено или устарело
+     */
+    @GET
+    @Path("/reminder/jobs/{id}")
+    public Response getJob(@PathParam("id") String jobId) {
+        return jobStore.get(jobId)
+                .map(job -> Response.ok(jobResponse(job)).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND)
+                        .entity(Map.of(
+                                "error", "Job not found",
+                                "jobId", jobId
+                        ))
+                        .build());
+    }
+
+    /**
+     * Передаёт статус задания через Server-Sent Events.
+     * <p>
+     * Сразу отправляет событие {@code status} с текущим состоянием, затем
+     * {@code completed} или {@code failed} при завершении задания и закрывает поток.
+     * Задание, вытесненное из хранилища до завершения, передаётся как {@code failed}.
+     *
+     * @param jobId ID задания
+     * @param eventSink поток событий клиента
+     * @param sse фабрика событий
+     */
+    @GET
+    @Path("/reminder/jobs/{id}/events")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void streamJobEvents(
+            @PathParam("id") String jobId,
+            @Context SseEventSink eventSink,
+            @Context Sse sse) {
+
+        IngestionJob job = jobStore.get(jobId)
+                .orElseThrow(() -> new NotFoundException("Job not found: " + jobId));
+        CompletableFuture<IngestionJob> completion = jobStore.completion(jobId)
+                .orElseThrow(() -> new NotFoundException("Job not found: " + jobId));
+
+        eventSink.send(jobEvent(sse, "status", job));
+        completion.whenComplete((finished, ex) -> {
+            IngestionJob last = finished;
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                last = new IngestionJob(job.jobId(), job.userId(), IngestionJob.Status.FAILED,
+                        job.stage(), null, cause.getMessage(), job.createdAt(), LocalDateTime.now());
+            }
+            String name = last.status() == IngestionJob.Status.COMPLETED ? "completed" : "failed";
+            eventSink.send(jobEvent(sse, name, last))
+                    .whenComplete((ignored, sendEx) -> eventSink.close());
+        });
     }
 
     /**
@@ -220,12 +344,16 @@ public void getReminder(
     }
 
     /**
-     * Получает список напоминаний пользователя.
+     * Получает страницу напоминаний пользователя.
+     * <p>
+     * Фильтр по статусу применяется в OpenSearch. Для следующей страницы
+     * передаётся {@code cursor} из поля {@code nextCursor} предыдущего ответа.
      *
      * @param asyncResponse асинхронный ответ
      * @param userId ID пользователя
-     * @param limit максимальное количество результатов
+     * @param limit размер страницы
      * @param statusFilter фильтр по статусу (опционально)
+     * @param cursor токен продолжения (опционально)
      */
     @GET
     @Path("/user/{userId}/reminders")
@@ -233,52 +361,42 @@ public void getUserReminders(
             @Suspended AsyncResponse asyncResponse,
             @PathParam("userId") String userId,
             @QueryParam("limit") @DefaultValue("10") int limit,
-            @QueryParam("status") String statusFilter) {
+            @QueryParam("status") String statusFilter,
+            @QueryParam("cursor") String cursor) {
 
-        log.info("Getting reminders for user: {}, limit: {}", userId, limit);
+        log.info("Getting reminders for user: {}, limit: {}, status: {}", userId, limit, statusFilter);
 
-        openSearchService.findRemindersByUser(userId, limit)
-                .thenApply(reminders -> {
-                    List<ReminderRecord> filteredReminders = reminders;
-                    if (statusFilter != null && !statusFilter.isEmpty()) {
-                        try {
-                            ReminderRecord.ReminderStatus filterStatus =
-                                    ReminderRecord.ReminderStatus.valueOf(statusFilter.toUpperCase());
-                            filteredReminders = reminders.stream()
-                                    .filter(r -> r.status() == filterStatus)
-                                    .collect(Collectors.toList());
-                        } catch (IllegalArgumentException e) {
-                            log.warn("Invalid status filter: {}", statusFilter);
-                        }
-                    }
+        ReminderRecord.ReminderStatus filterStatus = null;
+        if (statusFilter != null && !statusFilter.isEmpty()) {
+            try {
+                filterStatus = ReminderRecord.ReminderStatus.valueOf(statusFilter.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid status filter: {}", statusFilter);
+            }
+        }
 
-                    List<Map<String, Object>> reminderList = filteredReminders.parallelStream()
-                            .map(reminder -> {
-                                Map<String, Object> map = new HashMap<>();
-                                map.put("reminderId", reminder.reminderId());
-                                map.put("userId", reminder.userId());
-                                map.put("userEmail", reminder.userEmail());
-                                map.put("originalText", reminder.originalText());
-                                map.put("extractedAction", reminder.extractedAction());
-                                map.put("scheduledTime", reminder.scheduledTime().toString());
-                                map.put("status", reminder.status().toString());
-                                map.put("createdAt", reminder.createdAt().toString());
-                                map.put("notificationSent", reminder.notificationSent());
-                                map.put("intent", reminder.intent());
-                                map.put("ruleName", reminder.eventBridgeRuleName());
-                                return map;
-                            })
-                            .collect(Collectors.toList());
+        CompletableFuture<ReminderPage> pageFuture;
+        try {
+            pageFuture = openSearchService.findRemindersByUser(userId, filterStatus, limit, cursor);
+        } catch (IllegalArgumentException e) {
+            asyncResponse.resume(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(Map.of("error", "Invalid cursor"))
+                    .build());
+            return;
+        }
 
-                    Map<String, Object> response = Map.of(
-                            "userId", userId,
-                            "total", reminderList.size(),
-                            "filtered", filteredReminders.size(),
-                            "reminders", reminderList,
-                            "timestamp", LocalDateTime.now().toString()
-                    );
+        pageFuture
+                .thenApply(page -> {
+                    Map<String, Object> fields = new LinkedHashMap<>();
+                    fields.put("userId", userId);
+                    fields.put("total", page.reminders().size());
+                    fields.put("filtered", page.reminders().size());
+                    if (page.nextCursor() != null) {
+                        fields.put("nextCursor", page.nextCursor());
+                    }
+                    fields.put("timestamp", LocalDateTime.now().toString());
 
-                    return Response.ok(response).build();
+                    return Response.ok(new ReminderListOutput(fields, page.reminders())).build();
                 })
                 .exceptionally(ex -> {
                     log.error("Error getting user reminders: {}", userId, ex);
@@ -401,16 +519,24 @@ public void getReminderTranscription(
      *
      * @param asyncResponse асинхронный ответ
      * @param userId ID пользователя
+     * @param breakdowns дополнительные разрезы через запятую: {@code intent}, {@code day}
      */
     @GET
     @Path("/stats/{userId}")
     public void getUserStats(
             @Suspended AsyncResponse asyncResponse,
-            @PathParam("userId") String userId) {
+            @PathParam("userId") String userId,
+            @QueryParam("breakdowns") String breakdowns) {
+
+        log.info("Getting stats for user: {}, breakdowns: {}", userId, breakdowns);
 
-        log.info("Getting stats for user: {}", userId);
+        List<String> requested = breakdowns == null ? List.of() :
+                Arrays.stream(breakdowns.split(","))
+                        .map(String::trim)
+                        .map(String::toLowerCase)
+                        .toList();
 
-        openSearchService.getReminderStats(userId)
+        openSearchService.getReminderStats(userId, requested.contains("intent"), requested.contains("day"))
                 .thenApply(stats -> {
                     Map<String, Object> response = new java.util.HashMap<>(stats);
                     response.put("userId", userId);
@@ -438,6 +564,68 @@ public String test() {
         return "API is working!";
     }
 
+    /**
+     * Поля формы записи голосового напоминания.
+     *
+     * @param userId ID пользователя или null
+     * @param userEmail email пользователя или null
+     * @param audioPart часть с аудио, не прочитанная из тела запроса (потоковая загрузка)
+     * @param tempFile временный файл с аудио, если аудио не передаётся потоком
+     */
+    private record RecordForm(String userId, String userEmail, MultipartFormStream.Part audioPart, File tempFile) {
+    }
+
+    /**
+     * Читает поля формы до части audio включительно.
+     * <p>
+     * Если потоковая загрузка включена и поля пользователя уже прочитаны, часть audio
+     * возвращается непрочитанной, а остальные части не читаются. Иначе аудио сохраняется
+     * во временный файл и чтение формы продолжается.
+     */
+    private RecordForm readRecordForm(MultipartFormStream form, String fileName) throws IOException {
+        String userId = null;
+        String userEmail = null;
+        File tempFile = null;
+        try {
+            for (Optional<MultipartFormStream.Part> next = form.next(); next.isPresent(); next = form.next()) {
+                MultipartFormStream.Part part = next.get();
+                switch (part.getName()) {
+                    case "userId" -> userId = part.readString();
+                    case "userEmail" -> userEmail = part.readString();
+                    case "audio" -> {
+                        if (s3Config.isStreamingUploadEnabled() && !isBlank(userId) && !isBlank(userEmail)) {
+                            return new RecordForm(userId, userEmail, part, null);
+                        }
+                        cleanupTempFile(tempFile);
+                        tempFile = saveToTempFile(part, fileName);
+                    }
+                    default -> log.debug("Ignoring form field: {}", part.getName());
+                }
+            }
+        } catch (IOException e) {
+            cleanupTempFile(tempFile);
+            throw e;
+        }
+        return new RecordForm(userId, userEmail, null, tempFile);
+    }
+
+    private static File saveToTempFile(MultipartFormStream.Part part, String fileName) throws IOException {
+        File tempFile = new File(System.getProperty("java.io.tmpdir"), fileName);
+        try (InputStream audio = part.openStream(); FileOutputStream fos = new FileOutputStream(tempFile)) {
+            audio.transferTo(fos);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile.toPath());
+            throw e;
+        }
+
+        log.info("Audio saved to temp file: {} ({} bytes)", tempFile.getAbsolutePath(), tempFile.length());
+        return tempFile;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
     private void cleanupTempFile(File tempFile) {
         if (tempFile != null && tempFile.exists()) {
             try {
@@ -451,6 +639,91 @@ private void cleanupTempFile(File tempFile) {
         }
     }
 
+    private void acceptJob(AsyncResponse asyncResponse,
+                           UriInfo uriInfo,
+                           IngestionJob job,
+                           CompletableFuture<String> processing,
+                           CompletableFuture<Void> audioAccepted) {
+        String jobId = job.jobId();
+
+        processing.whenComplete((reminderId, ex) -> {
+            if (ex == null) {
+                jobStore.complete(jobId, reminderId);
+                audioAccepted.complete(null);
+            } else {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                log.warn("Ingestion job {} failed: {}", jobId, cause.getMessage());
+                jobStore.fail(jobId, cause.getMessage());
+                audioAccepted.completeExceptionally(ex);
+            }
+        });
+
+        audioAccepted.whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                asyncResponse.resume(processingFailedResponse(ex));
+                return;
+            }
+
+            log.info("Voice reminder accepted as job {} for user {}", jobId, job.userId());
+            asyncResponse.resume(Response.accepted(jobResponse(jobStore.get(jobId).orElse(job)))
+                    .location(uriInfo.getBaseUriBuilder()
+                            .path(ReminderResource.class, "getJob")
+                            .build(jobId))
+                    .build());
+        });
+    }
+
+    private static Response processingFailedResponse(Throwable ex) {
+        PipelineRejectedException rejection = findRejection(ex);
+        if (rejection != null) {
+            log.warn("Voice reminder rejected at stage {}", rejection.getStage());
+            return PipelineAdmissionFilter.rejectedResponse(rejection);
+        }
+
+        log.error("Error processing voice reminder", ex);
+
+        Map<String, Object> error = Map.of(
+                "error", "Failed to process voice reminder",
+                "message", ex.getMessage(),
+                "timestamp", LocalDateTime.now().toString()
+        );
+
+        return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity(error)
+                .build();
+    }
+
+    private static Map<String, Object> jobResponse(IngestionJob job) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("jobId", job.jobId());
+        response.put("userId", job.userId());
+        response.put("status", job.status().toString());
+        response.put("stage", job.stage());
+        response.put("reminderId", job.reminderId());
+        response.put("error", job.error());
+        response.put("createdAt", job.createdAt().toString());
+        response.put("updatedAt", job.updatedAt().toString());
+        return response;
+    }
+
+    private static OutboundSseEvent jobEvent(Sse sse, String name, IngestionJob job) {
+        return sse.newEventBuilder()
+                .name(name)
+                .id(job.jobId())
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(Map.class, jobResponse(job))
+                .build();
+    }
+
+    private static PipelineRejectedException findRejection(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PipelineRejectedException rejection) {
+                return rejection;
+            }
+        }
+        return null;
+    }
+
     /**
      * Автодополнение напоминаний по запросу.
      *
@@ -711,34 +984,14 @@ public void getRemindersByTimeRange(
 
         openSearchService.findRemindersByTimeRange(userId, startDateTime, endDateTime, limit)
                 .thenApply(reminders -> {
-                    List<Map<String, Object>> reminderList = reminders.parallelStream()
-                            .map(reminder -> {
-                                Map<String, Object> map = new HashMap<>();
-                                map.put("reminderId", reminder.reminderId());
-                                map.put("userId", reminder.userId());
-                                map.put("userEmail", reminder.userEmail());
-                                map.put("originalText", reminder.originalText());
-                                map.put("extractedAction", reminder.extractedAction());
-                                map.put("scheduledTime", reminder.scheduledTime().toString());
-                                map.put("status", reminder.status().toString());
-                                map.put("createdAt", reminder.createdAt().toString());
-                                map.put("notificationSent", reminder.notificationSent());
-                                map.put("intent", reminder.intent());
-                                map.put("ruleName", reminder.eventBridgeRuleName());
-                                return map;
-                            })
-                            .collect(Collectors.toList());
-
-                    Map<String, Object> response = Map.of(
-                            "userId", userId,
-                            "startTime", startTime,
-                            "endTime", endTime,
-                            "total", reminderList.size(),
-                            "reminders", reminderList,
-                            "timestamp", LocalDateTime.now().toString()
-                    );
-
-                    return Response.ok(response).build();
+                    Map<String, Object> fields = new LinkedHashMap<>();
+                    fields.put("userId", userId);
+                    fields.put("startTime", startTime);
+                    fields.put("endTime", endTime);
+                    fields.put("total", reminders.size());
+                    fields.put("timestamp", LocalDateTime.now().toString());
+
+                    return Response.ok(new ReminderListOutput(fields, reminders)).build();
                 })
                 .exceptionally(ex -> {
                     log.error("Error getting reminders by time range", ex);
@@ -2,6 +2,7 @@
 
 import by.losik.config.CorsConfig;
 import by.losik.filter.CorsFilter;
+import by.losik.filter.PipelineAdmissionFilter;
 import by.losik.filter.RateLimiterFilter;
 import by.losik.filter.SessionAuthFilter;
 import by.losik.resource.MetricsResource;
@@ -18,6 +19,7 @@
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.glassfish.jersey.jackson.JacksonFeature;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
+import org.glassfish.jersey.media.sse.SseFeature;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.servlet.ServletContainer;
 import org.slf4j.Logger;
@@ -43,6 +45,8 @@
  *     <li>CorsFilter — добавляет CORS заголовки</li>
  *     <li>RateLimiterFilter — ограничивает частоту запросов</li>
  *     <li>SessionAuthFilter — проверяет аутентификацию (только /api)</li>
+ *     <li>PipelineAdmissionFilter — отклоняет запись голосового напоминания при заполненном
+ *     конвейере до чтения тела (только /api)</li>
  * </ol>
  */
 @Singleton
@@ -53,6 +57,7 @@ public class WebServer implements AutoCloseable {
     private final ReminderResource reminderResource;
     private final RateLimiterFilter rateLimiterFilter;
     private final SessionAuthFilter sessionAuthFilter;
+    private final PipelineAdmissionFilter pipelineAdmissionFilter;
     private final CorsConfig corsConfig;
     private final AuthResource authResource;
     private final MetricsResource metricsResource;
@@ -68,6 +73,7 @@ public class WebServer implements AutoCloseable {
      * @param passwordResetResource ресурс для сброса пароля
      * @param rateLimiterFilter фильтр rate limiting
      * @param sessionAuthFilter фильтр аутентификации
+     * @param pipelineAdmissionFilter фильтр допуска в конвейер голосовых напоминаний
      * @param corsConfig конфигурация CORS
      */
     @Inject
@@ -78,12 +84,14 @@ public WebServer(int port,
                      PasswordResetResource passwordResetResource,
                      RateLimiterFilter rateLimiterFilter,
                      SessionAuthFilter sessionAuthFilter,
+                     PipelineAdmissionFilter pipelineAdmissionFilter,
                      CorsConfig corsConfig) {
         this.port = port;
         this.metricsResource = metricsResource;
         this.reminderResource = reminderResource;
         this.rateLimiterFilter = rateLimiterFilter;
         this.sessionAuthFilter = sessionAuthFilter;
+        this.pipelineAdmissionFilter = pipelineAdmissionFilter;
         this.corsConfig = corsConfig;
         this.passwordResetResource = passwordResetResource;
         this.authResource = authResource;
@@ -149,8 +157,10 @@ private ServletContextHandler createApiContext() {
         apiConfig.register(metricsResource);
         apiConfig.register(passwordResetResource);
         apiConfig.register(sessionAuthFilter);  // Готовый инстанс из Guice
+        apiConfig.register(pipelineAdmissionFilter);
         apiConfig.register(JacksonFeature.class);
         apiConfig.register(MultiPartFeature.class);
+        apiConfig.register(SseFeature.class);
 
         ServletContainer apiContainer = new ServletContainer(apiConfig);
         ServletHolder apiHolder = new ServletHolder("api", apiContainer);
@@ -0,0 +1,342 @@
+package by.losik.service;
+
+import by.losik.config.EventBridgeConfig;
+import by.losik.config.LocalStackConfig;
+import by.losik.config.MonitoringConfig;
+import by.losik.util.InFlightTracker;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пакетная отправка событий в EventBridge через PutEvents.
+ * <p>
+ * Накапливает события отдельно для каждой шины и отправляет их одним запросом:
+ * <ul>
+ *     <li>при достижении лимита по количеству событий (не больше 10) или по размеру (не больше 256 КБ)</li>
+ *     <li>по таймеру, если пакет не заполнился за интервал ожидания</li>
+ * </ul>
+ * <p>
+ * Каждое событие получает собственный future с его event id. События, отклонённые
+ * в ответе PutEvents (например, ThrottlingException), повторяются с экспоненциальной
+ * задержкой в составе следующих пакетов; остальные события пакета не отправляются повторно.
+ * Количество ожидающих событий ограничено: при переполнении новые события
+ * отклоняются с {@link RejectedExecutionException}.
+ *
+ * @see EventBridgeService
+ * @see EventBridgeConfig
+ */
+@Singleton
+public class EventBridgeBatchDispatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EventBridgeBatchDispatcher.class);
+
+    /** Начальная задержка повтора отклонённых событий (мс) */
+    private static final long RETRY_BACKOFF_MS = 100L;
+
+    /** Размер поля Time в расчёте размера события PutEvents */
+    private static final int TIME_FIELD_BYTES = 14;
+
+    /** Максимальное время ожидания отправки оставшихся событий при закрытии (мс) */
+    private static final long CLOSE_TIMEOUT_MS = 5000L;
+
+    /** Шина, используемая, если в событии она не указана */
+    private static final String DEFAULT_BUS = "default";
+
+    private final EventBridgeAsyncClient eventBridgeAsyncClient;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final int maxRetries;
+    private final int maxPending;
+    private final ScheduledExecutorService flushScheduler;
+    private final InFlightTracker pending = new InFlightTracker();
+    private final DistributionSummary batchSizeSummary;
+    private final Timer putEventsTimer;
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+    private final Object lock = new Object();
+    private final Map<String, Batch> batches = new HashMap<>();
+    private final Set<List<PendingEvent>> scheduledRetries = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    /**
+     * Создаёт пакетный диспетчер событий.
+     *
+     * @param localStackConfig конфигурация LocalStack для клиента
+     * @param config конфигурация EventBridge (лимиты пакета, интервал отправки, повторы)
+     * @param monitoringConfig конфигурация мониторинга для метрик
+     */
+    @Inject
+    public EventBridgeBatchDispatcher(LocalStackConfig localStackConfig,
+                                      EventBridgeConfig config,
+                                      MonitoringConfig monitoringConfig) {
+        this.eventBridgeAsyncClient = localStackConfig.getEventBridgeAsyncClient();
+        this.maxEntries = config.getBatchMaxEntries();
+        this.maxBytes = config.getBatchMaxBytes();
+        this.maxRetries = config.getBatchMaxRetries();
+        this.maxPending = config.getBatchMaxPending();
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "eventbridge-batch-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        MeterRegistry registry = monitoringConfig.getApplicationRegistry();
+        this.batchSizeSummary = DistributionSummary.builder("eventbridge.batch.size")
+                .description("Number of events per PutEvents request")
+                .register(registry);
+        this.putEventsTimer = Timer.builder("eventbridge.putevents.latency")
+                .description("Latency of PutEvents requests")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.retryCounter = Counter.builder("eventbridge.batch.entry.retries")
+                .description("Events retried after being rejected in a PutEvents response")
+                .register(registry);
+        this.failureCounter = Counter.builder("eventbridge.batch.entry.failures")
+                .description("Events that failed after all retries")
+                .register(registry);
+        Gauge.builder("eventbridge.batch.pending", pending, InFlightTracker::get)
+                .description("Events buffered or in flight in the batch dispatcher")
+                .register(registry);
+
+        long interval = config.getBatchLingerMs();
+        flushScheduler.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+
+        log.info("EventBridge batch dispatcher initialized: entries={}, bytes={}, lingerMs={}, maxRetries={}",
+                maxEntries, maxBytes, interval, maxRetries);
+    }
+
+    /**
+     * Добавляет событие в пакет его шины.
+     *
+     * @param entry событие PutEvents
+     * @return future с event id этого события
+     */
+    public CompletableFuture<String> submit(PutEventsRequestEntry entry) {
+        if (closed) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("EventBridge batch dispatcher is closed"));
+        }
+
+        int size = entrySize(entry);
+        if (size > maxBytes) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "Event exceeds PutEvents size limit: " + size + " > " + maxBytes + " bytes"));
+        }
+        if (!pending.tryAcquire(maxPending)) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException(
+                    "EventBridge batch dispatcher is overloaded: " + maxPending + " events pending"));
+        }
+
+        PendingEvent event = new PendingEvent(entry, size, new CompletableFuture<>(), 0);
+        enqueue(event);
+        return event.future();
+    }
+
+    /**
+     * Добавляет событие в пакет его шины; после закрытия пакет отправляется сразу,
+     * так как отправка по таймеру уже остановлена.
+     */
+    private void enqueue(PendingEvent event) {
+        String bus = event.entry().eventBusName() != null ? event.entry().eventBusName() : DEFAULT_BUS;
+        List<List<PendingEvent>> ready = new ArrayList<>(2);
+
+        synchronized (lock) {
+            Batch batch = batches.computeIfAbsent(bus, name -> new Batch());
+            if (!batch.events.isEmpty() && batch.bytes + event.size() > maxBytes) {
+                ready.add(batch.drain());
+            }
+            batch.add(event);
+            if (closed || batch.events.size() >= maxEntries) {
+                ready.add(batch.drain());
+            }
+        }
+
+        ready.forEach(events -> send(bus, events));
+    }
+
+    /**
+     * Немедленно отправляет накопленные пакеты всех шин.
+     */
+    public void flush() {
+        Map<String, List<PendingEvent>> ready = new HashMap<>();
+
+        synchronized (lock) {
+            batches.forEach((bus, batch) -> {
+                if (!batch.events.isEmpty()) {
+                    ready.put(bus, batch.drain());
+                }
+            });
+        }
+
+        ready.forEach(this::send);
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Scheduled PutEvents flush failed", e);
+        }
+    }
+
+    private void send(String bus, List<PendingEvent> events) {
+        int size = events.size();
+        batchSizeSummary.record(size);
+        Timer.Sample sample = Timer.start();
+
+        PutEventsRequest request = PutEventsRequest.builder()
+                .entries(events.stream().map(PendingEvent::entry).toList())
+                .build();
+
+        eventBridgeAsyncClient.putEvents(request)
+                .whenComplete((response, ex) -> {
+                    sample.stop(putEventsTimer);
+
+                    if (ex != null) {
+                        log.error("PutEvents request with {} events to bus {} failed", size, bus, ex);
+                        pending.release(size);
+                        events.forEach(event -> event.future().completeExceptionally(ex));
+                        return;
+                    }
+
+                    List<PutEventsResultEntry> results = response.entries();
+                    List<PendingEvent> retries = new ArrayList<>();
+                    for (int i = 0; i < size; i++) {
+                        PendingEvent event = events.get(i);
+                        PutEventsResultEntry result = i < results.size() ? results.get(i) : null;
+
+                        if (result != null && result.errorCode() == null && result.eventId() != null) {
+                            pending.release(1);
+                            event.future().complete(result.eventId());
+                        } else if (event.attempt() < maxRetries) {
+                            retries.add(event.nextAttempt());
+                        } else {
+                            pending.release(1);
+                            failureCounter.increment();
+                            event.future().completeExceptionally(new RuntimeException("PutEvents entry failed: "
+                                    + (result != null ? result.errorCode() + ": " + result.errorMessage() : "no result")));
+                        }
+                    }
+
+                    if (!retries.isEmpty()) {
+                        log.warn("PutEvents to bus {}: {} of {} events rejected, retrying", bus, retries.size(), size);
+                        scheduleRetry(retries);
+                    } else {
+                        log.debug("PutEvents to bus {} with {} events completed", bus, size);
+                    }
+                });
+    }
+
+    private void scheduleRetry(List<PendingEvent> retries) {
+        retryCounter.increment(retries.size());
+        int attempt = retries.get(0).attempt();
+        long delayMs = RETRY_BACKOFF_MS << Math.min(attempt - 1, 6);
+
+        if (closed) {
+            retries.forEach(this::enqueue);
+            return;
+        }
+        scheduledRetries.add(retries);
+        try {
+            flushScheduler.schedule(() -> runRetry(retries), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Диспетчер закрыт после проверки: повтор без задержки
+            runRetry(retries);
+        }
+    }
+
+    private void runRetry(List<PendingEvent> retries) {
+        if (scheduledRetries.remove(retries)) {
+            retries.forEach(this::enqueue);
+        }
+    }
+
+    private static int entrySize(PutEventsRequestEntry entry) {
+        int size = entry.time() != null ? TIME_FIELD_BYTES : 0;
+        size += utf8Length(entry.source());
+        size += utf8Length(entry.detailType());
+        size += utf8Length(entry.detail());
+        if (entry.hasResources()) {
+            for (String resource : entry.resources()) {
+                size += utf8Length(resource);
+            }
+        }
+        return size;
+    }
+
+    private static int utf8Length(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+
+    /**
+     * Отправляет накопленные события и ожидает ответов PutEvents не дольше
+     * {@code CLOSE_TIMEOUT_MS}; новые события после закрытия отклоняются.
+     * Запланированные повторы отправляются сразу, без оставшейся задержки,
+     * а события, отклонённые после закрытия, повторяются без задержки.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flushScheduler.shutdownNow();
+        List.copyOf(scheduledRetries).forEach(this::runRetry);
+        flush();
+
+        try {
+            pending.awaitIdle(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("EventBridge batch dispatcher closed, {} events not confirmed", pending.get());
+    }
+
+    private record PendingEvent(PutEventsRequestEntry entry,
+                                int size,
+                                CompletableFuture<String> future,
+                                int attempt) {
+
+        PendingEvent nextAttempt() {
+            return new PendingEvent(entry, size, future, attempt + 1);
+        }
+    }
+
+    private static final class Batch {
+        private List<PendingEvent> events = new ArrayList<>();
+        private long bytes;
+
+        void add(PendingEvent event) {
+            events.add(event);
+            bytes += event.size();
+        }
+
+        List<PendingEvent> drain() {
+            List<PendingEvent> drained = events;
+            events = new ArrayList<>();
+            bytes = 0;
+            return drained;
+        }
+    }
+}
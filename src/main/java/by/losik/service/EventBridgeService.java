@@ -6,7 +6,6 @@
 import by.losik.dto.EventBridgeRuleRecord;
 import by.losik.dto.SendEventRequest;
 import by.losik.util.CronExpressionBuilder;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import org.slf4j.Logger;
@@ -16,9 +15,9 @@
 import software.amazon.awssdk.services.eventbridge.model.ListRulesRequest;
 import software.amazon.awssdk.services.eventbridge.model.ListTargetsByRuleRequest;
 import software.amazon.awssdk.services.eventbridge.model.ListTargetsByRuleResponse;
-import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
 import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
 import software.amazon.awssdk.services.eventbridge.model.PutRuleRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutRuleResponse;
 import software.amazon.awssdk.services.eventbridge.model.PutTargetsRequest;
 import software.amazon.awssdk.services.eventbridge.model.RemoveTargetsRequest;
 import software.amazon.awssdk.services.eventbridge.model.Rule;
@@ -34,9 +33,10 @@
  * <p>
  * Предоставляет методы для:
  * <ul>
- *     <li>Создания правил планирования (cron, rate)</li>
+ *     <li>Создания правил планирования (cron, rate) и правил по шаблону событий</li>
+ *     <li>Перенастройки существующих правил на месте (новое расписание и input)</li>
  *     <li>Удаления правил и их target'ов</li>
- *     <li>Отправки событий в шины</li>
+ *     <li>Отправки событий в шины (пакетами PutEvents через {@link EventBridgeBatchDispatcher})</li>
  * </ul>
  * <p>
  * Поддерживает несколько шин событий:
@@ -47,25 +47,33 @@
  *
  * @see EventBridgeConfig
  * @see CronExpressionBuilder
+ * @see EventBridgeBatchDispatcher
  */
 @Singleton
 public class EventBridgeService {
     private static final Logger log = LoggerFactory.getLogger(EventBridgeService.class);
 
+    /** ID target'а правила напоминания, если у правила ещё нет target'а */
+    private static final String REMINDER_TARGET_ID = "reminder-target";
+
     private final EventBridgeAsyncClient eventBridgeAsyncClient;
     private final EventBridgeConfig config;
+    private final EventBridgeBatchDispatcher batchDispatcher;
 
     /**
      * Создаёт сервис EventBridge.
      *
      * @param localStackConfig конфигурация LocalStack для клиента
      * @param eventBridgeConfig конфигурация имён шин
+     * @param batchDispatcher пакетная отправка событий через PutEvents
      */
     @Inject
     public EventBridgeService(LocalStackConfig localStackConfig,
-                              EventBridgeConfig eventBridgeConfig) {
+                              EventBridgeConfig eventBridgeConfig,
+                              EventBridgeBatchDispatcher batchDispatcher) {
         this.eventBridgeAsyncClient = localStackConfig.getEventBridgeAsyncClient();
         this.config = eventBridgeConfig;
+        this.batchDispatcher = batchDispatcher;
     }
 
     /**
@@ -116,14 +124,7 @@ public CompletableFuture<EventBridgeRuleRecord> createScheduleRule(
 
         return eventBridgeAsyncClient.putRule(ruleRequest)
                 .thenCompose(ruleResponse -> {
-                    String inputJson;
-                    try {
-                        ObjectMapper mapper = new ObjectMapper();
-                        inputJson = mapper.writeValueAsString(request.inputData());
-                    } catch (Exception e) {
-                        log.error("Failed to serialize input data", e);
-                        inputJson = "{}";
-                    }
+                    String inputJson = serializeInput(request);
 
                     Target target = Target.builder()
                             .id("lambda-target-" + System.currentTimeMillis())
@@ -137,7 +138,6 @@ public CompletableFuture<EventBridgeRuleRecord> createScheduleRule(
                             .targets(target)
                             .build();
 
-                    String finalInputJson = inputJson;
                     return eventBridgeAsyncClient.putTargets(targetsRequest)
                             .thenApply(targetsResponse -> {
                                 log.info("Created EventBridge rule: {} with target: {} in bus: {}",
@@ -149,7 +149,7 @@ public CompletableFuture<EventBridgeRuleRecord> createScheduleRule(
                                         request.targetArn(),
                                         true,
                                         request.description(),
-                                        finalInputJson
+                                        inputJson
                                 );
                             });
                 })
@@ -159,6 +159,117 @@ public CompletableFuture<EventBridgeRuleRecord> createScheduleRule(
                 });
     }
 
+    /**
+     * Перенастраивает существующее правило в шине email.
+     *
+     * @param ruleName имя существующего правила
+     * @param request новые параметры (время, target, input, описание)
+     * @return обновлённое правило
+     */
+    public CompletableFuture<EventBridgeRuleRecord> updateEmailRule(String ruleName, CreateRuleRequest request) {
+        return updateScheduleRule(ruleName, request, config.getEmailEventBusName());
+    }
+
+    /**
+     * Перенастраивает существующее правило планирования на месте.
+     * <p>
+     * PutRule с тем же именем заменяет расписание правила, а PutTargets с ID существующего
+     * target'а заменяет его input, поэтому имя правила сохраняется. PutRule и ListTargetsByRule
+     * выполняются параллельно, после них — PutTargets. Если обновление на месте невозможно
+     * (ошибка API, частично отклонённый target, несколько target'ов у правила),
+     * правило удаляется и создаётся заново под тем же именем.
+     *
+     * @param ruleName имя существующего правила
+     * @param request новые параметры (время, target, input, описание)
+     * @param eventBusName имя шины событий
+     * @return обновлённое правило
+     */
+    public CompletableFuture<EventBridgeRuleRecord> updateScheduleRule(
+            String ruleName, CreateRuleRequest request, String eventBusName) {
+        String scheduleExpression = CronExpressionBuilder.fromLocalDateTime(request.scheduleTime());
+        String description = request.description() != null ?
+                request.description() :
+                "Reminder for: " + request.scheduleTime();
+        String inputJson = serializeInput(request);
+
+        log.info("Updating rule {} in place with schedule expression: '{}'", ruleName, scheduleExpression);
+        PutRuleRequest ruleRequest = PutRuleRequest.builder()
+                .name(ruleName)
+                .scheduleExpression(scheduleExpression)
+                .state(RuleState.ENABLED)
+                .description(description)
+                .eventBusName(eventBusName)
+                .build();
+
+        ListTargetsByRuleRequest listRequest = ListTargetsByRuleRequest.builder()
+                .rule(ruleName)
+                .eventBusName(eventBusName)
+                .build();
+
+        CompletableFuture<PutRuleResponse> putRuleFuture = eventBridgeAsyncClient.putRule(ruleRequest);
+        CompletableFuture<List<Target>> targetsFuture = eventBridgeAsyncClient.listTargetsByRule(listRequest)
+                .thenApply(ListTargetsByRuleResponse::targets);
+
+        return putRuleFuture.thenCombine(targetsFuture, (ruleResponse, targets) -> targets)
+                .thenCompose(targets -> {
+                    if (targets.size() > 1) {
+                        throw new IllegalStateException("Rule " + ruleName + " has " + targets.size() + " targets");
+                    }
+
+                    Target target = Target.builder()
+                            .id(targets.isEmpty() ? REMINDER_TARGET_ID : targets.get(0).id())
+                            .arn(request.targetArn())
+                            .input(inputJson)
+                            .build();
+
+                    PutTargetsRequest targetsRequest = PutTargetsRequest.builder()
+                            .rule(ruleName)
+                            .eventBusName(eventBusName)
+                            .targets(target)
+                            .build();
+
+                    return eventBridgeAsyncClient.putTargets(targetsRequest);
+                })
+                .thenApply(targetsResponse -> {
+                    if (targetsResponse.failedEntryCount() != null && targetsResponse.failedEntryCount() > 0) {
+                        throw new IllegalStateException("PutTargets rejected target of rule " + ruleName + ": "
+                                + targetsResponse.failedEntries().get(0).errorMessage());
+                    }
+
+                    log.info("Updated EventBridge rule in place: {} in bus: {}", ruleName, eventBusName);
+                    return new EventBridgeRuleRecord(
+                            ruleName,
+                            scheduleExpression,
+                            request.targetArn(),
+                            true,
+                            request.description(),
+                            inputJson
+                    );
+                })
+                .exceptionallyCompose(ex -> {
+                    log.warn("In-place update of rule {} failed, recreating it: {}", ruleName, ex.getMessage());
+                    CreateRuleRequest recreateRequest = new CreateRuleRequest(
+                            ruleName,
+                            request.scheduleTime(),
+                            request.targetArn(),
+                            request.inputData(),
+                            request.description(),
+                            request.intent()
+                    );
+                    return deleteRule(ruleName, eventBusName)
+                            .thenCompose(deleted -> createScheduleRule(recreateRequest, eventBusName));
+                });
+    }
+
+    private static String serializeInput(CreateRuleRequest request) {
+        try {
+            return request.inputData().toJson();
+        } catch (Exception e) {
+            log.error("Failed to serialize input data", e);
+            return "{}";
+        }
+    }
+
     /**
      * Создаёт rate правило в шине email.
      *
@@ -220,6 +331,63 @@ public CompletableFuture<EventBridgeRuleRecord> createRateRule(
                 });
     }
 
+    /**
+     * Создаёт или обновляет правило, направляющее события по шаблону в Lambda функцию.
+     * <p>
+     * PutRule и PutTargets идемпотентны, поэтому метод можно вызывать при каждом запуске.
+     * Target не задаёт input, и Lambda получает исходное событие целиком.
+     *
+     * @param ruleName имя правила
+     * @param eventPattern шаблон событий в формате JSON
+     * @param targetArn ARN целевой Lambda функции
+     * @param eventBusName имя шины событий
+     * @return созданное правило
+     */
+    public CompletableFuture<EventBridgeRuleRecord> createPatternRule(
+            String ruleName, String eventPattern, String targetArn, String eventBusName) {
+
+        PutRuleRequest ruleRequest = PutRuleRequest.builder()
+                .name(ruleName)
+                .eventPattern(eventPattern)
+                .state(RuleState.ENABLED)
+                .description("Pattern rule: " + eventPattern)
+                .eventBusName(eventBusName)
+                .build();
+
+        return eventBridgeAsyncClient.putRule(ruleRequest)
+                .thenCompose(ruleResponse -> {
+                    Target target = Target.builder()
+                            .id("pattern-target")
+                            .arn(targetArn)
+                            .build();
+
+                    PutTargetsRequest targetsRequest = PutTargetsRequest.builder()
+                            .rule(ruleName)
+                            .eventBusName(eventBusName)
+                            .targets(target)
+                            .build();
+
+                    return eventBridgeAsyncClient.putTargets(targetsRequest)
+                            .thenApply(targetsResponse -> {
+                                log.info("Created EventBridge pattern rule: {} with target: {} in bus: {}",
+                                        ruleName, targetArn, eventBusName);
+
+                                return new EventBridgeRuleRecord(
+                                        ruleName,
+                                        null,
+                                        targetArn,
+                                        true,
+                                        "Pattern rule: " + eventPattern,
+                                        null
+                                );
+                            });
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to create EventBridge pattern rule: {}", ruleName, ex);
+                    throw new RuntimeException("Failed to create EventBridge pattern rule", ex);
+                });
+    }
+
     /**
      * Удаляет правило из шины email.
      *
@@ -281,6 +449,8 @@ public CompletableFuture<String> sendEvent(SendEventRequest request) {
 
     /**
      * Отправляет событие в указанную шину.
+     * <p>
+     * Событие объединяется с другими событиями той же шины в один запрос PutEvents.
      *
      * @param request параметры события
      * @param eventBusName имя шины событий
@@ -297,21 +467,8 @@ public CompletableFuture<String> sendEvent(SendEventRequest request, String even
                 .eventBusName(actualEventBusName)
                 .build();
 
-        PutEventsRequest eventsRequest = PutEventsRequest.builder()
-                .entries(event)
-                .build();
-
-        return eventBridgeAsyncClient.putEvents(eventsRequest)
-                .thenApply(response -> {
-                    if (response.entries().isEmpty()) {
-                        throw new RuntimeException("No entries in response");
-                    }
-
-                    String eventId = response.entries().get(0).eventId();
-                    if (eventId == null) {
-                        throw new RuntimeException("Failed to send event");
-                    }
-
+        return batchDispatcher.submit(event)
+                .thenApply(eventId -> {
                     log.info("Event sent successfully: {} - {}", request.source(), request.detailType());
                     return eventId;
                 })
@@ -1,22 +1,50 @@
 package by.losik.service;
 
 import by.losik.config.GRPCConfig;
+import by.losik.config.MonitoringConfig;
+import by.losik.dto.Entity;
 import by.losik.dto.ParsedResult;
+import by.losik.grpc.BatchParseRequest;
 import by.losik.grpc.HealthRequest;
 import by.losik.grpc.HealthResponse;
 import by.losik.grpc.ParseRequest;
 import by.losik.grpc.ParseResponse;
 import by.losik.grpc.ReminderParserServiceGrpc;
 import by.losik.service.mapper.GrpcRequestMapper;
+import by.losik.service.resilience.CallNotPermittedException;
+import by.losik.service.resilience.CircuitBreaker;
+import by.losik.util.AsyncConcurrencyLimiter;
+import by.losik.util.TemporalExpressionParser;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Сервис для взаимодействия с NLP сервисом через gRPC.
@@ -28,39 +56,161 @@
  *     <li>Получения списка поддерживаемых языков</li>
  * </ul>
  * <p>
- * Использует Circuit breaker паттерн для обработки недоступности сервиса.
+ * Вызовы NLP сервиса защищены:
+ * <ul>
+ *     <li>{@link CircuitBreaker} со скользящим окном — открывается при превышении доли ошибок
+ *     или медленных вызовов; пока он открыт, запросы сразу получают fallback, а восстановление
+ *     проверяется фоновыми health check вне пути запроса</li>
+ *     <li>Bulkhead ({@link AsyncConcurrencyLimiter}) — ограничивает количество одновременных
+ *     вызовов {@link GRPCConfig#getBulkheadMaxConcurrent()} и очередь ожидания;
+ *     при переполнении запрос получает fallback</li>
+ * </ul>
+ * Breaker учитывает каждый RPC один раз: пакетный вызов — одна запись в окне, а не по одной
+ * на каждый запрос пакета.
+ * Состояние breaker и загрузка bulkhead публикуются в метриках {@code resilience.*}.
  * При недоступности gRPC используется fallback (упрощённый парсинг).
+ * <p>
+ * {@link #parseAsync(String, String, String)} не блокирует вызывающий поток:
+ * <ul>
+ *     <li>Простые фразы («через 10 минут», «завтра в 9:00») разбираются локально
+ *     {@link TemporalExpressionParser}; NLP сервис вызывается, только если уверенность
+ *     ниже {@link GRPCConfig#getLocalParseMinConfidencePct()} (outcome {@code local} в метриках)</li>
+ *     <li>Дедлайн каждого вызова равен остатку бюджета задержки {@link GRPCConfig#getParseBudgetMs()}</li>
+ *     <li>Если задана вторая реплика и основной вызов не ответил за
+ *     {@link GRPCConfig#getHedgeDelayMs()}, тот же запрос отправляется на неё;
+ *     используется первый успешный ответ, второй вызов отменяется</li>
+ *     <li>Если включено {@link GRPCConfig#isParseBatchEnabled()}, параллельные запросы,
+ *     пришедшие в пределах короткого окна, отправляются одним вызовом ParseReminders;
+ *     если сервер его не поддерживает, клиент возвращается к ParseReminder. Пакет экономит
+ *     вызовы, а время инференса сокращается, только если сервер разбирает пакет целиком
+ *     (spaCy {@code nlp.pipe}, пакетный проход классификатора). Размер пакета ограничен
+ *     наименьшим остатком бюджета его запросов, делённым на оценку времени разбора одного текста</li>
+ *     <li>Ответы кэшируются в {@link ParseResultCache} по нормализованному тексту и языку;
+ *     версия модели для кэша периодически запрашивается через HealthCheck</li>
+ *     <li>Время парсинга публикуется в гистограмме {@code grpc.parse.latency}
+ *     с тегами language и outcome, hedged запросы — в счётчике {@code grpc.parse.hedges},
+ *     размеры пакетов — в {@code grpc.parse.batch.size}</li>
+ * </ul>
  *
  * @see GRPCConfig
  * @see GrpcRequestMapper
+ * @see NlpChannelPool
  */
 @Singleton
 public class GRPCService implements AutoCloseable {
     private static final Logger log = LoggerFactory.getLogger(GRPCService.class);
     private final GRPCConfig grpcConfig;
     private final GrpcRequestMapper mapper;
+    private final ParseResultCache parseCache;
+    private final NlpChannelPool channelPool;
     private final ReminderParserServiceGrpc.ReminderParserServiceBlockingStub blockingStub;
-    private volatile boolean grpcAvailable = true;
-    private long lastHealthCheck = 0;
+    private final ReminderParserServiceGrpc.ReminderParserServiceFutureStub futureStub;
+    private final ReminderParserServiceGrpc.ReminderParserServiceFutureStub hedgeStub;
+    private final ScheduledExecutorService scheduler;
+    private final MeterRegistry registry;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final DistributionSummary batchSizes;
+    private final CircuitBreaker circuitBreaker;
+    private final AsyncConcurrencyLimiter bulkhead;
+    private final Counter bulkheadRejected;
+    private final Object batchLock = new Object();
+    private List<PendingParse> currentBatch;
+    private long currentBatchDeadlineNanos;
+    private volatile boolean batchSupported = true;
+    /** Скользящая оценка времени разбора одного текста в пакете; 0 — оценки ещё нет */
+    private volatile long batchItemCostNanos;
+
+    /** Минимальный остаток бюджета, при котором ещё имеет смысл отправлять вызов */
+    private static final long MIN_CALL_DEADLINE_MS = 50L;
+
+    /** Вес нового замера в скользящей оценке времени разбора одного текста */
+    private static final double BATCH_COST_ALPHA = 0.2;
 
     /**
      * Создаёт gRPC сервис с конфигурацией и маппером.
      *
      * @param grpcConfig конфигурация gRPC клиента
      * @param mapper маппер для преобразования protobuf ↔ DTO
+     * @param parseCache кэш ответов NLP сервиса
+     * @param channelPool пул соединений к репликам NLP сервиса
+     * @param monitoringConfig конфигурация мониторинга для метрик
      */
     @Inject
-    public GRPCService(GRPCConfig grpcConfig, GrpcRequestMapper mapper) {
+    public GRPCService(GRPCConfig grpcConfig,
+                       GrpcRequestMapper mapper,
+                       ParseResultCache parseCache,
+                       NlpChannelPool channelPool,
+                       MonitoringConfig monitoringConfig) {
         this.grpcConfig = grpcConfig;
         this.mapper = mapper;
-        this.blockingStub = ReminderParserServiceGrpc.newBlockingStub(grpcConfig.getChannel());
-        this.lastHealthCheck = 0;
+        this.parseCache = parseCache;
+        this.channelPool = channelPool;
+        this.blockingStub = ReminderParserServiceGrpc.newBlockingStub(channelPool.channel());
+        this.futureStub = ReminderParserServiceGrpc.newFutureStub(channelPool.channel());
+        this.hedgeStub = grpcConfig.isHedgingEnabled()
+                ? ReminderParserServiceGrpc.newFutureStub(grpcConfig.getHedgeChannel())
+                : null;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "grpc-parse-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.registry = monitoringConfig.getApplicationRegistry();
+        this.hedgesSent = Counter.builder("grpc.parse.hedges")
+                .description("Hedged parse requests sent to the second NLP replica")
+                .tag("result", "sent")
+                .register(registry);
+        this.hedgesWon = Counter.builder("grpc.parse.hedges")
+                .description("Hedged parse requests sent to the second NLP replica")
+                .tag("result", "won")
+                .register(registry);
+        this.batchSizes = DistributionSummary.builder("grpc.parse.batch.size")
+                .description("Parse requests sent in one ParseReminders call")
+                .register(registry);
+
+        this.circuitBreaker = new CircuitBreaker("nlp",
+                new CircuitBreaker.Settings(
+                        grpcConfig.getCircuitWindowSize(),
+                        grpcConfig.getCircuitMinimumCalls(),
+                        grpcConfig.getCircuitFailureRatePct(),
+                        grpcConfig.getCircuitSlowCallRatePct(),
+                        grpcConfig.getCircuitSlowCallMs(),
+                        grpcConfig.getCircuitOpenMs(),
+                        grpcConfig.getCircuitHalfOpenProbes()),
+                this::probeHealth,
+                scheduler,
+                registry);
+        this.bulkhead = new AsyncConcurrencyLimiter("nlp-bulkhead",
+                grpcConfig.getBulkheadMaxConcurrent(),
+                grpcConfig.getBulkheadMaxQueued(),
+                scheduler);
+        Gauge.builder("resilience.bulkhead.inflight", bulkhead, AsyncConcurrencyLimiter::getInFlight)
+                .description("NLP calls currently in flight")
+                .tag("name", "nlp")
+                .register(registry);
+        Gauge.builder("resilience.bulkhead.queued", bulkhead, AsyncConcurrencyLimiter::getQueued)
+                .description("NLP calls waiting for a free bulkhead slot")
+                .tag("name", "nlp")
+                .register(registry);
+        this.bulkheadRejected = Counter.builder("resilience.bulkhead.rejected")
+                .description("NLP calls rejected because the bulkhead queue was full")
+                .tag("name", "nlp")
+                .register(registry);
+
+        if (parseCache.isEnabled()) {
+            scheduler.scheduleWithFixedDelay(this::refreshModelVersion,
+                    0, grpcConfig.getHealthCheckIntervalMs(), TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
      * Парсит текст напоминания через gRPC сервис.
      * <p>
      * Если gRPC сервис недоступен, используется fallback парсинг.
+     * Блокирует вызывающий поток; в асинхронных цепочках используйте
+     * {@link #parseAsync(String, String, String)}.
      *
      * @param text текст напоминания
      * @param language код языка (например, "ru", "en")
@@ -68,46 +218,456 @@ public GRPCService(GRPCConfig grpcConfig, GrpcRequestMapper mapper) {
      * @return ParsedResult с извлечёнными данными
      */
     public ParsedResult parse(String text, String language, String userId) {
-        if (!isGRPCAvailable()) {
-            log.warn("gRPC service unavailable, using fallback parsing");
-            return fallbackParse(text, language);
+        return parseAsync(text, language, userId).join();
+    }
+
+    /**
+     * Асинхронно парсит текст напоминания через gRPC сервис.
+     * <p>
+     * Использует бюджет задержки из конфигурации. Если circuit breaker открыт,
+     * bulkhead переполнен или все вызовы завершились ошибкой, возвращается fallback парсинг.
+     *
+     * @param text текст напоминания
+     * @param language код языка (например, "ru", "en") или null для автоопределения
+     * @param userId ID пользователя
+     * @return future с ParsedResult
+     */
+    public CompletableFuture<ParsedResult> parseAsync(String text, String language, String userId) {
+        return parseAsync(text, language, userId, grpcConfig.getParseBudgetMs());
+    }
+
+    /**
+     * Асинхронно парсит текст напоминания с заданным бюджетом задержки.
+     *
+     * @param text текст напоминания
+     * @param language код языка или null для автоопределения
+     * @param userId ID пользователя
+     * @param budgetMs бюджет задержки в миллисекундах, из которого считаются дедлайны вызовов
+     * @return future с ParsedResult
+     */
+    public CompletableFuture<ParsedResult> parseAsync(String text, String language, String userId, long budgetMs) {
+        long startNanos = System.nanoTime();
+
+        if (grpcConfig.isLocalParseEnabled()) {
+            Optional<TemporalExpressionParser.TemporalMatch> local =
+                    TemporalExpressionParser.parse(text, language, LocalDateTime.now());
+            if (local.isPresent() && local.get().confidence() * 100 >= grpcConfig.getLocalParseMinConfidencePct()) {
+                return CompletableFuture.completedFuture(
+                        recordLatency(startNanos, language, "local", localResult(text, local.get())));
+            }
         }
 
-        try {
-            ParseRequest request = mapper.createParseRequest(text, language, userId);
+        ParseRequest request = mapper.createParseRequest(text, language, userId);
+        return parseCache.getOrLoad(text, language, () -> guardedDispatch(request, startNanos, budgetMs))
+                .thenApply(response -> recordLatency(startNanos, language, "success",
+                        mapper.mapResponseToResult(response)))
+                .exceptionally(ex -> {
+                    handleParseFailure(ex);
+                    return recordLatency(startNanos, language, "fallback", fallbackParse(text, language));
+                });
+    }
 
-            ParseResponse response = blockingStub
-                    .withDeadlineAfter(grpcConfig.getParseDeadlineSec(), TimeUnit.SECONDS)
-                    .parseReminder(request);
+    /**
+     * Отправляет запрос через circuit breaker и bulkhead.
+     * <p>
+     * Результат каждого RPC записывается в окно breaker в {@link #recordOutcome(CompletableFuture)};
+     * отклонения bulkhead и ошибки клиента в окно не попадают.
+     */
+    private CompletableFuture<ParseResponse> guardedDispatch(ParseRequest request, long startNanos, long budgetMs) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(new CallNotPermittedException("nlp", circuitBreaker.getState()));
+        }
 
-            return mapper.mapResponseToResult(response);
+        CompletableFuture<ParseResponse> future = bulkhead.submit(() -> dispatch(request, startNanos, budgetMs));
+        future.whenComplete((response, ex) -> {
+            if (ex instanceof RejectedExecutionException) {
+                bulkheadRejected.increment();
+            }
+        });
+        return future;
+    }
 
-        } catch (StatusRuntimeException e) {
-            log.error("gRPC parsing error: {} - {}", e.getStatus().getCode(), e.getStatus().getDescription());
+    /**
+     * Записывает результат RPC (успех, ошибка сервиса, длительность) в окно breaker.
+     */
+    private <T> CompletableFuture<T> recordOutcome(CompletableFuture<T> rpc) {
+        long callStartNanos = System.nanoTime();
+        return rpc.whenComplete((response, ex) -> {
+            long durationNanos = System.nanoTime() - callStartNanos;
+            if (ex != null && isServiceFailure(ex)) {
+                circuitBreaker.onError(durationNanos);
+            } else {
+                circuitBreaker.onSuccess(durationNanos);
+            }
+        });
+    }
+
+    /**
+     * Определяет, указывает ли ошибка на проблему NLP сервиса (а не на некорректный запрос).
+     */
+    private static boolean isServiceFailure(Throwable ex) {
+        Status.Code code = statusCode(ex);
+        if (code == null) {
+            return true;
+        }
+        return switch (code) {
+            case UNAVAILABLE, DEADLINE_EXCEEDED, RESOURCE_EXHAUSTED, INTERNAL, UNKNOWN -> true;
+            default -> false;
+        };
+    }
+
+    private CompletableFuture<ParseResponse> dispatch(ParseRequest request, long startNanos, long budgetMs) {
+        if (grpcConfig.isParseBatchEnabled() && batchSupported) {
+            return submitToBatch(request, startNanos, budgetMs);
+        }
+        return recordOutcome(callWithHedging(stub -> stub.parseReminder(request), startNanos, budgetMs));
+    }
 
-            if (e.getStatus().getCode() == io.grpc.Status.Code.UNAVAILABLE ||
-                    e.getStatus().getCode() == io.grpc.Status.Code.DEADLINE_EXCEEDED) {
-                markGRPCUnavailable();
+    /**
+     * Добавляет запрос в текущий пакет.
+     * <p>
+     * Пакет отправляется, когда истекает окно {@link GRPCConfig#getParseBatchWindowMs()}
+     * с момента первого запроса или набирается {@link #batchSizeLimit(long)} запросов.
+     */
+    private CompletableFuture<ParseResponse> submitToBatch(ParseRequest request, long startNanos, long budgetMs) {
+        PendingParse pendingParse = new PendingParse(request, startNanos, budgetMs, new CompletableFuture<>());
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        List<PendingParse> fullBatch = null;
+
+        synchronized (batchLock) {
+            if (currentBatch == null) {
+                List<PendingParse> batch = new ArrayList<>();
+                currentBatch = batch;
+                currentBatchDeadlineNanos = deadlineNanos;
+                scheduler.schedule(() -> flushIfCurrent(batch),
+                        grpcConfig.getParseBatchWindowMs(), TimeUnit.MILLISECONDS);
+            }
+            currentBatch.add(pendingParse);
+            currentBatchDeadlineNanos = Math.min(currentBatchDeadlineNanos, deadlineNanos);
+            if (currentBatch.size() >= batchSizeLimit(currentBatchDeadlineNanos)) {
+                fullBatch = currentBatch;
+                currentBatch = null;
             }
+        }
+
+        if (fullBatch != null) {
+            sendBatch(fullBatch);
+        }
+        return pendingParse.future();
+    }
 
-            return fallbackParse(text, language);
+    /**
+     * Максимальный размер пакета, который сервер успеет разобрать до ближайшего дедлайна.
+     * <p>
+     * Пока оценки времени разбора нет, ограничен только {@link GRPCConfig#getParseBatchMaxSize()}.
+     */
+    private int batchSizeLimit(long deadlineNanos) {
+        int maxSize = grpcConfig.getParseBatchMaxSize();
+        long itemCostNanos = batchItemCostNanos;
+        if (itemCostNanos <= 0) {
+            return maxSize;
+        }
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        return (int) Math.max(1, Math.min(maxSize, remainingNanos / itemCostNanos));
+    }
 
-        } catch (Exception e) {
-            log.error("Error parsing via gRPC", e);
-            return fallbackParse(text, language);
+    /**
+     * Обновляет оценку времени разбора одного текста по завершённому пакету.
+     * <p>
+     * При DEADLINE_EXCEEDED замер — лишь нижняя граница, поэтому оценка удваивается,
+     * чтобы следующие пакеты сразу стали меньше.
+     */
+    private void updateBatchItemCost(long durationNanos, int size, boolean deadlineExceeded) {
+        long sample = durationNanos / size;
+        long current = batchItemCostNanos;
+        if (deadlineExceeded) {
+            batchItemCostNanos = Math.max(current, sample) * 2;
+        } else {
+            batchItemCostNanos = current == 0
+                    ? sample
+                    : (long) (current + BATCH_COST_ALPHA * (sample - current));
+        }
+    }
+
+    private void flushIfCurrent(List<PendingParse> batch) {
+        synchronized (batchLock) {
+            if (currentBatch != batch) {
+                return;
+            }
+            currentBatch = null;
+        }
+        sendBatch(batch);
+    }
+
+    /**
+     * Отправляет пакет одним вызовом ParseReminders.
+     * <p>
+     * Дедлайн пакета равен наименьшему остатку бюджета среди его запросов.
+     * Если пакет не уложился в дедлайн, запросы, у которых ещё остался бюджет,
+     * отправляются по одному, остальные получают fallback.
+     * Если сервер не поддерживает ParseReminders (UNIMPLEMENTED), пакетная отправка
+     * отключается и запросы пакета отправляются по одному.
+     */
+    private void sendBatch(List<PendingParse> batch) {
+        if (batch.size() == 1) {
+            sendUnary(batch.get(0));
+            return;
+        }
+
+        long batchStartNanos = System.nanoTime();
+        long batchBudgetMs = batch.stream()
+                .mapToLong(pendingParse -> remainingMs(pendingParse.startNanos(), pendingParse.budgetMs()))
+                .min()
+                .orElse(0L);
+        BatchParseRequest request = BatchParseRequest.newBuilder()
+                .addAllRequests(batch.stream().map(PendingParse::request).toList())
+                .build();
+
+        batchSizes.record(batch.size());
+        recordOutcome(callWithHedging(stub -> stub.parseReminders(request), batchStartNanos, batchBudgetMs))
+                .whenComplete((response, ex) -> {
+                    Status.Code code = ex != null ? statusCode(ex) : null;
+                    if (ex == null || code == Status.Code.DEADLINE_EXCEEDED) {
+                        updateBatchItemCost(System.nanoTime() - batchStartNanos, batch.size(), ex != null);
+                    }
+                    if (ex == null && response.getResponsesCount() == batch.size()) {
+                        for (int i = 0; i < batch.size(); i++) {
+                            completeBatchItem(batch.get(i), response.getResponses(i));
+                        }
+                    } else if (ex == null) {
+                        IllegalStateException mismatch = new IllegalStateException("Batch parse returned "
+                                + response.getResponsesCount() + " responses for " + batch.size() + " requests");
+                        batch.forEach(pendingParse -> pendingParse.future().completeExceptionally(mismatch));
+                    } else if (code == Status.Code.UNIMPLEMENTED) {
+                        if (batchSupported) {
+                            batchSupported = false;
+                            log.warn("NLP service does not implement ParseReminders, falling back to unary calls");
+                        }
+                        batch.forEach(this::sendUnary);
+                    } else if (code == Status.Code.DEADLINE_EXCEEDED) {
+                        batch.forEach(pendingParse -> {
+                            if (remainingMs(pendingParse.startNanos(), pendingParse.budgetMs()) >= MIN_CALL_DEADLINE_MS) {
+                                sendUnary(pendingParse);
+                            } else {
+                                pendingParse.future().completeExceptionally(ex);
+                            }
+                        });
+                    } else {
+                        batch.forEach(pendingParse -> pendingParse.future().completeExceptionally(ex));
+                    }
+                });
+    }
+
+    private void sendUnary(PendingParse pendingParse) {
+        ParseRequest request = pendingParse.request();
+        recordOutcome(callWithHedging(stub -> stub.parseReminder(request),
+                pendingParse.startNanos(), pendingParse.budgetMs()))
+                .whenComplete((response, ex) -> {
+                    if (ex != null) {
+                        pendingParse.future().completeExceptionally(ex);
+                    } else {
+                        pendingParse.future().complete(response);
+                    }
+                });
+    }
+
+    private static void completeBatchItem(PendingParse pendingParse, ParseResponse response) {
+        if (response.hasParsed()) {
+            pendingParse.future().complete(response);
+        } else {
+            pendingParse.future().completeExceptionally(Status.INTERNAL
+                    .withDescription("NLP service failed to parse batch item")
+                    .asRuntimeException());
         }
     }
 
+    /**
+     * Отправляет вызов и при необходимости hedged вызов ко второй реплике.
+     * <p>
+     * Результат завершается первым успешным ответом; ошибка возвращается,
+     * только если завершились ошибкой все отправленные вызовы.
+     *
+     * @param rpc вызов метода на stub с уже установленным дедлайном
+     */
+    private <T> CompletableFuture<T> callWithHedging(
+            Function<ReminderParserServiceGrpc.ReminderParserServiceFutureStub, ListenableFuture<T>> rpc,
+            long startNanos,
+            long budgetMs) {
+        CompletableFuture<T> primary = call(futureStub, rpc, remainingMs(startNanos, budgetMs));
+        if (hedgeStub == null) {
+            return primary;
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<CompletableFuture<T>> calls = new CopyOnWriteArrayList<>(List.of(primary));
+        AtomicInteger pendingCalls = new AtomicInteger(1);
+
+        primary.whenComplete((response, ex) -> completeHedged(result, pendingCalls, response, ex, false));
+
+        ScheduledFuture<?> hedgeTimer = scheduler.schedule(() -> {
+            long remaining = remainingMs(startNanos, budgetMs);
+            if (result.isDone() || remaining < MIN_CALL_DEADLINE_MS) {
+                return;
+            }
+            pendingCalls.incrementAndGet();
+            hedgesSent.increment();
+            log.debug("Parse request not answered in {}ms, hedging to {}",
+                    grpcConfig.getHedgeDelayMs(), grpcConfig.getHedgeTarget());
+
+            CompletableFuture<T> hedge = call(hedgeStub, rpc, remaining);
+            calls.add(hedge);
+            hedge.whenComplete((response, ex) -> completeHedged(result, pendingCalls, response, ex, true));
+            if (result.isDone()) {
+                hedge.cancel(true);
+            }
+        }, grpcConfig.getHedgeDelayMs(), TimeUnit.MILLISECONDS);
+
+        result.whenComplete((response, ex) -> {
+            hedgeTimer.cancel(false);
+            calls.forEach(call -> call.cancel(true));
+        });
+        return result;
+    }
+
+    private <T> void completeHedged(CompletableFuture<T> result,
+                                    AtomicInteger pendingCalls,
+                                    T response,
+                                    Throwable ex,
+                                    boolean hedged) {
+        if (ex == null) {
+            if (result.complete(response) && hedged) {
+                hedgesWon.increment();
+            }
+        } else if (pendingCalls.decrementAndGet() == 0) {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Выполняет один неблокирующий вызов.
+     * <p>
+     * Отмена возвращаемого future отменяет RPC.
+     */
+    private static <T> CompletableFuture<T> call(
+            ReminderParserServiceGrpc.ReminderParserServiceFutureStub stub,
+            Function<ReminderParserServiceGrpc.ReminderParserServiceFutureStub, ListenableFuture<T>> rpc,
+            long deadlineMs) {
+        if (deadlineMs < MIN_CALL_DEADLINE_MS) {
+            return CompletableFuture.failedFuture(Status.DEADLINE_EXCEEDED
+                    .withDescription("Parse latency budget exhausted")
+                    .asRuntimeException());
+        }
+        return toCompletableFuture(rpc.apply(stub.withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS)));
+    }
+
+    private static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Futures.addCallback(listenableFuture, new FutureCallback<>() {
+            @Override
+            public void onSuccess(T result) {
+                future.complete(result);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+        future.whenComplete((result, ex) -> {
+            if (future.isCancelled()) {
+                listenableFuture.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    private static long remainingMs(long startNanos, long budgetMs) {
+        return budgetMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private void handleParseFailure(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null
+                ? ex.getCause()
+                : ex;
+        if (cause instanceof CallNotPermittedException) {
+            log.debug("NLP circuit open, using fallback parsing");
+            return;
+        }
+        if (cause instanceof RejectedExecutionException) {
+            log.warn("NLP bulkhead full, using fallback parsing: {}", cause.getMessage());
+            return;
+        }
+
+        StatusRuntimeException statusException = findStatusException(ex);
+
+        if (statusException != null) {
+            Status.Code code = statusException.getStatus().getCode();
+            log.error("gRPC parsing error: {} - {}", code, statusException.getStatus().getDescription());
+        } else {
+            log.error("Error parsing via gRPC", ex);
+        }
+    }
+
+    private static Status.Code statusCode(Throwable ex) {
+        StatusRuntimeException statusException = findStatusException(ex);
+        return statusException != null ? statusException.getStatus().getCode() : null;
+    }
+
+    private static StatusRuntimeException findStatusException(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof StatusRuntimeException statusException) {
+                return statusException;
+            }
+        }
+        return null;
+    }
+
+    private ParsedResult recordLatency(long startNanos, String requestedLanguage, String outcome, ParsedResult result) {
+        String language = result.language() != null && !result.language().isEmpty()
+                ? result.language()
+                : requestedLanguage != null ? requestedLanguage : "unknown";
+
+        Timer.builder("grpc.parse.latency")
+                .description("NLP parse latency including hedging and fallback")
+                .tag("language", language)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private static ParsedResult localResult(String text, TemporalExpressionParser.TemporalMatch match) {
+        return new ParsedResult(
+                match.scheduledTime(),
+                match.action().isEmpty() ? text : match.action(),
+                match.confidence(),
+                match.language(),
+                null,
+                "reminder",
+                List.of(new Entity(match.expression(), "time", match.start(), match.end(), match.confidence())),
+                text,
+                text.toLowerCase()
+        );
+    }
+
     /**
      * Fallback парсинг при недоступности gRPC сервиса.
      * <p>
-     * Возвращает упрощённый результат с текущим временем +1 час.
+     * Использует локальный разбор временного выражения независимо от уверенности;
+     * если выражение не найдено, возвращает упрощённый результат с текущим временем +1 час.
      *
      * @param text текст напоминания
      * @param language код языка
      * @return ParsedResult с дефолтными значениями
      */
     private ParsedResult fallbackParse(String text, String language) {
+        Optional<TemporalExpressionParser.TemporalMatch> local =
+                TemporalExpressionParser.parse(text, language, LocalDateTime.now());
+        if (local.isPresent()) {
+            return localResult(text, local.get());
+        }
+
         LocalDateTime scheduledTime = LocalDateTime.now().plusHours(1);
 
         return new ParsedResult(
@@ -161,53 +721,64 @@ public void checkHealth() {
                     .withDeadlineAfter(grpcConfig.getHealthCheckDeadlineSec(), TimeUnit.SECONDS)
                     .healthCheck(HealthRequest.newBuilder().build());
 
-            grpcAvailable = response.getHealthy();
-            lastHealthCheck = System.currentTimeMillis();
+            parseCache.onModelVersion(response.getModelVersion());
 
             log.info("NLP gRPC service health: {}, version: {}",
                     response.getHealthy(), response.getModelVersion());
 
         } catch (Exception e) {
             log.warn("NLP gRPC service unavailable: {}", e.getMessage());
-            grpcAvailable = false;
-            lastHealthCheck = System.currentTimeMillis();
         }
     }
 
     /**
-     * Проверяет доступность gRPC сервиса.
+     * Проверяет здоровье NLP сервиса для circuit breaker в состоянии HALF_OPEN.
      * <p>
-     * Если прошло больше интервала health check, выполняет проверку.
+     * Выполняется в потоке планировщика без блокировки.
      *
-     * @return true если сервис доступен
+     * @return future с true если сервис сообщил, что здоров
      */
-    private boolean isGRPCAvailable() {
-        if (!grpcAvailable) {
-            checkGRPCAvailability();
-        }
-        return grpcAvailable;
+    private CompletableFuture<Boolean> probeHealth() {
+        return toCompletableFuture(futureStub
+                .withDeadlineAfter(grpcConfig.getHealthCheckDeadlineSec(), TimeUnit.SECONDS)
+                .healthCheck(HealthRequest.newBuilder().build()))
+                .thenApply(response -> {
+                    parseCache.onModelVersion(response.getModelVersion());
+                    log.info("NLP gRPC service health: {}, version: {}",
+                            response.getHealthy(), response.getModelVersion());
+                    return response.getHealthy();
+                });
     }
 
     /**
-     * Проверяет доступность gRPC сервиса если прошло достаточно времени.
+     * Узнаёт текущую версию NLP модели для кэша ответов.
+     * <p>
+     * Выполняется периодически без блокировки; ошибки только логируются,
+     * доступность сервиса при этом не меняется.
      */
-    private void checkGRPCAvailability() {
-        long now = System.currentTimeMillis();
-        if (now - lastHealthCheck > grpcConfig.getHealthCheckIntervalMs()) {
-            checkHealth();
-        }
+    private void refreshModelVersion() {
+        toCompletableFuture(futureStub
+                .withDeadlineAfter(grpcConfig.getHealthCheckDeadlineSec(), TimeUnit.SECONDS)
+                .healthCheck(HealthRequest.newBuilder().build()))
+                .whenComplete((response, ex) -> {
+                    if (ex != null) {
+                        log.debug("Failed to refresh NLP model version: {}", ex.getMessage());
+                    } else {
+                        parseCache.onModelVersion(response.getModelVersion());
+                    }
+                });
     }
 
-    /**
-     * Помечает gRPC сервис как недоступный.
-     */
-    private void markGRPCUnavailable() {
-        grpcAvailable = false;
-        lastHealthCheck = System.currentTimeMillis();
+    private record PendingParse(ParseRequest request,
+                                long startNanos,
+                                long budgetMs,
+                                CompletableFuture<ParseResponse> future) {
     }
 
     @Override
     public void close() {
+        scheduler.shutdownNow();
+        channelPool.close();
         grpcConfig.shutdown();
     }
 }
\ No newline at end of file
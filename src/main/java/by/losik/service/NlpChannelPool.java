@@ -0,0 +1,402 @@
+package by.losik.service;
+
+import by.losik.config.GRPCConfig;
+import by.losik.config.MonitoringConfig;
+import by.losik.grpc.HealthRequest;
+import by.losik.grpc.HealthResponse;
+import by.losik.grpc.ReminderParserServiceGrpc;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Пул соединений к репликам NLP сервиса с клиентской балансировкой.
+ * <p>
+ * Предоставляет один {@link Channel}, который выбирает реплику для каждого вызова:
+ * <ul>
+ *     <li>Реплики задаются списком {@code NLP_SERVICE_TARGETS}; элементы {@code dns:///host:port}
+ *     периодически разрешаются во все адреса, новые адреса добавляются, пропавшие закрываются</li>
+ *     <li>К каждой реплике открывается {@link GRPCConfig#getChannelsPerBackend()} каналов,
+ *     вызовы распределяются между ними по кругу</li>
+ *     <li>round_robin — реплики выбираются по кругу; least_request — из двух случайных реплик
+ *     выбирается та, у которой меньше незавершённых вызовов</li>
+ *     <li>Здоровье каждой реплики проверяется RPC HealthCheck с интервалом
+ *     {@link GRPCConfig#getHealthCheckIntervalMs()}; нездоровые реплики не выбираются,
+ *     пока есть хотя бы одна здоровая</li>
+ * </ul>
+ * <p>
+ * Количество реплик публикуется в gauge {@code grpc.nlp.backends} с тегом state (total, healthy).
+ *
+ * @see GRPCService
+ * @see GRPCConfig
+ */
+@Singleton
+public class NlpChannelPool implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(NlpChannelPool.class);
+
+    /** Префикс целей, которые разрешаются через DNS во все адреса */
+    private static final String DNS_PREFIX = "dns:///";
+
+    private final GRPCConfig config;
+    private final boolean leastRequest;
+    private final Map<String, Backend> backends = new ConcurrentHashMap<>();
+    private final AtomicInteger nextBackend = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+    private final Channel channel;
+    private volatile List<Backend> snapshot = List.of();
+
+    /**
+     * Создаёт пул, разрешает адреса реплик и запускает проверки здоровья.
+     *
+     * @param config конфигурация gRPC (реплики, политика балансировки, количество соединений)
+     * @param monitoringConfig конфигурация мониторинга для метрик
+     */
+    @Inject
+    public NlpChannelPool(GRPCConfig config, MonitoringConfig monitoringConfig) {
+        this.config = config;
+        this.leastRequest = "least_request".equalsIgnoreCase(config.getLoadBalancingPolicy());
+        this.channel = new BalancedChannel(stripDnsPrefix(config.getNlpServiceTargets().get(0)));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "nlp-channel-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        refreshBackends();
+
+        boolean hasDnsTargets = config.getNlpServiceTargets().stream().anyMatch(target -> target.startsWith(DNS_PREFIX));
+        if (hasDnsTargets) {
+            scheduler.scheduleWithFixedDelay(this::refreshBackends,
+                    config.getDnsRefreshMs(), config.getDnsRefreshMs(), TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(this::checkHealth,
+                0, config.getHealthCheckIntervalMs(), TimeUnit.MILLISECONDS);
+
+        MeterRegistry registry = monitoringConfig.getApplicationRegistry();
+        Gauge.builder("grpc.nlp.backends", this, pool -> pool.snapshot.size())
+                .description("NLP service replicas known to the client")
+                .tag("state", "total")
+                .register(registry);
+        Gauge.builder("grpc.nlp.backends", this, pool -> pool.snapshot.stream().filter(Backend::isHealthy).count())
+                .description("NLP service replicas known to the client")
+                .tag("state", "healthy")
+                .register(registry);
+
+        log.info("NLP channel pool started: targets={}, policy={}, channelsPerBackend={}",
+                config.getNlpServiceTargets(), leastRequest ? "least_request" : "round_robin",
+                config.getChannelsPerBackend());
+    }
+
+    /**
+     * Возвращает канал с балансировкой между репликами.
+     * <p>
+     * Подходит для создания любых stub'ов; реплика выбирается для каждого вызова отдельно.
+     *
+     * @return балансирующий канал
+     */
+    public Channel channel() {
+        return channel;
+    }
+
+    private Backend pick() {
+        List<Backend> all = snapshot;
+        if (all.isEmpty()) {
+            return null;
+        }
+
+        List<Backend> candidates = new ArrayList<>(all.size());
+        for (Backend backend : all) {
+            if (backend.isHealthy()) {
+                candidates.add(backend);
+            }
+        }
+        if (candidates.isEmpty()) {
+            candidates = all;
+        }
+
+        int size = candidates.size();
+        if (!leastRequest || size == 1) {
+            return candidates.get(Math.floorMod(nextBackend.getAndIncrement(), size));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Backend first = candidates.get(random.nextInt(size));
+        Backend second = candidates.get(random.nextInt(size - 1));
+        if (second == first) {
+            second = candidates.get(size - 1);
+        }
+        return first.inFlight.get() <= second.inFlight.get() ? first : second;
+    }
+
+    /**
+     * Разрешает адреса реплик и синхронизирует набор каналов.
+     * <p>
+     * Если DNS временно не отвечает, ранее известные адреса этой цели сохраняются.
+     */
+    private void refreshBackends() {
+        try {
+            Map<String, Endpoint> desired = new LinkedHashMap<>();
+            for (String target : config.getNlpServiceTargets()) {
+                resolve(target, desired);
+            }
+
+            desired.forEach((key, endpoint) -> backends.computeIfAbsent(key, ignored -> {
+                log.info("Adding NLP backend {}", key);
+                return new Backend(key, endpoint, openChannels(endpoint));
+            }));
+
+            backends.entrySet().removeIf(entry -> {
+                if (desired.containsKey(entry.getKey())) {
+                    return false;
+                }
+                log.info("Removing NLP backend {}", entry.getKey());
+                entry.getValue().shutdown();
+                return true;
+            });
+
+            snapshot = List.copyOf(backends.values());
+        } catch (Exception e) {
+            log.error("Failed to refresh NLP backends", e);
+        }
+    }
+
+    private void resolve(String target, Map<String, Endpoint> desired) {
+        boolean dns = target.startsWith(DNS_PREFIX);
+        String hostPort = stripDnsPrefix(target);
+        int separator = hostPort.lastIndexOf(':');
+        String host = separator > 0 ? hostPort.substring(0, separator) : hostPort;
+        int port = separator > 0 ? Integer.parseInt(hostPort.substring(separator + 1)) : config.getNlpServicePort();
+
+        if (!dns) {
+            desired.put(host + ":" + port, new Endpoint(target, host, port, null));
+            return;
+        }
+
+        try {
+            for (InetAddress address : InetAddress.getAllByName(host)) {
+                String ip = address.getHostAddress();
+                desired.put(ip + ":" + port, new Endpoint(target, ip, port, host + ":" + port));
+            }
+        } catch (UnknownHostException e) {
+            log.warn("Failed to resolve NLP target {}, keeping known addresses: {}", target, e.getMessage());
+            backends.forEach((key, backend) -> {
+                if (backend.endpoint().target().equals(target)) {
+                    desired.put(key, backend.endpoint());
+                }
+            });
+        }
+    }
+
+    private List<ManagedChannel> openChannels(Endpoint endpoint) {
+        List<ManagedChannel> channels = new ArrayList<>(config.getChannelsPerBackend());
+        for (int i = 0; i < config.getChannelsPerBackend(); i++) {
+            channels.add(config.createChannel(endpoint.host(), endpoint.port(), endpoint.authority()));
+        }
+        return channels;
+    }
+
+    private void checkHealth() {
+        for (Backend backend : snapshot) {
+            Futures.addCallback(backend.healthStub()
+                    .withDeadlineAfter(config.getHealthCheckDeadlineSec(), TimeUnit.SECONDS)
+                    .healthCheck(HealthRequest.newBuilder().build()), new FutureCallback<>() {
+                @Override
+                public void onSuccess(HealthResponse response) {
+                    backend.setHealthy(response.getHealthy());
+                }
+
+                @Override
+                public void onFailure(Throwable t) {
+                    log.debug("Health check failed for NLP backend {}: {}", backend.key(), t.getMessage());
+                    backend.setHealthy(false);
+                }
+            }, MoreExecutors.directExecutor());
+        }
+    }
+
+    private static String stripDnsPrefix(String target) {
+        return target.startsWith(DNS_PREFIX) ? target.substring(DNS_PREFIX.length()) : target;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        backends.values().forEach(Backend::shutdown);
+        backends.clear();
+        snapshot = List.of();
+        log.info("NLP channel pool closed");
+    }
+
+    private record Endpoint(String target, String host, int port, String authority) {
+    }
+
+    /**
+     * Реплика NLP сервиса: её каналы, счётчик незавершённых вызовов и состояние здоровья.
+     */
+    private static final class Backend {
+        private final String key;
+        private final Endpoint endpoint;
+        private final List<ManagedChannel> channels;
+        private final ReminderParserServiceGrpc.ReminderParserServiceFutureStub healthStub;
+        private final AtomicInteger nextChannel = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean healthy = true;
+
+        private Backend(String key, Endpoint endpoint, List<ManagedChannel> channels) {
+            this.key = key;
+            this.endpoint = endpoint;
+            this.channels = channels;
+            this.healthStub = ReminderParserServiceGrpc.newFutureStub(channels.get(0));
+        }
+
+        private String key() {
+            return key;
+        }
+
+        private Endpoint endpoint() {
+            return endpoint;
+        }
+
+        private ReminderParserServiceGrpc.ReminderParserServiceFutureStub healthStub() {
+            return healthStub;
+        }
+
+        private boolean isHealthy() {
+            return healthy;
+        }
+
+        private void setHealthy(boolean healthy) {
+            if (this.healthy != healthy) {
+                log.info("NLP backend {} is now {}", key, healthy ? "healthy" : "unhealthy");
+            }
+            this.healthy = healthy;
+        }
+
+        private Channel nextChannel() {
+            return channels.get(Math.floorMod(nextChannel.getAndIncrement(), channels.size()));
+        }
+
+        private void shutdown() {
+            channels.forEach(ManagedChannel::shutdown);
+        }
+    }
+
+    /**
+     * Канал, выбирающий реплику для каждого вызова и учитывающий незавершённые вызовы.
+     */
+    private final class BalancedChannel extends Channel {
+        private final String authority;
+
+        private BalancedChannel(String authority) {
+            this.authority = authority;
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method,
+                                                             CallOptions callOptions) {
+            Backend backend = pick();
+            if (backend == null) {
+                return new FailingClientCall<>(Status.UNAVAILABLE.withDescription("No NLP backends available"));
+            }
+
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    backend.inFlight.decrementAndGet();
+                }
+            };
+            backend.inFlight.incrementAndGet();
+
+            return new ForwardingClientCall.SimpleForwardingClientCall<>(backend.nextChannel().newCall(method, callOptions)) {
+                private volatile boolean started;
+
+                @Override
+                public void start(Listener<RespT> responseListener, Metadata headers) {
+                    started = true;
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            release.run();
+                            super.onClose(status, trailers);
+                        }
+                    }, headers);
+                }
+
+                @Override
+                public void cancel(String message, Throwable cause) {
+                    if (!started) {
+                        release.run();
+                    }
+                    super.cancel(message, cause);
+                }
+            };
+        }
+
+        @Override
+        public String authority() {
+            return authority;
+        }
+    }
+
+    /**
+     * Вызов, который сразу завершается заданным статусом.
+     */
+    private static final class FailingClientCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+        private final Status status;
+
+        private FailingClientCall(Status status) {
+            this.status = status;
+        }
+
+        @Override
+        public void start(Listener<RespT> responseListener, Metadata headers) {
+            responseListener.onClose(status, new Metadata());
+        }
+
+        @Override
+        public void request(int numMessages) {
+        }
+
+        @Override
+        public void cancel(String message, Throwable cause) {
+        }
+
+        @Override
+        public void halfClose() {
+        }
+
+        @Override
+        public void sendMessage(ReqT message) {
+        }
+    }
+}
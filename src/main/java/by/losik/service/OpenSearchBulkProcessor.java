@@ -0,0 +1,250 @@
+package by.losik.service;
+
+import by.losik.config.MonitoringConfig;
+import by.losik.config.OpenSearchConfig;
+import by.losik.util.InFlightTracker;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.client.RequestOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пакетная запись документов в OpenSearch через {@code _bulk}.
+ * <p>
+ * Накапливает операции index/update/delete и отправляет их одним запросом:
+ * <ul>
+ *     <li>при достижении лимита по количеству операций или по размеру в байтах</li>
+ *     <li>по таймеру, если пакет не заполнился за интервал ожидания</li>
+ * </ul>
+ * <p>
+ * Каждая операция получает собственный future, который завершается результатом
+ * соответствующего элемента bulk-ответа или ошибкой этого элемента.
+ * Количество ожидающих операций ограничено: при переполнении новые операции
+ * отклоняются с {@link RejectedExecutionException}.
+ *
+ * @see OpenSearchRequestExecutor
+ * @see OpenSearchService
+ */
+@Singleton
+public class OpenSearchBulkProcessor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenSearchBulkProcessor.class);
+
+    /** Максимальное время ожидания ответов на отправленные пакеты при закрытии (мс) */
+    private static final long CLOSE_TIMEOUT_MS = 5000L;
+
+    private final OpenSearchRequestExecutor requestExecutor;
+    private final int bulkActions;
+    private final long bulkSizeBytes;
+    private final int maxPending;
+    private final ScheduledExecutorService flushScheduler;
+    private final InFlightTracker pending = new InFlightTracker();
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Counter itemFailureCounter;
+    private final Object lock = new Object();
+
+    private BulkRequest currentBulk = new BulkRequest();
+    private List<CompletableFuture<DocWriteResponse>> currentFutures = new ArrayList<>();
+    private volatile boolean closed;
+
+    /**
+     * Создаёт bulk-процессор.
+     *
+     * @param requestExecutor исполнитель запросов к OpenSearch
+     * @param config конфигурация OpenSearch (лимиты пакета, интервал сброса)
+     * @param monitoringConfig конфигурация мониторинга для метрик
+     */
+    @Inject
+    public OpenSearchBulkProcessor(OpenSearchRequestExecutor requestExecutor,
+                                   OpenSearchConfig config,
+                                   MonitoringConfig monitoringConfig) {
+        this.requestExecutor = requestExecutor;
+        this.bulkActions = config.getBulkActions();
+        this.bulkSizeBytes = config.getBulkSizeBytes();
+        this.maxPending = config.getBulkMaxPending();
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "opensearch-bulk-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        MeterRegistry registry = monitoringConfig.getApplicationRegistry();
+        this.batchSizeSummary = DistributionSummary.builder("opensearch.bulk.batch.size")
+                .description("Number of operations per _bulk request")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.flushTimer = Timer.builder("opensearch.bulk.flush.latency")
+                .description("Latency of _bulk requests")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.itemFailureCounter = Counter.builder("opensearch.bulk.item.failures")
+                .description("Failed items in _bulk responses")
+                .register(registry);
+        Gauge.builder("opensearch.bulk.pending", pending, InFlightTracker::get)
+                .description("Operations buffered or in flight in the bulk processor")
+                .register(registry);
+
+        long interval = config.getBulkFlushIntervalMs();
+        flushScheduler.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+
+        log.info("OpenSearch bulk processor initialized: actions={}, sizeBytes={}, flushIntervalMs={}, maxPending={}",
+                bulkActions, bulkSizeBytes, interval, maxPending);
+    }
+
+    /**
+     * Добавляет операцию в текущий пакет.
+     *
+     * @param request операция index/update/delete
+     * @return future с ответом по этой операции
+     */
+    public CompletableFuture<DocWriteResponse> add(DocWriteRequest<?> request) {
+        if (closed) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("Bulk processor is closed"));
+        }
+        if (!pending.tryAcquire(maxPending)) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException(
+                    "Bulk processor is overloaded: " + maxPending + " operations pending"));
+        }
+
+        CompletableFuture<DocWriteResponse> future = new CompletableFuture<>();
+        BulkRequest ready = null;
+        List<CompletableFuture<DocWriteResponse>> readyFutures = null;
+
+        synchronized (lock) {
+            // Повторная проверка под блокировкой: close() забирает последний пакет под ней же,
+            // и операция, добавленная после этого, не была бы отправлена
+            if (closed) {
+                pending.release(1);
+                future.completeExceptionally(new RejectedExecutionException("Bulk processor is closed"));
+                return future;
+            }
+            currentBulk.add(request);
+            currentFutures.add(future);
+            if (currentBulk.numberOfActions() >= bulkActions
+                    || currentBulk.estimatedSizeInBytes() >= bulkSizeBytes) {
+                ready = currentBulk;
+                readyFutures = currentFutures;
+                currentBulk = new BulkRequest();
+                currentFutures = new ArrayList<>();
+            }
+        }
+
+        if (ready != null) {
+            send(ready, readyFutures);
+        }
+        return future;
+    }
+
+    /**
+     * Немедленно отправляет накопленный пакет.
+     */
+    public void flush() {
+        flush(false);
+    }
+
+    private void flush(boolean close) {
+        BulkRequest ready;
+        List<CompletableFuture<DocWriteResponse>> readyFutures;
+
+        synchronized (lock) {
+            if (close) {
+                closed = true;
+            }
+            if (currentBulk.numberOfActions() == 0) {
+                return;
+            }
+            ready = currentBulk;
+            readyFutures = currentFutures;
+            currentBulk = new BulkRequest();
+            currentFutures = new ArrayList<>();
+        }
+
+        send(ready, readyFutures);
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Scheduled bulk flush failed", e);
+        }
+    }
+
+    private void send(BulkRequest bulk, List<CompletableFuture<DocWriteResponse>> futures) {
+        int size = futures.size();
+        batchSizeSummary.record(size);
+        Timer.Sample sample = Timer.start();
+
+        requestExecutor.<BulkResponse>execute("bulk",
+                        (client, listener) -> client.bulkAsync(bulk, RequestOptions.DEFAULT, listener))
+                .whenComplete((response, ex) -> {
+                    sample.stop(flushTimer);
+                    pending.release(size);
+
+                    if (ex != null) {
+                        log.error("Bulk request with {} operations failed", size, ex);
+                        futures.forEach(future -> future.completeExceptionally(ex));
+                        return;
+                    }
+
+                    BulkItemResponse[] items = response.getItems();
+                    for (int i = 0; i < size; i++) {
+                        BulkItemResponse item = items[i];
+                        if (item.isFailed()) {
+                            itemFailureCounter.increment();
+                            futures.get(i).completeExceptionally(new RuntimeException(
+                                    "Bulk item failed: " + item.getId() + ": " + item.getFailureMessage(),
+                                    item.getFailure().getCause()));
+                        } else {
+                            futures.get(i).complete(item.getResponse());
+                        }
+                    }
+
+                    if (response.hasFailures()) {
+                        log.warn("Bulk request completed with failures: {}", response.buildFailureMessage());
+                    } else {
+                        log.debug("Bulk request with {} operations completed in {}", size, response.getTook());
+                    }
+                });
+    }
+
+    /**
+     * Отправляет накопленный пакет и ожидает ответов {@code _bulk} не дольше
+     * {@code CLOSE_TIMEOUT_MS}; новые операции после закрытия отклоняются.
+     * Флаг закрытия выставляется под той же блокировкой, под которой забирается
+     * последний пакет, поэтому каждая операция либо попадает в него, либо отклоняется.
+     */
+    @Override
+    public void close() {
+        flushScheduler.shutdown();
+        flush(true);
+
+        try {
+            pending.awaitIdle(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("OpenSearch bulk processor closed, {} operations not confirmed", pending.get());
+    }
+}
@@ -0,0 +1,208 @@
+package by.losik.service;
+
+import by.losik.config.LocalStackConfig;
+import by.losik.config.MonitoringConfig;
+import by.losik.config.OpenSearchConfig;
+import by.losik.util.AsyncConcurrencyLimiter;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.client.Cancellable;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.core.action.ActionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Неблокирующий исполнитель запросов к OpenSearch.
+ * <p>
+ * Выполняет запросы через асинхронный API {@link RestHighLevelClient}
+ * ({@code searchAsync}, {@code indexAsync}, {@code getAsync} и т.д.), поэтому
+ * ни один поток не блокируется в ожидании ответа:
+ * <ul>
+ *     <li>Ограничивает количество одновременных запросов и размер очереди ожидания</li>
+ *     <li>Завершает future на собственном ограниченном пуле потоков, а не на I/O потоке клиента</li>
+ *     <li>Записывает latency каждой операции в таймер {@code opensearch.request.latency}</li>
+ *     <li>Публикует gauge'и запросов в работе и в очереди</li>
+ * </ul>
+ *
+ * @see OpenSearchService
+ * @see AsyncConcurrencyLimiter
+ */
+@Singleton
+public class OpenSearchRequestExecutor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenSearchRequestExecutor.class);
+    private final RestHighLevelClient client;
+    private final ExecutorService callbackExecutor;
+    private final AsyncConcurrencyLimiter limiter;
+    private final MeterRegistry registry;
+    private final Counter rejectedCounter;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Асинхронный вызов клиента OpenSearch.
+     *
+     * @param <T> тип ответа
+     */
+    @FunctionalInterface
+    public interface AsyncCall<T> {
+        /**
+         * Запускает запрос.
+         *
+         * @param client клиент OpenSearch
+         * @param listener слушатель ответа
+         * @return дескриптор для отмены запроса
+         */
+        Cancellable start(RestHighLevelClient client, ActionListener<T> listener);
+    }
+
+    /**
+     * Создаёт исполнитель запросов.
+     *
+     * @param localStackConfig конфигурация LocalStack для клиента
+     * @param config конфигурация OpenSearch (лимиты, размер пула)
+     * @param monitoringConfig конфигурация мониторинга для метрик
+     */
+    @Inject
+    public OpenSearchRequestExecutor(LocalStackConfig localStackConfig,
+                                     OpenSearchConfig config,
+                                     MonitoringConfig monitoringConfig) {
+        this.client = localStackConfig.getOpenSearchClient();
+        this.registry = monitoringConfig.getApplicationRegistry();
+        this.callbackExecutor = createCallbackExecutor(config);
+        this.limiter = new AsyncConcurrencyLimiter("opensearch",
+                config.getMaxInFlightRequests(),
+                config.getMaxQueuedRequests(),
+                callbackExecutor);
+
+        Gauge.builder("opensearch.requests.inflight", limiter, AsyncConcurrencyLimiter::getInFlight)
+                .description("OpenSearch requests currently in flight")
+                .register(registry);
+        Gauge.builder("opensearch.requests.queued", limiter, AsyncConcurrencyLimiter::getQueued)
+                .description("OpenSearch requests waiting for a free slot")
+                .register(registry);
+        this.rejectedCounter = Counter.builder("opensearch.requests.rejected")
+                .description("OpenSearch requests rejected because the queue was full")
+                .register(registry);
+
+        log.info("OpenSearch executor initialized: maxInFlight={}, maxQueued={}, callbackThreads={}",
+                config.getMaxInFlightRequests(), config.getMaxQueuedRequests(), config.getCallbackThreads());
+    }
+
+    /**
+     * Выполняет асинхронный запрос к OpenSearch.
+     *
+     * @param operation имя операции (тег метрики latency)
+     * @param call вызов асинхронного API клиента
+     * @param <T> тип ответа
+     * @return future с ответом, завершаемый на пуле обработки ответов
+     */
+    public <T> CompletableFuture<T> execute(String operation, AsyncCall<T> call) {
+        CompletableFuture<T> future = limiter.submit(() -> start(operation, call));
+        future.whenComplete((response, ex) -> {
+            if (ex instanceof RejectedExecutionException) {
+                rejectedCounter.increment();
+                log.warn("OpenSearch request {} rejected: {}", operation, ex.getMessage());
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Получает пул потоков обработки ответов.
+     *
+     * @return executor для продолжений после ответа OpenSearch
+     */
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    private <T> CompletableFuture<T> start(String operation, AsyncCall<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Timer.Sample sample = Timer.start(registry);
+
+        Cancellable cancellable = call.start(client, new ActionListener<>() {
+            @Override
+            public void onResponse(T response) {
+                sample.stop(getTimer(operation, "success"));
+                completeAsync(() -> future.complete(response));
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                sample.stop(getTimer(operation, "error"));
+                completeAsync(() -> future.completeExceptionally(e));
+            }
+        });
+
+        future.whenComplete((response, ex) -> {
+            if (future.isCancelled() && cancellable != null) {
+                cancellable.cancel();
+            }
+        });
+        return future;
+    }
+
+    private void completeAsync(Runnable completion) {
+        try {
+            callbackExecutor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            log.warn("OpenSearch callback executor is saturated, completing on I/O thread");
+            completion.run();
+        }
+    }
+
+    private Timer getTimer(String operation, String outcome) {
+        String key = operation + ":" + outcome;
+        return timers.computeIfAbsent(key, k -> Timer.builder("opensearch.request.latency")
+                .description("OpenSearch request latency")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private static ExecutorService createCallbackExecutor(OpenSearchConfig config) {
+        AtomicInteger counter = new AtomicInteger();
+        int threads = config.getCallbackThreads();
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(config.getMaxInFlightRequests() + config.getMaxQueuedRequests()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "opensearch-callback-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public void close() {
+        callbackExecutor.shutdown();
+        try {
+            if (!callbackExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                callbackExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            callbackExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("OpenSearch executor closed");
+    }
+}
@@ -1,16 +1,18 @@
 package by.losik.service;
 
-import by.losik.config.LocalStackConfig;
+import by.losik.config.MonitoringConfig;
 import by.losik.config.OpenSearchConfig;
 import by.losik.dto.AutocompleteResult;
+import by.losik.dto.ReminderPage;
 import by.losik.dto.ReminderRecord;
 import by.losik.dto.TranscriptionResult;
 import by.losik.service.mapper.ReminderIndexMapper;
 import by.losik.service.mapper.TranscriptionIndexMapper;
-import by.losik.util.DateTimeParser;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.get.GetRequest;
@@ -19,18 +21,29 @@
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.support.master.AcknowledgedResponse;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.RequestOptions;
-import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
+import org.opensearch.client.indices.CreateIndexResponse;
 import org.opensearch.client.indices.GetIndexRequest;
+import org.opensearch.client.indices.PutMappingRequest;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.UpdateByQueryRequest;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptType;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.histogram.Histogram;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
 import org.opensearch.search.fetch.subphase.highlight.HighlightField;
 import org.opensearch.search.sort.SortOrder;
@@ -38,15 +51,22 @@
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -57,12 +77,18 @@
  *     <li>Инициализации индексов (reminders, transcriptions)</li>
  *     <li>Индексации напоминаний и транскрипций</li>
  *     <li>Поиска напоминаний по пользователю, времени, статусу</li>
+ *     <li>Выборки и захвата наступивших напоминаний для диспетчера</li>
  *     <li>Autocomplete для напоминаний с подсветкой совпадений</li>
  *     <li>Обновления и удаления напоминаний</li>
- *     <li>Статистики по напоминаниям пользователя</li>
+ *     <li>Статистики по напоминаниям пользователя (одним агрегирующим запросом, с кэшем)</li>
  * </ul>
  * <p>
- * Использует асинхронные операции через CompletableFuture для всех методов.
+ * {@link #getReminderById} читает через ограниченный кэш напоминаний; все изменяющие
+ * методы сбрасывают запись кэша после завершения записи.
+ * <p>
+ * Все запросы выполняются неблокирующе через {@link OpenSearchRequestExecutor}
+ * с ограничением параллелизма и метриками latency по операциям.
+ * Запись напоминаний и транскрипций объединяется в пакеты через {@link OpenSearchBulkProcessor}.
  *
  * @see OpenSearchConfig
  * @see ReminderIndexMapper
@@ -72,28 +98,53 @@
 public class OpenSearchService {
 
     private static final Logger log = LoggerFactory.getLogger(OpenSearchService.class);
-    private final RestHighLevelClient openSearchClient;
+    private static final String STATUS_AGGREGATION = "by_status";
+    private static final String INTENT_AGGREGATION = "by_intent";
+    private static final String DAY_AGGREGATION = "by_day";
+    private static final String CURSOR_SEPARATOR = "|";
+    private final OpenSearchRequestExecutor requestExecutor;
+    private final OpenSearchBulkProcessor bulkProcessor;
     private final OpenSearchConfig config;
     private final ReminderIndexMapper reminderMapper;
     private final TranscriptionIndexMapper transcriptionMapper;
+    private final AsyncCache<StatsKey, Map<String, Object>> statsCache;
+    private final AsyncCache<String, ReminderRecord> reminderCache;
 
     /**
      * Создаёт OpenSearch сервис с конфигурацией и мапперами.
      *
-     * @param localStackConfig конфигурация LocalStack для клиента
+     * @param requestExecutor неблокирующий исполнитель запросов к OpenSearch
+     * @param bulkProcessor пакетная запись документов через _bulk
      * @param config конфигурация OpenSearch
      * @param reminderMapper маппер для напоминаний
      * @param transcriptionMapper маппер для транскрипций
+     * @param monitoringConfig конфигурация мониторинга для метрик кэшей
      */
     @Inject
-    public OpenSearchService(LocalStackConfig localStackConfig,
+    public OpenSearchService(OpenSearchRequestExecutor requestExecutor,
+                             OpenSearchBulkProcessor bulkProcessor,
                              OpenSearchConfig config,
                              ReminderIndexMapper reminderMapper,
-                             TranscriptionIndexMapper transcriptionMapper) {
-        this.openSearchClient = localStackConfig.getOpenSearchClient();
+                             TranscriptionIndexMapper transcriptionMapper,
+                             MonitoringConfig monitoringConfig) {
+        this.requestExecutor = requestExecutor;
+        this.bulkProcessor = bulkProcessor;
         this.config = config;
         this.reminderMapper = reminderMapper;
         this.transcriptionMapper = transcriptionMapper;
+        this.statsCache = Caffeine.newBuilder()
+                .maximumSize(config.getStatsCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getStatsCacheTtlSeconds()))
+                .recordStats()
+                .buildAsync();
+        this.reminderCache = Caffeine.newBuilder()
+                .maximumSize(config.getReminderCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getReminderCacheTtlSeconds()))
+                .recordStats()
+                .buildAsync();
+
+        monitoringConfig.registerCache("reminder_stats", statsCache);
+        monitoringConfig.registerCache("reminders", reminderCache);
     }
 
     /**
@@ -104,63 +155,124 @@ public OpenSearchService(LocalStackConfig localStackConfig,
      * @return CompletableFuture для асинхронного ожидания
      */
     public CompletableFuture<Void> initializeIndices() {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                ensureTranscriptionIndex();
-                ensureReminderIndex();
-                log.info("OpenSearch indices initialized successfully");
-            } catch (Exception e) {
-                log.error("Failed to initialize OpenSearch indices", e);
-                throw new RuntimeException("Failed to initialize indices", e);
-            }
-        });
+        return ensureTranscriptionIndex()
+                .thenCompose(v -> ensureReminderIndex())
+                .thenRun(() -> log.info("OpenSearch indices initialized successfully"))
+                .exceptionally(ex -> {
+                    log.error("Failed to initialize OpenSearch indices", ex);
+                    throw new RuntimeException("Failed to initialize indices", ex);
+                });
     }
 
     /**
      * Создаёт индекс напоминаний, если он не существует.
      *
-     * @throws IOException если не удалось создать индекс
+     * @return CompletableFuture для асинхронного ожидания
      */
-    private void ensureReminderIndex() throws IOException {
+    private CompletableFuture<Void> ensureReminderIndex() {
         String indexName = config.getReminderIndexName();
-        if (!indexExists(indexName)) {
+        return indexExists(indexName).thenCompose(exists -> {
+            if (exists) {
+                return ensureReminderIdField(indexName);
+            }
             CreateIndexRequest request = new CreateIndexRequest(indexName);
-            XContentBuilder mapping = reminderMapper.buildReminderIndexMapping();
-            request.source(mapping);
-
-            var response = openSearchClient.indices().create(request, RequestOptions.DEFAULT);
-            if (response != null && response.index() != null) {
-                log.info("Created reminder index with autocomplete support: {}", response.index());
-            } else {
-                log.warn("Create reminder index response was null");
+            try {
+                XContentBuilder mapping = reminderMapper.buildReminderIndexMapping();
+                request.source(mapping);
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
             }
+
+            return requestExecutor.<CreateIndexResponse>execute("create_index",
+                            (client, listener) -> client.indices().createAsync(request, RequestOptions.DEFAULT, listener))
+                    .thenAccept(response -> {
+                        if (response != null && response.index() != null) {
+                            log.info("Created reminder index with autocomplete support: {}", response.index());
+                        } else {
+                            log.warn("Create reminder index response was null");
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Добавляет поля reminder_id и claimed_at в существующий индекс напоминаний.
+     * <p>
+     * Документы, созданные до появления reminder_id, заполняются в фоне через update_by_query,
+     * чтобы постраничная выборка имела уникальный тай-брейкер сортировки.
+     *
+     * @param indexName имя индекса напоминаний
+     * @return CompletableFuture для асинхронного ожидания обновления маппинга
+     */
+    private CompletableFuture<Void> ensureReminderIdField(String indexName) {
+        PutMappingRequest request = new PutMappingRequest(indexName);
+        try {
+            request.source(reminderMapper.buildReminderIdMapping());
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
         }
+
+        return requestExecutor.<AcknowledgedResponse>execute("put_mapping",
+                        (client, listener) -> client.indices().putMappingAsync(request, RequestOptions.DEFAULT, listener))
+                .thenAccept(response -> {
+                    log.info("Reminder index mapping updated with reminder_id and claimed_at fields");
+                    backfillReminderIds(indexName);
+                });
+    }
+
+    private void backfillReminderIds(String indexName) {
+        UpdateByQueryRequest request = new UpdateByQueryRequest(indexName);
+        request.setQuery(QueryBuilders.boolQuery().mustNot(QueryBuilders.existsQuery("reminder_id")));
+        request.setScript(new Script(ScriptType.INLINE, "painless",
+                "ctx._source.reminder_id = ctx._id", Collections.emptyMap()));
+        request.setConflicts("proceed");
+
+        requestExecutor.<BulkByScrollResponse>execute("backfill_reminder_ids",
+                        (client, listener) -> client.updateByQueryAsync(request, RequestOptions.DEFAULT, listener))
+                .whenComplete((response, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to backfill reminder_id field: {}", ex.getMessage());
+                    } else if (response.getUpdated() > 0) {
+                        log.info("Backfilled reminder_id for {} reminders", response.getUpdated());
+                    }
+                });
     }
 
     /**
      * Создаёт индекс транскрипций, если он не существует.
      *
-     * @throws IOException если не удалось создать индекс
+     * @return CompletableFuture для асинхронного ожидания
      */
-    private void ensureTranscriptionIndex() throws IOException {
+    private CompletableFuture<Void> ensureTranscriptionIndex() {
         String indexName = config.getTranscriptionIndexName();
-        if (!indexExists(indexName)) {
+        return indexExists(indexName).thenCompose(exists -> {
+            if (exists) {
+                return CompletableFuture.completedFuture(null);
+            }
             CreateIndexRequest request = new CreateIndexRequest(indexName);
-            XContentBuilder mapping = transcriptionMapper.buildTranscriptionIndexMapping();
-            request.source(mapping);
-
-            var response = openSearchClient.indices().create(request, RequestOptions.DEFAULT);
-            if (response != null && response.index() != null) {
-                log.info("Created transcription index: {}", response.index());
-            } else {
-                log.warn("Create transcription index response was null");
+            try {
+                XContentBuilder mapping = transcriptionMapper.buildTranscriptionIndexMapping();
+                request.source(mapping);
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
             }
-        }
+
+            return requestExecutor.<CreateIndexResponse>execute("create_index",
+                            (client, listener) -> client.indices().createAsync(request, RequestOptions.DEFAULT, listener))
+                    .thenAccept(response -> {
+                        if (response != null && response.index() != null) {
+                            log.info("Created transcription index: {}", response.index());
+                        } else {
+                            log.warn("Create transcription index response was null");
+                        }
+                    });
+        });
     }
 
-    private boolean indexExists(String indexName) throws IOException {
+    private CompletableFuture<Boolean> indexExists(String indexName) {
         GetIndexRequest request = new GetIndexRequest(indexName);
-        return openSearchClient.indices().exists(request, RequestOptions.DEFAULT);
+        return requestExecutor.execute("index_exists",
+                (client, listener) -> client.indices().existsAsync(request, RequestOptions.DEFAULT, listener));
     }
 
     /**
@@ -170,23 +282,20 @@ private boolean indexExists(String indexName) throws IOException {
      * @return ID индексированной транскрипции
      */
     public CompletableFuture<String> indexTranscription(TranscriptionResult transcription) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Map<String, Object> source = transcriptionMapper.toIndexSource(transcription);
-                String indexName = config.getTranscriptionIndexName();
-
-                IndexRequest request = new IndexRequest(indexName)
-                        .id(transcription.transcriptionId())
-                        .source(source, XContentType.JSON);
-
-                var response = openSearchClient.index(request, RequestOptions.DEFAULT);
-                log.info("Transcription indexed: {}", response.getId());
-                return response.getId();
-            } catch (IOException e) {
-                log.error("Failed to index transcription", e);
-                throw new RuntimeException("Failed to index transcription", e);
-            }
-        });
+        Map<String, Object> source = transcriptionMapper.toIndexSource(transcription);
+        IndexRequest request = new IndexRequest(config.getTranscriptionIndexName())
+                .id(transcription.transcriptionId())
+                .source(source, XContentType.JSON);
+
+        return bulkProcessor.add(request)
+                .thenApply(response -> {
+                    log.info("Transcription indexed: {}", response.getId());
+                    return response.getId();
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to index transcription", ex);
+                    throw new RuntimeException("Failed to index transcription", ex);
+                });
     }
 
     /**
@@ -196,23 +305,21 @@ public CompletableFuture<String> indexTranscription(TranscriptionResult transcri
      * @return ID индексированного напоминания
      */
     public CompletableFuture<String> indexReminder(ReminderRecord reminder) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Map<String, Object> source = reminderMapper.toIndexSource(reminder);
-                String indexName = config.getReminderIndexName();
-
-                IndexRequest request = new IndexRequest(indexName)
-                        .id(reminder.reminderId())
-                        .source(source, XContentType.JSON);
-
-                var response = openSearchClient.index(request, RequestOptions.DEFAULT);
-                log.info("Reminder indexed: {}", response.getId());
-                return response.getId();
-            } catch (IOException e) {
-                log.error("Failed to index reminder", e);
-                throw new RuntimeException("Failed to index reminder", e);
-            }
-        });
+        Map<String, Object> source = reminderMapper.toIndexSource(reminder);
+        IndexRequest request = new IndexRequest(config.getReminderIndexName())
+                .id(reminder.reminderId())
+                .source(source, XContentType.JSON);
+
+        return bulkProcessor.add(request)
+                .whenComplete((response, ex) -> invalidateReminder(reminder.reminderId(), reminder.userId()))
+                .thenApply(response -> {
+                    log.info("Reminder indexed: {}", response.getId());
+                    return response.getId();
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to index reminder", ex);
+                    throw new RuntimeException("Failed to index reminder", ex);
+                });
     }
 
     /**
@@ -222,39 +329,197 @@ public CompletableFuture<String> indexReminder(ReminderRecord reminder) {
      * @return список напоминаний в диапазоне ±5 минут от времени
      */
     public CompletableFuture<List<ReminderRecord>> findRemindersByTime(LocalDateTime time) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
-
-                BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
-                        .must(QueryBuilders.termQuery("status", "SCHEDULED"))
-                        .must(QueryBuilders.termQuery("notification_sent", false));
-
-                RangeQueryBuilder rangeQuery = QueryBuilders.rangeQuery("scheduled_time")
-                        .gte(time.minusMinutes(5))
-                        .lte(time.plusMinutes(5))
-                        .format("strict_date_optional_time");
-
-                boolQuery.must(rangeQuery);
-                sourceBuilder.query(boolQuery);
-                sourceBuilder.size(100);
-                sourceBuilder.sort("scheduled_time", SortOrder.ASC);
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
+                .must(QueryBuilders.termQuery("status", "SCHEDULED"))
+                .must(QueryBuilders.termQuery("notification_sent", false));
+
+        RangeQueryBuilder rangeQuery = QueryBuilders.rangeQuery("scheduled_time")
+                .gte(time.minusMinutes(5))
+                .lte(time.plusMinutes(5))
+                .format("strict_date_optional_time");
+
+        boolQuery.must(rangeQuery);
+        sourceBuilder.query(boolQuery);
+        sourceBuilder.size(100);
+        sourceBuilder.fetchSource(ReminderIndexMapper.REMINDER_SOURCE_FIELDS, null);
+        sourceBuilder.sort("scheduled_time", SortOrder.ASC);
+
+        SearchRequest request = new SearchRequest(config.getReminderIndexName())
+                .source(sourceBuilder);
+
+        return search("find_reminders_by_time", request)
+                .thenApply(this::mapReminderHits)
+                .exceptionally(ex -> {
+                    log.error("Failed to search reminders", ex);
+                    throw new RuntimeException("Failed to search reminders", ex);
+                });
+    }
 
-                SearchRequest request = new SearchRequest(config.getReminderIndexName())
-                        .source(sourceBuilder);
+    /**
+     * Находит страницу наступивших и ещё не отправленных напоминаний диспетчера.
+     * <p>
+     * Выбираются напоминания со статусом SCHEDULED, привязанные к правилу диспетчера,
+     * со временем выполнения до конца временной корзины, от самых ранних. Захваченные
+     * напоминания перестают попадать в выборку, пока не истечёт аренда захвата: захват
+     * старше {@code claimedBefore} без перевода в TRIGGERED означает, что экземпляр
+     * диспетчера упал между захватом и отправкой, и напоминание выбирается снова.
+     * Курсор search_after не пропускает оставшиеся при повторной выборке до обновления индекса.
+     *
+     * @param ruleName имя правила диспетчера
+     * @param bucketEnd конец временной корзины (не включительно)
+     * @param claimedBefore захваты раньше этого момента считаются брошенными
+     * @param limit размер страницы
+     * @param cursor токен продолжения из предыдущей страницы (null — первая страница)
+     * @return страница напоминаний с токеном следующей страницы
+     */
+    public CompletableFuture<ReminderPage> findDueReminders(String ruleName,
+                                                            LocalDateTime bucketEnd,
+                                                            Instant claimedBefore,
+                                                            int limit,
+                                                            String cursor) {
+        BoolQueryBuilder unclaimedOrStale = QueryBuilders.boolQuery()
+                .should(QueryBuilders.termQuery("notification_sent", false))
+                .should(QueryBuilders.rangeQuery("claimed_at").lt(claimedBefore.toEpochMilli()))
+                .minimumShouldMatch(1);
+
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termQuery("eventbridge_rule_name", ruleName))
+                .filter(QueryBuilders.termQuery("status", ReminderRecord.ReminderStatus.SCHEDULED.toString()))
+                .filter(unclaimedOrStale)
+                .filter(QueryBuilders.rangeQuery("scheduled_time")
+                        .lt(bucketEnd.format(DateTimeFormatter.ISO_DATE_TIME)));
+
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        sourceBuilder.query(boolQuery);
+        sourceBuilder.size(limit + 1);
+        sourceBuilder.fetchSource(ReminderIndexMapper.REMINDER_SOURCE_FIELDS, null);
+        sourceBuilder.sort("scheduled_time", SortOrder.ASC);
+        sourceBuilder.sort("reminder_id", SortOrder.ASC);
+        if (cursor != null && !cursor.isBlank()) {
+            sourceBuilder.searchAfter(decodeCursor(cursor));
+        }
 
-                SearchResponse response = openSearchClient.search(request, RequestOptions.DEFAULT);
+        SearchRequest request = new SearchRequest(config.getReminderIndexName())
+                .source(sourceBuilder);
+
+        return search("find_due_reminders", request)
+                .thenApply(response -> {
+                    SearchHit[] hits = response.getHits().getHits();
+                    boolean hasMore = hits.length > limit;
+                    SearchHit[] pageHits = hasMore ? Arrays.copyOf(hits, limit) : hits;
+
+                    List<ReminderRecord> reminders = Arrays.stream(pageHits)
+                            .map(hit -> reminderMapper.parseReminderSource(hit.getSourceRef(), hit.getId()))
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList());
+
+                    String nextCursor = hasMore
+                            ? encodeCursor(pageHits[pageHits.length - 1].getSortValues())
+                            : null;
+                    return new ReminderPage(reminders, nextCursor);
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to search due reminders", ex);
+                    throw new RuntimeException("Failed to search due reminders", ex);
+                });
+    }
 
-                return Arrays.stream(response.getHits().getHits())
-                        .map(hit -> reminderMapper.mapToReminderRecord(hit.getSourceAsMap(), hit.getId()))
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
+    /**
+     * Атомарно захватывает напоминание для отправки.
+     * <p>
+     * Скрипт выставляет notification_sent и время захвата claimed_at, только если напоминание
+     * ещё в статусе SCHEDULED и не захвачено либо его захват старше {@code claimedBefore},
+     * поэтому при нескольких экземплярах диспетчера напоминание отправляет один из них.
+     * Захват завершается через {@link #completeClaim} с тем же {@code claimedAt}:
+     * после отправки напоминание переводится в TRIGGERED, при ошибке захват снимается.
+     *
+     * @param reminderId ID напоминания
+     * @param claimedBefore захваты раньше этого момента считаются брошенными
+     * @param claimedAt время захвата, сохраняемое в claimed_at
+     * @return true если напоминание захвачено этим вызовом
+     */
+    public CompletableFuture<Boolean> claimReminder(String reminderId, Instant claimedBefore, Instant claimedAt) {
+        Script script = new Script(ScriptType.INLINE, "painless",
+                "if (ctx._source.status != params.scheduled || (ctx._source.notification_sent == true "
+                        + "&& (ctx._source.claimed_at == null || ctx._source.claimed_at >= params.claimedBefore))) "
+                        + "{ ctx.op = 'noop' } "
+                        + "else { ctx._source.notification_sent = true; ctx._source.claimed_at = params.claimedAt; "
+                        + "ctx._source.updated_at = params.now }",
+                Map.of("scheduled", ReminderRecord.ReminderStatus.SCHEDULED.toString(),
+                        "claimedBefore", claimedBefore.toEpochMilli(),
+                        "claimedAt", claimedAt.toEpochMilli(),
+                        "now", LocalDateTime.now().toString()));
+
+        UpdateRequest request = new UpdateRequest(config.getReminderIndexName(), reminderId)
+                .script(script)
+                .fetchSource(new String[]{"user_id"}, null);
+
+        return bulkProcessor.add(request)
+                .whenComplete((response, ex) -> {
+                    String userId = null;
+                    if (response instanceof UpdateResponse updateResponse && updateResponse.getGetResult() != null) {
+                        userId = (String) updateResponse.getGetResult().sourceAsMap().get("user_id");
+                    }
+                    invalidateReminder(reminderId, userId);
+                })
+                .thenApply(response -> response.getResult() == DocWriteResponse.Result.UPDATED)
+                .exceptionally(ex -> {
+                    log.error("Failed to claim reminder: {}", reminderId, ex);
+                    throw new RuntimeException("Failed to claim reminder", ex);
+                });
+    }
 
-            } catch (IOException e) {
-                log.error("Failed to search reminders", e);
-                throw new RuntimeException("Failed to search reminders", e);
-            }
-        });
+    /**
+     * Завершает захват напоминания, сделанный через {@link #claimReminder}.
+     * <p>
+     * Скрипт меняет статус и notification_sent, только если напоминание всё ещё в статусе
+     * SCHEDULED и claimed_at совпадает с {@code claimedAt}. Если за время отправки пользователь
+     * отменил или изменил напоминание (полная переиндексация сбрасывает claimed_at) либо захват
+     * перехватил другой экземпляр диспетчера, обновление не выполняется.
+     * При возврате в SCHEDULED время захвата удаляется.
+     *
+     * @param reminderId ID напоминания
+     * @param claimedAt время захвата, переданное в {@link #claimReminder}
+     * @param status новый статус (TRIGGERED после отправки, SCHEDULED для снятия захвата)
+     * @param notificationSent флаг отправки уведомления
+     * @return true если захват был актуален и напоминание обновлено
+     */
+    public CompletableFuture<Boolean> completeClaim(String reminderId,
+                                                    Instant claimedAt,
+                                                    ReminderRecord.ReminderStatus status,
+                                                    boolean notificationSent) {
+        Script script = new Script(ScriptType.INLINE, "painless",
+                "if (ctx._source.status != params.scheduled || ctx._source.claimed_at == null "
+                        + "|| ctx._source.claimed_at != params.claimedAt) { ctx.op = 'noop' } "
+                        + "else { ctx._source.status = params.status; "
+                        + "ctx._source.notification_sent = params.notificationSent; "
+                        + "if (params.status == params.scheduled) { ctx._source.remove('claimed_at') } "
+                        + "ctx._source.updated_at = params.now }",
+                Map.of("scheduled", ReminderRecord.ReminderStatus.SCHEDULED.toString(),
+                        "claimedAt", claimedAt.toEpochMilli(),
+                        "status", status.toString(),
+                        "notificationSent", notificationSent,
+                        "now", LocalDateTime.now().toString()));
+
+        UpdateRequest request = new UpdateRequest(config.getReminderIndexName(), reminderId)
+                .script(script)
+                .fetchSource(new String[]{"user_id"}, null);
+
+        return bulkProcessor.add(request)
+                .whenComplete((response, ex) -> {
+                    String userId = null;
+                    if (response instanceof UpdateResponse updateResponse && updateResponse.getGetResult() != null) {
+                        userId = (String) updateResponse.getGetResult().sourceAsMap().get("user_id");
+                    }
+                    invalidateReminder(reminderId, userId);
+                })
+                .thenApply(response -> response.getResult() == DocWriteResponse.Result.UPDATED)
+                .exceptionally(ex -> {
+                    log.error("Failed to complete claim of reminder: {}", reminderId, ex);
+                    throw new RuntimeException("Failed to complete reminder claim", ex);
+                });
     }
 
     /**
@@ -265,28 +530,102 @@ public CompletableFuture<List<ReminderRecord>> findRemindersByTime(LocalDateTime
      * @return список напоминаний пользователя
      */
     public CompletableFuture<List<ReminderRecord>> findRemindersByUser(String userId, int limit) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
-                sourceBuilder.query(QueryBuilders.termQuery("user_id", userId));
-                sourceBuilder.size(limit);
-                sourceBuilder.sort("scheduled_time", SortOrder.DESC);
+        return findRemindersByUser(userId, null, limit, null)
+                .thenApply(ReminderPage::reminders);
+    }
+
+    /**
+     * Находит страницу напоминаний пользователя.
+     * <p>
+     * Фильтр по статусу выполняется в OpenSearch. Страницы выбираются через
+     * {@code search_after} со стабильной сортировкой по scheduled_time и reminder_id,
+     * поэтому стоимость запроса не зависит от номера страницы.
+     *
+     * @param userId ID пользователя
+     * @param status фильтр по статусу (null — все статусы)
+     * @param limit размер страницы (ограничивается {@link OpenSearchConfig#getMaxPageSize()})
+     * @param cursor токен продолжения из предыдущей страницы (null — первая страница)
+     * @return страница напоминаний с токеном следующей страницы
+     * @throws IllegalArgumentException если токен продолжения некорректен
+     */
+    public CompletableFuture<ReminderPage> findRemindersByUser(String userId,
+                                                               ReminderRecord.ReminderStatus status,
+                                                               int limit,
+                                                               String cursor) {
+        int pageSize = Math.max(1, Math.min(limit, config.getMaxPageSize()));
+
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termQuery("user_id", userId));
+        if (status != null) {
+            boolQuery.filter(QueryBuilders.termQuery("status", status.toString()));
+        }
 
-                SearchRequest request = new SearchRequest(config.getReminderIndexName())
-                        .source(sourceBuilder);
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        sourceBuilder.query(boolQuery);
+        sourceBuilder.size(pageSize + 1);
+        sourceBuilder.fetchSource(ReminderIndexMapper.REMINDER_SOURCE_FIELDS, null);
+        sourceBuilder.sort("scheduled_time", SortOrder.DESC);
+        sourceBuilder.sort("reminder_id", SortOrder.DESC);
+        if (cursor != null && !cursor.isBlank()) {
+            sourceBuilder.searchAfter(decodeCursor(cursor));
+        }
 
-                SearchResponse response = openSearchClient.search(request, RequestOptions.DEFAULT);
+        SearchRequest request = new SearchRequest(config.getReminderIndexName())
+                .source(sourceBuilder);
+
+        return search("find_reminders_by_user", request)
+                .thenApply(response -> {
+                    SearchHit[] hits = response.getHits().getHits();
+                    boolean hasMore = hits.length > pageSize;
+                    SearchHit[] pageHits = hasMore ? Arrays.copyOf(hits, pageSize) : hits;
+
+                    List<ReminderRecord> reminders = Arrays.stream(pageHits)
+                            .map(hit -> reminderMapper.parseReminderSource(hit.getSourceRef(), hit.getId()))
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList());
+
+                    String nextCursor = hasMore
+                            ? encodeCursor(pageHits[pageHits.length - 1].getSortValues())
+                            : null;
+                    return new ReminderPage(reminders, nextCursor);
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to search user reminders", ex);
+                    throw new RuntimeException("Failed to search user reminders", ex);
+                });
+    }
 
-                return Arrays.stream(response.getHits().getHits())
-                        .map(hit -> reminderMapper.mapToReminderRecord(hit.getSourceAsMap(), hit.getId()))
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
+    /**
+     * Кодирует значения сортировки последнего документа страницы в токен продолжения.
+     *
+     * @param sortValues значения сортировки (scheduled_time в миллисекундах, reminder_id)
+     * @return токен в base64url
+     */
+    private static String encodeCursor(Object[] sortValues) {
+        String raw = sortValues[0] + CURSOR_SEPARATOR + sortValues[1];
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
 
-            } catch (IOException e) {
-                log.error("Failed to search user reminders", e);
-                throw new RuntimeException("Failed to search user reminders", e);
+    /**
+     * Декодирует токен продолжения в значения для search_after.
+     *
+     * @param cursor токен в base64url
+     * @return значения сортировки
+     * @throws IllegalArgumentException если токен некорректен
+     */
+    private static Object[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Malformed cursor");
             }
-        });
+            long scheduledTime = Long.parseLong(raw.substring(0, separator));
+            return new Object[]{scheduledTime, raw.substring(separator + 1)};
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
     }
 
     /**
@@ -296,24 +635,33 @@ public CompletableFuture<List<ReminderRecord>> findRemindersByUser(String userId
      * @return Optional с напоминанием или пустой, если не найдено
      */
     public CompletableFuture<Optional<ReminderRecord>> getReminderById(String reminderId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                GetRequest request = new GetRequest(config.getReminderIndexName(), reminderId);
-                GetResponse response = openSearchClient.get(request, RequestOptions.DEFAULT);
-
-                if (!response.isExists()) {
-                    return Optional.empty();
-                }
-
-                Map<String, Object> source = response.getSourceAsMap();
-                ReminderRecord record = reminderMapper.mapToReminderRecord(source, reminderId);
-                return Optional.ofNullable(record);
+        return reminderCache.get(reminderId, (id, executor) -> loadReminder(id))
+                .thenApply(Optional::ofNullable);
+    }
 
-            } catch (IOException e) {
-                log.error("Failed to get reminder by id: {}", reminderId, e);
-                throw new RuntimeException("Failed to get reminder", e);
-            }
-        });
+    /**
+     * Загружает напоминание из OpenSearch в обход кэша.
+     *
+     * @param reminderId ID напоминания
+     * @return напоминание или null, если не найдено
+     */
+    private CompletableFuture<ReminderRecord> loadReminder(String reminderId) {
+        GetRequest request = new GetRequest(config.getReminderIndexName(), reminderId)
+                .fetchSourceContext(new FetchSourceContext(true, ReminderIndexMapper.REMINDER_SOURCE_FIELDS, null));
+
+        return requestExecutor.<GetResponse>execute("get_reminder",
+                        (client, listener) -> client.getAsync(request, RequestOptions.DEFAULT, listener))
+                .thenApply(response -> {
+                    if (!response.isExists()) {
+                        return null;
+                    }
+
+                    return reminderMapper.parseReminderSource(response.getSourceAsBytesRef(), reminderId);
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to get reminder by id: {}", reminderId, ex);
+                    throw new RuntimeException("Failed to get reminder", ex);
+                });
     }
 
     /**
@@ -327,25 +675,31 @@ public CompletableFuture<Optional<ReminderRecord>> getReminderById(String remind
     public CompletableFuture<Boolean> updateReminderStatus(String reminderId,
                                                            ReminderRecord.ReminderStatus status,
                                                            boolean notificationSent) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Map<String, Object> updates = new HashMap<>();
-                updates.put("status", status.toString());
-                updates.put("notification_sent", notificationSent);
-                updates.put("updated_at", LocalDateTime.now());
-
-                UpdateRequest request = new UpdateRequest(config.getReminderIndexName(), reminderId)
-                        .doc(updates, XContentType.JSON);
-
-                UpdateResponse response = openSearchClient.update(request, RequestOptions.DEFAULT);
-                log.info("Updated reminder {} status to {}", reminderId, status);
-                return response.getResult() == UpdateResponse.Result.UPDATED;
-
-            } catch (IOException e) {
-                log.error("Failed to update reminder status: {}", reminderId, e);
-                throw new RuntimeException("Failed to update reminder status", e);
-            }
-        });
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("status", status.toString());
+        updates.put("notification_sent", notificationSent);
+        updates.put("updated_at", LocalDateTime.now());
+
+        UpdateRequest request = new UpdateRequest(config.getReminderIndexName(), reminderId)
+                .doc(updates, XContentType.JSON)
+                .fetchSource(new String[]{"user_id"}, null);
+
+        return bulkProcessor.add(request)
+                .whenComplete((response, ex) -> {
+                    String userId = null;
+                    if (response instanceof UpdateResponse updateResponse && updateResponse.getGetResult() != null) {
+                        userId = (String) updateResponse.getGetResult().sourceAsMap().get("user_id");
+                    }
+                    invalidateReminder(reminderId, userId);
+                })
+                .thenApply(response -> {
+                    log.info("Updated reminder {} status to {}", reminderId, status);
+                    return response.getResult() == DocWriteResponse.Result.UPDATED;
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to update reminder status: {}", reminderId, ex);
+                    throw new RuntimeException("Failed to update reminder status", ex);
+                });
     }
 
     /**
@@ -355,19 +709,49 @@ public CompletableFuture<Boolean> updateReminderStatus(String reminderId,
      * @return true если удалено успешно
      */
     public CompletableFuture<Boolean> deleteReminder(String reminderId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                DeleteRequest request = new DeleteRequest(config.getReminderIndexName(), reminderId);
-                DeleteResponse response = openSearchClient.delete(request, RequestOptions.DEFAULT);
-
-                log.info("Deleted reminder: {}", reminderId);
-                return response.getResult() == DeleteResponse.Result.DELETED;
+        DeleteRequest request = new DeleteRequest(config.getReminderIndexName(), reminderId);
+
+        return resolveUserId(reminderId)
+                .thenCompose(userId -> requestExecutor.<DeleteResponse>execute("delete_reminder",
+                                (client, listener) -> client.deleteAsync(request, RequestOptions.DEFAULT, listener))
+                        .whenComplete((response, ex) -> invalidateReminder(reminderId, userId)))
+                .thenApply(response -> {
+                    log.info("Deleted reminder: {}", reminderId);
+                    return response.getResult() == DeleteResponse.Result.DELETED;
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to delete reminder: {}", reminderId, ex);
+                    throw new RuntimeException("Failed to delete reminder", ex);
+                });
+    }
 
-            } catch (IOException e) {
-                log.error("Failed to delete reminder: {}", reminderId, e);
-                throw new RuntimeException("Failed to delete reminder", e);
+    /**
+     * Определяет владельца напоминания для сброса кэша статистики.
+     *
+     * @param reminderId ID напоминания
+     * @return ID пользователя или null, если напоминание не найдено
+     */
+    private CompletableFuture<String> resolveUserId(String reminderId) {
+        CompletableFuture<ReminderRecord> cached = reminderCache.getIfPresent(reminderId);
+        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+            ReminderRecord record = cached.join();
+            if (record != null) {
+                return CompletableFuture.completedFuture(record.userId());
             }
-        });
+        }
+
+        GetRequest request = new GetRequest(config.getReminderIndexName(), reminderId)
+                .fetchSourceContext(new FetchSourceContext(true, new String[]{"user_id"}, null));
+
+        return requestExecutor.<GetResponse>execute("get_reminder_owner",
+                        (client, listener) -> client.getAsync(request, RequestOptions.DEFAULT, listener))
+                .thenApply(response -> response.isExists()
+                        ? (String) response.getSourceAsMap().get("user_id")
+                        : null)
+                .exceptionally(ex -> {
+                    log.warn("Failed to resolve owner of reminder {}: {}", reminderId, ex.getMessage());
+                    return null;
+                });
     }
 
     /**
@@ -381,36 +765,31 @@ public CompletableFuture<Boolean> deleteReminder(String reminderId) {
     public CompletableFuture<List<TranscriptionResult>> searchTranscriptions(String query,
                                                                              String userId,
                                                                              int limit) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
-
-                BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
-                        .must(QueryBuilders.matchQuery("transcribed_text", query));
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
 
-                if (userId != null) {
-                    boolQuery.must(QueryBuilders.termQuery("user_id", userId));
-                }
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
+                .must(QueryBuilders.matchQuery("transcribed_text", query));
 
-                sourceBuilder.query(boolQuery);
-                sourceBuilder.size(limit);
-                sourceBuilder.sort("completed_at", SortOrder.DESC);
+        if (userId != null) {
+            boolQuery.must(QueryBuilders.termQuery("user_id", userId));
+        }
 
-                SearchRequest request = new SearchRequest(config.getTranscriptionIndexName())
-                        .source(sourceBuilder);
+        sourceBuilder.query(boolQuery);
+        sourceBuilder.size(limit);
+        sourceBuilder.sort("completed_at", SortOrder.DESC);
 
-                SearchResponse response = openSearchClient.search(request, RequestOptions.DEFAULT);
+        SearchRequest request = new SearchRequest(config.getTranscriptionIndexName())
+                .source(sourceBuilder);
 
-                return Arrays.stream(response.getHits().getHits())
+        return search("search_transcriptions", request)
+                .thenApply(response -> Arrays.stream(response.getHits().getHits())
                         .map(hit -> transcriptionMapper.mapToTranscriptionResult(hit.getSourceAsMap(), hit.getId()))
                         .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
-
-            } catch (IOException e) {
-                log.error("Failed to search transcriptions", e);
-                throw new RuntimeException("Failed to search transcriptions", e);
-            }
-        });
+                        .collect(Collectors.toList()))
+                .exceptionally(ex -> {
+                    log.error("Failed to search transcriptions", ex);
+                    throw new RuntimeException("Failed to search transcriptions", ex);
+                });
     }
 
     /**
@@ -420,44 +799,133 @@ public CompletableFuture<List<TranscriptionResult>> searchTranscriptions(String
      * @return карта со статистикой по статусам
      */
     public CompletableFuture<Map<String, Object>> getReminderStats(String userId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Map<String, Object> stats = new HashMap<>();
-
-                SearchSourceBuilder totalBuilder = new SearchSourceBuilder();
-                totalBuilder.query(QueryBuilders.termQuery("user_id", userId));
-                totalBuilder.size(0);
-
-                SearchRequest totalRequest = new SearchRequest(config.getReminderIndexName())
-                        .source(totalBuilder);
+        return getReminderStats(userId, false, false);
+    }
 
-                SearchResponse totalResponse = openSearchClient.search(totalRequest, RequestOptions.DEFAULT);
-                stats.put("total", totalResponse.getHits().getTotalHits().value);
+    /**
+     * Получает статистику по напоминаниям пользователя с дополнительными разрезами.
+     * <p>
+     * Вся статистика считается одним запросом с агрегациями:
+     * <ul>
+     *     <li>{@code total} и количество по каждому статусу (ключи в нижнем регистре)</li>
+     *     <li>{@code byIntent} — количество по интентам (если {@code byIntent})</li>
+     *     <li>{@code byDay} — количество по дням scheduled_time (если {@code byDay})</li>
+     * </ul>
+     * Результат кэшируется по пользователю и сбрасывается при записи его напоминаний.
+     *
+     * @param userId ID пользователя
+     * @param byIntent добавить разрез по интентам
+     * @param byDay добавить разрез по дням
+     * @return карта со статистикой
+     */
+    public CompletableFuture<Map<String, Object>> getReminderStats(String userId,
+                                                                  boolean byIntent,
+                                                                  boolean byDay) {
+        return statsCache.get(new StatsKey(userId, byIntent, byDay), (key, executor) -> loadReminderStats(key));
+    }
 
-                for (ReminderRecord.ReminderStatus status : ReminderRecord.ReminderStatus.values()) {
-                    SearchSourceBuilder statusBuilder = new SearchSourceBuilder();
-                    BoolQueryBuilder query = QueryBuilders.boolQuery()
-                            .must(QueryBuilders.termQuery("user_id", userId))
-                            .must(QueryBuilders.termQuery("status", status.toString()));
+    private CompletableFuture<Map<String, Object>> loadReminderStats(StatsKey key) {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        sourceBuilder.query(QueryBuilders.termQuery("user_id", key.userId()));
+        sourceBuilder.size(0);
+        sourceBuilder.trackTotalHits(true);
+        sourceBuilder.aggregation(AggregationBuilders.terms(STATUS_AGGREGATION)
+                .field("status")
+                .size(ReminderRecord.ReminderStatus.values().length));
+
+        if (key.byIntent()) {
+            sourceBuilder.aggregation(AggregationBuilders.terms(INTENT_AGGREGATION)
+                    .field("intent")
+                    .size(config.getStatsIntentBuckets()));
+        }
+        if (key.byDay()) {
+            sourceBuilder.aggregation(AggregationBuilders.dateHistogram(DAY_AGGREGATION)
+                    .field("scheduled_time")
+                    .calendarInterval(DateHistogramInterval.DAY)
+                    .format("yyyy-MM-dd")
+                    .minDocCount(1));
+        }
 
-                    statusBuilder.query(query);
-                    statusBuilder.size(0);
+        SearchRequest request = new SearchRequest(config.getReminderIndexName())
+                .source(sourceBuilder);
+
+        return search("reminder_stats", request)
+                .thenApply(response -> {
+                    Map<String, Object> stats = new LinkedHashMap<>();
+                    stats.put("total", response.getHits().getTotalHits().value);
+
+                    Map<String, Long> byStatus = termCounts(response.getAggregations().get(STATUS_AGGREGATION));
+                    for (ReminderRecord.ReminderStatus status : ReminderRecord.ReminderStatus.values()) {
+                        stats.put(status.toString().toLowerCase(), byStatus.getOrDefault(status.toString(), 0L));
+                    }
+
+                    if (key.byIntent()) {
+                        stats.put("byIntent", termCounts(response.getAggregations().get(INTENT_AGGREGATION)));
+                    }
+                    if (key.byDay()) {
+                        Histogram histogram = response.getAggregations().get(DAY_AGGREGATION);
+                        Map<String, Long> byDayCounts = new LinkedHashMap<>();
+                        for (Histogram.Bucket bucket : histogram.getBuckets()) {
+                            byDayCounts.put(bucket.getKeyAsString(), bucket.getDocCount());
+                        }
+                        stats.put("byDay", byDayCounts);
+                    }
+
+                    return Collections.unmodifiableMap(stats);
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to get reminder stats", ex);
+                    throw new RuntimeException("Failed to get reminder stats", ex);
+                });
+    }
 
-                    SearchRequest statusRequest = new SearchRequest(config.getReminderIndexName())
-                            .source(statusBuilder);
+    private Map<String, Long> termCounts(Terms terms) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Terms.Bucket bucket : terms.getBuckets()) {
+            counts.put(bucket.getKeyAsString(), bucket.getDocCount());
+        }
+        return counts;
+    }
 
-                    SearchResponse statusResponse = openSearchClient.search(statusRequest, RequestOptions.DEFAULT);
-                    stats.put(status.toString().toLowerCase(),
-                            statusResponse.getHits().getTotalHits().value);
-                }
+    /**
+     * Сбрасывает закэшированное напоминание и статистику его владельца.
+     *
+     * @param reminderId ID напоминания
+     * @param userId ID владельца (null — статистика не сбрасывается)
+     */
+    private void invalidateReminder(String reminderId, String userId) {
+        reminderCache.synchronous().invalidate(reminderId);
+        invalidateStats(userId);
+    }
 
-                return stats;
+    /**
+     * Сбрасывает закэшированную статистику пользователя.
+     * <p>
+     * Записанный документ попадает в агрегации только после обновления индекса, поэтому
+     * статистика, загруженная до него, сбрасывается повторно через
+     * {@link OpenSearchConfig#getStatsRefreshIntervalMs()}.
+     *
+     * @param userId ID пользователя (null игнорируется)
+     */
+    private void invalidateStats(String userId) {
+        if (userId == null) {
+            return;
+        }
+        List<StatsKey> keys = List.of(
+                new StatsKey(userId, false, false),
+                new StatsKey(userId, true, false),
+                new StatsKey(userId, false, true),
+                new StatsKey(userId, true, true)
+        );
+        statsCache.synchronous().invalidateAll(keys);
+        CompletableFuture.runAsync(() -> statsCache.synchronous().invalidateAll(keys),
+                CompletableFuture.delayedExecutor(config.getStatsRefreshIntervalMs(), TimeUnit.MILLISECONDS));
+    }
 
-            } catch (IOException e) {
-                log.error("Failed to get reminder stats", e);
-                throw new RuntimeException("Failed to get reminder stats", e);
-            }
-        });
+    /**
+     * Ключ кэша статистики: пользователь и набор разрезов.
+     */
+    private record StatsKey(String userId, boolean byIntent, boolean byDay) {
     }
 
     /**
@@ -469,22 +937,21 @@ public CompletableFuture<Map<String, Object>> getReminderStats(String userId) {
      */
     public CompletableFuture<Boolean> updateReminderEventBridgeRule(
             String reminderId, String ruleName) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Map<String, Object> updates = new HashMap<>();
-                updates.put("eventbridge_rule_name", ruleName);
-                updates.put("updated_at", LocalDateTime.now());
-
-                UpdateRequest request = new UpdateRequest(config.getReminderIndexName(), reminderId)
-                        .doc(updates, XContentType.JSON);
-
-                UpdateResponse response = openSearchClient.update(request, RequestOptions.DEFAULT);
-                return response.getResult() == UpdateResponse.Result.UPDATED;
-            } catch (IOException e) {
-                log.error("Failed to update reminder rule: {}", reminderId, e);
-                throw new RuntimeException("Failed to update reminder rule", e);
-            }
-        });
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("eventbridge_rule_name", ruleName);
+        updates.put("updated_at", LocalDateTime.now());
+
+        UpdateRequest request = new UpdateRequest(config.getReminderIndexName(), reminderId)
+                .doc(updates, XContentType.JSON);
+
+        return requestExecutor.<UpdateResponse>execute("update_reminder_rule",
+                        (client, listener) -> client.updateAsync(request, RequestOptions.DEFAULT, listener))
+                .whenComplete((response, ex) -> reminderCache.synchronous().invalidate(reminderId))
+                .thenApply(response -> response.getResult() == UpdateResponse.Result.UPDATED)
+                .exceptionally(ex -> {
+                    log.error("Failed to update reminder rule: {}", reminderId, ex);
+                    throw new RuntimeException("Failed to update reminder rule", ex);
+                });
     }
 
     /**
@@ -497,72 +964,70 @@ public CompletableFuture<Boolean> updateReminderEventBridgeRule(
      */
     public CompletableFuture<AutocompleteResult> autocompleteReminders(
             String userId, String query, int limit) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
-
-                BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
-                        .must(QueryBuilders.termQuery("user_id", userId))
-                        .should(QueryBuilders.matchQuery("extracted_action.autocomplete", query).boost(2.0f))
-                        .should(QueryBuilders.matchQuery("original_text.autocomplete", query).boost(1.5f))
-                        .should(QueryBuilders.matchQuery("extracted_action", query).boost(1.0f))
-                        .should(QueryBuilders.matchQuery("original_text", query).boost(0.8f));
-
-                sourceBuilder.query(boolQuery);
-                sourceBuilder.size(limit);
-                sourceBuilder.sort("_score", SortOrder.DESC);
-                sourceBuilder.sort("created_at", SortOrder.DESC);
-
-                HighlightBuilder highlightBuilder = new HighlightBuilder();
-                highlightBuilder.preTags("");
-                highlightBuilder.field("extracted_action");
-                highlightBuilder.field("original_text");
-                highlightBuilder.postTags("");
-                highlightBuilder.fragmentSize(50);
-                highlightBuilder.numOfFragments(1);
-                sourceBuilder.highlighter(highlightBuilder);
-
-                SearchRequest request = new SearchRequest(config.getReminderIndexName())
-                        .source(sourceBuilder);
-
-                SearchResponse response = openSearchClient.search(request, RequestOptions.DEFAULT);
-
-                List<AutocompleteResult.Suggestion> suggestions =
-                        Arrays.stream(response.getHits().getHits())
-                                .map(hit -> {
-                                    Map<String, Object> source = hit.getSourceAsMap();
-                                    String action = (String) source.get("extracted_action");
-                                    String text = (String) source.get("original_text");
-
-                                    Map<String, HighlightField> highlights = hit.getHighlightFields();
-                                    if (highlights != null && !highlights.isEmpty()) {
-                                        HighlightField highlight = highlights.values().iterator().next();
-                                        if (highlight != null && highlight.getFragments() != null) {
-                                            action = highlight.getFragments()[0].string();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
+                .must(QueryBuilders.termQuery("user_id", userId))
+                .should(QueryBuilders.matchQuery("extracted_action.autocomplete", query).boost(2.0f))
+                .should(QueryBuilders.matchQuery("original_text.autocomplete", query).boost(1.5f))
+                .should(QueryBuilders.matchQuery("extracted_action", query).boost(1.0f))
+                .should(QueryBuilders.matchQuery("original_text", query).boost(0.8f));
+
+        sourceBuilder.query(boolQuery);
+        sourceBuilder.size(limit);
+        sourceBuilder.fetchSource(ReminderIndexMapper.AUTOCOMPLETE_SOURCE_FIELDS, null);
+        sourceBuilder.sort("_score", SortOrder.DESC);
+        sourceBuilder.sort("created_at", SortOrder.DESC);
+
+        HighlightBuilder highlightBuilder = new HighlightBuilder();
+        highlightBuilder.preTags("");
+        highlightBuilder.field("extracted_action");
+        highlightBuilder.field("original_text");
+        highlightBuilder.postTags("");
+        highlightBuilder.fragmentSize(50);
+        highlightBuilder.numOfFragments(1);
+        sourceBuilder.highlighter(highlightBuilder);
+
+        SearchRequest request = new SearchRequest(config.getReminderIndexName())
+                .source(sourceBuilder);
+
+        return search("autocomplete_reminders", request)
+                .thenApply(response -> {
+                    List<AutocompleteResult.Suggestion> suggestions =
+                            Arrays.stream(response.getHits().getHits())
+                                    .map(hit -> {
+                                        AutocompleteResult.Suggestion suggestion = reminderMapper
+                                                .parseSuggestionSource(hit.getSourceRef(), hit.getId(), hit.getScore());
+                                        Map<String, HighlightField> highlights = hit.getHighlightFields();
+                                        if (suggestion == null || highlights == null || highlights.isEmpty()) {
+                                            return suggestion;
                                         }
-                                    }
-
-                                    return new AutocompleteResult.Suggestion(
-                                            hit.getId(),
-                                            action != null ? action : "",
-                                            text != null ? text : "",
-                                            hit.getScore()
-                                    );
-                                })
-                                .collect(Collectors.toList());
-
-                return new AutocompleteResult(
-                        userId,
-                        query,
-                        suggestions,
-                        (int) response.getHits().getTotalHits().value
-                );
 
-            } catch (IOException e) {
-                log.error("Failed to autocomplete reminders", e);
-                throw new RuntimeException("Failed to autocomplete reminders", e);
-            }
-        });
+                                        HighlightField highlight = highlights.values().iterator().next();
+                                        if (highlight == null || highlight.getFragments() == null) {
+                                            return suggestion;
+                                        }
+                                        return new AutocompleteResult.Suggestion(
+                                                suggestion.reminderId(),
+                                                highlight.getFragments()[0].string(),
+                                                suggestion.text(),
+                                                suggestion.score()
+                                        );
+                                    })
+                                    .filter(Objects::nonNull)
+                                    .collect(Collectors.toList());
+
+                    return new AutocompleteResult(
+                            userId,
+                            query,
+                            suggestions,
+                            (int) response.getHits().getTotalHits().value
+                    );
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to autocomplete reminders", ex);
+                    throw new RuntimeException("Failed to autocomplete reminders", ex);
+                });
     }
 
     /**
@@ -572,23 +1037,21 @@ public CompletableFuture<AutocompleteResult> autocompleteReminders(
      * @return true если обновлено успешно
      */
     public CompletableFuture<Boolean> updateReminder(ReminderRecord reminder) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Map<String, Object> source = reminderMapper.toIndexSource(reminder);
-                String indexName = config.getReminderIndexName();
-
-                IndexRequest request = new IndexRequest(indexName)
-                        .id(reminder.reminderId())
-                        .source(source, XContentType.JSON);
-
-                var response = openSearchClient.index(request, RequestOptions.DEFAULT);
-                log.info("Reminder updated: {}", response.getId());
-                return true;
-            } catch (IOException e) {
-                log.error("Failed to update reminder: {}", reminder.reminderId(), e);
-                throw new RuntimeException("Failed to update reminder", e);
-            }
-        });
+        Map<String, Object> source = reminderMapper.toIndexSource(reminder);
+        IndexRequest request = new IndexRequest(config.getReminderIndexName())
+                .id(reminder.reminderId())
+                .source(source, XContentType.JSON);
+
+        return bulkProcessor.add(request)
+                .whenComplete((response, ex) -> invalidateReminder(reminder.reminderId(), reminder.userId()))
+                .thenApply(response -> {
+                    log.info("Reminder updated: {}", response.getId());
+                    return true;
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to update reminder: {}", reminder.reminderId(), ex);
+                    throw new RuntimeException("Failed to update reminder", ex);
+                });
     }
 
     /**
@@ -605,39 +1068,44 @@ public CompletableFuture<List<ReminderRecord>> findRemindersByTimeRange(
             LocalDateTime startTime,
             LocalDateTime endTime,
             int limit) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
-
-                BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
-
-                if (userId != null && !userId.isBlank()) {
-                    boolQuery.must(QueryBuilders.termQuery("user_id", userId));
-                }
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
 
-                RangeQueryBuilder rangeQuery = QueryBuilders.rangeQuery("scheduled_time")
-                        .gte(startTime.format(DateTimeFormatter.ISO_DATE_TIME))
-                        .lte(endTime.format(DateTimeFormatter.ISO_DATE_TIME));
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
 
-                boolQuery.must(rangeQuery);
-                sourceBuilder.query(boolQuery);
-                sourceBuilder.size(limit);
-                sourceBuilder.sort("scheduled_time", SortOrder.ASC);
-
-                SearchRequest request = new SearchRequest(config.getReminderIndexName())
-                        .source(sourceBuilder);
+        if (userId != null && !userId.isBlank()) {
+            boolQuery.must(QueryBuilders.termQuery("user_id", userId));
+        }
 
-                SearchResponse response = openSearchClient.search(request, RequestOptions.DEFAULT);
+        RangeQueryBuilder rangeQuery = QueryBuilders.rangeQuery("scheduled_time")
+                .gte(startTime.format(DateTimeFormatter.ISO_DATE_TIME))
+                .lte(endTime.format(DateTimeFormatter.ISO_DATE_TIME));
+
+        boolQuery.must(rangeQuery);
+        sourceBuilder.query(boolQuery);
+        sourceBuilder.size(limit);
+        sourceBuilder.fetchSource(ReminderIndexMapper.REMINDER_SOURCE_FIELDS, null);
+        sourceBuilder.sort("scheduled_time", SortOrder.ASC);
+
+        SearchRequest request = new SearchRequest(config.getReminderIndexName())
+                .source(sourceBuilder);
+
+        return search("find_reminders_by_time_range", request)
+                .thenApply(this::mapReminderHits)
+                .exceptionally(ex -> {
+                    log.error("Failed to search reminders by time range", ex);
+                    throw new RuntimeException("Failed to search reminders by time range", ex);
+                });
+    }
 
-                return Arrays.stream(response.getHits().getHits())
-                        .map(hit -> reminderMapper.mapToReminderRecord(hit.getSourceAsMap(), hit.getId()))
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
+    private CompletableFuture<SearchResponse> search(String operation, SearchRequest request) {
+        return requestExecutor.execute(operation,
+                (client, listener) -> client.searchAsync(request, RequestOptions.DEFAULT, listener));
+    }
 
-            } catch (IOException e) {
-                log.error("Failed to search reminders by time range", e);
-                throw new RuntimeException("Failed to search reminders by time range", e);
-            }
-        });
+    private List<ReminderRecord> mapReminderHits(SearchResponse response) {
+        return Arrays.stream(response.getHits().getHits())
+                .map(hit -> reminderMapper.parseReminderSource(hit.getSourceRef(), hit.getId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
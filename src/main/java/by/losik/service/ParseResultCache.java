@@ -0,0 +1,162 @@
+package by.losik.service;
+
+import by.losik.config.GRPCConfig;
+import by.losik.config.MonitoringConfig;
+import by.losik.grpc.ParseResponse;
+import by.losik.grpc.TemporalExpression;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Кэш ответов NLP сервиса по нормализованному тексту напоминания.
+ * <p>
+ * Хранит ответ gRPC целиком, включая {@link TemporalExpression}, поэтому
+ * запланированное время пересчитывается для каждого запроса в
+ * {@link by.losik.service.mapper.GrpcRequestMapper#extractDateTime(TemporalExpression)}:
+ * <ul>
+ *     <li>Ключ — версия модели, язык и нормализованный текст (регистр, пробелы,
+ *     завершающая пунктуация не учитываются)</li>
+ *     <li>Параллельные запросы с одинаковым ключом ожидают один вызов NLP сервиса;
+ *     ошибки не кэшируются</li>
+ *     <li>ID напоминания из ответа не кэшируется — он принадлежит первому пользователю</li>
+ *     <li>Абсолютное время используется из кэша только в день разбора и только если
+ *     оно ещё не прошло (фразы вида «завтра в 9» зависят от даты)</li>
+ *     <li>При смене версии модели, о которой сообщает HealthCheck, кэш очищается</li>
+ * </ul>
+ * <p>
+ * Метрики hit/miss публикуются под именем кэша {@code nlp_parse}.
+ *
+ * @see GRPCService
+ * @see GRPCConfig
+ */
+@Singleton
+public class ParseResultCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ParseResultCache.class);
+
+    /** Версия модели до первого успешного health check */
+    private static final String UNKNOWN_MODEL_VERSION = "unknown";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\p{Punct}\\s]+$");
+
+    private final boolean enabled;
+    private final AsyncCache<CacheKey, CachedParse> cache;
+    private volatile String modelVersion = UNKNOWN_MODEL_VERSION;
+
+    /**
+     * Создаёт кэш ответов NLP сервиса.
+     *
+     * @param grpcConfig конфигурация gRPC (размер и TTL кэша)
+     * @param monitoringConfig конфигурация мониторинга для метрик кэша
+     */
+    @Inject
+    public ParseResultCache(GRPCConfig grpcConfig, MonitoringConfig monitoringConfig) {
+        this.enabled = grpcConfig.isParseCacheEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(grpcConfig.getParseCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(grpcConfig.getParseCacheTtlSeconds()))
+                .recordStats()
+                .buildAsync();
+
+        monitoringConfig.registerCache("nlp_parse", cache);
+    }
+
+    /**
+     * Проверяет, включён ли кэш.
+     *
+     * @return true если ответы NLP сервиса кэшируются
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Возвращает ответ из кэша или получает его через loader.
+     *
+     * @param text текст напоминания
+     * @param language код языка или null для автоопределения
+     * @param loader вызов NLP сервиса при промахе
+     * @return future с ответом NLP сервиса (без ID напоминания, если ответ из кэша)
+     */
+    public CompletableFuture<ParseResponse> getOrLoad(String text,
+                                                      String language,
+                                                      Supplier<CompletableFuture<ParseResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CacheKey key = new CacheKey(modelVersion, language != null ? language : "auto", normalize(text));
+        CompletableFuture<CachedParse> cached = cache.getIfPresent(key);
+        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally() && !isUsable(cached.join())) {
+            cache.synchronous().invalidate(key);
+        }
+
+        return cache.get(key, (cacheKey, executor) -> loader.get()
+                        .thenApply(response -> new CachedParse(
+                                response.toBuilder().clearReminderId().build(),
+                                LocalDate.now())))
+                .thenApply(CachedParse::response);
+    }
+
+    /**
+     * Обновляет версию NLP модели.
+     * <p>
+     * Если версия изменилась, все закэшированные ответы удаляются.
+     *
+     * @param version версия модели из HealthResponse
+     */
+    public void onModelVersion(String version) {
+        if (version == null || version.isEmpty() || version.equals(modelVersion)) {
+            return;
+        }
+        String previous = modelVersion;
+        modelVersion = version;
+        cache.synchronous().invalidateAll();
+        log.info("NLP model version changed from {} to {}, parse cache cleared", previous, version);
+    }
+
+    /**
+     * Нормализует текст для ключа кэша.
+     *
+     * @param text исходный текст
+     * @return текст в нижнем регистре с одиночными пробелами и без завершающей пунктуации
+     */
+    static String normalize(String text) {
+        String normalized = WHITESPACE.matcher(text.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+        return TRAILING_PUNCTUATION.matcher(normalized).replaceAll("");
+    }
+
+    private static boolean isUsable(CachedParse cached) {
+        TemporalExpression timeExpression = cached.response().getParsed().getTimeExpression();
+        if (!timeExpression.hasAbsolute()) {
+            return true;
+        }
+        if (!cached.parsedOn().equals(LocalDate.now())) {
+            return false;
+        }
+        try {
+            return LocalDateTime.parse(timeExpression.getAbsolute().getIsoDatetime()).isAfter(LocalDateTime.now());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private record CacheKey(String modelVersion, String language, String text) {
+    }
+
+    private record CachedParse(ParseResponse response, LocalDate parsedOn) {
+    }
+}
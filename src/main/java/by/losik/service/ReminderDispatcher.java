@@ -0,0 +1,311 @@
+package by.losik.service;
+
+import by.losik.config.EventBridgeConfig;
+import by.losik.config.MonitoringConfig;
+import by.losik.dto.CreateRuleRequest;
+import by.losik.dto.EventBridgeRuleRecord;
+import by.losik.dto.ReminderEventPayload;
+import by.losik.dto.ReminderPage;
+import by.losik.dto.ReminderRecord;
+import by.losik.dto.SendEventRequest;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Диспетчер напоминаний по временным корзинам.
+ * <p>
+ * Альтернатива отдельному cron правилу EventBridge на каждое напоминание
+ * (включается через {@code SCHEDULER_MODE=bucket}, см. {@link EventBridgeConfig}):
+ * <ul>
+ *     <li>Напоминание только сохраняется в OpenSearch с именем общего правила диспетчера
+ *     вместо собственного правила; создание и удаление не обращаются к EventBridge</li>
+ *     <li>В начале каждой временной корзины диспетчер выбирает наступившие напоминания
+ *     страницами по {@link EventBridgeConfig#getDispatchBatchSize()}, захватывает каждое
+ *     через {@link OpenSearchService#claimReminder}, публикует событие в шину email
+ *     и переводит напоминание в TRIGGERED через {@link OpenSearchService#completeClaim}.
+ *     Если за время отправки напоминание отменили или изменили, его статус не перезаписывается</li>
+ *     <li>Захват хранит время claimed_at: если экземпляр упал между захватом и отправкой,
+ *     напоминание выбирается снова по истечении {@link EventBridgeConfig#getClaimLeaseSeconds()}.
+ *     Падение между отправкой и переводом в TRIGGERED приводит к повторной отправке
+ *     (доставка не реже одного раза)</li>
+ *     <li>Одно правило по шаблону событий направляет их в Lambda отправки напоминаний,
+ *     поэтому количество правил не зависит от количества напоминаний</li>
+ * </ul>
+ * <p>
+ * Индекс напоминаний, отсортированный по scheduled_time, служит колесом времени: корзина
+ * выбирается диапазонным запросом, а пропущенные во время простоя корзины обрабатываются
+ * первой же выборкой. Публикует счётчик {@code scheduler.dispatch.reminders} по результату
+ * и таймер {@code scheduler.dispatch.tick}.
+ *
+ * @see EventBridgeService#createPatternRule
+ */
+@Singleton
+public class ReminderDispatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderDispatcher.class);
+
+    /** Источник событий диспетчера */
+    public static final String EVENT_SOURCE = "by.losik.reminder-dispatcher";
+
+    /** Тип событий диспетчера */
+    public static final String EVENT_DETAIL_TYPE = "Reminder Due";
+
+    /** Максимум страниц выборки за одну корзину; остаток обрабатывается следующей корзиной */
+    private static final int MAX_PAGES_PER_TICK = 50;
+
+    private final OpenSearchService openSearchService;
+    private final EventBridgeService eventBridgeService;
+    private final EventBridgeConfig config;
+    private final ScheduledExecutorService scheduler;
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter skipped;
+    private final Timer tickLatency;
+    private volatile boolean closed;
+
+    /**
+     * Создаёт диспетчер напоминаний.
+     *
+     * @param openSearchService сервис OpenSearch (выборка и захват напоминаний)
+     * @param eventBridgeService сервис EventBridge (правило диспетчера и публикация событий)
+     * @param config конфигурация EventBridge (режим планирования, корзины, шина)
+     * @param monitoringConfig конфигурация мониторинга для метрик
+     */
+    @Inject
+    public ReminderDispatcher(OpenSearchService openSearchService,
+                              EventBridgeService eventBridgeService,
+                              EventBridgeConfig config,
+                              MonitoringConfig monitoringConfig) {
+        this.openSearchService = openSearchService;
+        this.eventBridgeService = eventBridgeService;
+        this.config = config;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        MeterRegistry registry = monitoringConfig.getApplicationRegistry();
+        this.sent = dispatchCounter(registry, "sent");
+        this.failed = dispatchCounter(registry, "failed");
+        this.skipped = dispatchCounter(registry, "skipped");
+        this.tickLatency = Timer.builder("scheduler.dispatch.tick")
+                .description("Time to dispatch all due reminders of one time bucket")
+                .register(registry);
+    }
+
+    private static Counter dispatchCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("scheduler.dispatch.reminders")
+                .description("Reminders processed by the bucket dispatcher")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Создаёт правило диспетчера и запускает обработку корзин.
+     * <p>
+     * В режиме {@code SCHEDULER_MODE=rule} ничего не делает.
+     *
+     * @return future, завершающийся после создания правила
+     */
+    public CompletableFuture<Void> start() {
+        if (!config.isBucketScheduler()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String eventPattern = "{\"source\":[\"" + EVENT_SOURCE + "\"],\"detail-type\":[\"" + EVENT_DETAIL_TYPE + "\"]}";
+        return eventBridgeService.createPatternRule(config.getDispatchRuleName(), eventPattern,
+                        config.getDefaultLambdaArn(), config.getEmailEventBusName())
+                .thenRun(() -> {
+                    scheduleTick();
+                    log.info("Reminder dispatcher started: rule={}, bucketSec={}, batchSize={}",
+                            config.getDispatchRuleName(), config.getBucketSeconds(), config.getDispatchBatchSize());
+                });
+    }
+
+    /**
+     * Проверяет, используется ли диспетчер для новых напоминаний.
+     *
+     * @return true если SCHEDULER_MODE=bucket
+     */
+    public boolean isEnabled() {
+        return config.isBucketScheduler();
+    }
+
+    /**
+     * Проверяет, является ли правило общим правилом диспетчера.
+     * <p>
+     * Такое правило нельзя удалять вместе с напоминанием.
+     *
+     * @param ruleName имя правила напоминания
+     * @return true если это правило диспетчера
+     */
+    public boolean isDispatchRule(String ruleName) {
+        return config.getDispatchRuleName().equals(ruleName);
+    }
+
+    /**
+     * Планирует напоминание через диспетчер без обращения к EventBridge.
+     * <p>
+     * Напоминание будет отправлено, когда оно будет сохранено в OpenSearch
+     * с именем правила из возвращённой записи.
+     *
+     * @param request параметры напоминания
+     * @return запись о правиле диспетчера
+     */
+    public CompletableFuture<EventBridgeRuleRecord> schedule(CreateRuleRequest request) {
+        LocalDateTime bucket = bucketStart(request.scheduleTime());
+        return CompletableFuture.completedFuture(new EventBridgeRuleRecord(
+                config.getDispatchRuleName(),
+                "bucket(" + bucket + ")",
+                request.targetArn(),
+                true,
+                request.description(),
+                null
+        ));
+    }
+
+    private LocalDateTime bucketStart(LocalDateTime time) {
+        long bucketSeconds = config.getBucketSeconds();
+        LocalDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        long seconds = ChronoUnit.SECONDS.between(day, time);
+        return day.plusSeconds(seconds - seconds % bucketSeconds);
+    }
+
+    private void scheduleTick() {
+        if (closed) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime next = bucketStart(now).plusSeconds(config.getBucketSeconds());
+        long delayMs = Math.max(0L, Duration.between(now, next).toMillis());
+        scheduler.schedule(this::tickSafely, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void tickSafely() {
+        try {
+            LocalDateTime bucketEnd = bucketStart(LocalDateTime.now()).plusSeconds(config.getBucketSeconds());
+            Timer.Sample sample = Timer.start();
+            dispatchPage(bucketEnd, null, 0)
+                    .whenComplete((ignored, ex) -> {
+                        sample.stop(tickLatency);
+                        if (ex != null) {
+                            log.error("Reminder dispatch failed for bucket ending {}", bucketEnd, ex);
+                        }
+                        scheduleTick();
+                    });
+        } catch (Exception e) {
+            log.error("Reminder dispatch cycle failed to start", e);
+            scheduleTick();
+        }
+    }
+
+    private CompletableFuture<Void> dispatchPage(LocalDateTime bucketEnd, String cursor, int page) {
+        Instant claimedBefore = Instant.now().minusSeconds(config.getClaimLeaseSeconds());
+        return openSearchService.findDueReminders(config.getDispatchRuleName(), bucketEnd, claimedBefore,
+                        config.getDispatchBatchSize(), cursor)
+                .thenCompose(result -> {
+                    List<CompletableFuture<Void>> dispatches = result.reminders().stream()
+                            .map(reminder -> dispatch(reminder, claimedBefore))
+                            .toList();
+
+                    return CompletableFuture.allOf(dispatches.toArray(new CompletableFuture<?>[0]))
+                            .thenCompose(v -> nextPage(bucketEnd, result, page));
+                });
+    }
+
+    private CompletableFuture<Void> nextPage(LocalDateTime bucketEnd, ReminderPage result, int page) {
+        if (result.nextCursor() == null || closed) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (page + 1 >= MAX_PAGES_PER_TICK) {
+            log.warn("Reminder dispatch stopped after {} pages; remaining reminders move to the next bucket",
+                    MAX_PAGES_PER_TICK);
+            return CompletableFuture.completedFuture(null);
+        }
+        return dispatchPage(bucketEnd, result.nextCursor(), page + 1);
+    }
+
+    private CompletableFuture<Void> dispatch(ReminderRecord reminder, Instant claimedBefore) {
+        String reminderId = reminder.reminderId();
+        Instant claimedAt = Instant.now();
+        return openSearchService.claimReminder(reminderId, claimedBefore, claimedAt)
+                .thenCompose(claimed -> {
+                    if (!claimed) {
+                        skipped.increment();
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    return eventBridgeService.sendEvent(new SendEventRequest(
+                                    EVENT_SOURCE, EVENT_DETAIL_TYPE, eventDetail(reminder), config.getEmailEventBusName()))
+                            .thenAccept(eventId -> {
+                                sent.increment();
+                                log.info("Reminder {} dispatched: {}", reminderId, eventId);
+                            })
+                            .exceptionallyCompose(ex -> release(reminderId, claimedAt, ex))
+                            .thenCompose(v -> markTriggered(reminderId, claimedAt));
+                })
+                .exceptionally(ex -> {
+                    failed.increment();
+                    log.error("Failed to dispatch reminder: {}", reminderId, ex);
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Void> release(String reminderId, Instant claimedAt, Throwable cause) {
+        return openSearchService.completeClaim(reminderId, claimedAt, ReminderRecord.ReminderStatus.SCHEDULED, false)
+                .handle((released, ex) -> {
+                    if (ex != null) {
+                        log.error("Failed to release reminder {} after dispatch error", reminderId, ex);
+                    } else if (!released) {
+                        log.info("Reminder {} changed during dispatch; claim not released", reminderId);
+                    }
+                    throw new RuntimeException("Failed to dispatch reminder " + reminderId, cause);
+                });
+    }
+
+    private CompletableFuture<Void> markTriggered(String reminderId, Instant claimedAt) {
+        return openSearchService.completeClaim(reminderId, claimedAt, ReminderRecord.ReminderStatus.TRIGGERED, true)
+                .handle((triggered, ex) -> {
+                    if (ex != null) {
+                        log.error("Failed to mark reminder {} as triggered; it will be sent again after the claim lease",
+                                reminderId, ex);
+                    } else if (!triggered) {
+                        log.info("Reminder {} changed during dispatch; status left as is", reminderId);
+                    }
+                    return null;
+                });
+    }
+
+    private static String eventDetail(ReminderRecord reminder) {
+        return new ReminderEventPayload(
+                reminder.reminderId(),
+                reminder.userEmail(),
+                reminder.extractedAction(),
+                reminder.scheduledTime().toString(),
+                reminder.intent() != null ? reminder.intent() : "reminder",
+                null,
+                null
+        ).toJson();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,193 @@
+package by.losik.service;
+
+import by.losik.config.LocalStackConfig;
+import by.losik.config.MonitoringConfig;
+import by.losik.config.S3Config;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Реестр готовности бакетов S3.
+ * <p>
+ * Проверяет существование бакета (HeadBucket) и создаёт его при необходимости
+ * один раз, после чего операции с бакетом выполняются без дополнительных запросов:
+ * <ul>
+ *     <li>Бакет по умолчанию проверяется при старте приложения через {@link #initialize()}</li>
+ *     <li>Параллельные обращения к ещё не проверенному бакету ожидают одну общую проверку</li>
+ *     <li>Неудачная проверка не кэшируется и повторяется при следующем обращении</li>
+ *     <li>При ошибке NoSuchBucket бакет помечается неготовым через {@link #reportFailure(String, Throwable)}</li>
+ * </ul>
+ * <p>
+ * Количество обращений, обслуженных без запроса к S3, публикуется
+ * в счётчике {@code s3.bucket.checks.saved}.
+ *
+ * @see S3Service
+ */
+@Singleton
+public class S3BucketRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(S3BucketRegistry.class);
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Config s3Config;
+    private final Map<String, CompletableFuture<Void>> readiness = new ConcurrentHashMap<>();
+    private final Counter savedChecksCounter;
+
+    /**
+     * Создаёт реестр бакетов.
+     *
+     * @param localStackConfig конфигурация LocalStack для клиента
+     * @param s3Config конфигурация S3 (имя бакета по умолчанию)
+     * @param monitoringConfig конфигурация мониторинга для метрик
+     */
+    @Inject
+    public S3BucketRegistry(LocalStackConfig localStackConfig, S3Config s3Config, MonitoringConfig monitoringConfig) {
+        this.s3AsyncClient = localStackConfig.getS3AsyncClient();
+        this.s3Config = s3Config;
+
+        MeterRegistry registry = monitoringConfig.getApplicationRegistry();
+        this.savedChecksCounter = Counter.builder("s3.bucket.checks.saved")
+                .description("Bucket readiness checks answered from the registry without a request to S3")
+                .register(registry);
+    }
+
+    /**
+     * Проверяет и при необходимости создаёт бакет по умолчанию.
+     * <p>
+     * Вызывается один раз при старте приложения.
+     *
+     * @return future, завершаемый когда бакет готов
+     */
+    public CompletableFuture<Void> initialize() {
+        return ensureReady(s3Config.getBucketName());
+    }
+
+    /**
+     * Гарантирует, что бакет существует.
+     * <p>
+     * Для уже проверенного бакета возвращает завершённый future без запроса к S3.
+     *
+     * @param bucket имя бакета
+     * @return future, завершаемый когда бакет готов
+     */
+    public CompletableFuture<Void> ensureReady(String bucket) {
+        CompletableFuture<Void> existing = readiness.get(bucket);
+        if (existing != null && existing.isDone() && !existing.isCompletedExceptionally()) {
+            savedChecksCounter.increment();
+            return existing;
+        }
+
+        CompletableFuture<Void> check = readiness.computeIfAbsent(bucket, this::verify);
+        check.whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                readiness.remove(bucket, check);
+            }
+        });
+        return check;
+    }
+
+    /**
+     * Обрабатывает ошибку операции с бакетом.
+     * <p>
+     * Если ошибка означает отсутствие бакета, бакет помечается неготовым
+     * и будет проверен заново при следующем обращении.
+     *
+     * @param bucket имя бакета
+     * @param ex ошибка операции
+     * @return true если ошибка вызвана отсутствием бакета
+     */
+    public boolean reportFailure(String bucket, Throwable ex) {
+        if (!isNoSuchBucket(ex)) {
+            return false;
+        }
+        log.warn("Bucket {} is missing, it will be verified again", bucket);
+        readiness.remove(bucket);
+        return true;
+    }
+
+    private CompletableFuture<Void> verify(String bucket) {
+        HeadBucketRequest headRequest = HeadBucketRequest.builder()
+                .bucket(bucket)
+                .build();
+
+        return s3AsyncClient.headBucket(headRequest)
+                .<Void>thenApply(response -> {
+                    log.info("Bucket exists: {}", bucket);
+                    return null;
+                })
+                .exceptionallyCompose(ex -> {
+                    if (isNoSuchBucket(ex)) {
+                        return createBucket(bucket);
+                    }
+                    log.error("Failed to verify bucket: {}", bucket, ex);
+                    return CompletableFuture.failedFuture(
+                            new RuntimeException("Failed to verify bucket: " + bucket, ex));
+                });
+    }
+
+    private CompletableFuture<Void> createBucket(String bucket) {
+        CreateBucketRequest request = CreateBucketRequest.builder()
+                .bucket(bucket)
+                .build();
+
+        return s3AsyncClient.createBucket(request)
+                .<Void>thenApply(response -> {
+                    log.info("Bucket created: {}", bucket);
+                    return null;
+                })
+                .exceptionallyCompose(ex -> {
+                    String errorCode = errorCode(ex);
+                    if ("BucketAlreadyExists".equals(errorCode) || "BucketAlreadyOwnedByYou".equals(errorCode)) {
+                        log.info("Bucket already exists: {}", bucket);
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    log.error("Failed to create bucket {} (error code {})", bucket, errorCode, ex);
+                    return CompletableFuture.failedFuture(
+                            new RuntimeException("Failed to create bucket: " + bucket, ex));
+                });
+    }
+
+    /**
+     * Проверяет, вызвана ли ошибка отсутствием бакета.
+     * <p>
+     * Просматривает всю цепочку причин, поэтому подходит для ошибок,
+     * обёрнутых в CompletionException или RuntimeException.
+     *
+     * @param ex ошибка
+     * @return true если в цепочке есть NoSuchBucket или 404 без тела ответа (HeadBucket)
+     */
+    static boolean isNoSuchBucket(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NoSuchBucketException) {
+                return true;
+            }
+            if (cause instanceof S3Exception s3Exception) {
+                String errorCode = errorCode(s3Exception);
+                return "NoSuchBucket".equals(errorCode)
+                        || (errorCode == null && s3Exception.statusCode() == 404);
+            }
+        }
+        return false;
+    }
+
+    private static String errorCode(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof S3Exception s3Exception) {
+                return s3Exception.awsErrorDetails() != null ? s3Exception.awsErrorDetails().errorCode() : null;
+            }
+        }
+        return null;
+    }
+}
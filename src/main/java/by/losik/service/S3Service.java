@@ -1,16 +1,21 @@
 package by.losik.service;
 
 import by.losik.config.LocalStackConfig;
+import by.losik.config.MonitoringConfig;
 import by.losik.config.S3Config;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import io.micrometer.core.instrument.Gauge;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
-import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
-import software.amazon.awssdk.services.s3.model.CreateBucketResponse;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -18,16 +23,24 @@
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -35,7 +48,7 @@
  * <p>
  * Предоставляет методы для:
  * <ul>
- *     <li>Загрузки аудиофайлов пользователей</li>
+ *     <li>Загрузки аудиофайлов пользователей (из файла или потоком, без временных файлов)</li>
  *     <li>Скачивания файлов из S3</li>
  *     <li>Удаления файлов</li>
  *     <li>Просмотра списка файлов пользователя</li>
@@ -43,6 +56,8 @@
  * </ul>
  * <p>
  * Использует асинхронный S3AsyncClient для всех операций.
+ * Объём аудио, удерживаемого в памяти потоковыми загрузками, публикуется
+ * в gauge {@code s3.upload.bytes.inflight}.
  *
  * @see S3Config
  */
@@ -53,55 +68,304 @@ public class S3Service {
     private final S3AsyncClient s3AsyncClient;
     private final S3Config s3Config;
     private final String localstackEndpoint;
+    private final S3TransferEngine transferEngine;
+    private final S3BucketRegistry bucketRegistry;
+    private final AtomicLong bytesInFlight = new AtomicLong();
 
     /**
      * Создаёт S3 сервис с конфигурацией.
      *
      * @param localStackConfig конфигурация LocalStack для клиента
      * @param s3Config конфигурация S3 (имя бакета, настройки доступа)
+     * @param monitoringConfig конфигурация мониторинга для метрик
+     * @param transferEngine движок параллельной передачи файлов
+     * @param bucketRegistry реестр готовности бакетов
      */
     @Inject
-    public S3Service(LocalStackConfig localStackConfig, S3Config s3Config) {
+    public S3Service(LocalStackConfig localStackConfig,
+                     S3Config s3Config,
+                     MonitoringConfig monitoringConfig,
+                     S3TransferEngine transferEngine,
+                     S3BucketRegistry bucketRegistry) {
         this.s3AsyncClient = localStackConfig.getS3AsyncClient();
         this.s3Config = s3Config;
         this.localstackEndpoint = localStackConfig.getLocalstackEndpoint();
+        this.transferEngine = transferEngine;
+        this.bucketRegistry = bucketRegistry;
+
+        Gauge.builder("s3.upload.bytes.inflight", bytesInFlight, AtomicLong::get)
+                .description("Audio bytes buffered in memory by streaming uploads")
+                .baseUnit("bytes")
+                .register(monitoringConfig.getApplicationRegistry());
     }
 
     /**
      * Загружает аудиофайл пользователя в S3.
+     * <p>
+     * Готовность бакета берётся из {@link S3BucketRegistry}; если бакет был удалён,
+     * он создаётся заново и загрузка повторяется один раз.
      *
      * @param audioFile аудиофайл для загрузки
      * @param userId ID пользователя
      * @return ключ загруженного файла в S3
      */
     public CompletableFuture<String> uploadAudioFileAsync(File audioFile, String userId) {
-        return ensureBucketExists()
+        String bucket = s3Config.getBucketName();
+        String key = generateAudioKey(userId, audioFile.getName());
+
+        return withBucketRetry(bucket, key, () -> uploadFileAsync(audioFile, key));
+    }
+
+    /**
+     * Выполняет запрос к бакету после проверки его готовности; если бакет был удалён,
+     * создаёт его заново и повторяет запрос один раз.
+     *
+     * @param bucket имя бакета
+     * @param key ключ загружаемого объекта (для логов)
+     * @param request фабрика запроса, вызывается для каждой попытки
+     * @return результат запроса
+     */
+    private <T> CompletableFuture<T> withBucketRetry(String bucket, String key, Supplier<CompletableFuture<T>> request) {
+        return bucketRegistry.ensureReady(bucket)
+                .thenCompose(ignored -> request.get())
+                .exceptionallyCompose(ex -> {
+                    if (!bucketRegistry.reportFailure(bucket, ex)) {
+                        return CompletableFuture.failedFuture(ex);
+                    }
+                    log.info("Retrying upload of {} after bucket {} was recreated", key, bucket);
+                    return bucketRegistry.ensureReady(bucket)
+                            .thenCompose(ignored -> request.get());
+                });
+    }
+
+    /**
+     * Загружает аудио пользователя в S3 напрямую из потока, без временного файла.
+     * <p>
+     * Поток читается частями по {@link S3Config#getStreamingPartSize()} байт: первая часть —
+     * в вызывающем потоке, следующие — по мере отправки предыдущих в {@code readExecutor}.
+     * Чтение тела запроса блокирует поток, поэтому оно не выполняется в потоках завершения
+     * S3 клиента, и медленный клиент не задерживает загрузки других запросов:
+     * <ul>
+     *     <li>Если аудио уместилось в одну часть — загружается одним PutObject</li>
+     *     <li>Иначе — через multipart upload; в памяти одновременно находится не больше
+     *     {@link S3Config#getStreamingMaxBufferedParts()} отправляемых частей и одна читаемая</li>
+     * </ul>
+     * Способ загрузки выбирается по фактическому размеру аудио, а не по заголовкам запроса.
+     * Если бакет был удалён, он создаётся заново и первый запрос (PutObject или
+     * CreateMultipartUpload) повторяется один раз: до его успеха из потока прочитана только
+     * первая часть, которая остаётся в памяти. Части, уже отправленные в multipart загрузку,
+     * повторить нельзя, поэтому при ошибке незавершённая загрузка отменяется.
+     *
+     * @param audioStream поток с аудио (читается до конца, не закрывается)
+     * @param fileName имя файла для ключа и Content-Type
+     * @param userId ID пользователя
+     * @param readExecutor ограниченный пул для блокирующего чтения следующих частей
+     * @return ключ загруженного файла в S3
+     */
+    public CompletableFuture<String> uploadAudioStreamAsync(InputStream audioStream,
+                                                           String fileName,
+                                                           String userId,
+                                                           Executor readExecutor) {
+        String bucket = s3Config.getBucketName();
+        String key = generateAudioKey(userId, fileName);
+
+        byte[] firstPart;
+        try {
+            firstPart = readPart(audioStream);
+        } catch (IOException e) {
+            log.error("Failed to read audio stream for {}", key, e);
+            return CompletableFuture.failedFuture(new RuntimeException("Failed to read audio stream: " + key, e));
+        }
+
+        Map<String, String> metadata = Map.of(
+                "original-filename", fileName,
+                "upload-timestamp", LocalDateTime.now().toString());
+
+        if (firstPart.length < s3Config.getStreamingPartSize()) {
+            PutObjectRequest request = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(getContentType(fileName))
+                    .contentLength((long) firstPart.length)
+                    .metadata(metadata)
+                    .build();
+
+            return withBucketRetry(bucket, key,
+                            () -> s3AsyncClient.putObject(request, AsyncRequestBody.fromBytesUnsafe(firstPart)))
+                    .whenComplete((response, ex) -> bytesInFlight.addAndGet(-firstPart.length))
+                    .thenApply(response -> {
+                        log.info("Audio streamed to S3: {} ({} bytes)", key, firstPart.length);
+                        return key;
+                    })
+                    .exceptionally(ex -> {
+                        log.error("Failed to upload audio stream: {}", key, ex);
+                        throw new RuntimeException("Failed to upload audio stream: " + key, ex);
+                    });
+        }
+
+        return uploadMultipart(audioStream, bucket, key, fileName, metadata, firstPart, readExecutor);
+    }
+
+    private CompletableFuture<String> uploadMultipart(InputStream audioStream,
+                                                      String bucket,
+                                                      String key,
+                                                      String fileName,
+                                                      Map<String, String> metadata,
+                                                      byte[] firstPart,
+                                                      Executor readExecutor) {
+        CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(getContentType(fileName))
+                .metadata(metadata)
+                .build();
+
+        return withBucketRetry(bucket, key, () -> s3AsyncClient.createMultipartUpload(createRequest))
+                .exceptionally(ex -> {
+                    bytesInFlight.addAndGet(-firstPart.length);
+                    log.error("Failed to start multipart upload: {}", key, ex);
+                    throw new RuntimeException("Failed to upload audio stream: " + key, ex);
+                })
                 .thenCompose(response -> {
-                    String key = generateAudioKey(userId, audioFile.getName());
-                    return uploadFileAsync(audioFile, key);
+                    MultipartStream upload = new MultipartStream(audioStream, key, response.uploadId(), readExecutor);
+                    return sendParts(upload, firstPart)
+                            .thenCompose(ignored -> completeMultipart(upload))
+                            .exceptionallyCompose(ex -> abortMultipart(key, upload.uploadId, upload.parts)
+                                    .thenApply(ignored -> {
+                                        log.error("Failed to upload audio stream: {}", key, ex);
+                                        throw new RuntimeException("Failed to upload audio stream: " + key, ex);
+                                    }));
                 });
     }
 
+    /**
+     * Отправляет часть и читает следующую, когда среди отправляемых частей освобождается место.
+     * <p>
+     * Следующая часть читается в {@link MultipartStream#readExecutor}, а не в потоке,
+     * завершившем отправку предыдущей: это поток S3 клиента, и блокирующее чтение
+     * медленного тела запроса в нём задержало бы завершение загрузок всех запросов.
+     *
+     * @param upload состояние загрузки
+     * @param part прочитанная часть (пустой массив в конце потока)
+     * @return future, завершающийся после отправки последней части
+     */
+    private CompletableFuture<Void> sendParts(MultipartStream upload, byte[] part) {
+        if (part.length == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<CompletedPart> future = uploadPart(upload.key, upload.uploadId, upload.parts.size() + 1, part);
+        upload.parts.add(future);
+        upload.outstanding.addLast(future);
+        upload.totalBytes += part.length;
+
+        CompletableFuture<?> slot = upload.outstanding.size() >= s3Config.getStreamingMaxBufferedParts()
+                ? upload.outstanding.removeFirst()
+                : CompletableFuture.completedFuture(null);
+
+        return slot.thenComposeAsync(ignored -> {
+            byte[] next;
+            try {
+                next = readPart(upload.stream);
+            } catch (IOException e) {
+                log.error("Failed to stream audio part for {}", upload.key, e);
+                return CompletableFuture.failedFuture(e);
+            }
+            return sendParts(upload, next);
+        }, upload.readExecutor);
+    }
+
+    private CompletableFuture<String> completeMultipart(MultipartStream upload) {
+        return CompletableFuture.allOf(upload.parts.toArray(new CompletableFuture<?>[0]))
+                .thenCompose(ignored -> {
+                    List<CompletedPart> completedParts = upload.parts.stream()
+                            .map(CompletableFuture::join)
+                            .collect(Collectors.toList());
+
+                    CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+                            .bucket(s3Config.getBucketName())
+                            .key(upload.key)
+                            .uploadId(upload.uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                            .build();
+                    return s3AsyncClient.completeMultipartUpload(completeRequest);
+                })
+                .thenApply(response -> {
+                    log.info("Audio streamed to S3: {} ({} bytes in {} parts)",
+                            upload.key, upload.totalBytes, upload.parts.size());
+                    return upload.key;
+                });
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(String key, String uploadId, int partNumber, byte[] data) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(s3Config.getBucketName())
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) data.length)
+                .build();
+
+        return s3AsyncClient.uploadPart(request, AsyncRequestBody.fromBytesUnsafe(data))
+                .whenComplete((response, ex) -> bytesInFlight.addAndGet(-data.length))
+                .thenApply(response -> CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build());
+    }
+
+    private CompletableFuture<Void> abortMultipart(String key, String uploadId,
+                                                   List<CompletableFuture<CompletedPart>> parts) {
+        AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+                .bucket(s3Config.getBucketName())
+                .key(key)
+                .uploadId(uploadId)
+                .build();
+
+        return CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0]))
+                .handle((ignored, ex) -> null)
+                .thenCompose(ignored -> s3AsyncClient.abortMultipartUpload(request))
+                .handle((response, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to abort multipart upload {} for {}: {}", uploadId, key, ex.getMessage());
+                    } else {
+                        log.info("Multipart upload aborted: {}", key);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Читает из потока следующую часть размером до {@link S3Config#getStreamingPartSize()} байт
+     * и учитывает её в счётчике байт в памяти.
+     *
+     * @param stream поток с данными
+     * @return прочитанные байты (пустой массив в конце потока)
+     * @throws IOException при ошибке чтения
+     */
+    private byte[] readPart(InputStream stream) throws IOException {
+        byte[] part = stream.readNBytes(s3Config.getStreamingPartSize());
+        bytesInFlight.addAndGet(part.length);
+        return part;
+    }
+
     /**
      * Загружает файл в S3 по указанному ключу.
+     * <p>
+     * Большие файлы загружаются частями параллельно через {@link S3TransferEngine}.
      *
      * @param file файл для загрузки
      * @param key ключ файла в S3
      * @return ключ загруженного файла
      */
     public CompletableFuture<String> uploadFileAsync(File file, String key) {
-        PutObjectRequest request = PutObjectRequest.builder()
-                .bucket(s3Config.getBucketName())
-                .key(key)
-                .contentType(getContentType(file.getName()))
-                .metadata(Map.of("original-filename", file.getName(),
-                                "upload-timestamp", LocalDateTime.now().toString(),
-                                "file-size", String.valueOf(file.length())
-                        ))
-                .build();
+        Map<String, String> metadata = Map.of("original-filename", file.getName(),
+                "upload-timestamp", LocalDateTime.now().toString(),
+                "file-size", String.valueOf(file.length()));
 
-        return s3AsyncClient.putObject(request, AsyncRequestBody.fromFile(file.toPath()))
-                .thenApply(response -> {
+        return transferEngine.upload(file.toPath(), s3Config.getBucketName(), key,
+                        getContentType(file.getName()), metadata)
+                .thenApply(ignored -> {
                     log.info("File uploaded successfully: {}", key);
                     return key;
                 })
@@ -124,6 +388,8 @@ public CompletableFuture<File> downloadFileAsync(String key, Path targetPath) {
 
     /**
      * Скачивает файл из S3 по указанному ключу из указанного бакета.
+     * <p>
+     * Большие объекты скачиваются параллельными ranged GET через {@link S3TransferEngine}.
      *
      * @param key ключ файла в S3
      * @param targetPath путь для сохранения файла
@@ -131,19 +397,42 @@ public CompletableFuture<File> downloadFileAsync(String key, Path targetPath) {
      * @return скачанный файл
      */
     public CompletableFuture<File> downloadFileAsync(String key, Path targetPath, String bucketName) {
+        return transferEngine.download(bucketName, key, targetPath)
+                .thenApply(ignored -> {
+                    log.info("File downloaded successfully: {} from bucket {}", key, bucketName);
+                    return targetPath.toFile();
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to download file: {} from bucket {}", key, bucketName, ex);
+                    throw new RuntimeException("Failed to download file: " + key + " from bucket: " + bucketName, ex);
+                });
+    }
+
+    /**
+     * Читает объект из S3 целиком в память.
+     * <p>
+     * Подходит для небольших объектов (JSON транскрипций и т.п.):
+     * содержимое собирается в байтовый буфер без временного файла на диске.
+     *
+     * @param key ключ объекта в S3
+     * @param bucketName имя бакета
+     * @return содержимое объекта
+     */
+    public CompletableFuture<byte[]> getObjectBytesAsync(String key, String bucketName) {
         GetObjectRequest request = GetObjectRequest.builder()
                 .bucket(bucketName)
                 .key(key)
                 .build();
 
-        return s3AsyncClient.getObject(request, AsyncResponseTransformer.toFile(targetPath))
+        return s3AsyncClient.getObject(request, AsyncResponseTransformer.toBytes())
                 .thenApply(response -> {
-                    log.info("File downloaded successfully: {} from bucket {}", key, bucketName);
-                    return targetPath.toFile();
+                    byte[] content = response.asByteArrayUnsafe();
+                    log.debug("Object read into memory: {} from bucket {}, {} bytes", key, bucketName, content.length);
+                    return content;
                 })
                 .exceptionally(ex -> {
-                    log.error("Failed to download file: {} from bucket {}", key, bucketName, ex);
-                    throw new RuntimeException("Failed to download file: " + key + " from bucket: " + bucketName, ex);
+                    log.error("Failed to read object: {} from bucket {}", key, bucketName, ex);
+                    throw new RuntimeException("Failed to read object: " + key + " from bucket: " + bucketName, ex);
                 });
     }
 
@@ -231,43 +520,6 @@ public CompletableFuture<String> generatePresignedUrlAsync(String key) {
         );
     }
 
-    /**
-     * Проверяет существование бакета и создаёт его при необходимости.
-     *
-     * @return CompletableFuture с результатом создания бакета
-     */
-    private CompletableFuture<CreateBucketResponse> ensureBucketExists() {
-        CreateBucketRequest request = CreateBucketRequest.builder()
-                .bucket(s3Config.getBucketName())
-                .build();
-
-        return s3AsyncClient.createBucket(request)
-                .thenApply(response -> {
-                    log.info("Bucket created: {}", s3Config.getBucketName());
-                    return response;
-                })
-                .exceptionally(ex -> {
-                    Throwable cause = ex.getCause();
-                    if (cause instanceof S3Exception s3Exception) {
-                        String errorCode = s3Exception.awsErrorDetails() != null ?
-                                s3Exception.awsErrorDetails().errorCode() : null;
-
-                        if (errorCode != null && (
-                                errorCode.equals("BucketAlreadyExists") ||
-                                        errorCode.equals("BucketAlreadyOwnedByYou"))) {
-                            log.info("Bucket already exists: {}", s3Config.getBucketName());
-                        } else {
-                            log.warn("Bucket creation failed with error code {}: {}",
-                                    errorCode, ex.getMessage());
-                        }
-                    } else {
-                        log.warn("Bucket creation failed: {}", ex.getMessage());
-                    }
-
-                    return null;
-                });
-    }
-
     /**
      * Генерирует ключ S3 для аудиофайла пользователя.
      *
@@ -306,4 +558,26 @@ private String getContentType(String fileName) {
     public String getBucketName() {
         return s3Config.getBucketName();
     }
-}
\ No newline at end of file
+
+    /**
+     * Состояние потоковой multipart загрузки.
+     * <p>
+     * Изменяется только последовательно по цепочке отправки частей.
+     */
+    private static final class MultipartStream {
+        private final InputStream stream;
+        private final String key;
+        private final String uploadId;
+        private final Executor readExecutor;
+        private final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        private final Deque<CompletableFuture<CompletedPart>> outstanding = new ArrayDeque<>();
+        private long totalBytes;
+
+        private MultipartStream(InputStream stream, String key, String uploadId, Executor readExecutor) {
+            this.stream = stream;
+            this.key = key;
+            this.uploadId = uploadId;
+            this.readExecutor = readExecutor;
+        }
+    }
+}
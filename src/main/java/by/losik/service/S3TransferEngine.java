@@ -0,0 +1,469 @@
+package by.losik.service;
+
+import by.losik.config.LocalStackConfig;
+import by.losik.config.MonitoringConfig;
+import by.losik.config.S3Config;
+import by.losik.util.AsyncConcurrencyLimiter;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * Движок параллельной передачи файлов между локальным диском и S3.
+ * <p>
+ * Загрузка и скачивание файлов больше {@link S3Config#getTransferPartSize()} разбиваются на части:
+ * <ul>
+ *     <li>Загрузка — multipart upload, части отправляются параллельно</li>
+ *     <li>Скачивание — параллельные ranged GET с записью частей в файл по смещению</li>
+ *     <li>Каждая часть повторяется при ошибке с экспоненциальной задержкой</li>
+ *     <li>Общее количество одновременных запросов частей ограничено для всех передач</li>
+ * </ul>
+ * <p>
+ * Если включена проверка контрольных сумм, CRC32 каждой части передаётся в S3 для проверки
+ * на стороне сервера, а CRC32 всего файла сохраняется в метаданных объекта
+ * ({@code content-crc32}) и сверяется после скачивания.
+ *
+ * @see S3Service
+ * @see AsyncConcurrencyLimiter
+ */
+@Singleton
+public class S3TransferEngine implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(S3TransferEngine.class);
+
+    /** Ключ метаданных объекта с CRC32 всего файла */
+    public static final String CRC32_METADATA_KEY = "content-crc32";
+
+    /** Максимум частей в очереди ожидания на все передачи */
+    private static final int MAX_QUEUED_PARTS = 10_000;
+
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final int partSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final boolean checksumEnabled;
+    private final ExecutorService ioExecutor;
+    private final AsyncConcurrencyLimiter limiter;
+    private final Counter partRetryCounter;
+
+    /**
+     * Создаёт движок передачи файлов.
+     *
+     * @param localStackConfig конфигурация LocalStack для клиента
+     * @param s3Config конфигурация S3 (размер части, параллелизм, повторы)
+     * @param monitoringConfig конфигурация мониторинга для метрик
+     */
+    @Inject
+    public S3TransferEngine(LocalStackConfig localStackConfig, S3Config s3Config, MonitoringConfig monitoringConfig) {
+        this.s3AsyncClient = localStackConfig.getS3AsyncClient();
+        this.partSize = s3Config.getTransferPartSize();
+        this.maxAttempts = s3Config.getTransferPartAttempts();
+        this.retryBackoffMs = s3Config.getTransferRetryBackoffMs();
+        this.checksumEnabled = s3Config.isTransferChecksumEnabled();
+
+        int concurrency = s3Config.getTransferConcurrency();
+        AtomicInteger counter = new AtomicInteger();
+        this.ioExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "s3-transfer-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.limiter = new AsyncConcurrencyLimiter("s3-transfer", concurrency, MAX_QUEUED_PARTS, ioExecutor);
+
+        MeterRegistry registry = monitoringConfig.getApplicationRegistry();
+        this.partRetryCounter = Counter.builder("s3.transfer.part.retries")
+                .description("Retried S3 part uploads and ranged downloads")
+                .register(registry);
+
+        log.info("S3 transfer engine initialized: partSize={}, concurrency={}, attempts={}, checksum={}",
+                partSize, concurrency, maxAttempts, checksumEnabled);
+    }
+
+    /**
+     * Загружает файл в S3.
+     * <p>
+     * Файлы до размера части загружаются одним PutObject, большие — через multipart upload
+     * с параллельной отправкой частей.
+     *
+     * @param file локальный файл
+     * @param bucket имя бакета
+     * @param key ключ объекта
+     * @param contentType Content-Type объекта
+     * @param metadata пользовательские метаданные объекта
+     * @return future, завершаемый после загрузки всего файла
+     */
+    public CompletableFuture<Void> upload(Path file, String bucket, String key,
+                                          String contentType, Map<String, String> metadata) {
+        return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        long size = Files.size(file);
+                        Map<String, String> objectMetadata = new HashMap<>(metadata);
+                        long checksum = 0;
+                        if (checksumEnabled) {
+                            checksum = crc32(file);
+                            objectMetadata.put(CRC32_METADATA_KEY, Long.toHexString(checksum));
+                        }
+                        return new UploadPlan(size, checksum, objectMetadata);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, ioExecutor)
+                .thenCompose(plan -> plan.size() <= partSize
+                        ? putSingle(file, bucket, key, contentType, plan)
+                        : putMultipart(file, bucket, key, contentType, plan));
+    }
+
+    /**
+     * Скачивает объект S3 в файл.
+     * <p>
+     * Объекты до размера части скачиваются одним GET, большие — параллельными ranged GET.
+     * Существующий файл перезаписывается.
+     *
+     * @param bucket имя бакета
+     * @param key ключ объекта
+     * @param target путь к файлу назначения
+     * @return future, завершаемый после записи всего файла
+     */
+    public CompletableFuture<Void> download(String bucket, String key, Path target) {
+        HeadObjectRequest headRequest = HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+
+        return s3AsyncClient.headObject(headRequest)
+                .thenCompose(head -> {
+                    CompletableFuture<Void> transfer = head.contentLength() <= partSize
+                            ? getSingle(bucket, key, target)
+                            : getRanged(bucket, key, target, head);
+                    return transfer.thenApplyAsync(ignored -> {
+                        verifyChecksum(target, head, key);
+                        return null;
+                    }, ioExecutor);
+                });
+    }
+
+    private CompletableFuture<Void> putSingle(Path file, String bucket, String key,
+                                              String contentType, UploadPlan plan) {
+        PutObjectRequest.Builder request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(plan.size())
+                .metadata(plan.metadata());
+        if (checksumEnabled) {
+            request.checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                    .checksumCRC32(encodeCrc32(plan.crc32()));
+        }
+        PutObjectRequest putRequest = request.build();
+
+        return withRetries("put " + key, () -> limiter.submit(() ->
+                s3AsyncClient.putObject(putRequest, AsyncRequestBody.fromFile(file))))
+                .thenAccept(response -> log.debug("Uploaded {} in a single request ({} bytes)", key, plan.size()));
+    }
+
+    private CompletableFuture<Void> putMultipart(Path file, String bucket, String key,
+                                                 String contentType, UploadPlan plan) {
+        CreateMultipartUploadRequest.Builder createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .metadata(plan.metadata());
+        if (checksumEnabled) {
+            createRequest.checksumAlgorithm(ChecksumAlgorithm.CRC32);
+        }
+
+        return s3AsyncClient.createMultipartUpload(createRequest.build())
+                .thenCompose(created -> {
+                    String uploadId = created.uploadId();
+                    FileChannel channel;
+                    try {
+                        channel = FileChannel.open(file, StandardOpenOption.READ);
+                    } catch (IOException e) {
+                        return abortMultipart(bucket, key, uploadId)
+                                .thenCompose(ignored -> CompletableFuture.<Void>failedFuture(e));
+                    }
+
+                    List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+                    int partCount = (int) ((plan.size() + partSize - 1) / partSize);
+                    for (int i = 0; i < partCount; i++) {
+                        int partNumber = i + 1;
+                        long offset = (long) i * partSize;
+                        int length = (int) Math.min(partSize, plan.size() - offset);
+                        parts.add(withRetries("upload part " + partNumber + " of " + key,
+                                () -> limiter.submit(() -> uploadPart(channel, bucket, key, uploadId,
+                                        partNumber, offset, length))));
+                    }
+
+                    return CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0]))
+                            .whenComplete((ignored, ex) -> closeQuietly(channel))
+                            .thenCompose(ignored -> {
+                                List<CompletedPart> completedParts = parts.stream()
+                                        .map(CompletableFuture::join)
+                                        .collect(Collectors.toList());
+                                CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+                                        .bucket(bucket)
+                                        .key(key)
+                                        .uploadId(uploadId)
+                                        .multipartUpload(CompletedMultipartUpload.builder()
+                                                .parts(completedParts)
+                                                .build())
+                                        .build();
+                                return s3AsyncClient.completeMultipartUpload(completeRequest);
+                            })
+                            .<Void>thenApply(response -> {
+                                log.debug("Uploaded {} in {} parts ({} bytes)", key, partCount, plan.size());
+                                return null;
+                            })
+                            .exceptionallyCompose(ex -> abortMultipart(bucket, key, uploadId)
+                                    .thenCompose(ignored -> CompletableFuture.<Void>failedFuture(ex)));
+                });
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(FileChannel channel, String bucket, String key,
+                                                        String uploadId, int partNumber, long offset, int length) {
+        return CompletableFuture.supplyAsync(() -> readRange(channel, offset, length), ioExecutor)
+                .thenCompose(data -> {
+                    UploadPartRequest.Builder request = UploadPartRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .contentLength((long) length);
+                    String checksum = null;
+                    if (checksumEnabled) {
+                        CRC32 crc = new CRC32();
+                        crc.update(data);
+                        checksum = encodeCrc32(crc.getValue());
+                        request.checksumAlgorithm(ChecksumAlgorithm.CRC32).checksumCRC32(checksum);
+                    }
+
+                    String partChecksum = checksum;
+                    return s3AsyncClient.uploadPart(request.build(), AsyncRequestBody.fromBytesUnsafe(data))
+                            .thenApply(response -> CompletedPart.builder()
+                                    .partNumber(partNumber)
+                                    .eTag(response.eTag())
+                                    .checksumCRC32(partChecksum)
+                                    .build());
+                });
+    }
+
+    private CompletableFuture<Void> abortMultipart(String bucket, String key, String uploadId) {
+        AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .build();
+
+        return s3AsyncClient.abortMultipartUpload(request)
+                .handle((response, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to abort multipart upload {} for {}: {}", uploadId, key, ex.getMessage());
+                    }
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Void> getSingle(String bucket, String key, Path target) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+
+        return withRetries("get " + key, () -> limiter.submit(() ->
+                s3AsyncClient.getObject(request, AsyncResponseTransformer.toFile(target,
+                        FileTransformerConfiguration.defaultCreateOrReplaceExisting()))))
+                .thenAccept(response -> log.debug("Downloaded {} in a single request", key));
+    }
+
+    private CompletableFuture<Void> getRanged(String bucket, String key, Path target, HeadObjectResponse head) {
+        long size = head.contentLength();
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        List<CompletableFuture<Void>> parts = new ArrayList<>();
+        int partCount = (int) ((size + partSize - 1) / partSize);
+        for (int i = 0; i < partCount; i++) {
+            long offset = (long) i * partSize;
+            long end = Math.min(size, offset + partSize) - 1;
+            GetObjectRequest request = GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .range("bytes=" + offset + "-" + end)
+                    .ifMatch(head.eTag())
+                    .build();
+
+            parts.add(withRetries("download range " + offset + "-" + end + " of " + key,
+                    () -> limiter.submit(() -> s3AsyncClient.getObject(request, AsyncResponseTransformer.toBytes())
+                            .thenAcceptAsync(bytes -> writeRange(channel, offset, end - offset + 1,
+                                    bytes.asByteBuffer()), ioExecutor))));
+        }
+
+        return CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, ex) -> closeQuietly(channel))
+                .thenAccept(ignored -> log.debug("Downloaded {} in {} ranged requests ({} bytes)",
+                        key, partCount, size));
+    }
+
+    private <T> CompletableFuture<T> withRetries(String description, Supplier<CompletableFuture<T>> action) {
+        return attempt(description, action, 1);
+    }
+
+    private <T> CompletableFuture<T> attempt(String description, Supplier<CompletableFuture<T>> action, int attempt) {
+        CompletableFuture<T> future;
+        try {
+            future = action.get();
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.exceptionallyCompose(ex -> {
+            if (attempt >= maxAttempts) {
+                log.error("S3 transfer step failed after {} attempts: {}", attempt, description, ex);
+                return CompletableFuture.failedFuture(ex);
+            }
+
+            long delay = retryBackoffMs << (attempt - 1);
+            partRetryCounter.increment();
+            log.warn("S3 transfer step failed (attempt {}/{}), retrying in {}ms: {}: {}",
+                    attempt, maxAttempts, delay, description, ex.getMessage());
+            return CompletableFuture.runAsync(() -> { },
+                            CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, ioExecutor))
+                    .thenCompose(ignored -> attempt(description, action, attempt + 1));
+        });
+    }
+
+    private void verifyChecksum(Path target, HeadObjectResponse head, String key) {
+        String expected = head.metadata().get(CRC32_METADATA_KEY);
+        if (!checksumEnabled || expected == null) {
+            return;
+        }
+
+        try {
+            long actual = crc32(target);
+            if (actual != Long.parseLong(expected, 16)) {
+                throw new IOException("CRC32 mismatch for " + key + ": expected " + expected
+                        + ", got " + Long.toHexString(actual));
+            }
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static byte[] readRange(FileChannel channel, long offset, int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of file at " + (offset + buffer.position()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.array();
+    }
+
+    private static void writeRange(FileChannel channel, long offset, long expectedLength, ByteBuffer data) {
+        if (data.remaining() != expectedLength) {
+            throw new UncheckedIOException(new IOException("Ranged GET at offset " + offset + " returned "
+                    + data.remaining() + " bytes, expected " + expectedLength));
+        }
+        try {
+            long position = offset;
+            while (data.hasRemaining()) {
+                position += channel.write(data, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long crc32(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        try (InputStream input = Files.newInputStream(file)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static String encodeCrc32(long value) {
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(4).putInt((int) value).array());
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close file channel: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        ioExecutor.shutdown();
+        try {
+            if (!ioExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                ioExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            ioExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("S3 transfer engine closed");
+    }
+
+    private record UploadPlan(long size, long crc32, Map<String, String> metadata) {
+    }
+}
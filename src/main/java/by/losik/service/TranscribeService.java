@@ -1,12 +1,16 @@
 package by.losik.service;
 
 import by.losik.config.LocalStackConfig;
+import by.losik.config.MonitoringConfig;
 import by.losik.config.TranscribeConfig;
 import by.losik.dto.TranscriptionJobResponse;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.transcribe.TranscribeAsyncClient;
@@ -20,13 +24,11 @@
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Сервис для транскрибации аудио через AWS Transcribe.
@@ -34,11 +36,12 @@
  * Предоставляет методы для:
  * <ul>
  *     <li>Запуска задачи транскрибации</li>
- *     <li>Polling статуса выполнения</li>
+ *     <li>Ожидания завершения по событиям EventBridge из SQS и резервного polling статуса</li>
  *     <li>Скачивания и парсинга результата</li>
  * </ul>
  * <p>
- * Использует асинхронный TranscribeAsyncClient и ScheduledExecutorService для polling.
+ * Использует асинхронный TranscribeAsyncClient, {@link TranscriptionEventListener}
+ * для событий о завершении и общий {@link TranscriptionJobPoller} для polling.
  *
  * @see TranscribeConfig
  */
@@ -46,12 +49,15 @@
 public class TranscribeService implements AutoCloseable {
 
     private static final Logger log = LoggerFactory.getLogger(TranscribeService.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
     private final TranscribeAsyncClient transcribeAsyncClient;
     private final S3Service s3Service;
-    private final ObjectMapper objectMapper;
-    private final ScheduledExecutorService scheduler;
     private final TranscribeConfig config;
+    private final TranscriptionEventListener eventListener;
+    private final TranscriptionJobPoller jobPoller;
+    private final Counter eventCompletions;
+    private final Counter pollCompletions;
 
     /**
      * Создаёт транскрибация сервис с конфигурацией.
@@ -59,15 +65,32 @@ public class TranscribeService implements AutoCloseable {
      * @param localStackConfig конфигурация LocalStack для клиента
      * @param s3Service сервис для работы с S3
      * @param config конфигурация транскрибации
+     * @param eventListener получатель событий о завершении задач
+     * @param jobPoller общий poller статусов задач
+     * @param monitoringConfig конфигурация мониторинга для метрик
      */
     @Inject
-    public TranscribeService(LocalStackConfig localStackConfig, S3Service s3Service, TranscribeConfig config) {
+    public TranscribeService(LocalStackConfig localStackConfig,
+                             S3Service s3Service,
+                             TranscribeConfig config,
+                             TranscriptionEventListener eventListener,
+                             TranscriptionJobPoller jobPoller,
+                             MonitoringConfig monitoringConfig) {
         this.transcribeAsyncClient = localStackConfig.getTranscribeAsyncClient();
         this.s3Service = s3Service;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.findAndRegisterModules();
-        this.scheduler = Executors.newScheduledThreadPool(2);
         this.config = config;
+        this.eventListener = eventListener;
+        this.jobPoller = jobPoller;
+
+        MeterRegistry registry = monitoringConfig.getApplicationRegistry();
+        this.eventCompletions = Counter.builder("transcribe.jobs.completed")
+                .description("Transcription jobs whose completion was detected")
+                .tag("source", "event")
+                .register(registry);
+        this.pollCompletions = Counter.builder("transcribe.jobs.completed")
+                .description("Transcription jobs whose completion was detected")
+                .tag("source", "poll")
+                .register(registry);
     }
 
     /**
@@ -80,7 +103,7 @@ public TranscribeService(LocalStackConfig localStackConfig, S3Service s3Service,
     public CompletableFuture<TranscriptionJobResponse> startTranscriptionAsync(
             String audioKey, String bucketName) {
 
-        String jobName = "transcribe-job-" + System.currentTimeMillis();
+        String jobName = TranscriptionJobPoller.JOB_NAME_PREFIX + UUID.randomUUID();
 
         Media media = Media.builder()
                 .mediaFileUri(String.format("s3://%s/%s", bucketName, audioKey))
@@ -115,71 +138,64 @@ public CompletableFuture<TranscriptionJobResponse> startTranscriptionAsync(
     /**
      * Ожидает завершения задачи транскрибации и возвращает текст.
      * <p>
-     * Использует polling для проверки статуса задачи.
+     * Задача регистрируется в общем {@link TranscriptionJobPoller}, который проверяет
+     * все ожидаемые задачи пакетно. Если настроена очередь событий, задача завершается
+     * раньше по событию EventBridge "Transcribe Job State Change", а poller работает
+     * как резервный путь с редким интервалом. Общее время ожидания ограничено
+     * {@code maxAttempts * pollIntervalMs}.
      *
      * @param jobId ID задачи транскрибации
-     * @param maxAttempts максимальное количество попыток polling
-     * @param pollIntervalMs интервал между попытками в миллисекундах
+     * @param maxAttempts количество интервалов ожидания (вместе с pollIntervalMs задаёт лимит времени)
+     * @param pollIntervalMs интервал polling в миллисекундах (для расчёта лимита времени)
      * @return текст транскрипции
      */
     public CompletableFuture<String> waitAndGetTranscriptionResultAsync(
             String jobId, int maxAttempts, long pollIntervalMs) {
 
-        CompletableFuture<String> resultFuture = new CompletableFuture<>();
-        scheduler.schedule(new Runnable() {
-            private int attempts = 0;
-
-            @Override
-            public void run() {
-                if (attempts >= maxAttempts) {
-                    log.warn("Transcription timeout after {} attempts for job {}", maxAttempts, jobId);
-                    resultFuture.completeExceptionally(
-                            new RuntimeException("Transcription timeout after " + maxAttempts + " attempts"));
-                    return;
-                }
+        CompletableFuture<TranscriptionJob> finished = jobPoller.track(jobId, maxAttempts * pollIntervalMs);
+        // Задача, полученная по событию; сравнивается по ссылке с результатом, которым завершился future
+        AtomicReference<TranscriptionJob> eventJob = new AtomicReference<>();
+
+        if (eventListener.isEnabled()) {
+            eventListener.awaitJobEvent(jobId)
+                    .thenCompose(status -> getTranscriptionJobAsync(jobId))
+                    .whenComplete((job, ex) -> {
+                        if (ex == null) {
+                            eventJob.set(job);
+                            finished.complete(job);
+                        } else if (!finished.isDone()) {
+                            log.warn("Event path failed for job {}, relying on polling: {}", jobId, ex.getMessage());
+                        }
+                    });
+        }
 
-                attempts++;
-                log.debug("Checking transcription job {} (attempt {}/{})", jobId, attempts, maxAttempts);
-
-                getTranscriptionJobAsync(jobId)
-                        .thenAccept(job -> {
-                            TranscriptionJobStatus status = job.transcriptionJobStatus();
-                            log.debug("Job {} status: {}", jobId, status);
-
-                            if (status == TranscriptionJobStatus.COMPLETED) {
-                                log.info("Transcription job {} completed successfully", jobId);
-                                downloadTranscriptionText(job.transcript().transcriptFileUri())
-                                        .thenAccept(transcript -> {
-                                            log.info("Successfully processed transcription for job {}", jobId);
-                                            resultFuture.complete(transcript);
-                                        })
-                                        .exceptionally(ex -> {
-                                            log.error("Failed to download transcription for job {}", jobId, ex);
-                                            resultFuture.completeExceptionally(
-                                                    new RuntimeException("Failed to download transcription", ex));
-                                            return null;
-                                        });
-                            } else if (status == TranscriptionJobStatus.FAILED) {
-                                String failureReason = job.failureReason() != null ? job.failureReason() : "Unknown reason";
-                                log.error("Transcription job {} failed: {}", jobId, failureReason);
-                                resultFuture.completeExceptionally(
-                                        new RuntimeException("Transcription failed: " + failureReason));
-                            } else {
-                                log.debug("Job {} still in progress, scheduling next check in {}ms",
-                                        jobId, pollIntervalMs);
-                                scheduler.schedule(this, pollIntervalMs, TimeUnit.MILLISECONDS);
-                            }
-                        })
-                        .exceptionally(ex -> {
-                            log.error("Failed to check transcription status for job {}", jobId, ex);
-                            resultFuture.completeExceptionally(
-                                    new RuntimeException("Failed to check transcription status", ex));
-                            return null;
-                        });
-            }
-        }, 0, TimeUnit.MILLISECONDS);
+        return finished
+                .whenComplete((job, ex) -> {
+                    eventListener.cancel(jobId);
+                    if (ex == null) {
+                        (job == eventJob.get() ? eventCompletions : pollCompletions).increment();
+                    }
+                })
+                .thenCompose(job -> handleFinishedJob(jobId, job));
+    }
 
-        return resultFuture;
+    private CompletableFuture<String> handleFinishedJob(String jobId, TranscriptionJob job) {
+        if (job.transcriptionJobStatus() == TranscriptionJobStatus.FAILED) {
+            String failureReason = job.failureReason() != null ? job.failureReason() : "Unknown reason";
+            log.error("Transcription job {} failed: {}", jobId, failureReason);
+            return CompletableFuture.failedFuture(new RuntimeException("Transcription failed: " + failureReason));
+        }
+
+        log.info("Transcription job {} completed successfully", jobId);
+        return downloadTranscriptionText(job.transcript().transcriptFileUri())
+                .thenApply(transcript -> {
+                    log.info("Successfully processed transcription for job {}", jobId);
+                    return transcript;
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to download transcription for job {}", jobId, ex);
+                    throw new RuntimeException("Failed to download transcription", ex);
+                });
     }
 
     /**
@@ -220,49 +236,42 @@ private CompletableFuture<TranscriptionJob> getTranscriptionJobAsync(String jobI
 
     /**
      * Скачивает текст транскрипции из S3.
+     * <p>
+     * JSON транскрипции читается в память и разбирается потоковым парсером,
+     * без временного файла и без блокировки потока пула.
      *
      * @param transcriptUri URI файла с транскрипцией
      * @return текст транскрипции
      */
     private CompletableFuture<String> downloadTranscriptionText(String transcriptUri) {
-        return CompletableFuture.supplyAsync(() -> {
-            Path tempFile = null;
-            try {
-                log.info("Attempting to download transcription from: {}", transcriptUri);
-
-                URI uri = URI.create(transcriptUri);
-                String path = parseS3PathFromUri(uri);
-
-                log.info("Downloading transcription from bucket: {}, key: {}", 
-                        extractBucketFromS3Path(path), extractKeyFromS3Path(path));
-
-                tempFile = Files.createTempFile("transcription", ".json");
-                tempFile.toFile().deleteOnExit();
-
-                s3Service.downloadFileAsync(
-                        extractKeyFromS3Path(path),
-                        tempFile,
-                        extractBucketFromS3Path(path)
-                ).get(config.getTranscriptionTimeoutSec(), TimeUnit.SECONDS);
-
-                String jsonContent = Files.readString(tempFile);
-                log.info("Downloaded transcription JSON, size: {} bytes", jsonContent.length());
+        String bucket;
+        String key;
+        try {
+            log.info("Attempting to download transcription from: {}", transcriptUri);
+            String path = parseS3PathFromUri(URI.create(transcriptUri));
+            bucket = extractBucketFromS3Path(path);
+            key = extractKeyFromS3Path(path);
+        } catch (Exception e) {
+            log.error("Invalid transcription URI: {}", transcriptUri, e);
+            return CompletableFuture.failedFuture(new RuntimeException("Failed to download transcription", e));
+        }
 
-                return parseTranscriptionJson(jsonContent);
+        log.info("Downloading transcription from bucket: {}, key: {}", bucket, key);
 
-            } catch (Exception e) {
-                log.error("Failed to download transcription from URI: {}", transcriptUri, e);
-                throw new RuntimeException("Failed to download transcription", e);
-            } finally {
-                if (tempFile != null) {
+        return s3Service.getObjectBytesAsync(key, bucket)
+                .orTimeout(config.getTranscriptionTimeoutSec(), TimeUnit.SECONDS)
+                .thenApply(content -> {
+                    log.info("Downloaded transcription JSON, size: {} bytes", content.length);
                     try {
-                        Files.deleteIfExists(tempFile);
+                        return parseTranscriptionJson(content);
                     } catch (IOException e) {
-                        log.debug("Could not delete temp file immediately: {}", tempFile);
+                        throw new RuntimeException("Could not parse transcription from JSON", e);
                     }
-                }
-            }
-        });
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to download transcription from URI: {}", transcriptUri, ex);
+                    throw new RuntimeException("Failed to download transcription", ex);
+                });
     }
 
     /**
@@ -314,32 +323,44 @@ private String extractKeyFromS3Path(String s3Path) {
 
     /**
      * Парсит текст транскрипции из JSON ответа AWS Transcribe.
+     * <p>
+     * Ищет {@code results.transcripts[0].transcript} потоковым парсером и прекращает
+     * чтение, как только текст найден, не разбирая пословный массив {@code results.items}.
+     * Если такого поля нет, используются поля верхнего уровня {@code text} или {@code transcript}.
      *
      * @param jsonContent JSON контент транскрипции
      * @return текст транскрипции
-     * @throws Exception если не удалось распарсить JSON
+     * @throws IOException если не удалось распарсить JSON
      */
-    private String parseTranscriptionJson(String jsonContent) throws Exception {
-        JsonNode root = objectMapper.readTree(jsonContent);
+    private String parseTranscriptionJson(byte[] jsonContent) throws IOException {
         String transcript = null;
-
-        if (root.has("results") && root.get("results").has("transcripts")) {
-            JsonNode transcripts = root.get("results").get("transcripts");
-            if (transcripts.isArray() && transcripts.size() > 0) {
-                transcript = transcripts.get(0).path("transcript").asText();
+        String text = null;
+        String topLevelTranscript = null;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(jsonContent)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (transcript == null && parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("results".equals(field) && value == JsonToken.START_OBJECT) {
+                        transcript = readResultsTranscript(parser);
+                    } else if ("text".equals(field) && value.isScalarValue()) {
+                        text = parser.getText();
+                    } else if ("transcript".equals(field) && value.isScalarValue()) {
+                        topLevelTranscript = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
             }
         }
 
-        if (transcript == null && root.has("text")) {
-            transcript = root.get("text").asText();
-        }
-
-        if (transcript == null && root.has("transcript")) {
-            transcript = root.get("transcript").asText();
+        if (transcript == null) {
+            transcript = text != null ? text : topLevelTranscript;
         }
 
         if (transcript == null) {
-            log.warn("Unexpected transcription format: {}", jsonContent);
+            log.warn("Unexpected transcription format: {}", new String(jsonContent, StandardCharsets.UTF_8));
             throw new RuntimeException("Could not parse transcription from JSON");
         }
 
@@ -348,24 +369,50 @@ private String parseTranscriptionJson(String jsonContent) throws Exception {
     }
 
     /**
-     * Закрывает сервис и освобождает ресурсы.
+     * Читает {@code transcripts[0].transcript} из объекта {@code results}.
      * <p>
-     * Останавливает ScheduledExecutorService.
+     * Парсер должен стоять на начале объекта {@code results}. Если текст найден,
+     * метод возвращается сразу, не дочитывая объект до конца.
+     *
+     * @param parser парсер, установленный на START_OBJECT объекта results
+     * @return текст транскрипции или null, если его нет
+     * @throws IOException если не удалось прочитать JSON
      */
-    @Override
-    public void close() {
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
-            try {
-                if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                    scheduler.shutdownNow();
+    private static String readResultsTranscript(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!"transcripts".equals(field) || value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String transcriptField = parser.currentName();
+                JsonToken transcriptValue = parser.nextToken();
+                if ("transcript".equals(transcriptField) && transcriptValue.isScalarValue()) {
+                    return parser.getText();
                 }
-                log.info("TranscribeService scheduler shutdown successfully");
-            } catch (InterruptedException e) {
-                scheduler.shutdownNow();
-                Thread.currentThread().interrupt();
-                log.error("Scheduler shutdown interrupted", e);
+                parser.skipChildren();
             }
+            return "";
         }
+        return null;
+    }
+
+    /**
+     * Закрывает сервис и освобождает ресурсы.
+     * <p>
+     * Останавливает poller статусов и получатель событий.
+     */
+    @Override
+    public void close() {
+        jobPoller.close();
+        eventListener.close();
+        log.info("TranscribeService closed");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,286 @@
+package by.losik.service;
+
+import by.losik.config.LocalStackConfig;
+import by.losik.config.TranscribeConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Получатель событий о завершении задач транскрибации.
+ * <p>
+ * Читает из очереди SQS события EventBridge "Transcribe Job State Change"
+ * (COMPLETED / FAILED) и завершает future ожидающих задач:
+ * <ul>
+ *     <li>Очередь читается одним циклом long polling, который запускается при первом ожидании</li>
+ *     <li>Обработанные события удаляются из очереди одним пакетным запросом</li>
+ *     <li>События о задачах, которые этот экземпляр не ожидает, возвращаются в очередь
+ *     с небольшой задержкой, чтобы их мог получить другой экземпляр приложения;
+ *     после {@code MAX_UNKNOWN_JOB_RECEIVES} доставок такое событие удаляется
+ *     (задачу всё равно найдёт {@link TranscriptionJobPoller})</li>
+ *     <li>События о задачах, созданных не приложением (имя без
+ *     {@link TranscriptionJobPoller#JOB_NAME_PREFIX}), сразу удаляются</li>
+ * </ul>
+ * <p>
+ * Если {@code TRANSCRIBE_EVENTS_QUEUE_URL} не задан, получатель отключён и
+ * {@link TranscribeService} использует только polling.
+ *
+ * @see TranscribeService
+ * @see TranscribeConfig
+ */
+@Singleton
+public class TranscriptionEventListener implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TranscriptionEventListener.class);
+
+    /** Тип события EventBridge об изменении статуса задачи транскрибации */
+    private static final String DETAIL_TYPE = "Transcribe Job State Change";
+
+    /** Задержка повторной доставки события о неизвестной задаче (секунды) */
+    private static final int UNKNOWN_JOB_VISIBILITY_SEC = 5;
+
+    /** Максимум доставок события о неизвестной задаче, после которого оно удаляется */
+    private static final int MAX_UNKNOWN_JOB_RECEIVES = 10;
+
+    /** Задержка перед повтором чтения очереди после ошибки (миллисекунды) */
+    private static final long RECEIVE_RETRY_DELAY_MS = 1000L;
+
+    private final SqsAsyncClient sqsAsyncClient;
+    private final TranscribeConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, CompletableFuture<String>> waiters = new ConcurrentHashMap<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final ScheduledExecutorService retryScheduler;
+    private volatile boolean closed;
+
+    /**
+     * Создаёт получатель событий транскрибации.
+     *
+     * @param localStackConfig конфигурация LocalStack для клиента SQS
+     * @param config конфигурация транскрибации (URL очереди, время long polling)
+     */
+    @Inject
+    public TranscriptionEventListener(LocalStackConfig localStackConfig, TranscribeConfig config) {
+        this.sqsAsyncClient = localStackConfig.getSqsAsyncClient();
+        this.config = config;
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "transcribe-events-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Проверяет, включено ли получение событий.
+     *
+     * @return true если задан URL очереди событий
+     */
+    public boolean isEnabled() {
+        return config.isEventsEnabled();
+    }
+
+    /**
+     * Ожидает событие о завершении задачи.
+     *
+     * @param jobName имя задачи транскрибации
+     * @return future со статусом из события ("COMPLETED" или "FAILED")
+     */
+    public CompletableFuture<String> awaitJobEvent(String jobName) {
+        if (!isEnabled()) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("Transcription events are not configured"));
+        }
+        if (started.compareAndSet(false, true)) {
+            log.info("Starting transcription event listener on {}", config.getEventsQueueUrl());
+            receive();
+        }
+        return waiters.computeIfAbsent(jobName, name -> new CompletableFuture<>());
+    }
+
+    /**
+     * Прекращает ожидание события о задаче.
+     *
+     * @param jobName имя задачи транскрибации
+     */
+    public void cancel(String jobName) {
+        CompletableFuture<String> waiter = waiters.remove(jobName);
+        if (waiter != null) {
+            waiter.cancel(false);
+        }
+    }
+
+    private void receive() {
+        if (closed) {
+            return;
+        }
+
+        ReceiveMessageRequest request = ReceiveMessageRequest.builder()
+                .queueUrl(config.getEventsQueueUrl())
+                .maxNumberOfMessages(10)
+                .waitTimeSeconds(config.getEventsWaitSec())
+                .messageSystemAttributeNames(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT)
+                .build();
+
+        sqsAsyncClient.receiveMessage(request)
+                .whenComplete((response, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to receive transcription events: {}", ex.getMessage());
+                        retryScheduler.schedule(this::receive, RECEIVE_RETRY_DELAY_MS, TimeUnit.MILLISECONDS);
+                        return;
+                    }
+                    try {
+                        handleMessages(response);
+                    } catch (Exception e) {
+                        log.error("Failed to handle transcription events", e);
+                    }
+                    receive();
+                });
+    }
+
+    private void handleMessages(ReceiveMessageResponse response) {
+        List<DeleteMessageBatchRequestEntry> processed = new ArrayList<>();
+
+        for (Message message : response.messages()) {
+            JobEvent event = parseEvent(message.body());
+            if (event == null) {
+                processed.add(deleteEntry(processed.size(), message));
+                continue;
+            }
+
+            if (!event.jobName().startsWith(TranscriptionJobPoller.JOB_NAME_PREFIX)) {
+                log.debug("Dropping event of foreign transcription job {}", event.jobName());
+                processed.add(deleteEntry(processed.size(), message));
+                continue;
+            }
+
+            CompletableFuture<String> waiter = waiters.remove(event.jobName());
+            if (waiter != null) {
+                log.info("Transcription job {} finished with status {} (event)", event.jobName(), event.status());
+                waiter.complete(event.status());
+                processed.add(deleteEntry(processed.size(), message));
+            } else if (receiveCount(message) >= MAX_UNKNOWN_JOB_RECEIVES) {
+                log.debug("Dropping event of transcription job {} not awaited by any instance", event.jobName());
+                processed.add(deleteEntry(processed.size(), message));
+            } else {
+                release(message);
+            }
+        }
+
+        if (processed.isEmpty()) {
+            return;
+        }
+
+        DeleteMessageBatchRequest deleteRequest = DeleteMessageBatchRequest.builder()
+                .queueUrl(config.getEventsQueueUrl())
+                .entries(processed)
+                .build();
+
+        sqsAsyncClient.deleteMessageBatch(deleteRequest)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to delete transcription events: {}", ex.getMessage());
+                    } else if (result.hasFailed() && !result.failed().isEmpty()) {
+                        log.warn("Failed to delete {} transcription events", result.failed().size());
+                    }
+                });
+    }
+
+    private static int receiveCount(Message message) {
+        String count = message.attributes().get(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT);
+        try {
+            return count != null ? Integer.parseInt(count) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void release(Message message) {
+        ChangeMessageVisibilityRequest request = ChangeMessageVisibilityRequest.builder()
+                .queueUrl(config.getEventsQueueUrl())
+                .receiptHandle(message.receiptHandle())
+                .visibilityTimeout(UNKNOWN_JOB_VISIBILITY_SEC)
+                .build();
+
+        sqsAsyncClient.changeMessageVisibility(request)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.debug("Failed to release transcription event {}: {}", message.messageId(), ex.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * Извлекает имя задачи и статус из события EventBridge.
+     * <p>
+     * Поддерживает события, доставленные в SQS напрямую из EventBridge
+     * и через SNS (поле {@code Message}).
+     *
+     * @param body тело сообщения SQS
+     * @return событие или null, если сообщение не является событием о завершении задачи
+     */
+    private JobEvent parseEvent(String body) {
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            if (root.hasNonNull("Message") && root.get("Message").isTextual()) {
+                root = objectMapper.readTree(root.get("Message").asText());
+            }
+
+            if (!DETAIL_TYPE.equals(root.path("detail-type").asText())) {
+                log.debug("Ignoring event of type {}", root.path("detail-type").asText());
+                return null;
+            }
+
+            JsonNode detail = root.path("detail");
+            String jobName = detail.path("TranscriptionJobName").asText(null);
+            String status = detail.path("TranscriptionJobStatus").asText(null);
+            if (jobName == null || status == null) {
+                log.warn("Transcription event without job name or status: {}", body);
+                return null;
+            }
+            return new JobEvent(jobName, status);
+        } catch (Exception e) {
+            log.warn("Failed to parse transcription event: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static DeleteMessageBatchRequestEntry deleteEntry(int index, Message message) {
+        return DeleteMessageBatchRequestEntry.builder()
+                .id(String.valueOf(index))
+                .receiptHandle(message.receiptHandle())
+                .build();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        retryScheduler.shutdownNow();
+        waiters.values().forEach(waiter -> waiter.cancel(false));
+        waiters.clear();
+        log.info("Transcription event listener closed");
+    }
+
+    private record JobEvent(String jobName, String status) {
+    }
+}
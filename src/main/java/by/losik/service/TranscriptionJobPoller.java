@@ -0,0 +1,345 @@
+package by.losik.service;
+
+import by.losik.config.LocalStackConfig;
+import by.losik.config.MonitoringConfig;
+import by.losik.config.TranscribeConfig;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.transcribe.TranscribeAsyncClient;
+import software.amazon.awssdk.services.transcribe.model.GetTranscriptionJobRequest;
+import software.amazon.awssdk.services.transcribe.model.GetTranscriptionJobResponse;
+import software.amazon.awssdk.services.transcribe.model.ListTranscriptionJobsRequest;
+import software.amazon.awssdk.services.transcribe.model.TranscriptionJob;
+import software.amazon.awssdk.services.transcribe.model.TranscriptionJobStatus;
+import software.amazon.awssdk.services.transcribe.model.TranscriptionJobSummary;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Общий poller статусов задач транскрибации.
+ * <p>
+ * Вместо отдельного цикла polling на каждую задачу все ожидаемые задачи хранятся
+ * в одном реестре и проверяются пакетно одним циклом:
+ * <ul>
+ *     <li>ListTranscriptionJobs по статусам COMPLETED и FAILED находит завершённые задачи
+ *     из реестра (страницы читаются до самой старой ожидаемой задачи)</li>
+ *     <li>GetTranscriptionJob вызывается только для найденных завершённых задач,
+ *     чтобы получить URI транскрипции, и для задач старше просмотренного окна, если
+ *     список не удалось дочитать за {@code MAX_LIST_PAGES} страниц</li>
+ *     <li>Интервал цикла удваивается, пока задачи не завершаются, и сбрасывается
+ *     при завершении или появлении новой задачи</li>
+ * </ul>
+ * <p>
+ * Количество запросов растёт со временем ожидания, а не с количеством одновременных задач.
+ * Публикует gauge'и {@code transcribe.jobs.inflight} и {@code transcribe.poll.last.requests},
+ * а также счётчик {@code transcribe.poll.requests} по типу запроса.
+ *
+ * @see TranscribeService
+ */
+@Singleton
+public class TranscriptionJobPoller implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TranscriptionJobPoller.class);
+
+    /** Префикс имён задач транскрибации, создаваемых приложением */
+    public static final String JOB_NAME_PREFIX = "transcribe-job-";
+
+    /** Максимум страниц ListTranscriptionJobs на один статус за цикл */
+    private static final int MAX_LIST_PAGES = 10;
+
+    /** Запас по времени создания задачи при сравнении с моментом регистрации */
+    private static final Duration CREATION_TIME_SLACK = Duration.ofMinutes(1);
+
+    private final TranscribeAsyncClient transcribeAsyncClient;
+    private final long baseIntervalMs;
+    private final long maxIntervalMs;
+    private final Map<String, PendingJob> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean newJobs = new AtomicBoolean();
+    private final AtomicInteger lastTickRequests = new AtomicInteger();
+    private final Counter listRequests;
+    private final Counter getRequests;
+    private volatile long currentIntervalMs;
+    private volatile boolean closed;
+
+    /**
+     * Создаёт poller и запускает цикл проверки.
+     *
+     * @param localStackConfig конфигурация LocalStack для клиента
+     * @param config конфигурация транскрибации (интервалы polling, режим событий)
+     * @param monitoringConfig конфигурация мониторинга для метрик
+     */
+    @Inject
+    public TranscriptionJobPoller(LocalStackConfig localStackConfig,
+                                  TranscribeConfig config,
+                                  MonitoringConfig monitoringConfig) {
+        this.transcribeAsyncClient = localStackConfig.getTranscribeAsyncClient();
+        this.baseIntervalMs = config.isEventsEnabled()
+                ? Math.max(config.getPollIntervalMs(), config.getEventFallbackPollMs())
+                : config.getPollIntervalMs();
+        this.maxIntervalMs = Math.max(baseIntervalMs, config.getPollMaxIntervalMs());
+        this.currentIntervalMs = baseIntervalMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "transcribe-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        MeterRegistry registry = monitoringConfig.getApplicationRegistry();
+        Gauge.builder("transcribe.jobs.inflight", pending, Map::size)
+                .description("Transcription jobs waiting for completion")
+                .register(registry);
+        Gauge.builder("transcribe.poll.last.requests", lastTickRequests, AtomicInteger::get)
+                .description("Transcribe API requests made by the last poll cycle")
+                .register(registry);
+        this.listRequests = Counter.builder("transcribe.poll.requests")
+                .description("Transcribe API requests made by the poller")
+                .tag("api", "list")
+                .register(registry);
+        this.getRequests = Counter.builder("transcribe.poll.requests")
+                .description("Transcribe API requests made by the poller")
+                .tag("api", "get")
+                .register(registry);
+
+        scheduleTick(baseIntervalMs);
+        log.info("Transcription job poller started: baseIntervalMs={}, maxIntervalMs={}", baseIntervalMs, maxIntervalMs);
+    }
+
+    /**
+     * Начинает отслеживать задачу транскрибации.
+     * <p>
+     * Future можно завершить и извне (например, по событию EventBridge) —
+     * задача сразу удаляется из реестра и больше не проверяется.
+     *
+     * @param jobName имя задачи
+     * @param timeoutMs максимальное время ожидания
+     * @return future с завершённой (COMPLETED или FAILED) задачей
+     */
+    public CompletableFuture<TranscriptionJob> track(String jobName, long timeoutMs) {
+        PendingJob job = pending.computeIfAbsent(jobName, name -> new PendingJob(
+                new CompletableFuture<>(),
+                Instant.now(),
+                System.currentTimeMillis() + timeoutMs));
+        job.future().whenComplete((result, ex) -> pending.remove(jobName, job));
+        newJobs.set(true);
+        return job.future();
+    }
+
+    private void scheduleTick(long delayMs) {
+        if (closed) {
+            return;
+        }
+        scheduler.schedule(this::tickSafely, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (Exception e) {
+            log.error("Transcription poll cycle failed to start", e);
+            scheduleTick(currentIntervalMs);
+        }
+    }
+
+    private void tick() {
+        expireOverdue();
+        if (pending.isEmpty()) {
+            currentIntervalMs = baseIntervalMs;
+            lastTickRequests.set(0);
+            scheduleTick(baseIntervalMs);
+            return;
+        }
+
+        AtomicInteger requests = new AtomicInteger();
+        Instant oldest = pending.values().stream()
+                .map(PendingJob::registeredAt)
+                .min(Instant::compareTo)
+                .orElseGet(Instant::now)
+                .minus(CREATION_TIME_SLACK);
+
+        CompletableFuture<ListedJobs> completed =
+                listFinished(TranscriptionJobStatus.COMPLETED, oldest, requests);
+        CompletableFuture<ListedJobs> failed =
+                listFinished(TranscriptionJobStatus.FAILED, oldest, requests);
+
+        completed.thenCombine(failed, (completedJobs, failedJobs) -> {
+                    List<CompletableFuture<Void>> gets = new ArrayList<>();
+                    Set<String> seen = new HashSet<>();
+                    int finished = 0;
+
+                    for (TranscriptionJobSummary summary : failedJobs.summaries()) {
+                        PendingJob job = pending.get(summary.transcriptionJobName());
+                        seen.add(summary.transcriptionJobName());
+                        if (job != null) {
+                            finished++;
+                            job.future().complete(TranscriptionJob.builder()
+                                    .transcriptionJobName(summary.transcriptionJobName())
+                                    .transcriptionJobStatus(TranscriptionJobStatus.FAILED)
+                                    .failureReason(summary.failureReason())
+                                    .build());
+                        }
+                    }
+
+                    for (TranscriptionJobSummary summary : completedJobs.summaries()) {
+                        PendingJob job = pending.get(summary.transcriptionJobName());
+                        seen.add(summary.transcriptionJobName());
+                        if (job != null) {
+                            finished++;
+                            gets.add(fetchJob(summary.transcriptionJobName(), job, requests));
+                        }
+                    }
+
+                    // Задачи старше недочитанного окна списка проверяются по одной
+                    pending.forEach((jobName, job) -> {
+                        if (!seen.contains(jobName) && !job.future().isDone()
+                                && (completedJobs.misses(job) || failedJobs.misses(job))) {
+                            gets.add(fetchJob(jobName, job, requests));
+                        }
+                    });
+
+                    int finishedJobs = finished;
+                    return CompletableFuture.allOf(gets.toArray(new CompletableFuture<?>[0]))
+                            .thenApply(ignored -> finishedJobs);
+                })
+                .thenCompose(future -> future)
+                .whenComplete((found, ex) -> {
+                    lastTickRequests.set(requests.get());
+                    if (ex != null) {
+                        log.warn("Transcription poll cycle failed: {}", ex.getMessage());
+                    }
+
+                    boolean progress = (found != null && found > 0) || newJobs.getAndSet(false);
+                    currentIntervalMs = progress
+                            ? baseIntervalMs
+                            : Math.min(currentIntervalMs * 2, maxIntervalMs);
+                    log.debug("Poll cycle: {} pending, {} requests, next in {}ms",
+                            pending.size(), requests.get(), currentIntervalMs);
+                    scheduleTick(currentIntervalMs);
+                });
+    }
+
+    private CompletableFuture<ListedJobs> listFinished(TranscriptionJobStatus status,
+                                                       Instant oldest,
+                                                       AtomicInteger requests) {
+        List<TranscriptionJobSummary> result = new ArrayList<>();
+        return listPage(status, oldest, null, 0, result, requests)
+                .thenApply(truncated -> new ListedJobs(result, truncated && !result.isEmpty()
+                        ? result.get(result.size() - 1).creationTime()
+                        : null));
+    }
+
+    /**
+     * Читает страницу списка завершённых задач.
+     *
+     * @return true если список оборвался на лимите страниц до самой старой ожидаемой задачи
+     */
+    private CompletableFuture<Boolean> listPage(TranscriptionJobStatus status,
+                                             Instant oldest,
+                                             String nextToken,
+                                             int page,
+                                             List<TranscriptionJobSummary> result,
+                                             AtomicInteger requests) {
+        ListTranscriptionJobsRequest request = ListTranscriptionJobsRequest.builder()
+                .status(status)
+                .jobNameContains(JOB_NAME_PREFIX)
+                .maxResults(100)
+                .nextToken(nextToken)
+                .build();
+
+        requests.incrementAndGet();
+        listRequests.increment();
+        return transcribeAsyncClient.listTranscriptionJobs(request)
+                .thenCompose(response -> {
+                    boolean reachedOldest = false;
+                    for (TranscriptionJobSummary summary : response.transcriptionJobSummaries()) {
+                        if (summary.creationTime() != null && summary.creationTime().isBefore(oldest)) {
+                            reachedOldest = true;
+                            break;
+                        }
+                        result.add(summary);
+                    }
+
+                    if (reachedOldest || response.nextToken() == null) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    if (page + 1 >= MAX_LIST_PAGES) {
+                        return CompletableFuture.completedFuture(true);
+                    }
+                    return listPage(status, oldest, response.nextToken(), page + 1, result, requests);
+                });
+    }
+
+    private CompletableFuture<Void> fetchJob(String jobName, PendingJob job, AtomicInteger requests) {
+        GetTranscriptionJobRequest request = GetTranscriptionJobRequest.builder()
+                .transcriptionJobName(jobName)
+                .build();
+
+        requests.incrementAndGet();
+        getRequests.increment();
+        return transcribeAsyncClient.getTranscriptionJob(request)
+                .thenApply(GetTranscriptionJobResponse::transcriptionJob)
+                .handle((transcriptionJob, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to get transcription job {}: {}", jobName, ex.getMessage());
+                    } else if (transcriptionJob.transcriptionJobStatus() == TranscriptionJobStatus.COMPLETED
+                            || transcriptionJob.transcriptionJobStatus() == TranscriptionJobStatus.FAILED) {
+                        job.future().complete(transcriptionJob);
+                    }
+                    return null;
+                });
+    }
+
+    private void expireOverdue() {
+        long now = System.currentTimeMillis();
+        pending.forEach((jobName, job) -> {
+            if (now >= job.deadline()) {
+                log.warn("Transcription timeout for job {}", jobName);
+                job.future().completeExceptionally(new RuntimeException("Transcription timeout for job " + jobName));
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+        pending.values().forEach(job -> job.future().cancel(false));
+        pending.clear();
+        log.info("Transcription job poller closed");
+    }
+
+    private record PendingJob(CompletableFuture<TranscriptionJob> future, Instant registeredAt, long deadline) {
+    }
+
+    /**
+     * Завершённые задачи из списка ListTranscriptionJobs.
+     *
+     * @param summaries найденные задачи
+     * @param coveredFrom время создания самой старой просмотренной задачи, если список
+     *                    оборвался на лимите страниц; null если просмотрен полностью
+     */
+    private record ListedJobs(List<TranscriptionJobSummary> summaries, Instant coveredFrom) {
+
+        boolean misses(PendingJob job) {
+            return coveredFrom != null && job.registeredAt().minus(CREATION_TIME_SLACK).isBefore(coveredFrom);
+        }
+    }
+}
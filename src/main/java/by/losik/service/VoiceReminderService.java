@@ -2,18 +2,23 @@
 
 import by.losik.config.EventBridgeConfig;
 import by.losik.dto.CreateRuleRequest;
+import by.losik.dto.EventBridgeRuleRecord;
 import by.losik.dto.ParsedResult;
+import by.losik.dto.ReminderEventPayload;
 import by.losik.dto.ReminderRecord;
+import by.losik.service.pipeline.PipelineRejectedException;
+import by.losik.service.pipeline.VoiceReminderPipeline;
+import by.losik.service.pipeline.VoiceReminderPipeline.Stage;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Сервис для обработки голосовых напоминаний.
@@ -26,6 +31,12 @@
  *     <li>Создание правила в EventBridge для планирования</li>
  *     <li>Сохранение напоминания в OpenSearch</li>
  * </ol>
+ * При {@code SCHEDULER_MODE=bucket} вместо отдельного правила напоминание планируется
+ * через {@link ReminderDispatcher}, а общее правило диспетчера не удаляется вместе с напоминанием.
+ * Каждый этап выполняется в {@link VoiceReminderPipeline} с ограниченным параллелизмом
+ * и ограниченной очередью; при переполнении запрос завершается {@link PipelineRejectedException}.
+ * Если запрос отклонён после загрузки аудио, загруженный объект S3 удаляется, а если
+ * отклонено сохранение в OpenSearch — и созданное для напоминания правило EventBridge.
  * <p>
  * Также предоставляет методы для:
  * <ul>
@@ -40,6 +51,8 @@
  * @see GRPCService
  * @see EventBridgeService
  * @see OpenSearchService
+ * @see VoiceReminderPipeline
+ * @see ReminderDispatcher
  */
 @Singleton
 public class VoiceReminderService {
@@ -51,6 +64,8 @@ public class VoiceReminderService {
     private final OpenSearchService openSearchService;
     private final EmailService emailService;
     private final EventBridgeConfig eventBridgeConfig;
+    private final VoiceReminderPipeline pipeline;
+    private final ReminderDispatcher reminderDispatcher;
 
     /**
      * Создаёт сервис голосовых напоминаний с внедрёнными зависимостями.
@@ -62,6 +77,8 @@ public class VoiceReminderService {
      * @param openSearchService сервис для работы с OpenSearch
      * @param emailService сервис для отправки email
      * @param eventBridgeConfig конфигурация EventBridge (включая ARN Lambda)
+     * @param pipeline конвейер с лимитами этапов обработки
+     * @param reminderDispatcher диспетчер напоминаний по временным корзинам
      */
     @Inject
     public VoiceReminderService(
@@ -71,7 +88,9 @@ public VoiceReminderService(
             EventBridgeService eventBridgeService,
             OpenSearchService openSearchService,
             EmailService emailService,
-            EventBridgeConfig eventBridgeConfig) {
+            EventBridgeConfig eventBridgeConfig,
+            VoiceReminderPipeline pipeline,
+            ReminderDispatcher reminderDispatcher) {
         this.s3Service = s3Service;
         this.transcribeService = transcribeService;
         this.reminderParser = reminderParser;
@@ -79,6 +98,21 @@ public VoiceReminderService(
         this.openSearchService = openSearchService;
         this.emailService = emailService;
         this.eventBridgeConfig = eventBridgeConfig;
+        this.pipeline = pipeline;
+        this.reminderDispatcher = reminderDispatcher;
+    }
+
+    /**
+     * Проверяет, может ли конвейер принять новое голосовое напоминание.
+     * <p>
+     * Вызывается фильтром {@link by.losik.filter.PipelineAdmissionFilter} до чтения тела запроса.
+     * Проверка не резервирует место: если этап заполнится между проверкой и постановкой
+     * в очередь, запрос будет отклонён уже после чтения тела.
+     *
+     * @throws PipelineRejectedException если один из этапов конвейера заполнен
+     */
+    public void checkCapacity() {
+        pipeline.admit();
     }
 
     /**
@@ -102,24 +136,200 @@ public CompletableFuture<String> processVoiceReminder(
             String userId,
             java.io.File audioFile,
             String userEmail) {
+        return processVoiceReminder(userId, audioFile, userEmail, stage -> { });
+    }
+
+    /**
+     * Обрабатывает голосовое напоминание, сообщая о переходе к каждому этапу.
+     *
+     * @param userId ID пользователя
+     * @param audioFile аудиофайл с напоминанием
+     * @param userEmail email пользователя для уведомлений
+     * @param progress вызывается при переходе к каждому этапу конвейера (до ожидания в очереди)
+     * @return ID созданного напоминания
+     */
+    public CompletableFuture<String> processVoiceReminder(
+            String userId,
+            java.io.File audioFile,
+            String userEmail,
+            Consumer<Stage> progress) {
 
         log.info("Processing voice reminder for user: {}", userId);
 
-        return s3Service.uploadAudioFileAsync(audioFile, userId)
-                .thenCompose(audioKey -> {
-                    log.info("Audio uploaded to S3: {}", audioKey);
-                    return transcribeService.transcribeAudioFileAsync(audioKey);
-                })
+        return pipeline.run(() -> runStage(Stage.UPLOAD, progress,
+                        () -> s3Service.uploadAudioFileAsync(audioFile, userId))
+                .thenCompose(audioKey -> processUploadedReminder(userId, audioKey, userEmail, progress)));
+    }
+
+    /**
+     * Обрабатывает голосовое напоминание, передавая аудио в S3 напрямую из потока.
+     * <p>
+     * Первая часть потока читается в потоке, запустившем этап загрузки, следующие — в пуле
+     * этапа {@link Stage#UPLOAD}; остальные этапы выполняются
+     * асинхронно так же, как в {@link #processVoiceReminder(String, java.io.File, String)}.
+     *
+     * @param userId ID пользователя
+     * @param audioStream поток с аудио
+     * @param fileName имя аудиофайла
+     * @param userEmail email пользователя для уведомлений
+     * @return ID созданного напоминания
+     */
+    public CompletableFuture<String> processVoiceReminder(
+            String userId,
+            java.io.InputStream audioStream,
+            String fileName,
+            String userEmail) {
+        return processVoiceReminder(userId, audioStream, fileName, userEmail, stage -> { });
+    }
+
+    /**
+     * Обрабатывает голосовое напоминание из потока, сообщая о переходе к каждому этапу.
+     *
+     * @param userId ID пользователя
+     * @param audioStream поток с аудио
+     * @param fileName имя аудиофайла
+     * @param userEmail email пользователя для уведомлений
+     * @param progress вызывается при переходе к каждому этапу конвейера (до ожидания в очереди)
+     * @return ID созданного напоминания
+     */
+    public CompletableFuture<String> processVoiceReminder(
+            String userId,
+            java.io.InputStream audioStream,
+            String fileName,
+            String userEmail,
+            Consumer<Stage> progress) {
+
+        log.info("Processing streamed voice reminder for user: {}", userId);
+
+        return pipeline.run(() -> runStage(Stage.UPLOAD, progress, () -> s3Service.uploadAudioStreamAsync(
+                        audioStream, fileName, userId, pipeline.executor(Stage.UPLOAD)))
+                .thenCompose(audioKey -> processUploadedReminder(userId, audioKey, userEmail, progress)));
+    }
+
+    /**
+     * Обрабатывает голосовое напоминание, аудио которого уже загружено в S3.
+     * <p>
+     * Выполняет транскрибацию, семантический анализ, создание правила EventBridge
+     * и сохранение напоминания в OpenSearch.
+     *
+     * @param userId ID пользователя
+     * @param audioKey ключ аудиофайла в S3
+     * @param userEmail email пользователя для уведомлений
+     * @return ID созданного напоминания
+     */
+    public CompletableFuture<String> processUploadedReminder(
+            String userId,
+            String audioKey,
+            String userEmail) {
+        return pipeline.run(() -> processUploadedReminder(userId, audioKey, userEmail, stage -> { }));
+    }
+
+    private CompletableFuture<String> processUploadedReminder(
+            String userId,
+            String audioKey,
+            String userEmail,
+            Consumer<Stage> progress) {
+
+        log.info("Audio uploaded to S3: {}", audioKey);
+
+        return runStage(Stage.TRANSCRIBE, progress, () -> transcribeService.transcribeAudioFileAsync(audioKey))
                 .thenCompose(transcribedText -> {
                     log.info("Transcribed text: {}", transcribedText);
 
-                    ParsedResult parsed =
-                            reminderParser.parse(transcribedText, null, userId);
+                    return runStage(Stage.PARSE, progress, () -> reminderParser.parseAsync(transcribedText, null, userId))
+                            .thenCompose(parsed ->
+                                    scheduleParsedReminder(userId, userEmail, transcribedText, parsed, progress));
+                })
+                .whenComplete((reminderId, ex) -> {
+                    if (findRejection(ex) != null) {
+                        deleteRejectedAudio(audioKey);
+                    }
+                })
+                .exceptionally(ex -> {
+                    log.error("Failed to process voice reminder", ex);
+                    throw new RuntimeException("Processing failed", ex);
+                });
+    }
 
-                    String reminderId = parsed.reminderId() != null ?
-                            parsed.reminderId() : UUID.randomUUID().toString();
+    /**
+     * Удаляет аудио запроса, отклонённого конвейером после загрузки в S3.
+     */
+    private void deleteRejectedAudio(String audioKey) {
+        log.info("Voice reminder rejected after upload, deleting audio: {}", audioKey);
+        s3Service.deleteFileAsync(audioKey)
+                .exceptionally(ex -> {
+                    log.warn("Failed to delete audio of rejected reminder {}: {}", audioKey, ex.getMessage());
+                    return null;
+                });
+    }
+
+    private static PipelineRejectedException findRejection(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PipelineRejectedException rejection) {
+                return rejection;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Сообщает о переходе к этапу конвейера и выполняет на нём операцию.
+     */
+    private <T> CompletableFuture<T> runStage(Stage stage,
+                                              Consumer<Stage> progress,
+                                              Supplier<CompletableFuture<T>> task) {
+        progress.accept(stage);
+        return pipeline.stage(stage).submit(task);
+    }
+
+    /**
+     * Создаёт правило EventBridge и сохраняет напоминание по результату парсинга.
+     *
+     * @param userId ID пользователя
+     * @param userEmail email пользователя для уведомлений
+     * @param transcribedText текст транскрипции
+     * @param parsed результат семантического анализа
+     * @param progress получатель событий о переходе к этапам
+     * @return ID созданного напоминания
+     */
+    private CompletableFuture<String> scheduleParsedReminder(
+            String userId,
+            String userEmail,
+            String transcribedText,
+            ParsedResult parsed,
+            Consumer<Stage> progress) {
+
+        String reminderId = parsed.reminderId() != null ?
+                parsed.reminderId() : UUID.randomUUID().toString();
+
+        ReminderRecord reminder = new ReminderRecord(
+                reminderId,
+                userId,
+                userEmail,
+                transcribedText,
+                parsed.action(),
+                parsed.scheduledTime(),
+                LocalDateTime.now(),
+                ReminderRecord.ReminderStatus.SCHEDULED,
+                false,
+                parsed.intent(),
+                null
+        );
+
+        ReminderEventPayload inputData = createEventInput(reminder, userEmail, parsed);
 
-                    ReminderRecord reminder = new ReminderRecord(
+        CreateRuleRequest ruleRequest = new CreateRuleRequest(
+                "reminder-" + reminderId,
+                parsed.scheduledTime(),
+                eventBridgeConfig.getDefaultLambdaArn(),
+                inputData,
+                "Напоминание: " + parsed.action(),
+                parsed.intent()
+        );
+
+        return runStage(Stage.SCHEDULE, progress, () -> createRule(ruleRequest))
+                .thenCompose(rule -> {
+                    ReminderRecord reminderWithRule = new ReminderRecord(
                             reminderId,
                             userId,
                             userEmail,
@@ -130,46 +340,26 @@ public CompletableFuture<String> processVoiceReminder(
                             ReminderRecord.ReminderStatus.SCHEDULED,
                             false,
                             parsed.intent(),
-                            null
-                    );
-
-                    Map<String, Object> inputData = createEventInput(reminder, userEmail, parsed);
-
-                    CreateRuleRequest ruleRequest = new CreateRuleRequest(
-                            "reminder-" + reminderId,
-                            parsed.scheduledTime(),
-                            eventBridgeConfig.getDefaultLambdaArn(),
-                            inputData,
-                            "Напоминание: " + parsed.action(),
-                            parsed.intent()
+                            rule.ruleName()
                     );
 
-                    return eventBridgeService.createEmailRule(ruleRequest)
-                            .thenCompose(rule -> {
-                                ReminderRecord reminderWithRule = new ReminderRecord(
-                                        reminderId,
-                                        userId,
-                                        userEmail,
-                                        transcribedText,
-                                        parsed.action(),
-                                        parsed.scheduledTime(),
-                                        LocalDateTime.now(),
-                                        ReminderRecord.ReminderStatus.SCHEDULED,
-                                        false,
-                                        parsed.intent(),
-                                        rule.ruleName()
-                                );
-
-                                return openSearchService.indexReminder(reminderWithRule)
-                                        .thenApply(indexedId -> {
-                                            log.info("Reminder saved to OpenSearch with rule: {}", rule.ruleName());
-                                            return reminderId;
-                                        });
+                    return runStage(Stage.INDEX, progress, () -> openSearchService.indexReminder(reminderWithRule))
+                            .whenComplete((indexedId, ex) -> {
+                                if (findRejection(ex) != null && hasOwnRule(rule.ruleName())) {
+                                    log.info("Reminder {} rejected before indexing, deleting rule: {}",
+                                            reminderId, rule.ruleName());
+                                    eventBridgeService.deleteRule(rule.ruleName())
+                                            .exceptionally(deleteEx -> {
+                                                log.warn("Failed to delete rule {}: {}",
+                                                        rule.ruleName(), deleteEx.getMessage());
+                                                return false;
+                                            });
+                                }
+                            })
+                            .thenApply(indexedId -> {
+                                log.info("Reminder saved to OpenSearch with rule: {}", rule.ruleName());
+                                return reminderId;
                             });
-                })
-                .exceptionally(ex -> {
-                    log.error("Failed to process voice reminder", ex);
-                    throw new RuntimeException("Processing failed", ex);
                 });
     }
 
@@ -243,7 +433,7 @@ public CompletableFuture<Boolean> deleteReminder(String reminderId) {
 
                     ReminderRecord reminder = optionalReminder.get();
 
-                    if (reminder.eventBridgeRuleName() != null && !reminder.eventBridgeRuleName().isEmpty()) {
+                    if (hasOwnRule(reminder.eventBridgeRuleName())) {
                         return eventBridgeService.deleteRule(reminder.eventBridgeRuleName())
                                 .thenCompose(success -> {
                                     if (success) {
@@ -257,19 +447,35 @@ public CompletableFuture<Boolean> deleteReminder(String reminderId) {
                 });
     }
 
-    private Map<String, Object> createEventInput(
+    /**
+     * Планирует напоминание отдельным правилом EventBridge или через диспетчер.
+     *
+     * @param ruleRequest параметры правила
+     * @return правило, с которым сохраняется напоминание
+     */
+    private CompletableFuture<EventBridgeRuleRecord> createRule(CreateRuleRequest ruleRequest) {
+        return reminderDispatcher.isEnabled()
+                ? reminderDispatcher.schedule(ruleRequest)
+                : eventBridgeService.createEmailRule(ruleRequest);
+    }
+
+    private boolean hasOwnRule(String ruleName) {
+        return ruleName != null && !ruleName.isEmpty() && !reminderDispatcher.isDispatchRule(ruleName);
+    }
+
+    private ReminderEventPayload createEventInput(
             ReminderRecord reminder,
             String userEmail,
             ParsedResult parsed) {
 
-        return Map.of(
-                "reminderId", reminder.reminderId(),
-                "userEmail", userEmail,
-                "action", reminder.extractedAction(),
-                "scheduledTime", reminder.scheduledTime().toString(),
-                "intent", parsed.intent() != null ? parsed.intent() : "reminder",
-                "confidence", parsed.confidence(),
-                "language", parsed.language()
+        return new ReminderEventPayload(
+                reminder.reminderId(),
+                userEmail,
+                reminder.extractedAction(),
+                reminder.scheduledTime().toString(),
+                parsed.intent() != null ? parsed.intent() : "reminder",
+                parsed.confidence(),
+                parsed.language()
         );
     }
 
@@ -279,10 +485,11 @@ private Map<String, Object> createEventInput(
      * Этапы обновления:
      * <ol>
      *     <li>Получение текущего напоминания из OpenSearch</li>
-     *     <li>Удаление старого правила EventBridge</li>
-     *     <li>Создание нового правила EventBridge</li>
+     *     <li>Перенастройка существующего правила EventBridge на месте
+     *     ({@link EventBridgeService#updateEmailRule}) или создание правила, если его не было</li>
      *     <li>Обновление напоминания в OpenSearch</li>
      * </ol>
+     * При планировании через {@link ReminderDispatcher} собственное правило напоминания удаляется.
      *
      * @param reminderId ID напоминания
      * @param extractedAction новое действие
@@ -315,55 +522,62 @@ public CompletableFuture<Boolean> updateReminder(String reminderId,
                     String finalUserEmail = userEmail != null ? userEmail : existing.userEmail();
 
                     String oldRuleName = existing.eventBridgeRuleName();
-                    CompletableFuture<Boolean> deleteFuture = oldRuleName != null && !oldRuleName.isEmpty()
-                            ? eventBridgeService.deleteRule(oldRuleName)
-                            .exceptionally(ex -> {
-                                log.warn("Failed to delete old rule: {}", ex.getMessage());
-                                return false;
-                            })
-                            : CompletableFuture.completedFuture(true);
-
-                    return deleteFuture.thenCompose(deleted -> {
-                        Map<String, Object> inputData = new HashMap<>();
-                        inputData.put("reminderId", reminderId);
-                        inputData.put("userEmail", finalUserEmail);
-                        inputData.put("action", extractedAction != null ? extractedAction : existing.extractedAction());
-                        inputData.put("scheduledTime", scheduledTime.toString());
-                        inputData.put("intent", existing.intent() != null ? existing.intent() : "reminder");
-
-                        CreateRuleRequest ruleRequest = new CreateRuleRequest(
-                                "reminder-" + reminderId + "-" + System.currentTimeMillis(),
-                                scheduledTime,
-                                eventBridgeConfig.getDefaultLambdaArn(),
-                                inputData,
-                                "Напоминание: " + (extractedAction != null ? extractedAction : existing.extractedAction()),
-                                existing.intent()
-                        );
-
-                        return eventBridgeService.createEmailRule(ruleRequest)
-                                .thenCompose(rule -> {
-                                    ReminderRecord updated = new ReminderRecord(
-                                            existing.reminderId(),
-                                            existing.userId(),
-                                            finalUserEmail,
-                                            existing.originalText(),
-                                            extractedAction != null ? extractedAction : existing.extractedAction(),
-                                            scheduledTime,
-                                            existing.createdAt(),
-                                            status != null ? status : existing.status(),
-                                            existing.notificationSent(),
-                                            existing.intent(),
-                                            rule.ruleName()
-                                    );
-
-                                    return openSearchService.updateReminder(updated)
-                                            .thenApply(success -> {
-                                                log.info("Reminder {} updated with new rule: {}",
-                                                        reminderId, rule.ruleName());
-                                                return success;
-                                            });
-                                });
-                    });
+                    ReminderEventPayload inputData = new ReminderEventPayload(
+                            reminderId,
+                            finalUserEmail,
+                            extractedAction != null ? extractedAction : existing.extractedAction(),
+                            scheduledTime.toString(),
+                            existing.intent() != null ? existing.intent() : "reminder",
+                            null,
+                            null
+                    );
+
+                    CreateRuleRequest ruleRequest = new CreateRuleRequest(
+                            "reminder-" + reminderId,
+                            scheduledTime,
+                            eventBridgeConfig.getDefaultLambdaArn(),
+                            inputData,
+                            "Напоминание: " + (extractedAction != null ? extractedAction : existing.extractedAction()),
+                            existing.intent()
+                    );
+
+                    CompletableFuture<EventBridgeRuleRecord> ruleFuture;
+                    if (!hasOwnRule(oldRuleName)) {
+                        ruleFuture = createRule(ruleRequest);
+                    } else if (reminderDispatcher.isEnabled()) {
+                        ruleFuture = eventBridgeService.deleteRule(oldRuleName)
+                                .exceptionally(ex -> {
+                                    log.warn("Failed to delete old rule: {}", ex.getMessage());
+                                    return false;
+                                })
+                                .thenCompose(deleted -> reminderDispatcher.schedule(ruleRequest));
+                    } else {
+                        ruleFuture = eventBridgeService.updateEmailRule(oldRuleName, ruleRequest);
+                    }
+
+                    return ruleFuture
+                            .thenCompose(rule -> {
+                                ReminderRecord updated = new ReminderRecord(
+                                        existing.reminderId(),
+                                        existing.userId(),
+                                        finalUserEmail,
+                                        existing.originalText(),
+                                        extractedAction != null ? extractedAction : existing.extractedAction(),
+                                        scheduledTime,
+                                        existing.createdAt(),
+                                        status != null ? status : existing.status(),
+                                        existing.notificationSent(),
+                                        existing.intent(),
+                                        rule.ruleName()
+                                );
+
+                                return openSearchService.updateReminder(updated)
+                                        .thenApply(success -> {
+                                            log.info("Reminder {} updated with rule: {}",
+                                                    reminderId, rule.ruleName());
+                                            return success;
+                                        });
+                            });
                 });
     }
 
@@ -397,7 +611,7 @@ public CompletableFuture<Boolean> cancelReminder(String reminderId) {
                             reminder.notificationSent()
                     );
 
-                    if (reminder.eventBridgeRuleName() != null && !reminder.eventBridgeRuleName().isEmpty()) {
+                    if (hasOwnRule(reminder.eventBridgeRuleName())) {
                         return eventBridgeService.deleteRule(reminder.eventBridgeRuleName())
                                 .thenCompose(success -> {
                                     log.info("EventBridge rule deleted for cancelled reminder: {}",
@@ -67,7 +67,7 @@ public ParsedResult mapResponseToResult(ParseResponse response) {
                     response.getParsed().getAction(),
                     response.getConfidence(),
                     response.getLanguageDetected(),
-                    response.getReminderId(),
+                    response.getReminderId().isEmpty() ? null : response.getReminderId(),
                     "reminder",
                     entities,
                     response.getParsed().getNormalizedText(),
@@ -1,16 +1,24 @@
 package by.losik.service.mapper;
 
 import by.losik.config.OpenSearchConfig;
+import by.losik.dto.AutocompleteResult;
 import by.losik.dto.ReminderRecord;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -21,7 +29,9 @@
  * <ul>
  *     <li>Создание маппинга индекса reminders</li>
  *     <li>Конвертацию ReminderRecord в Map для индексации</li>
- *     <li>Конвертацию SearchHit в ReminderRecord</li>
+ *     <li>Потоковое декодирование байтов {@code _source} в ReminderRecord и подсказки
+ *     автодополнения без промежуточной Map</li>
+ *     <li>Списки полей {@code _source} для разных запросов</li>
  * </ul>
  *
  * @see OpenSearchConfig
@@ -31,6 +41,17 @@ public class ReminderIndexMapper {
 
     private static final Logger log = LoggerFactory.getLogger(ReminderIndexMapper.class);
 
+    /** Поля {@code _source}, необходимые для построения ReminderRecord */
+    public static final String[] REMINDER_SOURCE_FIELDS = {
+            "user_id", "user_email", "original_text", "extracted_action", "scheduled_time",
+            "created_at", "status", "notification_sent", "intent", "eventbridge_rule_name"
+    };
+
+    /** Поля {@code _source}, необходимые для автодополнения */
+    public static final String[] AUTOCOMPLETE_SOURCE_FIELDS = {"extracted_action", "original_text"};
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final OpenSearchConfig config;
 
     /**
@@ -50,8 +71,8 @@ public ReminderIndexMapper(OpenSearchConfig config) {
      * <ul>
      *     <li>autocomplete_analyzer с edge_ngram фильтром</li>
      *     <li>Русский анализатор для original_text и extracted_action</li>
-     *     <li>Keyword поля для user_id, status, eventbridge_rule_name</li>
-     *     <li>Date поля для scheduled_time, created_at, updated_at</li>
+     *     <li>Keyword поля для reminder_id, user_id, status, eventbridge_rule_name</li>
+     *     <li>Date поля для scheduled_time, created_at, updated_at, claimed_at</li>
      * </ul>
      *
      * @return XContentBuilder с маппингом
@@ -85,6 +106,9 @@ public XContentBuilder buildReminderIndexMapping() throws IOException {
                 .endObject()
                 .startObject("mappings")
                 .startObject("properties")
+                .startObject("reminder_id")
+                .field("type", "keyword")
+                .endObject()
                 .startObject("user_id")
                 .field("type", "keyword")
                 .endObject()
@@ -136,6 +160,10 @@ public XContentBuilder buildReminderIndexMapping() throws IOException {
                 .field("type", "date")
                 .field("format", "strict_date_optional_time||epoch_millis")
                 .endObject()
+                .startObject("claimed_at")
+                .field("type", "date")
+                .field("format", "strict_date_optional_time||epoch_millis")
+                .endObject()
                 .startObject("intent")
                 .field("type", "keyword")
                 .endObject()
@@ -144,6 +172,30 @@ public XContentBuilder buildReminderIndexMapping() throws IOException {
                 .endObject();
     }
 
+    /**
+     * Строит маппинг полей reminder_id и claimed_at для уже существующего индекса.
+     * <p>
+     * reminder_id используется как уникальный тай-брейкер сортировки при постраничной выборке,
+     * claimed_at — как время захвата напоминания диспетчером.
+     *
+     * @return XContentBuilder с маппингом поля
+     * @throws IOException если не удалось создать маппинг
+     */
+    public XContentBuilder buildReminderIdMapping() throws IOException {
+        return XContentFactory.jsonBuilder()
+                .startObject()
+                .startObject("properties")
+                .startObject("reminder_id")
+                .field("type", "keyword")
+                .endObject()
+                .startObject("claimed_at")
+                .field("type", "date")
+                .field("format", "strict_date_optional_time||epoch_millis")
+                .endObject()
+                .endObject()
+                .endObject();
+    }
+
     /**
      * Конвертирует ReminderRecord в Map для индексации в OpenSearch.
      *
@@ -152,6 +204,7 @@ public XContentBuilder buildReminderIndexMapping() throws IOException {
      */
     public Map<String, Object> toIndexSource(ReminderRecord reminder) {
         Map<String, Object> source = new HashMap<>();
+        source.put("reminder_id", reminder.reminderId());
         source.put("user_id", reminder.userId());
         source.put("user_email", reminder.userEmail());
         source.put("original_text", reminder.originalText());
@@ -167,33 +220,123 @@ public Map<String, Object> toIndexSource(ReminderRecord reminder) {
     }
 
     /**
-     * Конвертирует Map из OpenSearch в ReminderRecord.
+     * Декодирует байты {@code _source} в ReminderRecord потоковым парсером.
+     * <p>
+     * Не материализует {@code _source} в Map: поля читаются напрямую из JSON,
+     * неизвестные поля пропускаются.
      *
-     * @param source Map с данными из OpenSearch
+     * @param source байты {@code _source} документа
      * @param id ID напоминания
-     * @return ReminderRecord или null если конвертация не удалась
+     * @return ReminderRecord или null если декодирование не удалось
      */
-    public ReminderRecord mapToReminderRecord(Map<String, Object> source, String id) {
-        try {
-            return new ReminderRecord(
-                    id,
-                    (String) source.get("user_id"),
-                    (String) source.get("user_email"),
-                    (String) source.get("original_text"),
-                    (String) source.get("extracted_action"),
-                    parseDateTime((String) source.get("scheduled_time")),
-                    parseDateTime((String) source.get("created_at")),
-                    ReminderRecord.ReminderStatus.valueOf((String) source.get("status")),
-                    (Boolean) source.get("notification_sent"),
-                    (String) source.get("intent"),
-                    (String) source.get("eventbridge_rule_name")
-            );
+    public ReminderRecord parseReminderSource(BytesReference source, String id) {
+        if (source == null) {
+            return null;
+        }
+
+        String userId = null;
+        String userEmail = null;
+        String originalText = null;
+        String extractedAction = null;
+        LocalDateTime scheduledTime = null;
+        LocalDateTime createdAt = null;
+        ReminderRecord.ReminderStatus status = null;
+        boolean notificationSent = false;
+        String intent = null;
+        String ruleName = null;
+
+        try (InputStream input = source.streamInput();
+             JsonParser parser = JSON_FACTORY.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                log.error("Reminder source is not a JSON object: {}", id);
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+
+                switch (field) {
+                    case "user_id" -> userId = parser.getText();
+                    case "user_email" -> userEmail = parser.getText();
+                    case "original_text" -> originalText = parser.getText();
+                    case "extracted_action" -> extractedAction = parser.getText();
+                    case "scheduled_time" -> scheduledTime = readDateTime(parser, token);
+                    case "created_at" -> createdAt = readDateTime(parser, token);
+                    case "status" -> status = ReminderRecord.ReminderStatus.valueOf(parser.getText());
+                    case "notification_sent" -> notificationSent = parser.getValueAsBoolean();
+                    case "intent" -> intent = parser.getText();
+                    case "eventbridge_rule_name" -> ruleName = parser.getText();
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (status == null) {
+                log.error("Reminder source has no status: {}", id);
+                return null;
+            }
+
+            return new ReminderRecord(id, userId, userEmail, originalText, extractedAction,
+                    scheduledTime, createdAt, status, notificationSent, intent, ruleName);
         } catch (Exception e) {
-            log.error("Failed to map source to ReminderRecord: {}", source, e);
+            log.error("Failed to decode reminder source: {}", id, e);
             return null;
         }
     }
 
+    /**
+     * Декодирует байты {@code _source}, выбранные по {@link #AUTOCOMPLETE_SOURCE_FIELDS},
+     * в подсказку автодополнения потоковым парсером.
+     *
+     * @param source байты {@code _source} документа
+     * @param id ID напоминания
+     * @param score релевантность совпадения
+     * @return подсказка (отсутствующие поля — пустые строки) или null если декодирование не удалось
+     */
+    public AutocompleteResult.Suggestion parseSuggestionSource(BytesReference source, String id, double score) {
+        String action = null;
+        String text = null;
+
+        if (source != null) {
+            try (InputStream input = source.streamInput();
+                 JsonParser parser = JSON_FACTORY.createParser(input)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    log.error("Reminder source is not a JSON object: {}", id);
+                    return null;
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.VALUE_NULL) {
+                        continue;
+                    }
+
+                    switch (field) {
+                        case "extracted_action" -> action = parser.getText();
+                        case "original_text" -> text = parser.getText();
+                        default -> parser.skipChildren();
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Failed to decode autocomplete source: {}", id, e);
+                return null;
+            }
+        }
+
+        return new AutocompleteResult.Suggestion(id, action != null ? action : "", text != null ? text : "", score);
+    }
+
+    private LocalDateTime readDateTime(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneOffset.UTC);
+        }
+        return parseDateTime(parser.getText());
+    }
+
     /**
      * Парсит строку в LocalDateTime.
      *
@@ -0,0 +1,149 @@
+package by.losik.service.pipeline;
+
+import by.losik.config.MonitoringConfig;
+import by.losik.config.PipelineConfig;
+import by.losik.dto.IngestionJob;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+
+/**
+ * Хранилище заданий асинхронной обработки голосовых напоминаний.
+ * <p>
+ * Задания хранятся в памяти экземпляра, принявшего аудио, и удаляются через
+ * {@link PipelineConfig#getJobTtlSeconds()} после последнего изменения.
+ * Для каждого задания доступен future завершения, на который подписываются SSE клиенты.
+ * Если незавершённое задание вытеснено по размеру хранилища или по TTL, его future
+ * завершается исключением, чтобы подписчики не ждали бесконечно.
+ *
+ * @see VoiceReminderPipeline
+ */
+@Singleton
+public class IngestionJobStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestionJobStore.class);
+
+    private final Cache<String, JobEntry> jobs;
+
+    /**
+     * Создаёт хранилище заданий.
+     *
+     * @param config конфигурация конвейера (TTL и размер хранилища)
+     * @param monitoringConfig конфигурация мониторинга для метрик хранилища
+     */
+    @Inject
+    public IngestionJobStore(PipelineConfig config, MonitoringConfig monitoringConfig) {
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(config.getJobMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getJobTtlSeconds()))
+                .evictionListener(IngestionJobStore::onEviction)
+                .recordStats()
+                .build();
+
+        monitoringConfig.registerCache("ingestion_jobs", jobs);
+    }
+
+    /**
+     * Создаёт задание в статусе ACCEPTED.
+     *
+     * @param userId ID пользователя
+     * @return созданное задание
+     */
+    public IngestionJob create(String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        IngestionJob job = new IngestionJob(UUID.randomUUID().toString(), userId,
+                IngestionJob.Status.ACCEPTED, null, null, null, now, now);
+        jobs.put(job.jobId(), new JobEntry(job, new CompletableFuture<>()));
+        return job;
+    }
+
+    /**
+     * Получает задание по ID.
+     *
+     * @param jobId ID задания
+     * @return задание или пустой Optional, если оно не найдено или устарело
+     */
+    public Optional<IngestionJob> get(String jobId) {
+        JobEntry entry = jobs.getIfPresent(jobId);
+        return entry != null ? Optional.of(entry.job()) : Optional.empty();
+    }
+
+    /**
+     * Получает future, завершающийся вместе с заданием.
+     *
+     * @param jobId ID задания
+     * @return future с завершённым заданием или пустой Optional, если задание не найдено
+     */
+    public Optional<CompletableFuture<IngestionJob>> completion(String jobId) {
+        JobEntry entry = jobs.getIfPresent(jobId);
+        return entry != null ? Optional.of(entry.completion()) : Optional.empty();
+    }
+
+    /**
+     * Отмечает начало этапа конвейера.
+     *
+     * @param jobId ID задания
+     * @param stage этап конвейера
+     */
+    public void onStage(String jobId, VoiceReminderPipeline.Stage stage) {
+        update(jobId, job -> new IngestionJob(job.jobId(), job.userId(), IngestionJob.Status.PROCESSING,
+                stage.metricName(), null, null, job.createdAt(), LocalDateTime.now()));
+    }
+
+    /**
+     * Отмечает успешное завершение задания.
+     *
+     * @param jobId ID задания
+     * @param reminderId ID созданного напоминания
+     */
+    public void complete(String jobId, String reminderId) {
+        update(jobId, job -> new IngestionJob(job.jobId(), job.userId(), IngestionJob.Status.COMPLETED,
+                job.stage(), reminderId, null, job.createdAt(), LocalDateTime.now()));
+    }
+
+    /**
+     * Отмечает завершение задания ошибкой.
+     *
+     * @param jobId ID задания
+     * @param error описание ошибки
+     */
+    public void fail(String jobId, String error) {
+        update(jobId, job -> new IngestionJob(job.jobId(), job.userId(), IngestionJob.Status.FAILED,
+                job.stage(), null, error, job.createdAt(), LocalDateTime.now()));
+    }
+
+    private void update(String jobId, UnaryOperator<IngestionJob> change) {
+        JobEntry updated = jobs.asMap().computeIfPresent(jobId, (id, entry) -> entry.job().isFinished()
+                ? entry
+                : new JobEntry(change.apply(entry.job()), entry.completion()));
+
+        if (updated == null) {
+            log.warn("Ingestion job {} expired before update", jobId);
+        } else if (updated.job().isFinished()) {
+            updated.completion().complete(updated.job());
+        }
+    }
+
+    private static void onEviction(String jobId, JobEntry entry, RemovalCause cause) {
+        if (entry == null || entry.completion().isDone()) {
+            return;
+        }
+        log.warn("Ingestion job {} evicted before completion: {}", jobId, cause);
+        entry.completion().completeExceptionally(new IllegalStateException(
+                "Ingestion job " + jobId + " was evicted before completion (" + cause + ")"));
+    }
+
+    private record JobEntry(IngestionJob job, CompletableFuture<IngestionJob> completion) {
+    }
+}
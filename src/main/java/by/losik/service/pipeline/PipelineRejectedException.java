@@ -0,0 +1,58 @@
+package by.losik.service.pipeline;
+
+/**
+ * Запрос отклонён, потому что очередь этапа конвейера заполнена.
+ * <p>
+ * Если заполнен первый этап ({@link #isAdmission()}), клиенту отвечают 429 Too Many Requests;
+ * если заполнен один из следующих этапов (медленный нижележащий сервис) — 503 Service Unavailable.
+ * Запросы, пришедшие после закрытия конвейера, отклоняются с этапом {@code closed} (503).
+ */
+public class PipelineRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String stage;
+    private final boolean admission;
+    private final long retryAfterSeconds;
+
+    /**
+     * Создаёт исключение для заполненного этапа.
+     *
+     * @param stage имя этапа
+     * @param admission true если заполнен первый этап конвейера
+     * @param retryAfterSeconds рекомендуемая задержка повтора в секундах
+     */
+    public PipelineRejectedException(String stage, boolean admission, long retryAfterSeconds) {
+        super("Pipeline stage " + stage + " is full");
+        this.stage = stage;
+        this.admission = admission;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Получает имя заполненного этапа.
+     *
+     * @return имя этапа
+     */
+    public String getStage() {
+        return stage;
+    }
+
+    /**
+     * Проверяет, отклонён ли запрос на входе в конвейер.
+     *
+     * @return true если заполнен первый этап
+     */
+    public boolean isAdmission() {
+        return admission;
+    }
+
+    /**
+     * Получает рекомендуемую задержку повтора.
+     *
+     * @return задержка в секундах
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
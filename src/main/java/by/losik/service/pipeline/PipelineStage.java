@@ -0,0 +1,171 @@
+package by.losik.service.pipeline;
+
+import by.losik.util.AsyncConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Этап конвейера с ограниченным параллелизмом и ограниченной очередью.
+ * <p>
+ * Операции этапа асинхронные, поэтому «воркер» — это слот {@link AsyncConcurrencyLimiter},
+ * а не поток: операция занимает слот до завершения своего future. Операции из очереди
+ * запускаются на executor этапа. Если очередь заполнена, future завершается
+ * {@link PipelineRejectedException}.
+ * <p>
+ * Метрики (теги pipeline и stage):
+ * <ul>
+ *     <li>{@code pipeline.stage.latency} — время выполнения операции (тег outcome)</li>
+ *     <li>{@code pipeline.stage.queue.wait} — время ожидания свободного слота</li>
+ *     <li>{@code pipeline.stage.inflight} и {@code pipeline.stage.queue.depth} — текущая загрузка</li>
+ *     <li>{@code pipeline.stage.rejected} — отклонённые операции</li>
+ * </ul>
+ */
+public final class PipelineStage {
+
+    private final String pipeline;
+    private final String name;
+    private final boolean first;
+    private final long retryAfterSeconds;
+    private final AsyncConcurrencyLimiter limiter;
+    private final MeterRegistry registry;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    /**
+     * Создаёт этап конвейера.
+     *
+     * @param pipeline имя конвейера (тег метрик)
+     * @param name имя этапа
+     * @param first true для первого этапа (переполнение означает 429, а не 503)
+     * @param workers максимум одновременно выполняющихся операций
+     * @param queueCapacity максимум операций в очереди ожидания
+     * @param retryAfterSeconds рекомендуемая задержка повтора при отклонении
+     * @param executor executor для запуска операций из очереди
+     * @param registry реестр метрик
+     */
+    public PipelineStage(String pipeline,
+                         String name,
+                         boolean first,
+                         int workers,
+                         int queueCapacity,
+                         long retryAfterSeconds,
+                         Executor executor,
+                         MeterRegistry registry) {
+        this.pipeline = pipeline;
+        this.name = name;
+        this.first = first;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.limiter = new AsyncConcurrencyLimiter(pipeline + "-" + name, workers, queueCapacity, executor);
+        this.registry = registry;
+
+        Gauge.builder("pipeline.stage.inflight", limiter, AsyncConcurrencyLimiter::getInFlight)
+                .description("Pipeline stage operations currently running")
+                .tag("pipeline", pipeline)
+                .tag("stage", name)
+                .register(registry);
+        Gauge.builder("pipeline.stage.queue.depth", limiter, AsyncConcurrencyLimiter::getQueued)
+                .description("Pipeline stage operations waiting for a free slot")
+                .tag("pipeline", pipeline)
+                .tag("stage", name)
+                .register(registry);
+        this.queueWait = Timer.builder("pipeline.stage.queue.wait")
+                .description("Time a pipeline stage operation waited for a free slot")
+                .tag("pipeline", pipeline)
+                .tag("stage", name)
+                .register(registry);
+        this.rejected = Counter.builder("pipeline.stage.rejected")
+                .description("Pipeline stage operations rejected because the queue was full")
+                .tag("pipeline", pipeline)
+                .tag("stage", name)
+                .register(registry);
+    }
+
+    /**
+     * Выполняет операцию этапа с учётом лимитов.
+     *
+     * @param task фабрика операции (вызывается, когда освобождается слот)
+     * @param <T> тип результата
+     * @return future с результатом или {@link PipelineRejectedException} при переполнении очереди
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+        long submittedNanos = System.nanoTime();
+        AtomicBoolean launched = new AtomicBoolean();
+
+        CompletableFuture<T> future = limiter.submit(() -> {
+            launched.set(true);
+            long startNanos = System.nanoTime();
+            queueWait.record(startNanos - submittedNanos, TimeUnit.NANOSECONDS);
+
+            CompletableFuture<T> operation;
+            try {
+                operation = task.get();
+            } catch (RuntimeException e) {
+                operation = CompletableFuture.failedFuture(e);
+            }
+            return operation.whenComplete((result, ex) -> recordLatency(startNanos, ex == null));
+        });
+
+        // Ограничитель отклоняет синхронно, не запуская операцию
+        if (!launched.get() && future.isCompletedExceptionally()) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(rejection());
+        }
+        return future;
+    }
+
+    /**
+     * Проверяет, заполнены ли все слоты и очередь этапа.
+     *
+     * @return true если новая операция будет отклонена
+     */
+    public boolean isSaturated() {
+        return limiter.getInFlight() >= limiter.getMaxConcurrent()
+                && limiter.getQueued() >= limiter.getMaxQueued();
+    }
+
+    /**
+     * Проверяет, нет ли у этапа выполняющихся и ожидающих операций.
+     *
+     * @return true если этап простаивает
+     */
+    public boolean isIdle() {
+        return limiter.getInFlight() == 0 && limiter.getQueued() == 0;
+    }
+
+    /**
+     * Создаёт исключение отклонения для этого этапа.
+     *
+     * @return исключение с признаком первого этапа и задержкой повтора
+     */
+    public PipelineRejectedException rejection() {
+        return new PipelineRejectedException(name, first, retryAfterSeconds);
+    }
+
+    /**
+     * Получает имя этапа.
+     *
+     * @return имя этапа
+     */
+    public String getName() {
+        return name;
+    }
+
+    private void recordLatency(long startNanos, boolean success) {
+        Timer.builder("pipeline.stage.latency")
+                .description("Pipeline stage operation latency")
+                .tag("pipeline", pipeline)
+                .tag("stage", name)
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,203 @@
+package by.losik.service.pipeline;
+
+import by.losik.config.MonitoringConfig;
+import by.losik.config.PipelineConfig;
+import by.losik.util.InFlightTracker;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Конвейер обработки голосовых напоминаний.
+ * <p>
+ * Разбивает обработку на этапы {@link Stage}; у каждого этапа свой лимит параллелизма,
+ * ограниченная очередь и поток для запуска операций из очереди
+ * (см. {@link PipelineConfig}). Операция загрузки читает тело запроса и может блокироваться,
+ * поэтому у этапа {@link Stage#UPLOAD} пул потоков по числу его воркеров. Медленный нижележащий сервис (Transcribe, NLP)
+ * заполняет только очередь своего этапа, а новые запросы отклоняются на входе
+ * через {@link #admit()} до чтения тела запроса.
+ *
+ * @see PipelineStage
+ * @see by.losik.service.VoiceReminderService
+ */
+@Singleton
+public class VoiceReminderPipeline implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(VoiceReminderPipeline.class);
+
+    /** Имя конвейера в метриках */
+    private static final String PIPELINE_NAME = "voice_reminder";
+
+    /** Максимальное время ожидания выполняющихся операций при закрытии (мс) */
+    private static final long CLOSE_TIMEOUT_MS = 5000L;
+
+    /**
+     * Этапы конвейера в порядке выполнения.
+     */
+    public enum Stage {
+        /** Загрузка аудио в S3 */
+        UPLOAD,
+        /** Транскрибация через AWS Transcribe */
+        TRANSCRIBE,
+        /** Семантический анализ через NLP сервис */
+        PARSE,
+        /** Создание правила EventBridge */
+        SCHEDULE,
+        /** Сохранение напоминания в OpenSearch */
+        INDEX;
+
+        String metricName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Map<Stage, PipelineStage> stages = new EnumMap<>(Stage.class);
+    private final Map<Stage, ExecutorService> executors = new EnumMap<>(Stage.class);
+    private final InFlightTracker requests = new InFlightTracker();
+    private final long retryAfterSeconds;
+    private volatile boolean closed;
+
+    /**
+     * Создаёт конвейер с лимитами этапов из конфигурации.
+     *
+     * @param config конфигурация конвейера
+     * @param monitoringConfig конфигурация мониторинга для метрик этапов
+     */
+    @Inject
+    public VoiceReminderPipeline(PipelineConfig config, MonitoringConfig monitoringConfig) {
+        this.retryAfterSeconds = config.getRetryAfterSeconds();
+        for (Stage stage : Stage.values()) {
+            PipelineConfig.StageLimits limits = config.getStageLimits(stage.metricName());
+            ThreadFactory threadFactory = stageThreadFactory(stage);
+            ExecutorService executor = stage == Stage.UPLOAD
+                    ? Executors.newFixedThreadPool(Math.max(1, limits.workers()), threadFactory)
+                    : Executors.newSingleThreadExecutor(threadFactory);
+            executors.put(stage, executor);
+            stages.put(stage, new PipelineStage(PIPELINE_NAME,
+                    stage.metricName(),
+                    stage == Stage.UPLOAD,
+                    limits.workers(),
+                    limits.queueCapacity(),
+                    config.getRetryAfterSeconds(),
+                    executor,
+                    monitoringConfig.getApplicationRegistry()));
+            log.info("Voice pipeline stage {}: workers={}, queue={}",
+                    stage.metricName(), limits.workers(), limits.queueCapacity());
+        }
+    }
+
+    private static ThreadFactory stageThreadFactory(Stage stage) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable,
+                    "voice-pipeline-" + stage.metricName() + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Проверяет, может ли конвейер принять новый запрос.
+     * <p>
+     * Вызывается фильтром допуска до чтения тела запроса. Запрос отклоняется, если заполнен любой этап:
+     * первый — признак перегрузки клиентами (429), следующие — медленного нижележащего сервиса (503).
+     * Место в этапах не резервируется: этап, заполнившийся после проверки, отклонит запрос
+     * при постановке операции в очередь.
+     *
+     * @throws PipelineRejectedException если один из этапов заполнен или конвейер закрыт
+     */
+    public void admit() {
+        if (closed) {
+            throw closedRejection();
+        }
+        for (PipelineStage stage : stages.values()) {
+            if (stage.isSaturated()) {
+                throw stage.rejection();
+            }
+        }
+    }
+
+    /**
+     * Выполняет запрос через конвейер и учитывает его до завершения всех этапов.
+     * <p>
+     * После {@link #close()} новые запросы отклоняются, а уже принятые проходят
+     * оставшиеся этапы, пока закрытие ожидает их завершения.
+     *
+     * @param request фабрика обработки запроса (операции этапов запускаются через {@link #stage(Stage)})
+     * @param <T> тип результата
+     * @return future с результатом или {@link PipelineRejectedException}, если конвейер закрыт
+     */
+    public <T> CompletableFuture<T> run(Supplier<CompletableFuture<T>> request) {
+        if (closed) {
+            return CompletableFuture.failedFuture(closedRejection());
+        }
+        requests.acquire(1);
+
+        CompletableFuture<T> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, ex) -> requests.release(1));
+    }
+
+    private PipelineRejectedException closedRejection() {
+        return new PipelineRejectedException("closed", false, retryAfterSeconds);
+    }
+
+    /**
+     * Получает этап конвейера.
+     *
+     * @param stage этап
+     * @return этап с лимитами и метриками
+     */
+    public PipelineStage stage(Stage stage) {
+        return stages.get(stage);
+    }
+
+    /**
+     * Получает пул потоков этапа.
+     * <p>
+     * Пул этапа {@link Stage#UPLOAD} ограничен числом его воркеров и предназначен
+     * для блокирующего чтения тела запроса операциями этого этапа.
+     *
+     * @param stage этап
+     * @return executor этапа
+     */
+    public Executor executor(Stage stage) {
+        return executors.get(stage);
+    }
+
+    /**
+     * Перестаёт принимать новые запросы, ожидает завершения принятых не дольше
+     * {@code CLOSE_TIMEOUT_MS}, затем останавливает потоки этапов.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            requests.awaitIdle(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executors.values().forEach(ExecutorService::shutdown);
+        log.info("Voice pipeline closed, unfinished requests: {}, busy stages: {}", requests.get(), stages.values().stream()
+                .filter(stage -> !stage.isIdle())
+                .map(PipelineStage::getName)
+                .toList());
+    }
+}
@@ -0,0 +1,19 @@
+package by.losik.service.resilience;
+
+/**
+ * Вызов отклонён, потому что circuit breaker не в состоянии CLOSED.
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Создаёт исключение для указанного circuit breaker.
+     *
+     * @param name имя circuit breaker
+     * @param state текущее состояние
+     */
+    public CallNotPermittedException(String name, CircuitBreaker.State state) {
+        super("Circuit " + name + " is " + state + ", call not permitted");
+    }
+}
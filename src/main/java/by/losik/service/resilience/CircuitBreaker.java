@@ -0,0 +1,253 @@
+package by.losik.service.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker со скользящим окном по количеству вызовов.
+ * <p>
+ * Состояния:
+ * <ul>
+ *     <li>CLOSED — вызовы разрешены, результаты последних {@link Settings#windowSize()} вызовов
+ *     хранятся в окне; когда в окне не меньше {@link Settings#minimumCalls()} вызовов и доля ошибок
+ *     или медленных вызовов достигает порога, breaker переходит в OPEN</li>
+ *     <li>OPEN — вызовы отклоняются; через {@link Settings#openDurationMs()} breaker переходит в HALF_OPEN</li>
+ *     <li>HALF_OPEN — вызовы по-прежнему отклоняются, а сервис проверяется фоновыми пробами
+ *     (например, health check) в потоке планировщика; после {@link Settings#halfOpenProbes()}
+ *     успешных проб подряд breaker закрывается, при неудачной пробе снова открывается</li>
+ * </ul>
+ * <p>
+ * Пробы выполняются вне пути запроса, поэтому пользовательские вызовы никогда не ждут проверки.
+ * Публикует gauge {@code resilience.circuit.state} (0 — CLOSED, 1 — OPEN, 2 — HALF_OPEN),
+ * счётчики {@code resilience.circuit.transitions} (теги from, to) и {@code resilience.circuit.rejected},
+ * все с тегом name.
+ */
+public final class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /** Пауза между последовательными пробами в состоянии HALF_OPEN (миллисекунды) */
+    private static final long HALF_OPEN_PROBE_INTERVAL_MS = 1000L;
+
+    /**
+     * Состояние circuit breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Настройки circuit breaker.
+     *
+     * @param windowSize размер скользящего окна (количество последних вызовов)
+     * @param minimumCalls минимум вызовов в окне для расчёта порогов
+     * @param failureRateThreshold порог доли ошибок в процентах
+     * @param slowCallRateThreshold порог доли медленных вызовов в процентах
+     * @param slowCallDurationMs длительность, начиная с которой вызов считается медленным
+     * @param openDurationMs время в состоянии OPEN до начала проб
+     * @param halfOpenProbes количество успешных проб подряд для закрытия
+     */
+    public record Settings(int windowSize,
+                           int minimumCalls,
+                           double failureRateThreshold,
+                           double slowCallRateThreshold,
+                           long slowCallDurationMs,
+                           long openDurationMs,
+                           int halfOpenProbes) {
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final Supplier<CompletableFuture<Boolean>> probe;
+    private final ScheduledExecutorService scheduler;
+    private final MeterRegistry registry;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger probeSuccesses = new AtomicInteger();
+    private final Counter rejected;
+
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int next;
+    private int recorded;
+    private int failureCount;
+    private int slowCount;
+
+    /**
+     * Создаёт circuit breaker в состоянии CLOSED.
+     *
+     * @param name имя (тег name в метриках)
+     * @param settings пороги и размеры окна
+     * @param probe проверка сервиса в HALF_OPEN; future с true означает, что сервис здоров
+     * @param scheduler планировщик для перехода в HALF_OPEN и проб
+     * @param registry реестр метрик
+     */
+    public CircuitBreaker(String name,
+                          Settings settings,
+                          Supplier<CompletableFuture<Boolean>> probe,
+                          ScheduledExecutorService scheduler,
+                          MeterRegistry registry) {
+        if (settings.windowSize() <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive: " + settings.windowSize());
+        }
+        this.name = name;
+        this.settings = settings;
+        this.probe = probe;
+        this.scheduler = scheduler;
+        this.registry = registry;
+        this.failures = new boolean[settings.windowSize()];
+        this.slowCalls = new boolean[settings.windowSize()];
+
+        Gauge.builder("resilience.circuit.state", state, current -> current.get().ordinal())
+                .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .tag("name", name)
+                .register(registry);
+        this.rejected = Counter.builder("resilience.circuit.rejected")
+                .description("Calls rejected because the circuit was not closed")
+                .tag("name", name)
+                .register(registry);
+    }
+
+    /**
+     * Проверяет, разрешён ли вызов.
+     *
+     * @return true если breaker закрыт; иначе вызов учитывается как отклонённый
+     */
+    public boolean tryAcquirePermission() {
+        if (state.get() == State.CLOSED) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Записывает успешный вызов.
+     *
+     * @param durationNanos длительность вызова
+     */
+    public void onSuccess(long durationNanos) {
+        record(false, isSlow(durationNanos));
+    }
+
+    /**
+     * Записывает вызов, завершившийся ошибкой сервиса.
+     *
+     * @param durationNanos длительность вызова
+     */
+    public void onError(long durationNanos) {
+        record(true, isSlow(durationNanos));
+    }
+
+    /**
+     * Получает текущее состояние.
+     *
+     * @return состояние breaker
+     */
+    public State getState() {
+        return state.get();
+    }
+
+    private boolean isSlow(long durationNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(durationNanos) >= settings.slowCallDurationMs();
+    }
+
+    private synchronized void record(boolean failed, boolean slow) {
+        if (state.get() != State.CLOSED) {
+            return;
+        }
+
+        if (recorded == failures.length) {
+            failureCount -= failures[next] ? 1 : 0;
+            slowCount -= slowCalls[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failures[next] = failed;
+        slowCalls[next] = slow;
+        failureCount += failed ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        next = (next + 1) % failures.length;
+
+        if (recorded < settings.minimumCalls()) {
+            return;
+        }
+
+        double failureRate = failureCount * 100.0 / recorded;
+        double slowCallRate = slowCount * 100.0 / recorded;
+        if (failureRate >= settings.failureRateThreshold() || slowCallRate >= settings.slowCallRateThreshold()) {
+            log.warn("Circuit {} opening: failure rate {}%, slow call rate {}% over {} calls",
+                    name, Math.round(failureRate), Math.round(slowCallRate), recorded);
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private synchronized void resetWindow() {
+        next = 0;
+        recorded = 0;
+        failureCount = 0;
+        slowCount = 0;
+    }
+
+    private void transitionTo(State target) {
+        State previous = state.getAndSet(target);
+        if (previous == target) {
+            return;
+        }
+
+        log.info("Circuit {} transition {} -> {}", name, previous, target);
+        Counter.builder("resilience.circuit.transitions")
+                .description("Circuit breaker state transitions")
+                .tag("name", name)
+                .tag("from", previous.name())
+                .tag("to", target.name())
+                .register(registry)
+                .increment();
+
+        if (target == State.OPEN) {
+            probeSuccesses.set(0);
+            scheduler.schedule(this::runProbe, settings.openDurationMs(), TimeUnit.MILLISECONDS);
+        } else if (target == State.CLOSED) {
+            resetWindow();
+        }
+    }
+
+    private void runProbe() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return;
+        }
+        if (current == State.OPEN) {
+            transitionTo(State.HALF_OPEN);
+        }
+
+        CompletableFuture<Boolean> result;
+        try {
+            result = probe.get();
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((healthy, ex) -> {
+            if (ex == null && Boolean.TRUE.equals(healthy)) {
+                if (probeSuccesses.incrementAndGet() >= settings.halfOpenProbes()) {
+                    transitionTo(State.CLOSED);
+                } else {
+                    scheduler.schedule(this::runProbe, HALF_OPEN_PROBE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                }
+            } else {
+                log.debug("Circuit {} probe failed: {}", name, ex != null ? ex.getMessage() : "unhealthy");
+                transitionTo(State.OPEN);
+            }
+        });
+    }
+}
@@ -0,0 +1,169 @@
+package by.losik.util;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Неблокирующий ограничитель параллелизма для асинхронных операций.
+ * <p>
+ * Ограничивает количество одновременно выполняющихся операций и размер
+ * очереди ожидания:
+ * <ul>
+ *     <li>Если есть свободный слот — операция запускается сразу в потоке вызывающего</li>
+ *     <li>Если слотов нет — операция ставится в очередь и запускается через executor
+ *     после завершения одной из текущих</li>
+ *     <li>Если очередь заполнена — future завершается {@link RejectedExecutionException}</li>
+ * </ul>
+ * <p>
+ * Ни один поток не блокируется в ожидании слота.
+ */
+public final class AsyncConcurrencyLimiter {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Executor executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Создаёт ограничитель.
+     *
+     * @param name имя ограничителя (для сообщений об ошибках)
+     * @param maxConcurrent максимальное количество одновременных операций
+     * @param maxQueued максимальный размер очереди ожидания
+     * @param executor executor для запуска операций из очереди
+     */
+    public AsyncConcurrencyLimiter(String name, int maxConcurrent, int maxQueued, Executor executor) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("maxConcurrent must be positive: " + maxConcurrent);
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued must not be negative: " + maxQueued);
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.executor = executor;
+    }
+
+    /**
+     * Выполняет асинхронную операцию с учётом лимитов.
+     *
+     * @param task фабрика операции (вызывается только при наличии свободного слота)
+     * @param <T> тип результата
+     * @return future с результатом операции или RejectedExecutionException при переполнении
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        if (tryAcquire()) {
+            launch(task, result);
+            return result;
+        }
+
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            result.completeExceptionally(new RejectedExecutionException(
+                    name + " is overloaded: " + maxConcurrent + " in flight, " + maxQueued + " queued"));
+            return result;
+        }
+
+        pending.offer(() -> launch(task, result));
+        drain();
+        return result;
+    }
+
+    /**
+     * Получает количество выполняющихся операций.
+     *
+     * @return количество операций в работе
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Получает количество операций в очереди ожидания.
+     *
+     * @return размер очереди
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * Получает максимальное количество одновременных операций.
+     *
+     * @return лимит параллелизма
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Получает максимальный размер очереди ожидания.
+     *
+     * @return лимит очереди
+     */
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    private <T> void launch(Supplier<CompletableFuture<T>> task, CompletableFuture<T> result) {
+        CompletableFuture<T> future;
+        try {
+            future = task.get();
+        } catch (Throwable t) {
+            future = CompletableFuture.failedFuture(t);
+        }
+
+        future.whenComplete((value, ex) -> {
+            release();
+            if (ex != null) {
+                result.completeExceptionally(ex);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxConcurrent) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    private void drain() {
+        while (!pending.isEmpty() && tryAcquire()) {
+            Runnable next = pending.poll();
+            if (next == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            queued.decrementAndGet();
+            try {
+                executor.execute(next);
+            } catch (RejectedExecutionException e) {
+                next.run();
+            }
+        }
+    }
+}
@@ -5,8 +5,10 @@
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
 
 /**
  * Утилитный класс для парсинга дат и времени.
@@ -14,7 +16,7 @@
  * Поддерживает различные форматы дат:
  * <ul>
  *     <li>ISO_DATE_TIME (yyyy-MM-dd'T'HH:mm:ss)</li>
- *     <li>OffsetDateTime с часовым поясом</li>
+ *     <li>OffsetDateTime с часовым поясом (приводится к UTC)</li>
  *     <li>Простой LocalDateTime (yyyy-MM-dd HH:mm:ss)</li>
  * </ul>
  */
@@ -22,18 +24,24 @@ public final class DateTimeParser {
 
     private static final Logger log = LoggerFactory.getLogger(DateTimeParser.class);
 
-    /** Формат ISO_DATE_TIME */
+    /** Формат ISO_DATE_TIME, со смещением или без */
     private static final DateTimeFormatter ISO_DATE_TIME_FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
 
+    /** Простой формат с пробелом вместо 'T' */
+    private static final DateTimeFormatter SIMPLE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     /**
      * Парсит строку в LocalDateTime.
      * <p>
      * Поддерживает форматы:
      * <ul>
      *     <li>ISO_DATE_TIME (yyyy-MM-dd'T'HH:mm:ss)</li>
-     *     <li>OffsetDateTime с часовым поясом (yyyy-MM-dd'T'HH:mm:ssZ)</li>
+     *     <li>OffsetDateTime с часовым поясом (yyyy-MM-dd'T'HH:mm:ssZ) — приводится к UTC,
+     *     как и даты в epoch millis</li>
      *     <li>Простой LocalDateTime (yyyy-MM-dd HH:mm:ss)</li>
      * </ul>
+     * Строка в формате ISO разбирается за один проход: наличие смещения определяется
+     * тем же разбором, без повторных попыток.
      *
      * @param dateTimeStr строка с датой и временем
      * @return LocalDateTime
@@ -46,24 +54,21 @@ public static LocalDateTime parseLocalDateTime(String dateTimeStr) {
 
         String trimmedStr = dateTimeStr.trim();
 
-        // Попытка 1: ISO_DATE_TIME
+        // Попытка 1: ISO_DATE_TIME, смещение (если есть) переводится в UTC
         try {
-            return LocalDateTime.parse(trimmedStr, ISO_DATE_TIME_FORMATTER);
+            TemporalAccessor parsed = ISO_DATE_TIME_FORMATTER.parseBest(trimmedStr,
+                    OffsetDateTime::from, LocalDateTime::from);
+            if (parsed instanceof OffsetDateTime offsetDateTime) {
+                return offsetDateTime.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+            }
+            return (LocalDateTime) parsed;
         } catch (DateTimeParseException e) {
             log.debug("Failed to parse as ISO_DATE_TIME: {}", e.getMessage());
         }
 
-        // Попытка 2: OffsetDateTime с конвертацией
-        try {
-            OffsetDateTime offsetDateTime = OffsetDateTime.parse(trimmedStr);
-            return offsetDateTime.toLocalDateTime();
-        } catch (DateTimeParseException e) {
-            log.debug("Failed to parse as OffsetDateTime: {}", e.getMessage());
-        }
-
-        // Попытка 3: Простой формат
+        // Попытка 2: Простой формат
         try {
-            return LocalDateTime.parse(trimmedStr);
+            return LocalDateTime.parse(trimmedStr, SIMPLE_FORMATTER);
         } catch (DateTimeParseException e) {
             log.debug("Failed to parse as simple LocalDateTime: {}", e.getMessage());
         }
@@ -0,0 +1,103 @@
+package by.losik.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Счётчик выполняющихся операций с ожиданием их завершения.
+ * <p>
+ * Используется при закрытии компонентов с асинхронной работой: вместо периодической
+ * проверки счётчика закрывающий поток ждёт future, который завершается, когда
+ * количество операций падает до нуля. Если после этого начинается новая операция,
+ * создаётся новый future.
+ */
+public final class InFlightTracker {
+
+    private final Object lock = new Object();
+    private int count;
+    private CompletableFuture<Void> idle = CompletableFuture.completedFuture(null);
+
+    /**
+     * Учитывает начало операций.
+     *
+     * @param operations количество начатых операций
+     */
+    public void acquire(int operations) {
+        synchronized (lock) {
+            if (count == 0 && operations > 0) {
+                idle = new CompletableFuture<>();
+            }
+            count += operations;
+        }
+    }
+
+    /**
+     * Учитывает начало одной операции, если выполняющихся операций меньше лимита.
+     *
+     * @param limit максимум одновременно выполняющихся операций
+     * @return true если операция учтена, false если лимит достигнут
+     */
+    public boolean tryAcquire(int limit) {
+        synchronized (lock) {
+            if (count >= limit) {
+                return false;
+            }
+            acquire(1);
+            return true;
+        }
+    }
+
+    /**
+     * Учитывает завершение операций.
+     *
+     * @param operations количество завершённых операций
+     */
+    public void release(int operations) {
+        CompletableFuture<Void> completed = null;
+        synchronized (lock) {
+            count -= operations;
+            if (count == 0) {
+                completed = idle;
+            }
+        }
+        if (completed != null) {
+            completed.complete(null);
+        }
+    }
+
+    /**
+     * Получает количество выполняющихся операций.
+     *
+     * @return количество операций
+     */
+    public int get() {
+        synchronized (lock) {
+            return count;
+        }
+    }
+
+    /**
+     * Ожидает, пока не останется выполняющихся операций.
+     *
+     * @param timeout максимальное время ожидания
+     * @param unit единица времени
+     * @return true если операций не осталось, false если время ожидания истекло
+     * @throws InterruptedException если поток прерван во время ожидания
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        CompletableFuture<Void> current;
+        synchronized (lock) {
+            current = idle;
+        }
+        try {
+            current.get(timeout, unit);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package by.losik.util;
+
+import jakarta.ws.rs.core.MediaType;
+import org.glassfish.jersey.media.multipart.FormDataContentDisposition;
+import org.jvnet.mimepull.MIMEConfig;
+import org.jvnet.mimepull.MIMEMessage;
+import org.jvnet.mimepull.MIMEParsingException;
+import org.jvnet.mimepull.MIMEPart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Последовательное чтение частей multipart/form-data запроса без буферизации тела.
+ * <p>
+ * Части разбираются MIMEPull по мере чтения: содержимое части читается из тела запроса
+ * только при чтении её потока, с опережением не больше одного блока разбора (8 КБ).
+ * Если часть не дочитана до перехода к следующей, MIMEPull сохраняет её остаток
+ * в памяти до порога, а сверх порога — во временный файл.
+ */
+public final class MultipartFormStream {
+
+    /** Максимальный размер текстового поля формы (байт) */
+    private static final int MAX_FIELD_BYTES = 8 * 1024;
+
+    private final MIMEMessage message;
+    private int index;
+
+    /**
+     * Создаёт читатель частей тела запроса.
+     *
+     * @param body тело запроса
+     * @param contentType тип содержимого запроса с параметром boundary
+     * @throws IllegalArgumentException если тип содержимого не содержит boundary
+     */
+    public MultipartFormStream(InputStream body, MediaType contentType) {
+        String boundary = contentType != null ? contentType.getParameters().get("boundary") : null;
+        if (boundary == null || boundary.isEmpty()) {
+            throw new IllegalArgumentException("Multipart boundary is missing");
+        }
+        this.message = new MIMEMessage(body, boundary, new MIMEConfig());
+    }
+
+    /**
+     * Читает заголовки следующей части.
+     *
+     * @return следующая часть или пустой Optional в конце тела
+     * @throws IOException если у части нет корректного Content-Disposition
+     */
+    public Optional<Part> next() throws IOException {
+        MIMEPart part;
+        List<String> disposition;
+        try {
+            part = message.getPart(index);
+            disposition = part.getHeader("Content-Disposition");
+        } catch (IllegalStateException | MIMEParsingException e) {
+            // MIMEPull сообщает о запросе части после последней только исключением
+            return Optional.empty();
+        }
+        index++;
+
+        if (disposition == null || disposition.isEmpty()) {
+            throw new IOException("Multipart part " + index + " has no Content-Disposition");
+        }
+        try {
+            FormDataContentDisposition formDisposition = new FormDataContentDisposition(disposition.get(0));
+            if (formDisposition.getName() == null) {
+                throw new IOException("Multipart part " + index + " has no field name");
+            }
+            return Optional.of(new Part(formDisposition.getName(), formDisposition.getFileName(), part));
+        } catch (ParseException e) {
+            throw new IOException("Invalid Content-Disposition: " + disposition.get(0), e);
+        }
+    }
+
+    /**
+     * Часть формы.
+     * <p>
+     * Содержимое можно прочитать только один раз.
+     */
+    public static final class Part {
+        private final String name;
+        private final String fileName;
+        private final MIMEPart content;
+
+        private Part(String name, String fileName, MIMEPart content) {
+            this.name = name;
+            this.fileName = fileName;
+            this.content = content;
+        }
+
+        /**
+         * Получает имя поля формы.
+         *
+         * @return имя поля
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Получает имя файла, переданное клиентом.
+         *
+         * @return имя файла или null для текстового поля
+         */
+        public String getFileName() {
+            return fileName;
+        }
+
+        /**
+         * Читает текстовое поле в UTF-8.
+         *
+         * @return значение поля
+         * @throws IOException если поле длиннее 8 КБ или тело запроса не читается
+         */
+        public String readString() throws IOException {
+            try (InputStream stream = content.readOnce()) {
+                byte[] bytes = stream.readNBytes(MAX_FIELD_BYTES + 1);
+                if (bytes.length > MAX_FIELD_BYTES) {
+                    throw new IOException("Form field " + name + " exceeds " + MAX_FIELD_BYTES + " bytes");
+                }
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+
+        /**
+         * Открывает поток содержимого части, читающий тело запроса по мере чтения.
+         *
+         * @return поток содержимого
+         */
+        public InputStream openStream() {
+            return content.readOnce();
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package by.losik.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Детерминированный разбор простых временных выражений в тексте напоминания.
+ * <p>
+ * Работает без сети и за микросекунды, поэтому используется как быстрый путь перед
+ * вызовом NLP сервиса. Поддерживаются русский и английский языки:
+ * <ul>
+ *     <li>Относительное время: «через 10 минут», «через полчаса», «через два часа»,
+ *     «in 15 minutes», «in an hour», «in half an hour»</li>
+ *     <li>День и время: «завтра в 9:00», «сегодня в 7 вечера», «послезавтра к 10»,
+ *     «tomorrow at 9am», «today at 18:30»</li>
+ *     <li>Только время: «в 14:30», «at 5pm» — сегодня, если время ещё не прошло, иначе завтра</li>
+ * </ul>
+ * <p>
+ * Для каждого результата вычисляется уверенность. Текст считается неоднозначным
+ * (и должен разбираться NLP сервисом), если в нём несколько временных выражений,
+ * есть признаки повторения («каждый день», «every»), день без времени, час без минут
+ * и без указания части суток, или после удаления выражения не осталось действия.
+ * Неоднозначным считается и текст, в оставшемся действии которого есть другие признаки
+ * даты или срока: день недели, месяц, числовая дата, «следующий»/«next» или ещё одно
+ * число с единицей времени («через 2 часа 30 минут»).
+ */
+public final class TemporalExpressionParser {
+
+    /** Уверенность для однозначных выражений */
+    private static final double HIGH_CONFIDENCE = 0.95;
+
+    /** Уверенность для часа без минут и без части суток («завтра в 7») */
+    private static final double BARE_HOUR_CONFIDENCE = 0.8;
+
+    /** Уверенность для выражений, которые нельзя однозначно разобрать локально */
+    private static final double AMBIGUOUS_CONFIDENCE = 0.5;
+
+    private static final int FLAGS = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.UNICODE_CHARACTER_CLASS;
+
+    private static final Pattern CYRILLIC = Pattern.compile("\\p{IsCyrillic}");
+
+    private static final Pattern RU_RELATIVE = Pattern.compile(
+            "\\bчерез\\s+(?:(\\d{1,3}|[а-я]+)\\s+)?(полчаса|минут[уы]?|мин|час(?:а|ов)?|дн(?:я|ей)|день|сутки|недел[юиь])\\b",
+            FLAGS);
+    private static final Pattern RU_DAY = Pattern.compile("\\b(сегодня|послезавтра|завтра)\\b", FLAGS);
+    private static final Pattern RU_TIME = Pattern.compile(
+            "\\b(?:в|к)\\s+(\\d{1,2}+)(?!\\d)(?:[:.](\\d{2}+)(?!\\d))?(?![:.]\\d)(?:\\s*час(?:а|ов)?)?(?:\\s*(утра|дня|вечера|ночи))?"
+                    + "(?!\\s*(?:минут|мин|дн|день|сутки|недел))"
+                    + "|\\b(\\d{1,2}):(\\d{2})\\b",
+            FLAGS);
+    private static final Pattern RU_RECURRENCE = Pattern.compile(
+            "\\b(?:кажд(?:ый|ую|ое|ые)|ежедневно|еженедельно|по\\s+(?:будням|выходным|утрам|вечерам))\\b", FLAGS);
+    private static final Pattern RU_RESIDUAL = Pattern.compile(
+            "\\b(?:понедельник\\w*|вторник\\w*|сред[аеуы]|четверг\\w*|пятниц\\w*|суббот\\w*|воскресень\\w*"
+                    + "|январ\\w*|феврал\\w*|март[аеу]?|апрел\\w*|ма[йяю]|июн\\w*|июл\\w*|август\\w*"
+                    + "|сентябр\\w*|октябр\\w*|ноябр\\w*|декабр\\w*|следующ\\w*)\\b"
+                    + "|\\b\\d{1,2}[./]\\d{1,2}(?:[./]\\d{2,4})?\\b"
+                    + "|\\b(?:\\d{1,3}|одну|один|две|два|три|четыре|пять|шесть|семь|восемь|девять|десять"
+                    + "|пятнадцать|двадцать|тридцать|сорок)\\s+(?:минут\\w*|мин|час\\w*|дн(?:я|ей)|день|сут\\w*"
+                    + "|недел\\w*|месяц\\w*|год\\w*|лет)\\b",
+            FLAGS);
+    private static final Pattern RU_PREFIX = Pattern.compile(
+            "^(?:пожалуйста\\s+)?напомн(?:и|ить)(?:\\s+мне)?(?:\\s+(?:о|об|про|что(?:бы)?))?\\s+", FLAGS);
+
+    private static final Pattern EN_RELATIVE = Pattern.compile(
+            "\\bin\\s+(?:(\\d{1,3}|an?|[a-z]+)\\s+)?(half\\s+an\\s+hour|minutes?|mins?|hours?|days?|weeks?)\\b",
+            FLAGS);
+    private static final Pattern EN_DAY = Pattern.compile("\\b(today|tonight|(?:the\\s+)?day\\s+after\\s+tomorrow|tomorrow)\\b", FLAGS);
+    private static final Pattern EN_TIME = Pattern.compile(
+            "\\b(?:at|by)\\s+(\\d{1,2}+)(?!\\d)(?::(\\d{2}+)(?!\\d))?(?!:\\d)\\s*(am|pm|a\\.m\\.|p\\.m\\.)?(?![a-z])"
+                    + "(?!\\s*(?:minutes?|mins?|hours?|days?|weeks?))"
+                    + "|\\b(\\d{1,2}+)(?!\\d)(?::(\\d{2}+)(?!\\d))?(?!:\\d)\\s*(am|pm|a\\.m\\.|p\\.m\\.)(?![a-z])"
+                    + "|\\b(\\d{1,2}):(\\d{2})\\b",
+            FLAGS);
+    private static final Pattern EN_RECURRENCE = Pattern.compile("\\b(?:every|each|daily|weekly|weekdays)\\b", FLAGS);
+    private static final Pattern EN_RESIDUAL = Pattern.compile(
+            "\\b(?:monday|tuesday|wednesday|thursday|friday|saturday|sunday|weekend"
+                    + "|january|february|march|april|june|july|august|september|october|november|december|next)\\b"
+                    + "|\\bmay\\s+\\d|\\b\\d{1,2}(?:st|nd|rd|th)\\b"
+                    + "|\\b\\d{1,2}[./-]\\d{1,2}(?:[./-]\\d{2,4})?\\b"
+                    + "|\\b(?:\\d{1,3}|one|two|three|four|five|six|seven|eight|nine|ten|fifteen|twenty|thirty|forty)"
+                    + "\\s+(?:minutes?|mins?|hours?|hrs?|days?|weeks?|months?|years?)\\b",
+            FLAGS);
+    private static final Pattern EN_PREFIX = Pattern.compile(
+            "^(?:please\\s+)?remind\\s+me\\s+(?:to\\s+|about\\s+|that\\s+)?", FLAGS);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern EDGE_PUNCTUATION = Pattern.compile("^[\\p{Punct}\\s]+|[\\p{Punct}\\s]+$");
+
+    private static final Map<String, Integer> NUMBER_WORDS = Map.ofEntries(
+            Map.entry("одну", 1), Map.entry("один", 1), Map.entry("две", 2), Map.entry("два", 2),
+            Map.entry("три", 3), Map.entry("четыре", 4), Map.entry("пять", 5), Map.entry("шесть", 6),
+            Map.entry("семь", 7), Map.entry("восемь", 8), Map.entry("девять", 9), Map.entry("десять", 10),
+            Map.entry("пятнадцать", 15), Map.entry("двадцать", 20), Map.entry("тридцать", 30),
+            Map.entry("сорок", 40), Map.entry("a", 1), Map.entry("an", 1), Map.entry("one", 1),
+            Map.entry("two", 2), Map.entry("three", 3), Map.entry("four", 4), Map.entry("five", 5),
+            Map.entry("six", 6), Map.entry("seven", 7), Map.entry("eight", 8), Map.entry("nine", 9),
+            Map.entry("ten", 10), Map.entry("fifteen", 15), Map.entry("twenty", 20), Map.entry("thirty", 30),
+            Map.entry("forty", 40));
+
+    /**
+     * Результат локального разбора.
+     *
+     * @param scheduledTime вычисленное время напоминания
+     * @param action текст напоминания без временного выражения и вводных слов
+     * @param confidence уверенность разбора (0.0-1.0)
+     * @param language язык, по правилам которого разобран текст
+     * @param expression найденное временное выражение (части через пробел)
+     * @param start позиция начала первой части выражения в исходном тексте
+     * @param end позиция конца последней части выражения в исходном тексте
+     */
+    public record TemporalMatch(LocalDateTime scheduledTime,
+                                String action,
+                                double confidence,
+                                String language,
+                                String expression,
+                                int start,
+                                int end) {
+    }
+
+    private record Span(int start, int end) {
+    }
+
+    /**
+     * Разбирает временное выражение в тексте напоминания.
+     *
+     * @param text текст напоминания
+     * @param language код языка ("ru", "en") или null для определения по алфавиту
+     * @param now текущее время, от которого считаются относительные выражения
+     * @return результат разбора или пустой Optional, если выражение не найдено
+     */
+    public static Optional<TemporalMatch> parse(String text, String language, LocalDateTime now) {
+        if (text == null || text.isBlank()) {
+            return Optional.empty();
+        }
+
+        String lang = language != null ? language.toLowerCase(Locale.ROOT) : detectLanguage(text);
+        boolean russian = lang.startsWith("ru");
+        String normalized = text.toLowerCase(Locale.ROOT).replace('ё', 'е');
+
+        List<Span> spans = new ArrayList<>();
+        LocalDateTime scheduledTime;
+        double confidence;
+
+        Matcher relative = (russian ? RU_RELATIVE : EN_RELATIVE).matcher(normalized);
+        Matcher day = (russian ? RU_DAY : EN_DAY).matcher(normalized);
+        Matcher time = (russian ? RU_TIME : EN_TIME).matcher(normalized);
+        boolean hasRelative = relative.find();
+        boolean hasDay = day.find();
+        boolean hasTime = time.find();
+
+        if (hasRelative) {
+            spans.add(new Span(relative.start(), relative.end()));
+            scheduledTime = applyRelative(now, relative.group(1), relative.group(2));
+            if (scheduledTime == null) {
+                return Optional.empty();
+            }
+            confidence = hasDay || hasTime || relative.find() ? AMBIGUOUS_CONFIDENCE : HIGH_CONFIDENCE;
+        } else if (hasTime) {
+            spans.add(new Span(time.start(), time.end()));
+            TimeOfDay timeOfDay = russian ? ruTime(time) : enTime(time);
+            if (timeOfDay == null) {
+                return Optional.empty();
+            }
+
+            LocalDate date;
+            if (hasDay) {
+                spans.add(new Span(day.start(), day.end()));
+                date = now.toLocalDate().plusDays(dayOffset(day.group(1)));
+                scheduledTime = LocalDateTime.of(date, timeOfDay.time());
+            } else {
+                scheduledTime = LocalDateTime.of(now.toLocalDate(), timeOfDay.time());
+                if (!scheduledTime.isAfter(now)) {
+                    scheduledTime = scheduledTime.plusDays(1);
+                }
+            }
+
+            confidence = timeOfDay.exact() ? HIGH_CONFIDENCE : BARE_HOUR_CONFIDENCE;
+            if (time.find() || (hasDay && day.find()) || !scheduledTime.isAfter(now)) {
+                confidence = AMBIGUOUS_CONFIDENCE;
+            }
+        } else {
+            return Optional.empty();
+        }
+
+        if ((russian ? RU_RECURRENCE : EN_RECURRENCE).matcher(normalized).find()) {
+            confidence = AMBIGUOUS_CONFIDENCE;
+        }
+
+        // Позиции совпадают с исходным текстом, если перевод в нижний регистр не изменил длину
+        String source = normalized.length() == text.length() ? text : normalized;
+        String action = extractAction(source, spans, russian ? RU_PREFIX : EN_PREFIX);
+        // Оставшийся день недели, дата или срок означают, что найдено только часть выражения
+        if (action.isEmpty() || (russian ? RU_RESIDUAL : EN_RESIDUAL).matcher(action).find()) {
+            confidence = AMBIGUOUS_CONFIDENCE;
+        }
+
+        spans.sort(Comparator.comparingInt(Span::start));
+        String expression = spans.stream()
+                .map(span -> source.substring(span.start(), span.end()))
+                .collect(Collectors.joining(" "));
+        return Optional.of(new TemporalMatch(scheduledTime.truncatedTo(ChronoUnit.MINUTES), action, confidence,
+                russian ? "ru" : "en", expression, spans.get(0).start(), spans.get(spans.size() - 1).end()));
+    }
+
+    /**
+     * Определяет язык текста по наличию кириллицы.
+     *
+     * @param text текст напоминания
+     * @return "ru" если в тексте есть кириллица, иначе "en"
+     */
+    public static String detectLanguage(String text) {
+        return CYRILLIC.matcher(text).find() ? "ru" : "en";
+    }
+
+    private static LocalDateTime applyRelative(LocalDateTime now, String amountText, String unit) {
+        if (unit.startsWith("полчаса") || unit.startsWith("half")) {
+            return amountText == null ? now.plusMinutes(30) : null;
+        }
+
+        Integer amount = amountText == null ? Integer.valueOf(1) : parseAmount(amountText);
+        if (amount == null || amount <= 0) {
+            return null;
+        }
+
+        if (unit.startsWith("мин") || unit.startsWith("min")) {
+            return now.plusMinutes(amount);
+        }
+        if (unit.startsWith("час") || unit.startsWith("hour")) {
+            return now.plusHours(amount);
+        }
+        if (unit.startsWith("нед") || unit.startsWith("week")) {
+            return now.plusWeeks(amount);
+        }
+        return now.plusDays(amount);
+    }
+
+    private static Integer parseAmount(String amountText) {
+        if (Character.isDigit(amountText.charAt(0))) {
+            return Integer.parseInt(amountText);
+        }
+        return NUMBER_WORDS.get(amountText);
+    }
+
+    private static int dayOffset(String day) {
+        if (day.equals("завтра") || day.equals("tomorrow")) {
+            return 1;
+        }
+        if (day.equals("послезавтра") || day.endsWith("after tomorrow")) {
+            return 2;
+        }
+        return 0;
+    }
+
+    private record TimeOfDay(LocalTime time, boolean exact) {
+    }
+
+    private static TimeOfDay ruTime(Matcher matcher) {
+        if (matcher.group(4) != null) {
+            return timeOfDay(Integer.parseInt(matcher.group(4)), Integer.parseInt(matcher.group(5)), true);
+        }
+
+        int hour = Integer.parseInt(matcher.group(1));
+        String partOfDay = matcher.group(3);
+        if (partOfDay != null) {
+            if (hour > 12) {
+                return null;
+            }
+            if ((partOfDay.equals("дня") || partOfDay.equals("вечера")) && hour < 12) {
+                hour += 12;
+            } else if ((partOfDay.equals("ночи") || partOfDay.equals("утра")) && hour == 12) {
+                hour = 0;
+            }
+        }
+        int minute = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 0;
+        return timeOfDay(hour, minute, matcher.group(2) != null || partOfDay != null || hour >= 13);
+    }
+
+    private static TimeOfDay enTime(Matcher matcher) {
+        if (matcher.group(7) != null) {
+            return timeOfDay(Integer.parseInt(matcher.group(7)), Integer.parseInt(matcher.group(8)), true);
+        }
+
+        boolean at = matcher.group(1) != null;
+        int hour = Integer.parseInt(at ? matcher.group(1) : matcher.group(4));
+        String minuteText = at ? matcher.group(2) : matcher.group(5);
+        String meridiem = at ? matcher.group(3) : matcher.group(6);
+        if (meridiem != null) {
+            if (hour < 1 || hour > 12) {
+                return null;
+            }
+            boolean pm = meridiem.startsWith("p");
+            hour = hour % 12 + (pm ? 12 : 0);
+        }
+        int minute = minuteText != null ? Integer.parseInt(minuteText) : 0;
+        return timeOfDay(hour, minute, minuteText != null || meridiem != null || hour >= 13);
+    }
+
+    private static TimeOfDay timeOfDay(int hour, int minute, boolean exact) {
+        if (hour > 23 || minute > 59) {
+            return null;
+        }
+        return new TimeOfDay(LocalTime.of(hour, minute), exact);
+    }
+
+    private static String extractAction(String text, List<Span> spans, Pattern prefix) {
+        StringBuilder remaining = new StringBuilder(text);
+        spans.stream()
+                .sorted(Comparator.comparingInt(Span::start).reversed())
+                .forEach(span -> remaining.replace(span.start(), span.end(), " "));
+
+        String action = WHITESPACE.matcher(remaining.toString().trim()).replaceAll(" ");
+        action = EDGE_PUNCTUATION.matcher(action).replaceAll("");
+        action = prefix.matcher(action).replaceFirst("");
+        return EDGE_PUNCTUATION.matcher(action).replaceAll("");
+    }
+
+    // Запрещаем создание экземпляров
+    private TemporalExpressionParser() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
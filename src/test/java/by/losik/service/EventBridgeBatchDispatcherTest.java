@@ -0,0 +1,202 @@
+package by.losik.service;
+
+import by.losik.config.EventBridgeConfig;
+import by.losik.config.LocalStackConfig;
+import by.losik.config.MonitoringConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.eventbridge.EventBridgeAsyncClient;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+class EventBridgeBatchDispatcherTest {
+
+    private static final long NO_LINGER_MS = 60_000L;
+
+    @Mock
+    private LocalStackConfig localStackConfig;
+
+    @Mock
+    private EventBridgeConfig config;
+
+    @Mock
+    private MonitoringConfig monitoringConfig;
+
+    @Mock
+    private EventBridgeAsyncClient eventBridgeAsyncClient;
+
+    private SimpleMeterRegistry registry;
+    private EventBridgeBatchDispatcher dispatcher;
+    private final List<List<String>> sentBatches = new CopyOnWriteArrayList<>();
+    private final Set<String> rejectOnce = Collections.synchronizedSet(new HashSet<>());
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        Mockito.when(localStackConfig.getEventBridgeAsyncClient()).thenReturn(eventBridgeAsyncClient);
+        Mockito.when(monitoringConfig.getApplicationRegistry()).thenReturn(registry);
+        Mockito.when(config.getBatchMaxEntries()).thenReturn(EventBridgeConfig.PUT_EVENTS_MAX_ENTRIES);
+        Mockito.when(config.getBatchMaxRetries()).thenReturn(3);
+        Mockito.when(eventBridgeAsyncClient.putEvents(any(PutEventsRequest.class)))
+                .thenAnswer(invocation -> {
+                    PutEventsRequest request = invocation.getArgument(0);
+                    List<String> details = request.entries().stream().map(PutEventsRequestEntry::detail).toList();
+                    sentBatches.add(details);
+                    List<PutEventsResultEntry> results = details.stream()
+                            .map(detail -> rejectOnce.remove(detail)
+                                    ? PutEventsResultEntry.builder()
+                                            .errorCode("ThrottlingException")
+                                            .errorMessage("Rate exceeded")
+                                            .build()
+                                    : PutEventsResultEntry.builder().eventId("id-" + detail).build())
+                            .toList();
+                    return CompletableFuture.completedFuture(PutEventsResponse.builder().entries(results).build());
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    @Test
+    void submit_RetriesOnlyRejectedEntries() throws Exception {
+        dispatcher = createDispatcher(256 * 1024L, 10L, 100);
+        rejectOnce.add("b");
+
+        CompletableFuture<String> a = dispatcher.submit(entry("a"));
+        CompletableFuture<String> b = dispatcher.submit(entry("b"));
+        CompletableFuture<String> c = dispatcher.submit(entry("c"));
+
+        Assertions.assertEquals("id-a", a.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("id-b", b.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("id-c", c.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, countSent("a"));
+        Assertions.assertEquals(2, countSent("b"));
+        Assertions.assertEquals(1, countSent("c"));
+        Assertions.assertEquals(List.of("b"), sentBatches.get(sentBatches.size() - 1));
+        Assertions.assertEquals(1.0, registry.counter("eventbridge.batch.entry.retries").count());
+    }
+
+    @Test
+    void submit_SplitsBatchesByEntryCount() throws Exception {
+        dispatcher = createDispatcher(256 * 1024L, NO_LINGER_MS, 100);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            futures.add(dispatcher.submit(entry("e" + i)));
+        }
+        Assertions.assertEquals(List.of(10, 10), batchSizes());
+
+        dispatcher.flush();
+
+        Assertions.assertEquals(List.of(10, 10, 5), batchSizes());
+        for (int i = 0; i < 25; i++) {
+            Assertions.assertEquals("id-e" + i, futures.get(i).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void submit_SplitsBatchesBySize() throws Exception {
+        dispatcher = createDispatcher(1000L, NO_LINGER_MS, 100);
+        String first = "x".repeat(400);
+        String second = "y".repeat(400);
+        String third = "z".repeat(400);
+
+        dispatcher.submit(entry(first));
+        dispatcher.submit(entry(second));
+        Assertions.assertTrue(sentBatches.isEmpty());
+
+        dispatcher.submit(entry(third));
+        Assertions.assertEquals(List.of(List.of(first, second)), sentBatches);
+
+        dispatcher.flush();
+        Assertions.assertEquals(List.of(List.of(first, second), List.of(third)), sentBatches);
+
+        ExecutionException tooLarge = Assertions.assertThrows(ExecutionException.class,
+                () -> dispatcher.submit(entry("w".repeat(1000))).get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IllegalArgumentException.class, tooLarge.getCause());
+    }
+
+    @Test
+    void submit_RejectsWhenPendingLimitReached() {
+        dispatcher = createDispatcher(256 * 1024L, NO_LINGER_MS, 2);
+
+        CompletableFuture<String> first = dispatcher.submit(entry("a"));
+        CompletableFuture<String> second = dispatcher.submit(entry("b"));
+        CompletableFuture<String> rejected = dispatcher.submit(entry("c"));
+
+        ExecutionException ex = Assertions.assertThrows(ExecutionException.class,
+                () -> rejected.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+
+        dispatcher.flush();
+        Assertions.assertEquals("id-a", first.join());
+        Assertions.assertEquals("id-b", second.join());
+        Assertions.assertEquals(List.of(List.of("a", "b")), sentBatches);
+    }
+
+    @Test
+    void close_SendsScheduledRetries() throws Exception {
+        dispatcher = createDispatcher(256 * 1024L, NO_LINGER_MS, 100);
+        rejectOnce.add("a");
+
+        CompletableFuture<String> a = dispatcher.submit(entry("a"));
+        dispatcher.flush();
+        Assertions.assertFalse(a.isDone());
+
+        dispatcher.close();
+
+        Assertions.assertEquals("id-a", a.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(List.of("a"), List.of("a")), sentBatches);
+    }
+
+    private EventBridgeBatchDispatcher createDispatcher(long maxBytes, long lingerMs, int maxPending) {
+        Mockito.when(config.getBatchMaxBytes()).thenReturn(maxBytes);
+        Mockito.when(config.getBatchLingerMs()).thenReturn(lingerMs);
+        Mockito.when(config.getBatchMaxPending()).thenReturn(maxPending);
+        return new EventBridgeBatchDispatcher(localStackConfig, config, monitoringConfig);
+    }
+
+    private static PutEventsRequestEntry entry(String detail) {
+        return PutEventsRequestEntry.builder()
+                .source("s")
+                .detailType("t")
+                .detail(detail)
+                .eventBusName("email-events")
+                .build();
+    }
+
+    private long countSent(String detail) {
+        return sentBatches.stream().flatMap(List::stream).filter(detail::equals).count();
+    }
+
+    private List<Integer> batchSizes() {
+        return sentBatches.stream().map(List::size).toList();
+    }
+}
@@ -0,0 +1,116 @@
+package by.losik.service;
+
+import by.losik.config.MonitoringConfig;
+import by.losik.config.OpenSearchConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchBulkProcessorTest {
+
+    private static final int BULK_ACTIONS = 1000;
+
+    @Mock
+    private OpenSearchRequestExecutor requestExecutor;
+
+    @Mock
+    private OpenSearchConfig config;
+
+    @Mock
+    private MonitoringConfig monitoringConfig;
+
+    @Mock
+    private BulkResponse bulkResponse;
+
+    @Mock
+    private BulkItemResponse itemResponse;
+
+    @Mock
+    private DocWriteResponse docWriteResponse;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(monitoringConfig.getApplicationRegistry()).thenAnswer(invocation -> new SimpleMeterRegistry());
+        Mockito.when(config.getBulkActions()).thenReturn(BULK_ACTIONS);
+        Mockito.when(config.getBulkSizeBytes()).thenReturn(Long.MAX_VALUE);
+        Mockito.when(config.getBulkFlushIntervalMs()).thenReturn(60_000L);
+        Mockito.when(config.getBulkMaxPending()).thenReturn(10_000);
+
+        Mockito.lenient().when(itemResponse.isFailed()).thenReturn(false);
+        Mockito.lenient().when(itemResponse.getResponse()).thenReturn(docWriteResponse);
+        BulkItemResponse[] items = new BulkItemResponse[BULK_ACTIONS];
+        Arrays.fill(items, itemResponse);
+        Mockito.lenient().when(bulkResponse.getItems()).thenReturn(items);
+        Mockito.lenient().when(requestExecutor.execute(anyString(), any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(bulkResponse));
+    }
+
+    @Test
+    void add_RacingCloseIsEitherSentOrRejected() throws Exception {
+        for (int round = 0; round < 100; round++) {
+            OpenSearchBulkProcessor processor = new OpenSearchBulkProcessor(requestExecutor, config, monitoringConfig);
+            List<CompletableFuture<DocWriteResponse>> futures = new ArrayList<>();
+            CountDownLatch started = new CountDownLatch(1);
+
+            Thread writer = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < 50; i++) {
+                    futures.add(processor.add(indexRequest(i)));
+                }
+            });
+            writer.start();
+            started.await();
+
+            long closeStart = System.nanoTime();
+            processor.close();
+            long closeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - closeStart);
+            writer.join();
+
+            Assertions.assertTrue(closeMs < 2000, "close() waited for an operation that was never sent");
+            for (CompletableFuture<DocWriteResponse> future : futures) {
+                try {
+                    Assertions.assertSame(docWriteResponse, future.get(1, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    Assertions.assertInstanceOf(RejectedExecutionException.class, e.getCause());
+                }
+            }
+        }
+    }
+
+    @Test
+    void add_RejectedAfterClose() {
+        OpenSearchBulkProcessor processor = new OpenSearchBulkProcessor(requestExecutor, config, monitoringConfig);
+        processor.close();
+
+        ExecutionException ex = Assertions.assertThrows(ExecutionException.class,
+                () -> processor.add(indexRequest(0)).get(1, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+    }
+
+    private static IndexRequest indexRequest(int id) {
+        return new IndexRequest("reminders").id(String.valueOf(id)).source(Map.of("field", id));
+    }
+}
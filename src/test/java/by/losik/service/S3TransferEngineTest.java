@@ -0,0 +1,148 @@
+package by.losik.service;
+
+import by.losik.config.LocalStackConfig;
+import by.losik.config.MonitoringConfig;
+import by.losik.config.S3Config;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+class S3TransferEngineTest {
+
+    private static final String BUCKET = "audio";
+    private static final String KEY = "audio/user123/file.wav";
+    private static final String ETAG = "\"etag-1\"";
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @Mock
+    private LocalStackConfig localStackConfig;
+
+    @Mock
+    private S3Config s3Config;
+
+    @Mock
+    private MonitoringConfig monitoringConfig;
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry registry;
+    private S3TransferEngine engine;
+    private final List<String> requestedRanges = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        Mockito.when(localStackConfig.getS3AsyncClient()).thenReturn(s3AsyncClient);
+        Mockito.when(monitoringConfig.getApplicationRegistry()).thenReturn(registry);
+        Mockito.when(s3Config.getTransferPartSize()).thenReturn(4);
+        Mockito.when(s3Config.getTransferConcurrency()).thenReturn(2);
+        Mockito.when(s3Config.getTransferPartAttempts()).thenReturn(3);
+        Mockito.when(s3Config.getTransferRetryBackoffMs()).thenReturn(1L);
+        Mockito.when(s3Config.isTransferChecksumEnabled()).thenReturn(false);
+
+        engine = new S3TransferEngine(localStackConfig, s3Config, monitoringConfig);
+
+        Mockito.when(s3AsyncClient.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(HeadObjectResponse.builder()
+                        .contentLength((long) CONTENT.length)
+                        .eTag(ETAG)
+                        .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.close();
+    }
+
+    @Test
+    void download_ReassemblesRangesCompletedOutOfOrder() throws Exception {
+        Mockito.when(s3AsyncClient.getObject(any(GetObjectRequest.class),
+                        ArgumentMatchers.<AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>>>any()))
+                .thenAnswer(invocation -> {
+                    GetObjectRequest request = invocation.getArgument(0);
+                    Assertions.assertEquals(ETAG, request.ifMatch());
+                    long[] range = parseRange(request.range());
+                    requestedRanges.add(request.range());
+                    // Первые части отвечают позже последних
+                    long delayMs = (CONTENT.length - range[0]) * 10L;
+                    return CompletableFuture.supplyAsync(() -> rangeBytes(range),
+                            CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS));
+                });
+
+        Path target = tempDir.resolve("download.wav");
+        Files.write(target, "stale content that is longer".getBytes(StandardCharsets.US_ASCII));
+
+        engine.download(BUCKET, KEY, target).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertArrayEquals(CONTENT, Files.readAllBytes(target));
+        Assertions.assertEquals(List.of("bytes=0-3", "bytes=4-7", "bytes=8-9"),
+                requestedRanges.stream().sorted().toList());
+        Assertions.assertEquals(0.0, registry.counter("s3.transfer.part.retries").count());
+    }
+
+    @Test
+    void download_RetriesFailedRangeOnly() throws Exception {
+        AtomicBoolean failedOnce = new AtomicBoolean();
+        Mockito.when(s3AsyncClient.getObject(any(GetObjectRequest.class),
+                        ArgumentMatchers.<AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>>>any()))
+                .thenAnswer(invocation -> {
+                    GetObjectRequest request = invocation.getArgument(0);
+                    requestedRanges.add(request.range());
+                    if (request.range().equals("bytes=4-7") && failedOnce.compareAndSet(false, true)) {
+                        return CompletableFuture.failedFuture(new RuntimeException("connection reset"));
+                    }
+                    return CompletableFuture.completedFuture(rangeBytes(parseRange(request.range())));
+                });
+
+        Path target = tempDir.resolve("download.wav");
+
+        engine.download(BUCKET, KEY, target).get(5, TimeUnit.SECONDS);
+
+        Assertions.assertArrayEquals(CONTENT, Files.readAllBytes(target));
+        Assertions.assertEquals(List.of("bytes=0-3", "bytes=4-7", "bytes=4-7", "bytes=8-9"),
+                requestedRanges.stream().sorted().toList());
+        Assertions.assertEquals(1.0, registry.counter("s3.transfer.part.retries").count());
+    }
+
+    private static long[] parseRange(String range) {
+        String[] bounds = range.substring("bytes=".length()).split("-");
+        return new long[]{Long.parseLong(bounds[0]), Long.parseLong(bounds[1])};
+    }
+
+    private static ResponseBytes<GetObjectResponse> rangeBytes(long[] range) {
+        byte[] bytes = Arrays.copyOfRange(CONTENT, (int) range[0], (int) range[1] + 1);
+        return ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), bytes);
+    }
+}
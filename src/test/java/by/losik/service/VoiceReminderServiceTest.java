@@ -1,10 +1,14 @@
 package by.losik.service;
 
 import by.losik.config.EventBridgeConfig;
+import by.losik.config.MonitoringConfig;
+import by.losik.config.PipelineConfig;
 import by.losik.dto.CreateRuleRequest;
 import by.losik.dto.EventBridgeRuleRecord;
 import by.losik.dto.ParsedResult;
 import by.losik.dto.ReminderRecord;
+import by.losik.service.pipeline.VoiceReminderPipeline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -45,6 +49,12 @@ class VoiceReminderServiceTest {
     @Mock
     private EventBridgeConfig eventBridgeConfig;
 
+    @Mock
+    private MonitoringConfig monitoringConfig;
+
+    @Mock
+    private ReminderDispatcher reminderDispatcher;
+
     @Mock
     private File audioFile;
 
@@ -52,6 +62,8 @@ class VoiceReminderServiceTest {
 
     @BeforeEach
     void setUp() {
+        Mockito.when(monitoringConfig.getApplicationRegistry()).thenReturn(new SimpleMeterRegistry());
+
         voiceReminderService = new VoiceReminderService(
                 s3Service,
                 transcribeService,
@@ -59,7 +71,9 @@ void setUp() {
                 eventBridgeService,
                 openSearchService,
                 emailService,
-                eventBridgeConfig
+                eventBridgeConfig,
+                new VoiceReminderPipeline(new PipelineConfig(), monitoringConfig),
+                reminderDispatcher
         );
     }
 
@@ -87,8 +101,8 @@ void processVoiceReminder_Success() {
                 .thenReturn(CompletableFuture.completedFuture(audioKey));
         Mockito.when(transcribeService.transcribeAudioFileAsync(anyString()))
                 .thenReturn(CompletableFuture.completedFuture(transcribedText));
-        Mockito.when(reminderParser.parse(anyString(), any(), anyString()))
-                .thenReturn(parsedResult);
+        Mockito.when(reminderParser.parseAsync(anyString(), any(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(parsedResult));
         Mockito.when(eventBridgeConfig.getDefaultLambdaArn())
                 .thenReturn("arn:aws:lambda:us-east-1:000000000000:function:send-reminder");
         Mockito.when(eventBridgeService.createEmailRule(any(CreateRuleRequest.class)))
@@ -105,7 +119,7 @@ void processVoiceReminder_Success() {
         Assertions.assertEquals(reminderId, result.join());
         Mockito.verify(s3Service).uploadAudioFileAsync(any(File.class), anyString());
         Mockito.verify(transcribeService).transcribeAudioFileAsync(audioKey);
-        Mockito.verify(reminderParser).parse(transcribedText, null, userId);
+        Mockito.verify(reminderParser).parseAsync(transcribedText, null, userId);
         Mockito.verify(eventBridgeService).createEmailRule(any());
         Mockito.verify(openSearchService).indexReminder(any());
     }
@@ -279,4 +293,52 @@ void cancelReminder_WhenSuccess_ShouldCancelAndDeleteRule() {
         Mockito.verify(eventBridgeService).deleteRule(eventBridgeRuleName);
         Mockito.verify(openSearchService).updateReminderStatus(reminderId, ReminderRecord.ReminderStatus.CANCELLED, false);
     }
+
+    @Test
+    void updateReminder_WhenRuleExists_ShouldUpdateRuleInPlace() {
+        String reminderId = "reminder-123";
+        String eventBridgeRuleName = "reminder-reminder-123";
+        LocalDateTime newTime = LocalDateTime.now().plusDays(1);
+
+        ReminderRecord reminder = new ReminderRecord(
+                reminderId,
+                "user123",
+                "user@example.com",
+                "купить молоко",
+                "купить молоко",
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                ReminderRecord.ReminderStatus.SCHEDULED,
+                false,
+                "reminder",
+                eventBridgeRuleName
+        );
+
+        EventBridgeRuleRecord rule = new EventBridgeRuleRecord(
+                eventBridgeRuleName,
+                "cron(0 9 * * ? *)",
+                "arn:aws:lambda:us-east-1:123456789012:function:reminder",
+                true,
+                "Напоминание: купить хлеб",
+                "{}"
+        );
+
+        Mockito.when(openSearchService.getReminderById(reminderId))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(reminder)));
+        Mockito.when(eventBridgeConfig.getDefaultLambdaArn())
+                .thenReturn("arn:aws:lambda:us-east-1:123456789012:function:reminder");
+        Mockito.when(eventBridgeService.updateEmailRule(Mockito.eq(eventBridgeRuleName), any(CreateRuleRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(rule));
+        Mockito.when(openSearchService.updateReminder(any(ReminderRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(true));
+
+        CompletableFuture<Boolean> result = voiceReminderService.updateReminder(
+                reminderId, "купить хлеб", newTime, null, null);
+
+        Assertions.assertTrue(result.join());
+        Mockito.verify(eventBridgeService).updateEmailRule(Mockito.eq(eventBridgeRuleName), any(CreateRuleRequest.class));
+        Mockito.verify(openSearchService).updateReminder(Mockito.argThat(updated ->
+                eventBridgeRuleName.equals(updated.eventBridgeRuleName()) && newTime.equals(updated.scheduledTime())));
+        Mockito.verifyNoMoreInteractions(eventBridgeService);
+    }
 }
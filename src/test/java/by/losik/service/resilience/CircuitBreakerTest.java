@@ -0,0 +1,99 @@
+package by.losik.service.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+class CircuitBreakerTest {
+
+    private static final CircuitBreaker.Settings SETTINGS =
+            new CircuitBreaker.Settings(10, 4, 50, 100, 1000, 30000, 2);
+
+    private final Deque<Runnable> scheduled = new ArrayDeque<>();
+    private final AtomicBoolean healthy = new AtomicBoolean(true);
+    private SimpleMeterRegistry registry;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        ScheduledExecutorService scheduler = Mockito.mock(ScheduledExecutorService.class);
+        Mockito.when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+                .thenAnswer(invocation -> {
+                    scheduled.add(invocation.getArgument(0));
+                    return null;
+                });
+        registry = new SimpleMeterRegistry();
+        circuitBreaker = new CircuitBreaker("test", SETTINGS,
+                () -> CompletableFuture.completedFuture(healthy.get()), scheduler, registry);
+    }
+
+    @Test
+    void onError_OpensWhenFailureRateReachesThreshold() {
+        circuitBreaker.onSuccess(0);
+        circuitBreaker.onSuccess(0);
+        circuitBreaker.onError(0);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        circuitBreaker.onError(0);
+
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assertions.assertFalse(circuitBreaker.tryAcquirePermission());
+        Assertions.assertEquals(1.0, registry.get("resilience.circuit.rejected").counter().count());
+    }
+
+    @Test
+    void onSuccess_OpensWhenSlowCallRateReachesThreshold() {
+        for (int i = 0; i < SETTINGS.minimumCalls(); i++) {
+            circuitBreaker.onSuccess(TimeUnit.MILLISECONDS.toNanos(SETTINGS.slowCallDurationMs()));
+        }
+
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void probes_CloseAfterConsecutiveHealthyChecks() {
+        openCircuit();
+
+        scheduled.poll().run();
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        Assertions.assertFalse(circuitBreaker.tryAcquirePermission());
+
+        scheduled.poll().run();
+
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assertions.assertTrue(circuitBreaker.tryAcquirePermission());
+        Assertions.assertTrue(scheduled.isEmpty());
+    }
+
+    @Test
+    void probes_ReopenWhenServiceIsUnhealthy() {
+        openCircuit();
+        healthy.set(false);
+
+        scheduled.poll().run();
+
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assertions.assertEquals(1, scheduled.size());
+        Assertions.assertEquals(1.0, registry.get("resilience.circuit.transitions")
+                .tag("from", "HALF_OPEN").tag("to", "OPEN").counter().count());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < SETTINGS.minimumCalls(); i++) {
+            circuitBreaker.onError(0);
+        }
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+}
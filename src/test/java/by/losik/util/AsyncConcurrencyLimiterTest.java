@@ -0,0 +1,72 @@
+package by.losik.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AsyncConcurrencyLimiterTest {
+
+    @Test
+    void submit_RunsImmediatelyWhenSlotIsFree() {
+        AsyncConcurrencyLimiter limiter = new AsyncConcurrencyLimiter("test", 1, 0, Runnable::run);
+
+        CompletableFuture<String> result = limiter.submit(() -> CompletableFuture.completedFuture("ok"));
+
+        Assertions.assertEquals("ok", result.join());
+        Assertions.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void submit_QueuesUntilSlotIsReleased() {
+        AsyncConcurrencyLimiter limiter = new AsyncConcurrencyLimiter("test", 1, 1, Runnable::run);
+        CompletableFuture<String> first = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+
+        CompletableFuture<String> firstResult = limiter.submit(() -> {
+            started.incrementAndGet();
+            return first;
+        });
+        CompletableFuture<String> secondResult = limiter.submit(() -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture("second");
+        });
+
+        Assertions.assertEquals(1, started.get());
+        Assertions.assertEquals(1, limiter.getQueued());
+
+        first.complete("first");
+
+        Assertions.assertEquals("first", firstResult.join());
+        Assertions.assertEquals("second", secondResult.join());
+        Assertions.assertEquals(2, started.get());
+        Assertions.assertEquals(0, limiter.getQueued());
+        Assertions.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void submit_RejectsWhenQueueIsFull() {
+        AsyncConcurrencyLimiter limiter = new AsyncConcurrencyLimiter("test", 1, 0, Runnable::run);
+        limiter.submit(CompletableFuture::new);
+
+        CompletableFuture<String> rejected = limiter.submit(() -> CompletableFuture.completedFuture("never"));
+
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, rejected::join);
+        Assertions.assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+    }
+
+    @Test
+    void submit_ReleasesSlotWhenTaskThrows() {
+        AsyncConcurrencyLimiter limiter = new AsyncConcurrencyLimiter("test", 1, 0, Runnable::run);
+
+        CompletableFuture<String> failed = limiter.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        Assertions.assertThrows(CompletionException.class, failed::join);
+        Assertions.assertEquals(0, limiter.getInFlight());
+    }
+}
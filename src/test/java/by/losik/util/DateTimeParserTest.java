@@ -0,0 +1,36 @@
+package by.losik.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+class DateTimeParserTest {
+
+    @Test
+    void parseLocalDateTime_IsoWithoutOffset() {
+        Assertions.assertEquals(LocalDateTime.of(2026, 10, 16, 12, 30, 0, 123_000_000),
+                DateTimeParser.parseLocalDateTime("2026-10-16T12:30:00.123"));
+    }
+
+    @Test
+    void parseLocalDateTime_OffsetConvertedToUtc() {
+        Assertions.assertEquals(LocalDateTime.of(2026, 10, 16, 9, 30),
+                DateTimeParser.parseLocalDateTime("2026-10-16T12:30:00+03:00"));
+        Assertions.assertEquals(LocalDateTime.of(2026, 10, 16, 12, 30),
+                DateTimeParser.parseLocalDateTime("2026-10-16T12:30:00Z"));
+    }
+
+    @Test
+    void parseLocalDateTime_SimpleFormat() {
+        Assertions.assertEquals(LocalDateTime.of(2026, 10, 16, 12, 30),
+                DateTimeParser.parseLocalDateTime("2026-10-16 12:30:00"));
+    }
+
+    @Test
+    void parseLocalDateTime_RejectsGarbage() {
+        Assertions.assertThrows(DateTimeParseException.class,
+                () -> DateTimeParser.parseLocalDateTime("tomorrow"));
+    }
+}
@@ -0,0 +1,51 @@
+package by.losik.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+class InFlightTrackerTest {
+
+    @Test
+    void awaitIdle_ReturnsImmediatelyWhenNothingInFlight() throws Exception {
+        InFlightTracker tracker = new InFlightTracker();
+
+        Assertions.assertTrue(tracker.awaitIdle(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void awaitIdle_WaitsForLastRelease() throws Exception {
+        InFlightTracker tracker = new InFlightTracker();
+        tracker.acquire(2);
+
+        CompletableFuture<Boolean> idle = CompletableFuture.supplyAsync(() -> {
+            try {
+                return tracker.awaitIdle(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        tracker.release(1);
+        Assertions.assertFalse(tracker.awaitIdle(50, TimeUnit.MILLISECONDS));
+
+        tracker.release(1);
+        Assertions.assertTrue(idle.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, tracker.get());
+    }
+
+    @Test
+    void tryAcquire_RespectsLimitAndRearmsAfterIdle() throws Exception {
+        InFlightTracker tracker = new InFlightTracker();
+
+        Assertions.assertTrue(tracker.tryAcquire(1));
+        Assertions.assertFalse(tracker.tryAcquire(1));
+        tracker.release(1);
+        Assertions.assertTrue(tracker.awaitIdle(0, TimeUnit.MILLISECONDS));
+
+        Assertions.assertTrue(tracker.tryAcquire(1));
+        Assertions.assertFalse(tracker.awaitIdle(10, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,116 @@
+package by.losik.util;
+
+import jakarta.ws.rs.core.MediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+class MultipartFormStreamTest {
+
+    private static final String BOUNDARY = "test-boundary";
+    private static final MediaType CONTENT_TYPE =
+            new MediaType("multipart", "form-data", Map.of("boundary", BOUNDARY));
+    private static final int AUDIO_SIZE = 2 * 1024 * 1024;
+
+    @Test
+    void next_ReadsAudioLazilyFromBody() throws IOException {
+        byte[] audio = new byte[AUDIO_SIZE];
+        Arrays.fill(audio, (byte) 7);
+        CountingInputStream body = new CountingInputStream(formBody(audio, false));
+        MultipartFormStream form = new MultipartFormStream(body, CONTENT_TYPE);
+
+        Assertions.assertEquals("u1", form.next().orElseThrow().readString());
+        Assertions.assertEquals("a@b.c", form.next().orElseThrow().readString());
+
+        MultipartFormStream.Part part = form.next().orElseThrow();
+        Assertions.assertEquals("audio", part.getName());
+        Assertions.assertEquals("r.wav", part.getFileName());
+        Assertions.assertTrue(body.count < 64 * 1024, "audio must not be read before its stream");
+
+        try (InputStream stream = part.openStream()) {
+            Assertions.assertArrayEquals(audio, stream.readAllBytes());
+        }
+        Assertions.assertTrue(form.next().isEmpty());
+    }
+
+    @Test
+    void next_ReadsFieldsAfterAudio() throws IOException {
+        byte[] audio = "RIFF".getBytes(StandardCharsets.US_ASCII);
+        MultipartFormStream form = new MultipartFormStream(new ByteArrayInputStream(formBody(audio, true)), CONTENT_TYPE);
+
+        MultipartFormStream.Part part = form.next().orElseThrow();
+        Assertions.assertEquals("audio", part.getName());
+        try (InputStream stream = part.openStream()) {
+            Assertions.assertArrayEquals(audio, stream.readAllBytes());
+        }
+        Assertions.assertEquals("userId", form.next().orElseThrow().getName());
+        Assertions.assertEquals("userEmail", form.next().orElseThrow().getName());
+        Assertions.assertTrue(form.next().isEmpty());
+    }
+
+    @Test
+    void constructor_RejectsMissingBoundary() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MultipartFormStream(InputStream.nullInputStream(), MediaType.MULTIPART_FORM_DATA_TYPE));
+    }
+
+    private static byte[] formBody(byte[] audio, boolean audioFirst) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        if (audioFirst) {
+            writeAudio(body, audio);
+        }
+        writeField(body, "userId", "u1");
+        writeField(body, "userEmail", "a@b.c");
+        if (!audioFirst) {
+            writeAudio(body, audio);
+        }
+        body.write(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return body.toByteArray();
+    }
+
+    private static void writeField(ByteArrayOutputStream body, String name, String value) throws IOException {
+        body.write(("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeAudio(ByteArrayOutputStream body, byte[] audio) throws IOException {
+        body.write(("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"audio\"; filename=\"r.wav\"\r\n"
+                + "Content-Type: audio/wav\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        body.write(audio);
+        body.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(byte[] bytes) {
+            super(new ByteArrayInputStream(bytes));
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
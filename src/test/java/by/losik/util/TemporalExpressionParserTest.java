@@ -0,0 +1,93 @@
+package by.losik.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+class TemporalExpressionParserTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 16, 12, 0);
+
+    @Test
+    void parse_RussianRelativeMinutes() {
+        TemporalExpressionParser.TemporalMatch match =
+                TemporalExpressionParser.parse("Напомни мне через 10 минут позвонить маме", null, NOW).orElseThrow();
+
+        Assertions.assertEquals(NOW.plusMinutes(10), match.scheduledTime());
+        Assertions.assertEquals("позвонить маме", match.action());
+        Assertions.assertEquals("ru", match.language());
+        Assertions.assertTrue(match.confidence() >= 0.9);
+    }
+
+    @Test
+    void parse_RussianDayAndTimeWithPartOfDay() {
+        TemporalExpressionParser.TemporalMatch match =
+                TemporalExpressionParser.parse("завтра в 7 вечера купить хлеб", null, NOW).orElseThrow();
+
+        Assertions.assertEquals(LocalDateTime.of(2026, 10, 17, 19, 0), match.scheduledTime());
+        Assertions.assertEquals("купить хлеб", match.action());
+        Assertions.assertTrue(match.confidence() >= 0.9);
+    }
+
+    @Test
+    void parse_EnglishTimeRollsOverToTomorrowWhenPassed() {
+        TemporalExpressionParser.TemporalMatch match =
+                TemporalExpressionParser.parse("remind me to stretch at 9:30am", null, NOW).orElseThrow();
+
+        Assertions.assertEquals(LocalDateTime.of(2026, 10, 17, 9, 30), match.scheduledTime());
+        Assertions.assertEquals("stretch", match.action());
+        Assertions.assertEquals("en", match.language());
+    }
+
+    @Test
+    void parse_BareHourIsNotConfident() {
+        TemporalExpressionParser.TemporalMatch match =
+                TemporalExpressionParser.parse("завтра в 7 пробежка", null, NOW).orElseThrow();
+
+        Assertions.assertTrue(match.confidence() < 0.9);
+    }
+
+    @Test
+    void parse_RecurrenceIsDeferred() {
+        TemporalExpressionParser.TemporalMatch match =
+                TemporalExpressionParser.parse("every day at 8:00 take vitamins", null, NOW).orElseThrow();
+
+        Assertions.assertTrue(match.confidence() < 0.9);
+    }
+
+    @Test
+    void parse_DurationIsNotTimeOfDay() {
+        Assertions.assertTrue(TemporalExpressionParser.parse("сделать зарядку в 10 минут", null, NOW).isEmpty());
+        Assertions.assertTrue(TemporalExpressionParser.parse("купить продукты", null, NOW).isEmpty());
+    }
+
+    @Test
+    void parse_RemainingDateWordsAreDeferred() {
+        assertDeferred("в понедельник в 9:00 встреча");
+        assertDeferred("встреча 20 октября в 15:00");
+        assertDeferred("call mom on friday at 5pm");
+        assertDeferred("call mom at 10:30 next week");
+    }
+
+    @Test
+    void parse_PartialDurationIsDeferred() {
+        assertDeferred("через 2 часа 30 минут позвонить маме");
+        assertDeferred("in 1 hour 30 minutes call mom");
+    }
+
+    @Test
+    void parse_LongNumberIsNotHour() {
+        Assertions.assertTrue(TemporalExpressionParser.parse("зайти в 150 кабинет", null, NOW).isEmpty());
+        Assertions.assertTrue(TemporalExpressionParser.parse("встреча в 1500", null, NOW).isEmpty());
+        Assertions.assertTrue(TemporalExpressionParser.parse("meet at 1500 sharp", null, NOW).isEmpty());
+        Assertions.assertTrue(TemporalExpressionParser.parse("call at 100 main street", null, NOW).isEmpty());
+        Assertions.assertTrue(TemporalExpressionParser.parse("встреча в 15:000", null, NOW).isEmpty());
+    }
+
+    private static void assertDeferred(String text) {
+        TemporalExpressionParser.TemporalMatch match = TemporalExpressionParser.parse(text, null, NOW).orElseThrow();
+
+        Assertions.assertTrue(match.confidence() < 0.9, text);
+    }
+}